@@ -25,6 +25,33 @@
 SRCDIR=geode-core/src/main/java/org/apache/geode/internal/cache/entries
 SRCFILE=$SRCDIR/LeafRegionEntry.cpp
 
+# generate VERTYPE RETYPE MEMTYPE BASE OUT EXTRA_ARGS
+generate() {
+  VERTYPE=$1
+  RETYPE=$2
+  MEMTYPE=$3
+  BASE=$4
+  OUT=$5
+  WP_ARGS=-Wp,-C,-P,$6,-DPARENT_CLASS=$BASE,-DLEAF_CLASS=$OUT
+  if [ "$VERTYPE" = "Versioned" ]; then
+    WP_ARGS=${WP_ARGS},-DVERSIONED
+  fi
+  if [[ "$RETYPE" = *Stats* ]]; then
+    WP_ARGS=${WP_ARGS},-DSTATS
+  fi
+  if [[ "$RETYPE" = *Disk* ]]; then
+    WP_ARGS=${WP_ARGS},-DDISK
+  fi
+  if [[ "$RETYPE" = *LRU* ]]; then
+    WP_ARGS=${WP_ARGS},-DLRU
+  fi
+  if [[ "$MEMTYPE" = "OffHeap" ]]; then
+    WP_ARGS=${WP_ARGS},-DOFFHEAP
+  fi
+  echo generating $SRCDIR/$OUT.java
+  cpp -E $WP_ARGS $SRCFILE >$SRCDIR/$OUT.java
+}
+
 for VERTYPE in VM Versioned
 do
   for RETYPE in Thin Stats ThinLRU StatsLRU ThinDisk StatsDisk ThinDiskLRU StatsDiskLRU
@@ -37,28 +64,20 @@ do
       KEY_CLASS=${KEY_ARRAY[0]}
       KEY_TYPE=${KEY_ARRAY[1]}
       BASE=${VERTYPE}${RETYPE}RegionEntry${MEMTYPE}
-      OUT=${BASE}${KEY_CLASS}
-      WP_ARGS=-Wp,-C,-P,-D${KEY_TYPE},-DPARENT_CLASS=$BASE,-DLEAF_CLASS=$OUT
-      if [ "$VERTYPE" = "Versioned" ]; then
-        WP_ARGS=${WP_ARGS},-DVERSIONED
-      fi
-      if [[ "$RETYPE" = *Stats* ]]; then
-        WP_ARGS=${WP_ARGS},-DSTATS
-      fi
-      if [[ "$RETYPE" = *Disk* ]]; then
-        WP_ARGS=${WP_ARGS},-DDISK
-      fi
-      if [[ "$RETYPE" = *LRU* ]]; then
-        WP_ARGS=${WP_ARGS},-DLRU
-      fi
-      if [[ "$MEMTYPE" = "OffHeap" ]]; then
-        WP_ARGS=${WP_ARGS},-DOFFHEAP
-      fi
-      echo generating $SRCDIR/$OUT.java
-      cpp -E $WP_ARGS $SRCFILE >$SRCDIR/$OUT.java
-      #echo VERTYPE=$VERTYPE RETYPE=$RETYPE $KEY_INFO KEY_CLASS=$KEY_CLASS KEY_TYPE=$KEY_TYPE args=$WP_ARGS 
+      generate $VERTYPE $RETYPE $MEMTYPE $BASE ${BASE}${KEY_CLASS} -D${KEY_TYPE}
       done
     done
+    # heap entries with an object key and a primitive value stored inline
+    for VALUE_INFO in 'LongValue VALUE_LONG' 'DoubleValue VALUE_DOUBLE' 'IntValue VALUE_INT'
+    do
+      declare -a VALUE_ARRAY=($VALUE_INFO)
+      VALUE_CLASS=${VALUE_ARRAY[0]}
+      VALUE_TYPE=${VALUE_ARRAY[1]}
+      BASE=${VERTYPE}${RETYPE}RegionEntryHeap
+      VERSIONED_OUT=Versioned${RETYPE}RegionEntryHeapObjectKey${VALUE_CLASS}
+      generate $VERTYPE $RETYPE Heap $BASE ${BASE}ObjectKey${VALUE_CLASS} \
+          -DKEY_OBJECT,-D${VALUE_TYPE},-DVERSIONED_LEAF_CLASS=$VERSIONED_OUT
+    done
   done
 done
 echo now run \'./gradlew spotlessApply\' to format the generated files
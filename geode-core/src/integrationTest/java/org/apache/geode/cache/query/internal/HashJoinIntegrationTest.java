@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal;
+
+import static org.apache.geode.cache.Region.SEPARATOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.cache.query.data.Portfolio;
+import org.apache.geode.test.junit.categories.OQLQueryTest;
+import org.apache.geode.test.junit.rules.ServerStarterRule;
+
+@Category(OQLQueryTest.class)
+public class HashJoinIntegrationTest {
+
+  @Rule
+  public ServerStarterRule serverStarterRule = new ServerStarterRule().withAutoStart();
+
+  private QueryService queryService;
+  private QueryObserverAdapter observer;
+
+  @Before
+  public void setUp() {
+    Cache cache = serverStarterRule.getCache();
+    Region<String, Portfolio> portfolios =
+        cache.<String, Portfolio>createRegionFactory(RegionShortcut.REPLICATE).create("portfolios");
+    for (int i = 0; i < 100; i++) {
+      portfolios.put("key" + i, new Portfolio(i));
+    }
+    Region<String, Object> ids =
+        cache.<String, Object>createRegionFactory(RegionShortcut.REPLICATE).create("ids");
+    for (long i = 0; i < 20; i++) {
+      ids.put("long" + i, i * 3);
+    }
+    ids.put("short", (short) 7);
+    ids.put("double", 8.0);
+    ids.put("string", "9");
+    ids.put("portfolio", new Portfolio(200));
+    queryService = cache.getQueryService();
+    observer = spy(new QueryObserverAdapter());
+    QueryObserverHolder.setInstance(observer);
+  }
+
+  @After
+  public void tearDown() {
+    HashJoin.ENABLED = true;
+    QueryObserverHolder.reset();
+  }
+
+  @Test
+  public void equiJoinIsEvaluatedAsHashJoinOnSmallerRegion() throws Exception {
+    List<List<Object>> results =
+        execute("select p.ID, i from " + SEPARATOR + "portfolios p, " + SEPARATOR
+            + "ids i where p.ID = i");
+
+    verify(observer).beforeHashJoin(SEPARATOR + "ids", 24, SEPARATOR + "portfolios", 100);
+    assertThat(results).hasSize(22).contains(Arrays.asList(7, (short) 7), Arrays.asList(8, 8.0))
+        .doesNotContain(Arrays.asList(9, "9"));
+    assertThat(results).containsExactlyInAnyOrderElementsOf(executeWithNestedLoops(
+        "select p.ID, i from " + SEPARATOR + "portfolios p, " + SEPARATOR
+            + "ids i where p.ID = i"));
+  }
+
+  @Test
+  public void hashJoinEvaluatesOtherConditions() throws Exception {
+    String query = "select p.ID, i from " + SEPARATOR + "ids i, " + SEPARATOR
+        + "portfolios p where p.status = 'active' and i = p.ID";
+
+    List<List<Object>> results = execute(query);
+
+    verify(observer).beforeHashJoin(anyString(), eq(24), anyString(), eq(100));
+    assertThat(results).containsExactlyInAnyOrderElementsOf(executeWithNestedLoops(query));
+    assertThat(results).isNotEmpty().allMatch(row -> ((Integer) row.get(0)) % 2 == 0);
+  }
+
+  @Test
+  public void hashJoinStopsAtLimit() throws Exception {
+    List<List<Object>> results = execute("select p.ID, i from " + SEPARATOR + "portfolios p, "
+        + SEPARATOR + "ids i where p.ID = i limit 5");
+
+    assertThat(results).hasSize(5);
+  }
+
+  @Test
+  public void joinWithoutEqualityUsesNestedLoops() throws Exception {
+    execute("select p.ID, i from " + SEPARATOR + "portfolios p, " + SEPARATOR
+        + "ids i where p.ID <> i");
+
+    verify(observer, never()).beforeHashJoin(anyString(), anyInt(), anyString(), anyInt());
+  }
+
+  private List<List<Object>> executeWithNestedLoops(String query) throws Exception {
+    HashJoin.ENABLED = false;
+    try {
+      return execute(query);
+    } finally {
+      HashJoin.ENABLED = true;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<List<Object>> execute(String query) throws Exception {
+    List<List<Object>> rows = new ArrayList<>();
+    for (Struct struct : (SelectResults<Struct>) queryService.newQuery(query).execute()) {
+      rows.add(Arrays.asList(struct.getFieldValues()));
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.index;
+
+import static org.apache.geode.cache.Region.SEPARATOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.data.Portfolio;
+import org.apache.geode.internal.cache.DiskRegionStats;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.test.junit.categories.OQLIndexTest;
+import org.apache.geode.test.junit.rules.ServerStarterRule;
+
+@Category({OQLIndexTest.class})
+public class CoveringIndexQueryIntegrationTest {
+
+  private static final int ENTRIES = 100;
+
+  @Rule
+  public ServerStarterRule serverStarterRule = new ServerStarterRule().withAutoStart();
+
+  private QueryService queryService;
+  private DiskRegionStats diskStats;
+
+  @Before
+  public void setUp() throws Exception {
+    Cache cache = serverStarterRule.getCache();
+    LocalRegion region = (LocalRegion) cache.createRegionFactory(RegionShortcut.LOCAL)
+        .setEvictionAttributes(
+            EvictionAttributes.createLRUEntryAttributes(10, EvictionAction.OVERFLOW_TO_DISK))
+        .create("portfolios");
+    queryService = cache.getQueryService();
+    queryService.createIndex("idIndex", "p.ID", SEPARATOR + "portfolios p");
+    for (int i = 0; i < ENTRIES; i++) {
+      region.put("KEY-" + i, new Portfolio(i));
+    }
+    diskStats = region.getDiskRegion().getStats();
+    assertThat(diskStats.getNumOverflowOnDisk()).isGreaterThan(0);
+  }
+
+  @Test
+  public void projectionOfIndexedExpressionDoesNotReadValuesFromDisk() throws Exception {
+    long reads = diskStats.getReads();
+
+    SelectResults<Integer> results = execute(
+        "select p.ID from " + SEPARATOR + "portfolios p where p.ID >= 50");
+
+    assertThat(new ArrayList<>(results)).containsExactlyInAnyOrderElementsOf(ids(50, ENTRIES));
+    assertThat(diskStats.getReads()).isEqualTo(reads);
+  }
+
+  @Test
+  public void orderedProjectionOfIndexedExpressionWithLimitDoesNotReadValuesFromDisk()
+      throws Exception {
+    long reads = diskStats.getReads();
+
+    SelectResults<Integer> results = execute("select distinct p.ID from " + SEPARATOR
+        + "portfolios p where p.ID < 50 order by p.ID desc limit 5");
+
+    assertThat(new ArrayList<>(results)).containsExactly(49, 48, 47, 46, 45);
+    assertThat(diskStats.getReads()).isEqualTo(reads);
+  }
+
+  @Test
+  public void projectionOfOtherAttributeReadsValues() throws Exception {
+    long reads = diskStats.getReads();
+
+    SelectResults<String> results = execute(
+        "select p.pkid from " + SEPARATOR + "portfolios p where p.ID >= 50");
+
+    assertThat(new ArrayList<>(results)).containsExactlyInAnyOrderElementsOf(
+        ids(50, ENTRIES).stream().map(String::valueOf).collect(Collectors.toList()));
+    assertThat(diskStats.getReads()).isGreaterThan(reads);
+  }
+
+  @Test
+  public void projectionOfIndexedExpressionWithOtherConditionReadsValues() throws Exception {
+    SelectResults<Integer> results = execute("select p.ID from " + SEPARATOR
+        + "portfolios p where p.ID >= 50 and p.status = 'active'");
+
+    assertThat(new ArrayList<>(results)).containsExactlyInAnyOrderElementsOf(
+        ids(50, ENTRIES).stream().filter(id -> id % 2 == 0).collect(Collectors.toList()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> SelectResults<T> execute(String query) throws Exception {
+    return (SelectResults<T>) queryService.newQuery(query).execute();
+  }
+
+  private static List<Integer> ids(int from, int to) {
+    return IntStream.range(from, to).boxed().collect(Collectors.toList());
+  }
+}
@@ -138,6 +138,55 @@ public class PRQueryNumThreadsJUnitTest {
     }
   }
 
+  @Test
+  public void testQueryInParallel() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    PortfolioData[] portfolios = new PortfolioData[100];
+    for (int j = 0; j < 100; j++) {
+      portfolios[j] = new PortfolioData(j);
+    }
+    PRQueryProcessor.TEST_PARALLELISM = 4;
+    try {
+      populateData(region, portfolios);
+
+      SelectResults resSet = region.query("ID < 5");
+      Assert.assertTrue(resSet.size() == 5);
+
+      resSet = region.query("ID > 5 and ID <=15");
+      Assert.assertTrue(resSet.size() == 10);
+    } finally {
+      PRQueryProcessor.TEST_PARALLELISM = 0;
+      region.close();
+    }
+  }
+
+  @Test
+  public void testOrderByQueryWithLimitInParallel() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    Integer[] values = new Integer[100];
+    for (int j = 0; j < 100; j++) {
+      values[j] = 99 - j;
+    }
+    PRQueryProcessor.TEST_PARALLELISM = 4;
+    try {
+      populateData(region, values);
+
+      String queryString =
+          "Select distinct p from " + SEPARATOR + region.getName() + " p order by p limit 10";
+      Query query = region.getCache().getQueryService().newQuery(queryString);
+      SelectResults sr = (SelectResults) query.execute();
+
+      Assert.assertTrue(sr.size() == 10);
+      int expected = 0;
+      for (Object r : sr.asList()) {
+        Assert.assertTrue(Integer.valueOf(expected++).equals(r));
+      }
+    } finally {
+      PRQueryProcessor.TEST_PARALLELISM = 0;
+      region.close();
+    }
+  }
+
   /**
    * Populates the region with the Objects stores in the data Object array.
    *
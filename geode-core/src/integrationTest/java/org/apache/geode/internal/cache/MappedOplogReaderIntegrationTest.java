@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.internal.lang.SystemUtils.isWindows;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.internal.cache.persistence.BytesAndBits;
+
+public class MappedOplogReaderIntegrationTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void readsValueAtOffset() throws Exception {
+    File file = temporaryFolder.newFile("test.crf");
+    Files.write(file.toPath(), new byte[] {0, 1, 2, 3, 4, 5, 6, 7});
+
+    MappedOplogReader reader = MappedOplogReader.map(file, 8);
+    BytesAndBits bb = reader.read(2, 3, (byte) 7);
+
+    assertThat(bb.getBytes()).containsExactly(2, 3, 4);
+    assertThat(bb.getBits()).isEqualTo((byte) 7);
+  }
+
+  @Test
+  public void onlyMapsRequestedLength() throws Exception {
+    File file = temporaryFolder.newFile("test.crf");
+    Files.write(file.toPath(), new byte[16]);
+
+    MappedOplogReader reader = MappedOplogReader.map(file, 8);
+
+    assertThat(reader.getLength()).isEqualTo(8);
+    assertThat(reader.contains(0, 8)).isTrue();
+    assertThat(reader.contains(4, 5)).isFalse();
+    assertThat(reader.contains(-1, 1)).isFalse();
+  }
+
+  @Test
+  public void doesNotMapEmptyFile() throws Exception {
+    File file = temporaryFolder.newFile("test.crf");
+
+    assertThat(MappedOplogReader.map(file, 0)).isNull();
+  }
+
+  @Test
+  public void readsStillWorkAfterFileIsDeleted() throws Exception {
+    assumeFalse(isWindows());
+    File file = temporaryFolder.newFile("test.crf");
+    Files.write(file.toPath(), new byte[] {9, 8, 7});
+    MappedOplogReader reader = MappedOplogReader.map(file, 3);
+
+    Files.delete(file.toPath());
+
+    assertThat(reader.read(0, 3, (byte) 0).getBytes()).containsExactly(9, 8, 7);
+  }
+
+  @Test
+  public void readsReturnNullAfterClose() throws Exception {
+    File file = temporaryFolder.newFile("test.crf");
+    Files.write(file.toPath(), new byte[] {9, 8, 7});
+    MappedOplogReader reader = MappedOplogReader.map(file, 3);
+
+    reader.close();
+
+    assertThat(reader.read(0, 3, (byte) 0)).isNull();
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OplogRecoveryPrefetcherIntegrationTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final QueuedExecutor executor = new QueuedExecutor();
+  private DiskStoreStats stats;
+  private File first;
+  private File second;
+  private File third;
+
+  @Before
+  public void setUp() throws Exception {
+    stats = mock(DiskStoreStats.class);
+    first = newFile("first.drf", 100);
+    second = newFile("second.crf", 100);
+    third = newFile("third.crf", 100);
+  }
+
+  @Test
+  public void onlySubmitsFilesThatFitInTheWindow() {
+    OplogRecoveryPrefetcher prefetcher =
+        new OplogRecoveryPrefetcher(Arrays.asList(first, second, third), executor, 200, stats);
+
+    prefetcher.submitMore();
+
+    assertThat(executor.tasks).hasSize(2);
+    assertThat(prefetcher.getBytesAhead()).isEqualTo(200);
+  }
+
+  @Test
+  public void alwaysSubmitsTheNextFileEvenIfLargerThanTheWindow() {
+    OplogRecoveryPrefetcher prefetcher =
+        new OplogRecoveryPrefetcher(Arrays.asList(first, second), executor, 10, stats);
+
+    prefetcher.submitMore();
+
+    assertThat(executor.tasks).hasSize(1);
+    assertThat(prefetcher.getBytesAhead()).isEqualTo(100);
+  }
+
+  @Test
+  public void consumingAFileSubmitsMore() {
+    OplogRecoveryPrefetcher prefetcher =
+        new OplogRecoveryPrefetcher(Arrays.asList(first, second, third), executor, 200, stats);
+    prefetcher.submitMore();
+
+    prefetcher.consumed(first);
+
+    assertThat(executor.tasks).hasSize(3);
+    assertThat(prefetcher.getBytesAhead()).isEqualTo(200);
+  }
+
+  @Test
+  public void prefetchReadsTheWholeFile() {
+    OplogRecoveryPrefetcher prefetcher =
+        new OplogRecoveryPrefetcher(Arrays.asList(first, null), executor, 200, stats);
+    prefetcher.submitMore();
+
+    executor.runAll();
+
+    verify(stats).incRecoveryPrefetchedBytes(100);
+  }
+
+  @Test
+  public void doesNotPrefetchConsumedFiles() {
+    OplogRecoveryPrefetcher prefetcher =
+        new OplogRecoveryPrefetcher(Arrays.asList(first), executor, 200, stats);
+    prefetcher.submitMore();
+
+    prefetcher.consumed(first);
+    executor.runAll();
+
+    verify(stats, never()).incRecoveryPrefetchedBytes(100);
+    assertThat(prefetcher.getBytesAhead()).isZero();
+  }
+
+  @Test
+  public void doesNothingWithoutExecutor() {
+    OplogRecoveryPrefetcher prefetcher =
+        new OplogRecoveryPrefetcher(Arrays.asList(first, second), null, 200, stats);
+
+    prefetcher.submitMore();
+    prefetcher.consumed(first);
+    prefetcher.close();
+
+    assertThat(prefetcher.getBytesAhead()).isZero();
+  }
+
+  private File newFile(String name, int length) throws Exception {
+    File file = temporaryFolder.newFile(name);
+    Files.write(file.toPath(), new byte[length]);
+    return file;
+  }
+
+  private static class QueuedExecutor extends AbstractExecutorService {
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    void runAll() {
+      tasks.forEach(Runnable::run);
+    }
+
+    @Override
+    public void shutdown() {}
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return new ArrayList<>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+}
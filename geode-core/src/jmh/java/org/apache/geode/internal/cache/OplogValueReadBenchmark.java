@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.internal.cache.persistence.BytesAndBits;
+
+/**
+ * Compares faulting values out of a rolled oplog with a positioned {@link RandomAccessFile} read
+ * under the oplog lock, which is what {@link Oplog} does by default, against a read from a
+ * {@link MappedOplogReader}.
+ * <br>
+ * Run this benchmark individually with:
+ * <br>
+ * <code>
+ *    ./gradlew -Pjmh.include=OplogValueReadBenchmark geode-core:jmh
+ * </code>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+public class OplogValueReadBenchmark {
+  private static final long FILE_SIZE = 256L * 1024 * 1024;
+
+  @Param({"100", "1000", "10000"})
+  public int valueLength;
+
+  private File file;
+  private RandomAccessFile raf;
+  private MappedOplogReader mappedReader;
+  private final Object lock = new Object();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    file = File.createTempFile("OplogValueReadBenchmark", Oplog.CRF_FILE_EXT);
+    file.deleteOnExit();
+    byte[] chunk = new byte[1024 * 1024];
+    new Random(0).nextBytes(chunk);
+    try (RandomAccessFile out = new RandomAccessFile(file, "rw")) {
+      for (long written = 0; written < FILE_SIZE; written += chunk.length) {
+        out.write(chunk);
+      }
+    }
+    raf = new RandomAccessFile(file, "r");
+    mappedReader = MappedOplogReader.map(file, FILE_SIZE);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    raf.close();
+    mappedReader = null;
+    file.delete();
+  }
+
+  @State(Scope.Thread)
+  public static class ReaderState {
+    Random random = new Random();
+  }
+
+  private long nextOffset(ReaderState state) {
+    return (long) state.random.nextInt((int) (FILE_SIZE - valueLength));
+  }
+
+  @Benchmark
+  @Measurement(iterations = 5)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public BytesAndBits randomAccessFileRead(ReaderState state) throws IOException {
+    long offset = nextOffset(state);
+    synchronized (lock) {
+      raf.seek(offset);
+      byte[] valueBytes = new byte[valueLength];
+      raf.readFully(valueBytes);
+      return new BytesAndBits(valueBytes, (byte) 0);
+    }
+  }
+
+  @Benchmark
+  @Measurement(iterations = 5)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public BytesAndBits mappedRead(ReaderState state) {
+    return mappedReader.read(nextOffset(state), valueLength, (byte) 0);
+  }
+}
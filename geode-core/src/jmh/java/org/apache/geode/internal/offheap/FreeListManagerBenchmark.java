@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.offheap;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the allocate/free throughput of the {@link FreeListManager} for tiny chunks with the
+ * per thread allocation caches disabled, which is the default, and enabled. Each thread keeps a
+ * window of live chunks and replaces the oldest one on every operation, like a put that replaces
+ * an off-heap value.
+ * <br>
+ * Run this benchmark individually with:
+ * <br>
+ * <code>
+ *    ./gradlew -Pjmh.include=FreeListManagerBenchmark geode-core:jmh
+ * </code>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+public class FreeListManagerBenchmark {
+  private static final int SLAB_SIZE = 256 * 1024 * 1024;
+
+  @Param({"0", "32"})
+  public int threadCacheChunks;
+
+  private MemoryAllocatorImpl allocator;
+  private FreeListManager freeListManager;
+
+  @State(Scope.Thread)
+  public static class LiveChunks {
+    private static final int WINDOW = 1024;
+
+    @Param({"64", "512"})
+    public int maxDataSize;
+
+    private final long[] addresses = new long[WINDOW];
+    private final int[] sizes = new int[WINDOW];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      Random random = new Random(Thread.currentThread().getId());
+      for (int i = 0; i < WINDOW; i++) {
+        sizes[i] = 1 + random.nextInt(maxDataSize);
+      }
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    allocator = MemoryAllocatorImpl.createForUnitTest(new NullOutOfOffHeapMemoryListener(),
+        new NullOffHeapMemoryStats(), new Slab[] {new SlabImpl(1024 * 1024)});
+    freeListManager = new FreeListManager(allocator, new Slab[] {new SlabImpl(SLAB_SIZE)},
+        threadCacheChunks);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    freeListManager.freeSlabs();
+    MemoryAllocatorImpl.freeOffHeapMemory();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 3, time = 5)
+  @Measurement(iterations = 5, time = 5)
+  public long allocateAndFree(LiveChunks live) {
+    final int idx = live.next;
+    live.next = (idx + 1) % LiveChunks.WINDOW;
+    final long old = live.addresses[idx];
+    if (old != 0L) {
+      ReferenceCounter.release(old, freeListManager);
+    }
+    final long address = freeListManager.allocate(live.sizes[idx]).getAddress();
+    live.addresses[idx] = address;
+    return address;
+  }
+}
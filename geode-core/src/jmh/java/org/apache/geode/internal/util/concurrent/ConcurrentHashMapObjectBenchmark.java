@@ -53,7 +53,8 @@ import org.apache.geode.internal.cache.entries.VMThinRegionEntryHeapObjectKey;
 import org.apache.geode.internal.cache.versions.VersionStamp;
 
 /**
- * Benchmarks various hash maps.
+ * Benchmarks various hash maps. The objectSize.map result divided by the keyCount is the number of
+ * bytes each entry costs, including the entry itself when the map stores region entries.
  *
  * <p>
  * Example:
@@ -132,6 +133,11 @@ public class ConcurrentHashMapObjectBenchmark {
      * is similar to what is used to store Region entries.
      */
     VMThinRegionEntryHeapObjectKey,
+    /**
+     * Use {@link CompactEntryConcurrentHashMap} with {@link VMThinRegionEntryHeapObjectKey}, the
+     * open addressing map that can be selected for regions.
+     */
+    CompactEntryConcurrentHashMap,
     /**
      * Use {@link ConcurrentHashMap}.
      */
@@ -163,6 +169,12 @@ public class ConcurrentHashMapObjectBenchmark {
             uncheckedCast(new AbstractRegionEntry.HashRegionEntryCreator()));
         regionEntryFactory = VMThinRegionEntryHeapObjectKey.getEntryFactory();
         break;
+      case CompactEntryConcurrentHashMap:
+        map = new CompactEntryConcurrentHashMap<>(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR,
+            DEFAULT_CONCURRENCY_LEVEL,
+            uncheckedCast(new AbstractRegionEntry.HashRegionEntryCreator()));
+        regionEntryFactory = VMThinRegionEntryHeapObjectKey.getEntryFactory();
+        break;
       case ConcurrentHashMap:
         map = new ConcurrentHashMap<>();
         break;
@@ -22,9 +22,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 
+import org.apache.geode.annotations.Experimental;
 import org.apache.geode.cache.client.ClientRegionFactory;
 import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.client.ServerConnectivityException;
@@ -1521,6 +1523,99 @@ public interface Region<K, V> extends ConcurrentMap<K, V> {
    */
   <T extends K> Map<T, V> getAll(Collection<T> keys, Object aCallbackArgument);
 
+  /**
+   * Returns a future that is completed with the value associated with the specified key, like
+   * {@link #get(Object)}.
+   * <p>
+   * A client region with a data policy of {@link DataPolicy#EMPTY} and no cache loader gets the
+   * value from a server without blocking the calling thread, unless a transaction is in progress.
+   * Other regions get the value before this method returns. The calling thread waits while too
+   * many operations of the pool of the region are in flight.
+   * <p>
+   * If the returned future is not complete when this method returns, it is completed by a thread
+   * of the pool of the region, never by a thread that reads responses from a server, so actions
+   * depending on it may block, for example on other operations of this region. Exceptions that
+   * {@link #get(Object)} throws complete the returned future exceptionally.
+   *
+   * @param key whose associated value is to be returned
+   * @return a future completed with the value, or with null if the key has no value
+   *
+   * @since Geode 1.16.0
+   */
+  @Experimental
+  default CompletableFuture<V> getAsync(Object key) {
+    CompletableFuture<V> future = new CompletableFuture<>();
+    try {
+      future.complete(get(key));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Returns a future that is completed once the specified value is put with the specified key,
+   * like {@link #put(Object, Object)}. Unlike put, the previous value of the key is not returned.
+   * <p>
+   * A client region with a data policy of {@link DataPolicy#EMPTY} and no cache writer or cache
+   * listeners puts the value on a server without blocking the calling thread, unless a transaction
+   * is in progress. Other regions put the value before this method returns. The calling thread
+   * waits while too many operations of the pool of the region are in flight.
+   * <p>
+   * If the returned future is not complete when this method returns, it is completed by a thread
+   * of the pool of the region, never by a thread that reads responses from a server, so actions
+   * depending on it may block, for example on other operations of this region. Exceptions that
+   * {@link #put(Object, Object)} throws complete the returned future exceptionally.
+   *
+   * @param key a key to associate with the value
+   * @param value the value to put
+   * @return a future completed once the value was put
+   *
+   * @since Geode 1.16.0
+   */
+  @Experimental
+  default CompletableFuture<Void> putAsync(K key, V value) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    try {
+      put(key, value);
+      future.complete(null);
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Returns a future that is completed with the values of all the keys in the input Collection,
+   * like {@link #getAll(Collection)}.
+   * <p>
+   * A client region with a data policy of {@link DataPolicy#EMPTY} and no cache loader gets the
+   * values from servers without blocking the calling thread, unless a transaction is in progress.
+   * It does so with one get per key as {@link #getAsync(Object)} does, whose requests share
+   * connections and do not wait for each other's responses. Other regions get the values before
+   * this method returns.
+   * <p>
+   * If the returned future is not complete when this method returns, it is completed by a thread
+   * of the pool of the region, never by a thread that reads responses from a server, so actions
+   * depending on it may block, for example on other operations of this region. Exceptions that
+   * {@link #getAll(Collection)} throws complete the returned future exceptionally.
+   *
+   * @param <T> the type of the keys passed to getAllAsync
+   * @param keys A Collection of keys
+   * @return a future completed with a Map of values for the input keys
+   *
+   * @since Geode 1.16.0
+   */
+  @Experimental
+  default <T extends K> CompletableFuture<Map<T, V>> getAllAsync(Collection<T> keys) {
+    CompletableFuture<Map<T, V>> future = new CompletableFuture<>();
+    try {
+      future.complete(getAll(keys, null));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
 
   /**
    * Removes the entry with the specified key. The operation removes not only the value but also the
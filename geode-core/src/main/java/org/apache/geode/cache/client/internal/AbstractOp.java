@@ -19,6 +19,8 @@ import static org.apache.geode.logging.internal.spi.LoggingProvider.SECURITY_LOG
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
@@ -221,6 +223,26 @@ public abstract class AbstractOp implements Op {
     }
   }
 
+  /**
+   * Reads the response to this operation, which must not be chunked, from the given connection
+   * into the given buffer.
+   *
+   * @see #canBePipelined()
+   */
+  Message receiveResponse(final @NotNull Connection cnx, final @NotNull ByteBuffer commBuffer)
+      throws Exception {
+    final Message msg = createResponseMessage();
+    msg.setComms(cnx.getSocket(), cnx.getInputStream(), cnx.getOutputStream(), commBuffer,
+        cnx.getStats());
+    try {
+      msg.receive();
+    } finally {
+      msg.unsetComms();
+      processSecureBytes(cnx, msg);
+    }
+    return msg;
+  }
+
   /**
    * By default just create a normal one part msg. Subclasses can override this.
    */
@@ -403,6 +425,102 @@ public abstract class AbstractOp implements Op {
     }
   }
 
+  /**
+   * Attempts this operation on a connection that other threads may be executing operations on.
+   *
+   * @see ConnectionImpl#executePipelined(AbstractOp)
+   */
+  Object attemptPipelined(ConnectionImpl connection) throws Exception {
+    failed = true;
+    timedOut = false;
+    long start = startAttempt(connection.getStats());
+    try {
+      CompletableFuture<Message> pendingResponse;
+      try {
+        pendingResponse = connection.sendPipelined(this);
+        failed = false;
+      } finally {
+        endSendAttempt(connection.getStats(), start);
+      }
+      failed = true;
+      Message response;
+      try {
+        response = connection.awaitResponse(pendingResponse);
+      } catch (SocketTimeoutException ste) {
+        failed = false;
+        timedOut = true;
+        throw ste;
+      }
+      Object result = processResponse(response, connection);
+      failed = false;
+      return result;
+    } finally {
+      endAttempt(connection.getStats(), start);
+    }
+  }
+
+  /**
+   * Attempts this operation like {@link #attemptPipelined(ConnectionImpl)} without waiting for the
+   * response. The response is processed by the thread of the connection that reads it, which
+   * completes the returned future. Callers hand the completion of futures depending on it to
+   * another thread, see {@link OpExecutorImpl#executeAsync(Op)}.
+   *
+   * @see ConnectionImpl#executePipelinedAsync(AbstractOp)
+   */
+  CompletableFuture<Object> attemptPipelinedAsync(ConnectionImpl connection) {
+    final ConnectionStats stats = connection.getStats();
+    failed = true;
+    timedOut = false;
+    final long start = startAttempt(stats);
+    final CompletableFuture<Object> result = new CompletableFuture<>();
+    final CompletableFuture<Message> pendingResponse;
+    try {
+      pendingResponse = connection.sendPipelined(this);
+      failed = false;
+    } catch (Exception e) {
+      endSendAttempt(stats, start);
+      endAttempt(stats, start);
+      result.completeExceptionally(e);
+      return result;
+    }
+    endSendAttempt(stats, start);
+    failed = true;
+    pendingResponse.whenComplete((response, receiveFailure) -> {
+      Object value = null;
+      Throwable failure = receiveFailure;
+      if (failure == null) {
+        try {
+          value = processResponse(response, connection);
+          failed = false;
+        } catch (Throwable t) {
+          failure = t;
+        }
+      } else if (failure instanceof SocketTimeoutException) {
+        failed = false;
+        timedOut = true;
+      }
+      endAttempt(stats, start);
+      if (failure == null) {
+        result.complete(value);
+      } else {
+        result.completeExceptionally(failure);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Subclasses for AbstractOp should override this method to return true if the response to this
+   * operation is a single message that is processed without using the connection it came from, so
+   * that the request of another operation can be sent on the connection before this response is
+   * read.
+   *
+   * @return true if this operation can be pipelined with others on a shared connection
+   */
+  protected boolean canBePipelined() {
+    return false;
+  }
+
   protected boolean hasFailed() {
     return failed;
   }
@@ -27,6 +27,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.Logger;
 
@@ -264,6 +265,62 @@ public class ClientMetadataService {
     return groupByServerToBuckets(prAdvisor, allBucketIds, primaryOnly, region);
   }
 
+  /**
+   * Splits the items of a bulk op into batches by the server hosting the primary of their bucket.
+   * The items of a bucket are not split across batches, and buckets are added to a batch of their
+   * server until it has at least batchSize items. The primaries are looked up in the routing table
+   * of the region's metadata instead of being grouped for each op.
+   *
+   * @param keyOf returns the key of an item
+   * @return null if the primary of the bucket of any item is not known
+   */
+  <T> List<ServerBatch<T>> groupByPrimaryServer(Region region, Collection<T> items,
+      Function<T, Object> keyOf, int batchSize) {
+    ClientPartitionAdvisor prAdvisor = getClientPartitionAdvisor(region.getFullPath());
+    if (prAdvisor == null || prAdvisor.adviseRandomServerLocation() == null) {
+      scheduleGetPRMetaData((InternalRegion) region, false);
+      return null;
+    }
+    int totalNumberOfBuckets = prAdvisor.getTotalNumBuckets();
+    ServerLocation[] primaries = prAdvisor.getPrimaryServerLocations();
+    List<T>[] bucketItems = uncheckedCast(new List[totalNumberOfBuckets]);
+    for (T item : items) {
+      int bucketId = extractBucketID(region, prAdvisor, totalNumberOfBuckets, keyOf.apply(item));
+      if (bucketId < 0 || primaries[bucketId] == null) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("Primary for bucket {} is not known for region {}", bucketId,
+              region.getFullPath());
+        }
+        scheduleGetPRMetaData((InternalRegion) region, false);
+        return null;
+      }
+      List<T> itemsOfBucket = bucketItems[bucketId];
+      if (itemsOfBucket == null) {
+        itemsOfBucket = new ArrayList<>();
+        bucketItems[bucketId] = itemsOfBucket;
+      }
+      itemsOfBucket.add(item);
+    }
+
+    List<ServerBatch<T>> batches = new ArrayList<>();
+    Map<ServerLocation, ServerBatch<T>> lastBatches = new HashMap<>();
+    for (int bucketId = 0; bucketId < totalNumberOfBuckets; bucketId++) {
+      List<T> itemsOfBucket = bucketItems[bucketId];
+      if (itemsOfBucket == null) {
+        continue;
+      }
+      ServerLocation server = primaries[bucketId];
+      ServerBatch<T> batch = lastBatches.get(server);
+      if (batch == null || batch.size() >= batchSize) {
+        batch = new ServerBatch<>(server);
+        batches.add(batch);
+        lastBatches.put(server, batch);
+      }
+      batch.addAll(itemsOfBucket);
+    }
+    return batches;
+  }
+
   /**
    * This function should make a map of server to buckets it is hosting. If for some bucket servers
    * are not available due to mismatch in metadata it should fill up a random server for it.
@@ -647,6 +704,41 @@ public class ClientMetadataService {
     }
   }
 
+  /**
+   * Updates the server locations of the buckets of a region, and of the regions colocated with it,
+   * with those a server pushed after they changed. The locations of a bucket that are older than
+   * those already known are ignored.
+   */
+  public void updateBucketServerLocations(String regionFullPath,
+      Map<Integer, List<BucketServerLocation66>> bucketServerLocations) {
+    ClientPartitionAdvisor advisor = getClientPartitionAdvisor(regionFullPath);
+    Set<ClientPartitionAdvisor> colocatedAdvisors =
+        getColocatedClientPartitionAdvisor(regionFullPath);
+    if (advisor == null && (colocatedAdvisors == null || colocatedAdvisors.isEmpty())) {
+      // the metadata is fetched when the region is first used
+      return;
+    }
+    for (Map.Entry<Integer, List<BucketServerLocation66>> entry : bucketServerLocations
+        .entrySet()) {
+      int bucketId = entry.getKey();
+      List<BucketServerLocation66> locations = entry.getValue();
+      if (advisor != null && !advisor.isOlderThanKnown(bucketId, locations)) {
+        advisor.updateBucketServerLocations(bucketId, locations, this);
+      }
+      if (colocatedAdvisors != null) {
+        for (ClientPartitionAdvisor colocatedAdvisor : colocatedAdvisors) {
+          if (!colocatedAdvisor.isOlderThanKnown(bucketId, locations)) {
+            colocatedAdvisor.updateBucketServerLocations(bucketId, locations, this);
+          }
+        }
+      }
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("ClientMetadataService: Updated the locations of buckets {} of region {}",
+          bucketServerLocations.keySet(), regionFullPath);
+    }
+  }
+
   public void removeBucketServerLocation(ServerLocation serverLocation) {
     Set<String> keys = getAllRegionFullPaths();
     final boolean isDebugEnabled = logger.isDebugEnabled();
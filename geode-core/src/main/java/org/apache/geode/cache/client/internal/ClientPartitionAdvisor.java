@@ -64,6 +64,12 @@ public class ClientPartitionAdvisor {
 
   private final Random random = new Random();
 
+  /**
+   * The primary server of each bucket, indexed by bucket id, or null until it is needed after the
+   * bucket server locations changed.
+   */
+  private volatile ServerLocation[] primaryServerLocations;
+
   @SuppressWarnings("unchecked")
   public ClientPartitionAdvisor(int totalNumBuckets, String colocatedWith,
       String partitionResolverName, Set<FixedPartitionAttributes> fpaSet) {
@@ -183,6 +189,30 @@ public class ClientPartitionAdvisor {
     }
 
     bucketServerLocationsMap.put(bucketId, locations);
+    clearPrimaryServerLocations();
+  }
+
+  /**
+   * Returns true if the version of any of the given locations of the bucket is older than that of
+   * the known location of the same server, as happens when locations pushed by a server arrive
+   * after newer ones were fetched from another.
+   */
+  public boolean isOlderThanKnown(int bucketId,
+      List<BucketServerLocation66> bucketServerLocations) {
+    List<BucketServerLocation66> knownLocations = bucketServerLocationsMap.get(bucketId);
+    if (knownLocations == null) {
+      return false;
+    }
+    for (BucketServerLocation66 location : bucketServerLocations) {
+      for (BucketServerLocation66 knownLocation : knownLocations) {
+        // versions are bytes that wrap around
+        if (knownLocation.equals(location)
+            && (byte) (location.getVersion() - knownLocation.getVersion()) < 0) {
+          return true;
+        }
+      }
+    }
+    return false;
   }
 
   public void removeBucketServerLocation(ServerLocation serverLocation) {
@@ -200,6 +230,34 @@ public class ClientPartitionAdvisor {
         newLocations = new ArrayList<>(oldLocations);
       }
     }
+    clearPrimaryServerLocations();
+  }
+
+  /**
+   * Returns the primary server of each bucket, indexed by bucket id, with null for the buckets
+   * whose primary is not known. The array is shared until the bucket server locations change, so it
+   * must not be modified.
+   */
+  public ServerLocation[] getPrimaryServerLocations() {
+    ServerLocation[] locations = primaryServerLocations;
+    if (locations == null) {
+      synchronized (this) {
+        locations = primaryServerLocations;
+        if (locations == null) {
+          locations = new ServerLocation[totalNumBuckets];
+          for (int bucketId = 0; bucketId < totalNumBuckets; bucketId++) {
+            locations[bucketId] = advisePrimaryServerLocation(bucketId);
+          }
+          primaryServerLocations = locations;
+        }
+      }
+    }
+    return locations;
+  }
+
+  private synchronized void clearPrimaryServerLocations() {
+    // synchronized so that an array built from the old locations cannot be published afterwards
+    primaryServerLocations = null;
   }
 
   @VisibleForTesting
@@ -19,8 +19,16 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketException;
+import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.net.ssl.SSLSocket;
 
@@ -28,8 +36,10 @@ import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.CancelException;
 import org.apache.geode.ForcedDisconnectException;
+import org.apache.geode.annotations.Immutable;
 import org.apache.geode.annotations.internal.MutableForTesting;
 import org.apache.geode.cache.client.SocketFactory;
+import org.apache.geode.cache.client.internal.pooling.ConnectionDestroyedException;
 import org.apache.geode.cache.wan.GatewaySender;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.ServerLocation;
@@ -38,16 +48,19 @@ import org.apache.geode.distributed.internal.ServerLocationExtension;
 import org.apache.geode.distributed.internal.tcpserver.HostAndPort;
 import org.apache.geode.internal.cache.tier.ClientSideHandshake;
 import org.apache.geode.internal.cache.tier.CommunicationMode;
+import org.apache.geode.internal.cache.tier.sockets.Message;
 import org.apache.geode.internal.cache.tier.sockets.ServerConnection;
 import org.apache.geode.internal.cache.tier.sockets.ServerQueueStatus;
 import org.apache.geode.internal.net.SocketCreator;
+import org.apache.geode.logging.internal.executors.LoggingThread;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 
 /**
  * A single client to server connection.
  *
  * The execute method of this class is synchronized to prevent two ops from using the client to
- * server connection at the same time.
+ * server connection at the same time. Ops that can be pipelined may instead share the connection
+ * through {@link #executePipelined(AbstractOp)}.
  *
  * @since GemFire 5.7
  */
@@ -81,6 +94,16 @@ public class ConnectionImpl implements Connection {
 
   private long connectionID = Connection.DEFAULT_CONNECTION_ID;
 
+  private final Object pipelineSendLock = new Object();
+  /** The ops whose requests were sent, in the order they were sent, guarded by pipelineSendLock */
+  private final BlockingQueue<PendingResponse> pendingResponses = new LinkedBlockingQueue<>();
+  /** The thread reading the responses to pipelined ops, started under pipelineSendLock */
+  private volatile Thread pipelineReader;
+  private volatile Exception pipelineFailure;
+  private final AtomicInteger pipelinedOps = new AtomicInteger();
+  /** The read timeout of the socket, which also bounds the wait for a pipelined response */
+  private int readTimeout;
+
   private ClientSideHandshake handshake;
 
   public ConnectionImpl(InternalDistributedSystem ds) {
@@ -112,6 +135,7 @@ public class ConnectionImpl implements Connection {
       commBufferForAsyncRead = ServerConnection.allocateCommBuffer(socketBufferSize, theSocket);
     }
     theSocket.setSoTimeout(readTimeout);
+    this.readTimeout = readTimeout;
 
     Endpoint tempEndpoint = null;
 
@@ -199,6 +223,9 @@ public class ConnectionImpl implements Connection {
         logger.debug(e.getMessage(), e);
       }
     }
+    if (pipelineReader != null) {
+      pendingResponses.add(PendingResponse.DESTROYED);
+    }
     releaseCommBuffers();
   }
 
@@ -311,6 +338,186 @@ public class ConnectionImpl implements Connection {
 
   }
 
+  /**
+   * Executes an op on this connection while other threads may be executing ops on it too. The
+   * request of the op is written as soon as the requests of the ops before it are, without waiting
+   * for their responses. A server processes the requests it reads from a connection one after the
+   * other, so the responses are read in the order the requests were written, by a thread of this
+   * connection that hands each of them to the op it belongs to.
+   * <p>
+   * If a request or a response is not transferred completely, the requests and responses on the
+   * connection no longer line up. The connection is then destroyed, and the ops waiting for their
+   * responses fail with a {@link ConnectionDestroyedException}.
+   */
+  Object executePipelined(AbstractOp op) throws Exception {
+    pipelinedOps.incrementAndGet();
+    try {
+      Object result = op.attemptPipelined(this);
+      endpoint.updateLastExecute();
+      return result;
+    } finally {
+      pipelinedOps.decrementAndGet();
+    }
+  }
+
+  /**
+   * Executes an op like {@link #executePipelined(AbstractOp)} without waiting for its response.
+   * The returned future is completed by the thread reading the responses of this connection, so
+   * actions depending on it must not block; see {@link OpExecutorImpl#executeAsync(Op)}.
+   */
+  CompletableFuture<Object> executePipelinedAsync(AbstractOp op) {
+    pipelinedOps.incrementAndGet();
+    return op.attemptPipelinedAsync(this).whenComplete((result, failure) -> {
+      pipelinedOps.decrementAndGet();
+      if (failure == null) {
+        endpoint.updateLastExecute();
+      }
+    });
+  }
+
+  /**
+   * Returns the number of ops that are being executed through
+   * {@link #executePipelined(AbstractOp)} or {@link #executePipelinedAsync(AbstractOp)}.
+   */
+  int getPipelinedOpCount() {
+    return pipelinedOps.get();
+  }
+
+  /**
+   * Sends the request of a pipelined op.
+   *
+   * @return a future that is completed with the response to the request once it is read
+   */
+  CompletableFuture<Message> sendPipelined(AbstractOp op) throws Exception {
+    synchronized (pipelineSendLock) {
+      checkPipeline();
+      try {
+        op.attemptSend(this);
+      } catch (Exception e) {
+        failPipeline(e);
+        throw e;
+      }
+      CompletableFuture<Message> response = new CompletableFuture<>();
+      pendingResponses.add(new PendingResponse(op, response));
+      if (pipelineReader == null) {
+        pipelineReader = new LoggingThread("Pipelined response reader for " + this,
+            this::readPipelinedResponses);
+        pipelineReader.start();
+      }
+      return response;
+    }
+  }
+
+  /**
+   * Waits for the response to a pipelined op for at most the read timeout of this connection. If
+   * it does not arrive in time the connection is destroyed, as it would be if reading the response
+   * had timed out, and the ops still waiting for their responses fail. The wait is not interrupted,
+   * since the response is read anyway.
+   *
+   * @throws SocketTimeoutException if the response did not arrive within the read timeout
+   */
+  Message awaitResponse(CompletableFuture<Message> response) throws Exception {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readTimeout);
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          if (readTimeout <= 0) {
+            return response.get();
+          }
+          return response.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (TimeoutException e) {
+          SocketTimeoutException timeout = new SocketTimeoutException(
+              "No response to a pipelined op within " + readTimeout + " ms on " + this);
+          failPipeline(timeout);
+          throw timeout;
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof Exception) {
+            throw (Exception) cause;
+          }
+          if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw e;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Reads the responses to the pipelined ops in the order their requests were sent until the
+   * connection is destroyed.
+   */
+  private void readPipelinedResponses() {
+    try {
+      while (true) {
+        PendingResponse pending = pendingResponses.take();
+        if (pending == PendingResponse.DESTROYED) {
+          return;
+        }
+        Message response;
+        try {
+          response = pending.op.receiveResponse(this, getPipelineReceiveBuffer());
+        } catch (Exception e) {
+          pending.response.completeExceptionally(e);
+          failPipeline(e);
+          return;
+        }
+        pending.response.complete(response);
+      }
+    } catch (InterruptedException | RuntimeException e) {
+      failPipeline(e);
+    } finally {
+      destroy();
+      synchronized (pipelineSendLock) {
+        if (pipelineFailure == null) {
+          pipelineFailure = new ConnectionDestroyedException(this + " was destroyed");
+        }
+        ConnectionDestroyedException failure =
+            new ConnectionDestroyedException("A pipelined op on " + this + " failed",
+                pipelineFailure);
+        for (PendingResponse pending; (pending = pendingResponses.poll()) != null;) {
+          if (pending != PendingResponse.DESTROYED) {
+            pending.response.completeExceptionally(failure);
+          }
+        }
+      }
+    }
+  }
+
+  private void checkPipeline() {
+    Exception failure = pipelineFailure;
+    if (failure != null) {
+      throw new ConnectionDestroyedException("A pipelined op on " + this + " failed", failure);
+    }
+  }
+
+  private void failPipeline(Exception failure) {
+    if (pipelineFailure == null) {
+      pipelineFailure = failure;
+    }
+    destroy();
+  }
+
+  /**
+   * Responses to pipelined ops are read while other ops write their requests, so they are read
+   * into a buffer of their own.
+   */
+  private ByteBuffer getPipelineReceiveBuffer() throws SocketException {
+    if (commBufferForAsyncRead == null) {
+      commBufferForAsyncRead =
+          ServerConnection.allocateCommBuffer(getCommBuffer().capacity(), theSocket);
+    }
+    return getCommBufferForAsyncRead();
+  }
+
   @Override
   public short getWanSiteVersion() {
     return wanSiteVersion;
@@ -373,4 +580,21 @@ public class ConnectionImpl implements Connection {
               requestedBufferSize});
     }
   }
+
+  /**
+   * An op whose request was sent through {@link #sendPipelined(AbstractOp)}, waiting for its
+   * response.
+   */
+  private static class PendingResponse {
+    @Immutable
+    private static final PendingResponse DESTROYED = new PendingResponse(null, null);
+
+    private final AbstractOp op;
+    private final CompletableFuture<Message> response;
+
+    private PendingResponse(AbstractOp op, CompletableFuture<Message> response) {
+      this.op = op;
+      this.response = response;
+    }
+  }
 }
@@ -73,6 +73,11 @@ public class ContainsKeyOp {
       return msgType == MessageType.CONTAINS_KEY_DATA_ERROR;
     }
 
+    @Override
+    protected boolean canBePipelined() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startContainsKey();
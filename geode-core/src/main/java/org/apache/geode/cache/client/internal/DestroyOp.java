@@ -239,6 +239,11 @@ public class DestroyOp {
       return msgType == MessageType.DESTROY_DATA_ERROR;
     }
 
+    @Override
+    protected boolean canBePipelined() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startDestroy();
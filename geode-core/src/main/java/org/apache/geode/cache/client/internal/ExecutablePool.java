@@ -15,6 +15,8 @@
 
 package org.apache.geode.cache.client.internal;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.geode.cache.NoSubscriptionServersAvailableException;
 import org.apache.geode.cache.client.SubscriptionNotEnabledException;
 import org.apache.geode.distributed.internal.ServerLocation;
@@ -45,6 +47,24 @@ public interface ExecutablePool {
    */
   Object execute(Op op, int retryAttempts);
 
+  /**
+   * Execute the given op like {@link #execute(Op)}, without blocking the calling thread while the
+   * op is in flight if the pool supports it. Exceptions that {@link #execute(Op)} throws complete
+   * the returned future exceptionally.
+   *
+   * @param op the operation to execute
+   * @return a future completed with the result of execution if any; null if not
+   */
+  default CompletableFuture<Object> executeAsync(Op op) {
+    CompletableFuture<Object> result = new CompletableFuture<>();
+    try {
+      result.complete(execute(op));
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+
   /**
    * Execute the given op on all the servers that have server-to-client queues for this pool The
    * last exception from any server will be thrown if the op fails. The op is executed with the
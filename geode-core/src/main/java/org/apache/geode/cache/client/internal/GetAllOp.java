@@ -14,6 +14,8 @@
  */
 package org.apache.geode.cache.client.internal;
 
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +69,14 @@ public class GetAllOp {
     AbstractOp op = new GetAllOpImpl(region.getFullPath(), keys, callback);
     ClientMetadataService cms = ((InternalRegion) region).getCache().getClientMetadataService();
 
+    if (keys.size() > ServerBatch.SIZE) {
+      List<ServerBatch<Object>> batches =
+          cms.groupByPrimaryServer(region, uncheckedCast(keys), key -> key, ServerBatch.SIZE);
+      if (batches != null) {
+        return executeBatches(pool, region, batches, retryAttempts, callback, cms);
+      }
+    }
+
     Map<ServerLocation, Set> serverToFilterMap = cms.getServerToFilterMap(keys, region, true);
 
     if (serverToFilterMap == null || serverToFilterMap.isEmpty()) {
@@ -122,6 +132,73 @@ public class GetAllOp {
     }
   }
 
+  /**
+   * Does a large single hop getAll as batches of whole buckets, see {@link ServerBatch}. The keys
+   * of a batch that fails to reach its server are retried on their own.
+   */
+  private static VersionedObjectList executeBatches(ExecutablePool pool, Region region,
+      List<ServerBatch<Object>> batches, int retryAttempts, Object callback,
+      ClientMetadataService cms) {
+    List<SingleHopOperationCallable> tasks = new ArrayList<>(batches.size());
+    for (ServerBatch<Object> batch : batches) {
+      ServerLocation server = batch.getServer();
+      AbstractOp getAllOp = new GetAllOpImpl(region.getFullPath(), batch.getItems(), callback);
+      tasks.add(
+          new SingleHopOperationCallable(new ServerLocation(server.getHostName(), server.getPort()),
+              (InternalPool) pool, getAllOp, UserAttributes.userAttributes.get()));
+    }
+    Object[] outcomes =
+        SingleHopClientExecutor.submitBatches(tasks, ServerBatch.IN_FLIGHT_PER_SERVER);
+
+    VersionedObjectList result = null;
+    RuntimeException se = null;
+    List<Object> retryList = new ArrayList<>();
+    for (int i = 0; i < outcomes.length; i++) {
+      Object outcome = outcomes[i];
+      ServerBatch<Object> batch = batches.get(i);
+      if (outcome instanceof ServerConnectivityException) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("GetAllOp batch to {} failed with {}", batch.getServer(), outcome);
+        }
+        cms.removeBucketServerLocation(batch.getServer());
+        cms.scheduleGetPRMetaData((LocalRegion) region, false);
+        se = (ServerConnectivityException) outcome;
+        retryList.addAll(batch.getItems());
+      } else if (outcome instanceof ServerOperationException
+          && ((Throwable) outcome).getCause() instanceof SerializationException) {
+        se = (ServerOperationException) outcome;
+        retryList.addAll(batch.getItems());
+      } else if (outcome instanceof RuntimeException) {
+        throw (RuntimeException) outcome;
+      } else if (outcome instanceof Throwable) {
+        throw new ServerOperationException((Throwable) outcome);
+      } else {
+        VersionedObjectList valuesFromServer = (VersionedObjectList) outcome;
+        valuesFromServer.setKeys(batch.getItems());
+        SingleHopClientExecutor.logExceptionValues(valuesFromServer);
+        if (result == null) {
+          result = valuesFromServer;
+        } else {
+          result.addAll(valuesFromServer);
+        }
+      }
+    }
+
+    if (se != null) {
+      if (retryAttempts == 0) {
+        throw se;
+      }
+      VersionedObjectList retryResult =
+          GetAllOp.execute(pool, region.getFullPath(), retryList, callback);
+      if (result == null) {
+        result = retryResult;
+      } else {
+        result.addAll(retryResult);
+      }
+    }
+    return result;
+  }
+
   private GetAllOp() {
     // no instances allowed
   }
@@ -14,6 +14,8 @@
  */
 package org.apache.geode.cache.client.internal;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 
@@ -93,6 +95,22 @@ public class GetOp {
     return pool.execute(op);
   }
 
+  /**
+   * Does a region get on a server like
+   * {@link #execute(ExecutablePool, LocalRegion, Object, Object, boolean, EntryEventImpl)} without
+   * blocking the calling thread while the get is in flight. The get is not routed to the server
+   * hosting the key, since that server may only be reached through a pooled connection.
+   *
+   * @return a future completed with the entry value found by the get if any
+   */
+  public static CompletableFuture<Object> executeAsync(ExecutablePool pool, LocalRegion region,
+      Object key, Object callbackArg, boolean prSingleHopEnabled, EntryEventImpl clientEvent) {
+    GetOpImpl op = new GetOpImpl(region, key, callbackArg, prSingleHopEnabled, clientEvent);
+    if (logger.isDebugEnabled()) {
+      logger.debug("GetOp invoked asynchronously for key {}", key);
+    }
+    return pool.executeAsync(op);
+  }
 
   private GetOp() {
     // no instances allowed
@@ -219,6 +237,11 @@ public class GetOp {
       return msgType == MessageType.REQUESTDATAERROR;
     }
 
+    @Override
+    protected boolean canBePipelined() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startGet();
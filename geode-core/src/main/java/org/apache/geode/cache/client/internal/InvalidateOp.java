@@ -170,6 +170,11 @@ public class InvalidateOp {
       return msgType == MessageType.INVALIDATE_ERROR;
     }
 
+    @Override
+    protected boolean canBePipelined() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startInvalidate();
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.internal.cache.TXManagerImpl;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * A few client to server connections of a pool that are shared by all threads executing ops that
+ * can be pipelined. Rather than holding a pooled connection of its own until its response arrives,
+ * each op writes its request to the shared connection with the fewest ops in flight and waits for
+ * its response in line, see {@link ConnectionImpl#executePipelined(AbstractOp)}. Ops executed
+ * asynchronously do not wait at all; the thread reading the responses of the connection completes
+ * them, see {@link ConnectionImpl#executePipelinedAsync(AbstractOp)}.
+ * <p>
+ * The connections are not part of the pool's connection accounting. A connection that fails is
+ * destroyed and replaced by a new one when it is needed. Servers that require credentials take the
+ * connection id of a request from the response to the previous one, so the connections are not
+ * shared with them.
+ *
+ * @see AbstractOp#canBePipelined()
+ */
+class MultiplexedConnections {
+  private static final Logger logger = LogService.getLogger();
+
+  /**
+   * The number of connections each pool shares among its threads, or 0 to give each op a pooled
+   * connection of its own. Ops executed asynchronously share connections either way.
+   */
+  static final int CONNECTIONS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "PoolImpl.MULTIPLEXED_CONNECTIONS", 0);
+
+  /**
+   * The number of connections each pool shares among ops executed asynchronously if
+   * {@link #CONNECTIONS} is 0.
+   */
+  static final int ASYNC_CONNECTIONS = 2;
+
+  private final ConnectionFactory connectionFactory;
+  private final int maxConnections;
+  private final List<ConnectionImpl> connections = new CopyOnWriteArrayList<>();
+  private volatile boolean disabled;
+
+  MultiplexedConnections(ConnectionFactory connectionFactory, int maxConnections) {
+    this.connectionFactory = connectionFactory;
+    this.maxConnections = maxConnections;
+  }
+
+  /**
+   * Returns true if the op can be executed on a shared connection.
+   */
+  boolean canExecute(Op op) {
+    return !disabled && op instanceof AbstractOp && ((AbstractOp) op).canBePipelined()
+        && TXManagerImpl.getCurrentTXUniqueId() == TXManagerImpl.NOTX
+        && UserAttributes.userAttributes.get() == null;
+  }
+
+  /**
+   * Returns the connection with the fewest ops in flight. A new connection is created if all of
+   * them are busy and there are fewer than the maximum.
+   *
+   * @return null if there is no connection and none can be created
+   */
+  ConnectionImpl getConnection() {
+    ConnectionImpl leastBusy = null;
+    for (ConnectionImpl connection : connections) {
+      if (connection.isDestroyed()) {
+        connections.remove(connection);
+      } else if (leastBusy == null
+          || connection.getPipelinedOpCount() < leastBusy.getPipelinedOpCount()) {
+        leastBusy = connection;
+      }
+    }
+    if (leastBusy != null
+        && (leastBusy.getPipelinedOpCount() == 0 || connections.size() >= maxConnections)) {
+      return leastBusy;
+    }
+    synchronized (this) {
+      if (connections.size() >= maxConnections || disabled) {
+        return leastBusy;
+      }
+      ConnectionImpl connection = createConnection();
+      if (connection == null) {
+        return leastBusy;
+      }
+      connections.add(connection);
+      return connection;
+    }
+  }
+
+  private ConnectionImpl createConnection() {
+    Connection connection;
+    try {
+      connection = connectionFactory.createClientToServerConnection(Collections.emptySet());
+    } catch (RuntimeException e) {
+      // the op gets a pooled connection instead, which reports the failure if it persists
+      if (logger.isDebugEnabled()) {
+        logger.debug("Unable to create a multiplexed connection", e);
+      }
+      return null;
+    }
+    if (connection == null) {
+      return null;
+    }
+    if (connection.getServer().getRequiresCredentials()) {
+      logger.info("Not sharing connections to {} since it requires credentials",
+          connection.getServer());
+      disabled = true;
+      connection.destroy();
+      return null;
+    }
+    return (ConnectionImpl) connection;
+  }
+
+  /**
+   * Executes the op on the given shared connection.
+   */
+  Object execute(ConnectionImpl connection, Op op) throws Exception {
+    try {
+      return connection.executePipelined((AbstractOp) op);
+    } finally {
+      if (connection.isDestroyed()) {
+        connections.remove(connection);
+      }
+    }
+  }
+
+  /**
+   * Executes the op on the given shared connection without waiting for its response.
+   */
+  CompletableFuture<Object> executeAsync(ConnectionImpl connection, Op op) {
+    return connection.executePipelinedAsync((AbstractOp) op).whenComplete((result, failure) -> {
+      if (connection.isDestroyed()) {
+        connections.remove(connection);
+      }
+    });
+  }
+
+  void close(boolean keepAlive) {
+    disabled = true;
+    synchronized (this) {
+      for (ConnectionImpl connection : connections) {
+        try {
+          connection.close(keepAlive);
+        } catch (Exception e) {
+          if (logger.isDebugEnabled()) {
+            logger.debug("Error closing multiplexed connection {}", connection, e);
+          }
+        }
+      }
+      connections.clear();
+    }
+  }
+}
@@ -25,6 +25,11 @@ import java.nio.BufferUnderflowException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
@@ -57,6 +62,7 @@ import org.apache.geode.distributed.internal.ServerLocation;
 import org.apache.geode.distributed.internal.ServerLocationAndMemberId;
 import org.apache.geode.distributed.internal.ServerLocationExtension;
 import org.apache.geode.internal.cache.PutAllPartialResultException;
+import org.apache.geode.internal.cache.TXManagerImpl;
 import org.apache.geode.internal.cache.execute.InternalFunctionInvocationTargetException;
 import org.apache.geode.internal.cache.tier.BatchException;
 import org.apache.geode.internal.cache.tier.sockets.MessageTooLargeException;
@@ -81,6 +87,19 @@ public class OpExecutorImpl implements ExecutablePool {
       Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "PoolImpl.TRY_SERVERS_ONCE");
   static final int TX_RETRY_ATTEMPT =
       Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "txRetryAttempt", 500);
+  /**
+   * The number of ops executed asynchronously that may be in flight at a time. Threads executing
+   * more ops asynchronously wait until some of them complete.
+   */
+  static final int MAX_ASYNC_OPS_IN_FLIGHT =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "PoolImpl.MAX_ASYNC_OPS_IN_FLIGHT", 1000);
+  /**
+   * The number of threads of a pool that execute the ops of {@link #executeAsync(Op)} that cannot
+   * be executed on a shared connection. Each of them is blocked until the response to its op
+   * arrives; further such ops wait for one of them.
+   */
+  static final int MAX_BLOCKING_ASYNC_OPS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "PoolImpl.MAX_BLOCKING_ASYNC_OPS", 16);
 
   private final ConnectionManager connectionManager;
   private final int retryAttempts;
@@ -92,6 +111,10 @@ public class OpExecutorImpl implements ExecutablePool {
   private final QueueManager queueManager;
   private final CancelCriterion cancelCriterion;
   private final PoolImpl pool;
+  private final MultiplexedConnections multiplexedConnections;
+  private final Executor asyncOpExecutor;
+  private final Executor blockingAsyncOpExecutor;
+  private final Semaphore asyncOpsInFlight = new Semaphore(MAX_ASYNC_OPS_IN_FLIGHT);
   private final ThreadLocal<Boolean> serverAffinity = ThreadLocal.withInitial(() -> Boolean.FALSE);
   private boolean serverAffinityFailover = false;
   private final ThreadLocal<ServerLocation> affinityServerLocation = new ThreadLocal<>();
@@ -114,6 +137,9 @@ public class OpExecutorImpl implements ExecutablePool {
     this.singleServerTimeout = singleServerTimeout;
     this.cancelCriterion = cancelCriterion;
     this.pool = pool;
+    multiplexedConnections = pool == null ? null : pool.getMultiplexedConnections();
+    asyncOpExecutor = pool == null ? null : pool.getAsyncOpExecutor();
+    blockingAsyncOpExecutor = pool == null ? null : pool.getBlockingAsyncOpExecutor();
   }
 
   @Override
@@ -135,6 +161,22 @@ public class OpExecutorImpl implements ExecutablePool {
       return executeWithServerAffinity(loc, op);
     }
 
+    if (MultiplexedConnections.CONNECTIONS > 0 && multiplexedConnections != null
+        && multiplexedConnections.canExecute(op)) {
+      ConnectionImpl sharedConnection = multiplexedConnections.getConnection();
+      if (sharedConnection != null) {
+        try {
+          return multiplexedConnections.execute(sharedConnection, op);
+        } catch (MessageTooLargeException e) {
+          throw new GemFireIOException("unable to transmit message to server", e);
+        } catch (Exception e) {
+          handleException(e, sharedConnection, 0, retries == 0);
+          // retry on a pooled connection
+          ((AbstractOp) op).getMessage().setIsRetry();
+        }
+      }
+    }
+
     Connection conn = connectionManager.borrowConnection(serverTimeout);
     try {
       Set<ServerLocation> attemptedServers = null;
@@ -182,6 +224,114 @@ public class OpExecutorImpl implements ExecutablePool {
     }
   }
 
+  /**
+   * Executes the op on a shared connection without blocking the calling thread while it is in
+   * flight, see {@link MultiplexedConnections}. Ops that cannot be executed on a shared connection,
+   * and ops that fail on one and are retried on pooled connections, are executed on pooled
+   * connections by the {@link #MAX_BLOCKING_ASYNC_OPS} threads of the blocking async op executor of
+   * the pool instead, each of which waits for the response to its op. Ops of transactions, of
+   * threads with server affinity and of multiuser pools are executed by the calling thread, since
+   * the servers and credentials they are executed with are tied to it. Otherwise the returned
+   * future is completed by a thread of the async op executor.
+   * <p>
+   * If {@link #MAX_ASYNC_OPS_IN_FLIGHT} ops are in flight, the calling thread waits until one of
+   * them completes.
+   */
+  @Override
+  public CompletableFuture<Object> executeAsync(Op op) {
+    if (asyncOpExecutor == null || serverAffinity.get()
+        || TXManagerImpl.getCurrentTXUniqueId() != TXManagerImpl.NOTX
+        || UserAttributes.userAttributes.get() != null) {
+      return ExecutablePool.super.executeAsync(op);
+    }
+    CompletableFuture<Object> result = new CompletableFuture<>();
+    try {
+      asyncOpsInFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancelCriterion.checkCancelInProgress(e);
+      result.completeExceptionally(e);
+      return result;
+    }
+    final ConnectionImpl connection =
+        multiplexedConnections != null && multiplexedConnections.canExecute(op)
+            ? multiplexedConnections.getConnection() : null;
+    if (connection == null) {
+      executeLater(op, result);
+      return result;
+    }
+    multiplexedConnections.executeAsync(connection, op)
+        .whenComplete((value, failure) -> completeLater(result, () -> {
+          if (failure == null) {
+            completeAsync(result, value, null);
+            return;
+          }
+          Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+              ? failure.getCause() : failure;
+          try {
+            if (cause instanceof MessageTooLargeException) {
+              throw new GemFireIOException("unable to transmit message to server", cause);
+            }
+            handleException(cause, connection, 0, retryAttempts == 0);
+          } catch (Throwable t) {
+            completeAsync(result, null, t);
+            return;
+          }
+          // retry on a pooled connection
+          ((AbstractOp) op).getMessage().setIsRetry();
+          executeLater(op, result);
+        }));
+    return result;
+  }
+
+  /**
+   * Completes the future of an op of {@link #executeAsync(Op)} on the async op executor of the
+   * pool. The thread reading the responses of a shared connection must not run the actions that
+   * depend on the future, since they may block it: an action may execute another op
+   * asynchronously and wait for one of the {@link #MAX_ASYNC_OPS_IN_FLIGHT}, or execute an op on
+   * the same connection and wait for a response only that thread reads.
+   */
+  private void completeLater(CompletableFuture<Object> result, Runnable completion) {
+    try {
+      asyncOpExecutor.execute(completion);
+    } catch (RejectedExecutionException e) {
+      // the pool is closing
+      CompletableFuture.runAsync(() -> completeAsync(result, null, e));
+    }
+  }
+
+  /**
+   * Executes an op of {@link #executeAsync(Op)} on the blocking async op executor of the pool. Its
+   * future is completed on the async op executor, so that actions depending on it do not hold up
+   * the other ops waiting for a thread of the bounded blocking executor.
+   */
+  private void executeLater(Op op, CompletableFuture<Object> result) {
+    try {
+      blockingAsyncOpExecutor.execute(() -> {
+        Object value;
+        try {
+          value = execute(op);
+        } catch (Throwable t) {
+          completeLater(result, () -> completeAsync(result, null, t));
+          return;
+        }
+        completeLater(result, () -> completeAsync(result, value, null));
+      });
+    } catch (RejectedExecutionException e) {
+      // the pool is closing
+      completeAsync(result, null, e);
+    }
+  }
+
+  private void completeAsync(CompletableFuture<Object> result, Object value, Throwable failure) {
+    asyncOpsInFlight.release();
+    if (failure == null) {
+      result.complete(value);
+    } else {
+      result.completeExceptionally(failure);
+    }
+  }
+
   /**
    * execute the given op on the given server. If the server cannot be reached, sends a
    * TXFailoverOp, then retries the given op
@@ -25,7 +25,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -69,6 +72,7 @@ import org.apache.geode.internal.logging.CoreLoggingExecutors;
 import org.apache.geode.internal.logging.InternalLogWriter;
 import org.apache.geode.internal.monitoring.ThreadsMonitoring;
 import org.apache.geode.internal.statistics.DummyStatisticsFactory;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 import org.apache.geode.util.internal.GeodeGlossary;
 
@@ -131,6 +135,9 @@ public class PoolImpl implements InternalPool {
 
   private final ConnectionSource source;
   private final ConnectionManager manager;
+  private final MultiplexedConnections multiplexedConnections;
+  private final ExecutorService asyncOpExecutor;
+  private final ExecutorService blockingAsyncOpExecutor;
   private final QueueManager queueManager;
   protected final EndpointManager endpointManager;
   private final PoolManagerImpl pm;
@@ -281,6 +288,16 @@ public class PoolImpl implements InternalPool {
     manager = new ConnectionManagerImpl(name, connectionFactory, endpointManager, maxConnections,
         minConnections, idleTimeout, loadConditioningInterval, securityLogWriter, pingInterval,
         cancelCriterion, getStats());
+    if (!usedByGateway && !multiuserSecureModeEnabled) {
+      multiplexedConnections = new MultiplexedConnections(connectionFactory,
+          MultiplexedConnections.CONNECTIONS > 0 ? MultiplexedConnections.CONNECTIONS
+              : MultiplexedConnections.ASYNC_CONNECTIONS);
+    } else {
+      multiplexedConnections = null;
+    }
+    asyncOpExecutor = LoggingExecutors.newCachedThreadPool("AsyncOpExecutor " + name + " ", true);
+    blockingAsyncOpExecutor = LoggingExecutors.newFixedThreadPool(
+        OpExecutorImpl.MAX_BLOCKING_ASYNC_OPS, "BlockingAsyncOpExecutor " + name + " ", true);
     // Fix for 43468 - make sure we check the cache cancel criterion if we get
     // an exception, by passing in the poolOrCache stopper
     executor = new OpExecutorImpl(manager, queueManager, endpointManager, riTracker, retryAttempts,
@@ -637,6 +654,21 @@ public class PoolImpl implements InternalPool {
             e);
       }
 
+      try {
+        blockingAsyncOpExecutor.shutdown();
+        asyncOpExecutor.shutdown();
+      } catch (RuntimeException e) {
+        logger.error("Error encountered while stopping async op executor.", e);
+      }
+
+      try {
+        if (multiplexedConnections != null) {
+          multiplexedConnections.close(keepAlive);
+        }
+      } catch (RuntimeException e) {
+        logger.error("Error encountered while closing multiplexed connections.", e);
+      }
+
       try {
         if (manager != null) {
           manager.close(keepAlive);
@@ -805,6 +837,12 @@ public class PoolImpl implements InternalPool {
     return executor.execute(op);
   }
 
+  @Override
+  public CompletableFuture<Object> executeAsync(Op op) {
+    authenticateIfRequired(null, op);
+    return executor.executeAsync(op);
+  }
+
   /**
    * Execute the given op on the servers that this pool connects to. This method is responsible for
    * retrying the op if an attempt fails. It will only execute it once and on one server.
@@ -1131,6 +1169,29 @@ public class PoolImpl implements InternalPool {
     return result;
   }
 
+  /**
+   * Returns the connections shared by ops that can be pipelined, or null if ops do not share
+   * connections.
+   */
+  MultiplexedConnections getMultiplexedConnections() {
+    return multiplexedConnections;
+  }
+
+  /**
+   * Returns the executor that completes the futures of ops that are executed asynchronously.
+   */
+  Executor getAsyncOpExecutor() {
+    return asyncOpExecutor;
+  }
+
+  /**
+   * Returns the executor of ops that are executed asynchronously but cannot be executed on a
+   * shared connection, which has {@link OpExecutorImpl#MAX_BLOCKING_ASYNC_OPS} threads.
+   */
+  Executor getBlockingAsyncOpExecutor() {
+    return blockingAsyncOpExecutor;
+  }
+
   @Override
   public int getConnectionCount() {
     return manager.getConnectionCount();
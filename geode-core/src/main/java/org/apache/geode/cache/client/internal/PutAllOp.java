@@ -29,6 +29,7 @@ import org.apache.geode.cache.CacheClosedException;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.ServerConnectivityException;
 import org.apache.geode.cache.client.ServerOperationException;
 import org.apache.geode.distributed.internal.ServerLocation;
 import org.apache.geode.internal.cache.CachedDeserializable;
@@ -93,6 +94,15 @@ public class PutAllOp {
     ClientMetadataService clientMetadataService =
         ((RegionMapOwner) region).getCache().getClientMetadataService();
 
+    if (map.size() > ServerBatch.SIZE) {
+      List<ServerBatch<Map.Entry<Object, Object>>> batches = clientMetadataService
+          .groupByPrimaryServer(region, map.entrySet(), Map.Entry::getKey, ServerBatch.SIZE);
+      if (batches != null) {
+        return executeBatches(pool, region, map.size(), batches, eventId, skipCallbacks,
+            retryAttempts, callbackArg, clientMetadataService);
+      }
+    }
+
     Map<ServerLocation, Set> serverToFilterMap =
         clientMetadataService.getServerToFilterMap(map.keySet(), region, true);
 
@@ -217,6 +227,133 @@ public class PutAllOp {
     return result.getSucceededKeysAndVersions();
   }
 
+  /**
+   * Does a large single hop putAll as batches of whole buckets, see {@link ServerBatch}. The
+   * entries of a bucket are never split across messages, since the server derives the event ids
+   * of a bucket's entries from their position in the message. A batch that fails is retried on its
+   * own, with the same event id.
+   */
+  private static VersionedObjectList executeBatches(ExecutablePool pool,
+      Region<Object, Object> region, int size,
+      List<ServerBatch<Map.Entry<Object, Object>>> batches, EventID eventId,
+      boolean skipCallbacks, int retryAttempts, Object callbackArg,
+      ClientMetadataService clientMetadataService) {
+    List<SingleHopOperationCallable> tasks = new ArrayList<>(batches.size());
+    for (ServerBatch<Map.Entry<Object, Object>> batch : batches) {
+      ServerLocation server = batch.getServer();
+      AbstractOp putAllOp = new PutAllOpImpl(region, toMap(batch), eventId, true, skipCallbacks,
+          callbackArg);
+      tasks.add(
+          new SingleHopOperationCallable(new ServerLocation(server.getHostName(), server.getPort()),
+              (InternalPool) pool, putAllOp, UserAttributes.userAttributes.get()));
+    }
+
+    final boolean isDebugEnabled = logger.isDebugEnabled();
+    if (isDebugEnabled) {
+      logger.debug("PutAllOp#execute : Number of putAll batches is : {}", tasks.size());
+    }
+    Object[] outcomes =
+        SingleHopClientExecutor.submitBatches(tasks, ServerBatch.IN_FLIGHT_PER_SERVER);
+
+    PutAllPartialResult result = new PutAllPartialResult(size);
+    List<ServerBatch<Map.Entry<Object, Object>>> failedBatches = new ArrayList<>();
+    RuntimeException firstFailure = null;
+    RuntimeException unexpectedFailure = null;
+    boolean anyPartialResults = false;
+    for (int i = 0; i < outcomes.length; i++) {
+      Object outcome = outcomes[i];
+      ServerBatch<Map.Entry<Object, Object>> batch = batches.get(i);
+      if (outcome instanceof PutAllPartialResultException) {
+        PutAllPartialResultException pap = (PutAllPartialResultException) outcome;
+        if (isDebugEnabled) {
+          logger.debug("PutAll batch to {} encountered PutAllPartialResultException exception: {}",
+              batch.getServer(), pap);
+        }
+        result.consolidate(pap.getResult());
+        anyPartialResults = true;
+      } else if (outcome instanceof Throwable) {
+        RuntimeException failure = outcome instanceof RuntimeException
+            ? (RuntimeException) outcome : new ServerOperationException((Throwable) outcome);
+        if (failure instanceof ServerConnectivityException) {
+          clientMetadataService.removeBucketServerLocation(batch.getServer());
+          clientMetadataService.scheduleGetPRMetaData((LocalRegion) region, false);
+        } else if (unexpectedFailure == null) {
+          unexpectedFailure = failure;
+        }
+        failedBatches.add(batch);
+      } else if (outcome != null) {
+        result.addKeysAndVersions((VersionedObjectList) outcome);
+      }
+      if (firstFailure == null && outcome instanceof RuntimeException) {
+        firstFailure = (RuntimeException) outcome;
+      }
+    }
+    if (unexpectedFailure != null && !anyPartialResults) {
+      if (isDebugEnabled) {
+        logger.debug("single-hop putAll encountered unexpected exception: ", unexpectedFailure);
+      }
+      throw unexpectedFailure;
+    }
+    if (failedBatches.isEmpty() && !anyPartialResults) {
+      return result.getSucceededKeysAndVersions();
+    }
+    if (retryAttempts == 0) {
+      throw firstFailure != null ? firstFailure : unexpectedFailure;
+    }
+
+    // save the keys of the batches that succeeded, to be reported in case a retry fails
+    if (result.getSucceededKeysAndVersions().size() == 0) {
+      Set<Object> succeedKeySet = new LinkedHashSet<>();
+      for (int i = 0; i < outcomes.length; i++) {
+        if (!(outcomes[i] instanceof Throwable)) {
+          for (Map.Entry<Object, Object> entry : batches.get(i).getItems()) {
+            succeedKeySet.add(entry.getKey());
+          }
+        }
+      }
+      result.addKeys(succeedKeySet);
+    }
+
+    // retry the failed batches one by one, keeping the event id of each of them
+    boolean oneBatchRetryFailed = anyPartialResults;
+    for (ServerBatch<Map.Entry<Object, Object>> batch : failedBatches) {
+      Map<Object, Object> batchMap = toMap(batch);
+      try {
+        VersionedObjectList v =
+            PutAllOp.execute(pool, region, batchMap, eventId, skipCallbacks, true, callbackArg);
+        if (v == null) {
+          result.addKeys(batchMap.keySet());
+        } else {
+          result.addKeysAndVersions(v);
+        }
+      } catch (PutAllPartialResultException pre) {
+        oneBatchRetryFailed = true;
+        if (isDebugEnabled) {
+          logger.debug("Retry failed with PutAllPartialResultException: {} Before retry: {}", pre,
+              result.getKeyListString());
+        }
+        result.consolidate(pre.getResult());
+      } catch (Exception rte) {
+        oneBatchRetryFailed = true;
+        result.saveFailedKey(batchMap.keySet().iterator().next(), rte);
+      }
+    }
+
+    // If all retries succeeded, the PRE in first tries can be ignored
+    if (oneBatchRetryFailed && result.hasFailure()) {
+      throw new PutAllPartialResultException(result);
+    }
+    return result.getSucceededKeysAndVersions();
+  }
+
+  private static Map<Object, Object> toMap(ServerBatch<Map.Entry<Object, Object>> batch) {
+    Map<Object, Object> map = new LinkedHashMap<>();
+    for (Map.Entry<Object, Object> entry : batch.getItems()) {
+      map.put(entry.getKey(), entry.getValue());
+    }
+    return map;
+  }
+
   private PutAllOp() {
     // no instances allowed
   }
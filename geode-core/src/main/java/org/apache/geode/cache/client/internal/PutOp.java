@@ -15,6 +15,7 @@
 
 package org.apache.geode.cache.client.internal;
 
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
@@ -96,6 +97,26 @@ public class PutOp {
     return result;
   }
 
+  /**
+   * Does a region put on a server like {@link #execute(ExecutablePool, LocalRegion, Object, Object,
+   * byte[], EntryEventImpl, Operation, boolean, Object, Object, boolean)} without blocking the
+   * calling thread while the put is in flight. The put is not routed to the server hosting the
+   * key, since that server may only be reached through a pooled connection.
+   *
+   * @return a future completed with the old value of the entry if the server returned it
+   */
+  public static CompletableFuture<Object> executeAsync(ExecutablePool pool, LocalRegion region,
+      Object key, Object value, byte[] deltaBytes, EntryEventImpl event, Operation operation,
+      Object callbackArg, boolean prSingleHopEnabled) {
+    PutOpImpl op = new PutOpImpl(region, key, value, deltaBytes, event, operation, false, null,
+        callbackArg, false/* donot send full obj; send delta */, prSingleHopEnabled);
+    return pool.executeAsync(op).whenComplete((result, failure) -> {
+      if (op.getMessage().isRetry()) {
+        event.setRetried(true);
+      }
+    });
+  }
+
   public static Object execute(ExecutablePool pool, String regionName, Object key, Object value,
       byte[] deltaBytes, EntryEventImpl event, Operation operation,
       boolean requireOldValue,
@@ -386,6 +407,15 @@ public class PutOp {
       return msgType == MessageType.PUT_DATA_ERROR;
     }
 
+    /**
+     * A put that sends a delta may need to send the full value, or get it, on the same connection
+     * after the response.
+     */
+    @Override
+    protected boolean canBePipelined() {
+      return !deltaSent;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startPut();
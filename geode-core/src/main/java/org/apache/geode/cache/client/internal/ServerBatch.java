@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Items of a single hop bulk op, such as the keys of a getAll or the entries of a putAll, of
+ * buckets whose primary is on the same server. A bulk op of more than {@link #SIZE} items is split
+ * into batches of whole buckets of about that many items each, which are sent to their servers
+ * concurrently, at most {@link #IN_FLIGHT_PER_SERVER} at a time to each server. A batch that fails
+ * is retried on its own.
+ *
+ * @see ClientMetadataService#groupByPrimaryServer
+ */
+class ServerBatch<T> {
+
+  /**
+   * The number of items of a batch, unless a single bucket has more of them.
+   */
+  static final int SIZE =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "ServerBatch.SIZE", 10000);
+
+  /**
+   * The number of batches of a bulk op that are sent to the same server at a time.
+   */
+  static final int IN_FLIGHT_PER_SERVER =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "ServerBatch.IN_FLIGHT_PER_SERVER", 2);
+
+  private final ServerLocation server;
+  private final List<T> items = new ArrayList<>();
+
+  ServerBatch(ServerLocation server) {
+    this.server = server;
+  }
+
+  ServerLocation getServer() {
+    return server;
+  }
+
+  List<T> getItems() {
+    return items;
+  }
+
+  void addAll(List<T> bucketItems) {
+    items.addAll(bucketItems);
+  }
+
+  int size() {
+    return items.size();
+  }
+}
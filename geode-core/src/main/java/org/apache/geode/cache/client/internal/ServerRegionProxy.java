@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.apache.logging.log4j.Logger;
@@ -116,6 +117,17 @@ public class ServerRegionProxy extends ServerProxy implements ServerRegionDataAc
         pool.getPRSingleHopEnabled(), clientEvent);
   }
 
+  /**
+   * Does a get on the server like {@link #get(Object, Object, EntryEventImpl)} without blocking the
+   * calling thread while the get is in flight.
+   */
+  public CompletableFuture<Object> getAsync(Object key, Object callbackArg,
+      EntryEventImpl clientEvent) {
+    recordTXOperation(ServerRegionOperation.GET, key, callbackArg);
+    return GetOp.executeAsync(pool, region, key, callbackArg, pool.getPRSingleHopEnabled(),
+        clientEvent);
+  }
+
 
 
   @Override
@@ -161,6 +173,19 @@ public class ServerRegionProxy extends ServerProxy implements ServerRegionDataAc
   }
 
 
+  /**
+   * Does a put of an update on the server like {@link #put(Object, Object, byte[], EntryEventImpl,
+   * Operation, boolean, Object, Object, boolean)} without blocking the calling thread while the put
+   * is in flight.
+   */
+  public CompletableFuture<Object> putAsync(Object key, Object value, byte[] deltaBytes,
+      EntryEventImpl event, Object callbackArg) {
+    recordTXOperation(ServerRegionOperation.PUT, key, value, deltaBytes, event.getEventId(),
+        Operation.UPDATE, false, null, callbackArg, false);
+    return PutOp.executeAsync(pool, region, key, value, deltaBytes, event, Operation.UPDATE,
+        callbackArg, pool.getPRSingleHopEnabled());
+  }
+
   /**
    * Does a region put on the server using the given connection.
    *
@@ -14,11 +14,15 @@
  */
 package org.apache.geode.cache.client.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -312,20 +316,7 @@ public class SingleHopClientExecutor {
 
           VersionedObjectList valuesFromServer = (VersionedObjectList) fut.get();
           valuesFromServer.setKeys(keys);
-
-          for (VersionedObjectList.Iterator it = valuesFromServer.iterator(); it.hasNext();) {
-            VersionedObjectList.Entry entry = it.next();
-            Object key = entry.getKey();
-            Object value = entry.getValue();
-            if (!entry.isKeyNotOnServer()) {
-              if (value instanceof Throwable) {
-                logger.warn(String.format(
-                    "%s: Caught the following exception attempting to get value for key=%s",
-                    value, key),
-                    (Throwable) value);
-              }
-            }
-          }
+          logExceptionValues(valuesFromServer);
           if (logger.isDebugEnabled()) {
             logger.debug("GetAllOp#got result from {}: {}", server, valuesFromServer);
           }
@@ -363,6 +354,68 @@ public class SingleHopClientExecutor {
     return null;
   }
 
+  /**
+   * Logs the exceptions a getAll returned in place of the values of keys.
+   */
+  static void logExceptionValues(VersionedObjectList valuesFromServer) {
+    for (VersionedObjectList.Iterator it = valuesFromServer.iterator(); it.hasNext();) {
+      VersionedObjectList.Entry entry = it.next();
+      Object key = entry.getKey();
+      Object value = entry.getValue();
+      if (!entry.isKeyNotOnServer()) {
+        if (value instanceof Throwable) {
+          logger.warn(String.format(
+              "%s: Caught the following exception attempting to get value for key=%s",
+              value, key),
+              (Throwable) value);
+        }
+      }
+    }
+  }
+
+  /**
+   * Executes the tasks of the batches of a bulk op, at most tasksPerServer of them on the same
+   * server at a time. All servers are sent batches concurrently, and each server is sent its next
+   * batch as soon as one of its batches completes.
+   *
+   * @return the result of each task, or the exception it threw, in the order of the tasks
+   * @see ServerBatch
+   */
+  static Object[] submitBatches(List<SingleHopOperationCallable> tasks, int tasksPerServer) {
+    Object[] outcomes = new Object[tasks.size()];
+    Map<ServerLocation, Queue<Integer>> tasksByServer = new LinkedHashMap<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      ServerLocation server = tasks.get(i).getServer();
+      tasksByServer.computeIfAbsent(server, s -> new ConcurrentLinkedQueue<>()).add(i);
+    }
+    List<Future<?>> futures = new ArrayList<>();
+    for (Queue<Integer> serverTasks : tasksByServer.values()) {
+      int lanes = Math.min(Math.max(tasksPerServer, 1), serverTasks.size());
+      for (int lane = 0; lane < lanes; lane++) {
+        futures.add(execService.submit(() -> {
+          Integer index;
+          while ((index = serverTasks.poll()) != null) {
+            try {
+              outcomes[index] = tasks.get(index).call();
+            } catch (Exception e) {
+              outcomes[index] = e;
+            }
+          }
+        }));
+      }
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        throw new InternalGemFireException(e.getMessage());
+      } catch (ExecutionException e) {
+        throw executionThrowable(e.getCause());
+      }
+    }
+    return outcomes;
+  }
+
   static void submitTask(Runnable task) {
     execService.execute(task);
   }
@@ -40,6 +40,8 @@ import org.apache.geode.internal.lang.utils.JavaWorkarounds;
 import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxSerializationException;
 import org.apache.geode.pdx.internal.InternalPdxInstance;
+import org.apache.geode.pdx.internal.PdxFieldAccessor;
+import org.apache.geode.pdx.internal.PdxInstanceImpl;
 import org.apache.geode.pdx.internal.PdxType;
 import org.apache.geode.pdx.internal.TypeRegistry;
 import org.apache.geode.security.NotAuthorizedException;
@@ -53,12 +55,22 @@ public class AttributeDescriptor {
   /** cache for remembering the correct Member for a class and attribute */
   @MakeNotStatic
   static final ConcurrentMap<List, Member> _localCache = new ConcurrentHashMap<>();
+  /** how to read the attribute from instances of the PdxType last read */
+  private volatile PdxFieldAccessor _pdxFieldAccessor;
 
   public AttributeDescriptor(TypeRegistry pdxRegistry, String name) {
     _name = name;
     _pdxRegistry = pdxRegistry;
   }
 
+  String getName() {
+    return _name;
+  }
+
+  TypeRegistry getPdxRegistry() {
+    return _pdxRegistry;
+  }
+
   /** Validate whether this attribute <i>can</i> be evaluated for target type */
   public boolean validateReadType(Class targetType) {
     try {
@@ -227,44 +239,54 @@ public class AttributeDescriptor {
    */
   private Object readPdx(InternalPdxInstance pdxInstance, ExecutionContext executionContext)
       throws NameNotFoundException, QueryInvocationTargetException {
-    // if the field is present in the pdxinstance
-    if (pdxInstance.hasField(_name)) {
+    if (pdxInstance instanceof PdxInstanceImpl) {
+      // look the field up by name only when the type differs from the last one read
+      PdxInstanceImpl instance = (PdxInstanceImpl) pdxInstance;
+      PdxFieldAccessor accessor = _pdxFieldAccessor;
+      if (accessor == null || accessor.getTypeId() != instance.getPdxType().getTypeId()) {
+        accessor = new PdxFieldAccessor(instance.getPdxType(), _name);
+        _pdxFieldAccessor = accessor;
+      }
+      if (accessor.hasField()) {
+        // return PdxString if field is a String otherwise invoke readField
+        return accessor.readRawField(instance);
+      }
+    } else if (pdxInstance.hasField(_name)) {
       // return PdxString if field is a String otherwise invoke readField
       return pdxInstance.getRawField(_name);
-    } else {
-      // field not found in the pdx instance, look for the field in any of the
-      // PdxTypes (versions of the pdxinstance) in the type registry
-      String className = pdxInstance.getClassName();
+    }
+    // field not found in the pdx instance, look for the field in any of the
+    // PdxTypes (versions of the pdxinstance) in the type registry
+    String className = pdxInstance.getClassName();
 
-      // don't look further for field or method or reflect on GemFire JSON data
-      if (className.equals(JSONFormatter.JSON_CLASSNAME)) {
-        return QueryService.UNDEFINED;
-      }
+    // don't look further for field or method or reflect on GemFire JSON data
+    if (className.equals(JSONFormatter.JSON_CLASSNAME)) {
+      return QueryService.UNDEFINED;
+    }
 
-      // check if the field was not found previously
-      if (!isFieldAlreadySearchedAndNotFound(className, _name)) {
-        PdxType pdxType = _pdxRegistry.getPdxTypeForField(_name, className);
-        if (pdxType == null) {
-          // remember the field that is not present in any version to avoid
-          // trips to the registry next time
-          updateClassToFieldsMap(className, _name);
-        } else {
-          return pdxType.getPdxField(_name).getFieldType().getDefaultValue();
-        }
-      }
-      // if the field is not present in any of the versions try to
-      // invoke implicit method call
-      if (!isMethodAlreadySearchedAndNotFound(className, _name)) {
-        try {
-          return readFieldFromDeserializedObject(pdxInstance, executionContext);
-        } catch (NameNotFoundException ex) {
-          updateClassToMethodsMap(pdxInstance.getClassName(), _name);
-          throw ex;
-        }
+    // check if the field was not found previously
+    if (!isFieldAlreadySearchedAndNotFound(className, _name)) {
+      PdxType pdxType = _pdxRegistry.getPdxTypeForField(_name, className);
+      if (pdxType == null) {
+        // remember the field that is not present in any version to avoid
+        // trips to the registry next time
+        updateClassToFieldsMap(className, _name);
       } else {
-        return QueryService.UNDEFINED;
+        return pdxType.getPdxField(_name).getFieldType().getDefaultValue();
       }
     }
+    // if the field is not present in any of the versions try to
+    // invoke implicit method call
+    if (!isMethodAlreadySearchedAndNotFound(className, _name)) {
+      try {
+        return readFieldFromDeserializedObject(pdxInstance, executionContext);
+      } catch (NameNotFoundException ex) {
+        updateClassToMethodsMap(pdxInstance.getClassName(), _name);
+        throw ex;
+      }
+    } else {
+      return QueryService.UNDEFINED;
+    }
   }
 
   private Object readFieldFromDeserializedObject(InternalPdxInstance pdxInstance,
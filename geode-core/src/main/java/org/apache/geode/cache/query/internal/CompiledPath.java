@@ -29,6 +29,7 @@ import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.TypeMismatchException;
 import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.pdx.internal.TypeRegistry;
 
 
 /**
@@ -42,6 +43,8 @@ import org.apache.geode.internal.cache.PartitionedRegion;
 public class CompiledPath extends AbstractCompiledValue {
   private final CompiledValue _receiver; // the value represented by the expression before the dot
   private final String _tailID; // the identifier after the dot.
+  /** reused by evaluations, so that reading a PDX field does not look it up by name every time */
+  private volatile AttributeDescriptor _attributeDescriptor;
 
   public CompiledPath(CompiledValue rcvr, String id) {
     _receiver = rcvr;
@@ -66,6 +69,16 @@ public class CompiledPath extends AbstractCompiledValue {
 
 
 
+  private AttributeDescriptor getAttributeDescriptor(ExecutionContext context) {
+    TypeRegistry pdxRegistry = context.getCache().getPdxRegistry();
+    AttributeDescriptor attributeDescriptor = _attributeDescriptor;
+    if (attributeDescriptor == null || attributeDescriptor.getPdxRegistry() != pdxRegistry) {
+      attributeDescriptor = new AttributeDescriptor(pdxRegistry, getTailID());
+      _attributeDescriptor = attributeDescriptor;
+    }
+    return attributeDescriptor;
+  }
+
   @Override
   public List getPathOnIterator(RuntimeIterator itr, ExecutionContext context)
       throws TypeMismatchException, AmbiguousNameException {
@@ -148,7 +161,7 @@ public class CompiledPath extends AbstractCompiledValue {
     // getTailID());
     // }
 
-    Object obj = PathUtils.evaluateAttribute(context, evalRcvr, getTailID());
+    Object obj = PathUtils.evaluateAttribute(context, evalRcvr, getAttributeDescriptor(context));
     // check for BucketRegion substitution
     PartitionedRegion pr = context.getPartitionedRegion();
     if (pr != null && (obj instanceof Region)) {
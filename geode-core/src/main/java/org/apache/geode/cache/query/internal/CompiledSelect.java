@@ -526,6 +526,8 @@ public class CompiledSelect extends AbstractCompiledValue {
                     ? cachedElementTypeForOrderBy : prepareResultType(context);
                 context.cachePut(RESULT_TYPE, resultType);
                 context.cachePut(PROJ_ATTRIB, projAttrs);
+                context.cachePut(INDEX_COVERS_PROJECTION,
+                    isProjectionCoveredByIndex(planInfo, context));
               }
 
 
@@ -616,6 +618,26 @@ public class CompiledSelect extends AbstractCompiledValue {
     }
   }
 
+  /**
+   * Returns true if the only projection attribute is the indexed expression of the only index used
+   * to evaluate the where clause, so that the index can project its keys instead of evaluating the
+   * projection on the values, which would fault overflowed values in from disk.
+   */
+  private boolean isProjectionCoveredByIndex(PlanInfo planInfo, ExecutionContext context)
+      throws TypeMismatchException, NameResolutionException {
+    if (projAttrs.size() != 1 || planInfo.indexes.size() != 1) {
+      return false;
+    }
+    AbstractIndex index = (AbstractIndex) planInfo.indexes.get(0);
+    if (!index.canProjectIndexedExpression()) {
+      return false;
+    }
+    StringBuilder projection = new StringBuilder();
+    ((CompiledValue) ((Object[]) projAttrs.get(0))[1]).generateCanonicalizedExpression(projection,
+        context);
+    return index.getCanonicalizedIndexedExpression().equals(projection.toString());
+  }
+
   /**
    * The index is locked during query to prevent it from being removed by another thread. So we have
    * to release the lock only after whole query is finished as one query can use an index multiple
@@ -690,6 +712,9 @@ public class CompiledSelect extends AbstractCompiledValue {
         }
         return results;
       }
+      if (doHashJoin(results, context)) {
+        return results;
+      }
     }
     int numElementsInResult = 0;
     try {
@@ -763,44 +788,8 @@ public class CompiledSelect extends AbstractCompiledValue {
       QueryInvocationTargetException, CompiledSelect.NullIteratorException {
     List iterList = context.getCurrentIterators();
     if (level == iterList.size()) {
-      boolean addToResults = true;
-      if (evaluateWhereClause) {
-        Object result = whereClause.evaluate(context);
-        QueryObserver observer = QueryObserverHolder.getInstance();
-        observer.afterIterationEvaluation(result);
-        if (result == null) {
-          addToResults = false;
-        } else if (result instanceof Boolean) {
-          addToResults = (Boolean) result;
-        } else if (result == QueryService.UNDEFINED) {
-          // add UNDEFINED to results only for NOT EQUALS queries
-          if (whereClause.getType() == COMPARISON) {
-            int operator = ((Filter) whereClause).getOperator();
-            if ((operator != TOK_NE && operator != TOK_NE_ALT)) {
-              addToResults = false;
-            }
-          } else {
-            addToResults = false;
-          }
-        } else {
-          throw new TypeMismatchException(
-              String.format("The WHERE clause was type ' %s ' instead of boolean",
-                  result.getClass().getName()));
-        }
-      }
-      if (addToResults) {
-        int occurrence =
-            applyProjectionAndAddToResultSet(context, results, orderByAttrs == null);
-        // If the occurrence is greater than 1, then only in case of
-        // non distinct query should it be treated as contributing to size
-        // else duplication will be eliminated when making it distinct using
-        // ResultsCollectionWrapper and we will fall short of limit
-        if (occurrence == 1 || (occurrence > 1 && !distinct)) {
-          // (Unique i.e first time occurrence) or subsequent occurrence
-          // for non distinct query
-          ++numElementsInResult;
-        }
-      }
+      numElementsInResult = evaluateCurrentIteration(results, context, evaluateWhereClause,
+          numElementsInResult);
     } else {
       RuntimeIterator rIter = (RuntimeIterator) iterList.get(level);
       SelectResults sr = rIter.evaluateCollection(context);
@@ -844,6 +833,148 @@ public class CompiledSelect extends AbstractCompiledValue {
     return numElementsInResult;
   }
 
+  /**
+   * Evaluates the where clause for the current values of the iterators and adds their projection
+   * to the results if it is satisfied.
+   *
+   * @return the number of elements in the results that count towards the limit
+   */
+  private int evaluateCurrentIteration(SelectResults results, ExecutionContext context,
+      boolean evaluateWhereClause, int numElementsInResult) throws TypeMismatchException,
+      FunctionDomainException, NameResolutionException, QueryInvocationTargetException {
+    boolean addToResults = true;
+    if (evaluateWhereClause) {
+      Object result = whereClause.evaluate(context);
+      QueryObserver observer = QueryObserverHolder.getInstance();
+      observer.afterIterationEvaluation(result);
+      if (result == null) {
+        addToResults = false;
+      } else if (result instanceof Boolean) {
+        addToResults = (Boolean) result;
+      } else if (result == QueryService.UNDEFINED) {
+        // add UNDEFINED to results only for NOT EQUALS queries
+        if (whereClause.getType() == COMPARISON) {
+          int operator = ((Filter) whereClause).getOperator();
+          if ((operator != TOK_NE && operator != TOK_NE_ALT)) {
+            addToResults = false;
+          }
+        } else {
+          addToResults = false;
+        }
+      } else {
+        throw new TypeMismatchException(
+            String.format("The WHERE clause was type ' %s ' instead of boolean",
+                result.getClass().getName()));
+      }
+    }
+    if (addToResults) {
+      int occurrence =
+          applyProjectionAndAddToResultSet(context, results, orderByAttrs == null);
+      // If the occurrence is greater than 1, then only in case of
+      // non distinct query should it be treated as contributing to size
+      // else duplication will be eliminated when making it distinct using
+      // ResultsCollectionWrapper and we will fall short of limit
+      if (occurrence == 1 || (occurrence > 1 && !distinct)) {
+        // (Unique i.e first time occurrence) or subsequent occurrence
+        // for non distinct query
+        ++numElementsInResult;
+      }
+    }
+    return numElementsInResult;
+  }
+
+  /**
+   * Evaluates a join of two regions as a {@link HashJoin} if the where clause has an equality
+   * between them and the hash join is expected to be cheaper than nested loops. The smaller
+   * collection is the build side.
+   *
+   * @return false if the join was not evaluated
+   */
+  private boolean doHashJoin(SelectResults results, ExecutionContext context)
+      throws TypeMismatchException, FunctionDomainException, NameResolutionException,
+      QueryInvocationTargetException {
+    HashJoin join = HashJoin.forWhereClause(whereClause, context);
+    if (join == null) {
+      return false;
+    }
+    SelectResults buildSide = evaluateJoinCollection(join.getBuildIterator(), context);
+    SelectResults probeSide = evaluateJoinCollection(join.getProbeIterator(), context);
+    if (buildSide == null || probeSide == null) {
+      // a collection that evaluates to UNDEFINED joins with nothing
+      return true;
+    }
+    int buildSize = buildSide.size();
+    int probeSize = probeSide.size();
+    if (!HashJoin.isCheaperThanNestedLoops(buildSize, probeSize)) {
+      return false;
+    }
+    if (buildSize > probeSize) {
+      join.swapSides();
+      SelectResults side = buildSide;
+      buildSide = probeSide;
+      probeSide = side;
+    }
+
+    RuntimeIterator buildIterator = join.getBuildIterator();
+    RuntimeIterator probeIterator = join.getProbeIterator();
+    QueryObserver observer = QueryObserverHolder.getInstance();
+    observer.beforeHashJoin(context.getRegionPathForIndependentRuntimeIterator(buildIterator),
+        buildSide.size(), context.getRegionPathForIndependentRuntimeIterator(probeIterator),
+        probeSide.size());
+    join.build(buildSide, context);
+
+    int limitValue = evaluateLimitValue(context, limit);
+    int numElementsInResult = 0;
+    for (Object probeElement : probeSide) {
+      // Check if query execution on this thread is canceled.
+      QueryMonitor.throwExceptionIfQueryOnCurrentThreadIsCanceled();
+
+      probeIterator.setCurrent(probeElement);
+      observer.beforeIterationEvaluation(probeIterator, probeElement);
+      List<Object> matches = join.probe(context);
+      if (matches == null) {
+        matches = join.getBuildElements();
+      } else {
+        numElementsInResult = joinWithBuildElements(join.getUnhashedElements(), buildIterator,
+            results, context, numElementsInResult, limitValue);
+      }
+      numElementsInResult = joinWithBuildElements(matches, buildIterator, results, context,
+          numElementsInResult, limitValue);
+      if (orderByAttrs == null && limitValue > -1 && numElementsInResult == limitValue) {
+        break;
+      }
+    }
+    return true;
+  }
+
+  private int joinWithBuildElements(List<Object> buildElements, RuntimeIterator buildIterator,
+      SelectResults results, ExecutionContext context, int numElementsInResult, int limitValue)
+      throws TypeMismatchException, FunctionDomainException, NameResolutionException,
+      QueryInvocationTargetException {
+    QueryObserver observer = QueryObserverHolder.getInstance();
+    for (Object buildElement : buildElements) {
+      if (orderByAttrs == null && limitValue > -1 && numElementsInResult == limitValue) {
+        break;
+      }
+      buildIterator.setCurrent(buildElement);
+      observer.beforeIterationEvaluation(buildIterator, buildElement);
+      numElementsInResult = evaluateCurrentIteration(results, context, true, numElementsInResult);
+    }
+    return numElementsInResult;
+  }
+
+  private SelectResults evaluateJoinCollection(RuntimeIterator rIter, ExecutionContext context)
+      throws TypeMismatchException, FunctionDomainException, NameResolutionException,
+      QueryInvocationTargetException {
+    SelectResults sr = rIter.evaluateCollection(context);
+    // #44807: select * query should not deserialize objects
+    if (sr != null && context.getQuery() != null
+        && ((DefaultQuery) context.getQuery()).isKeepSerialized() && sr instanceof QRegion) {
+      ((QRegion) sr).setKeepSerialized(true);
+    }
+    return sr;
+  }
+
   private SelectResults applyProjectionOnCollection(SelectResults resultSet,
       ExecutionContext context, boolean ignoreOrderBy) throws TypeMismatchException,
       FunctionDomainException, NameResolutionException, QueryInvocationTargetException {
@@ -66,6 +66,7 @@ public interface CompiledValue {
   String CAN_APPLY_LIMIT_AT_INDEX = "can_apply_limit_at_index";
   String CAN_APPLY_ORDER_BY_AT_INDEX = "can_apply_orderby_at_index";
   String PREF_INDEX_COND = "preferred_index_condition";
+  String INDEX_COVERS_PROJECTION = "index_covers_projection";
   String QUERY_INDEX_HINTS = "query_index_hints";
 
   @Immutable
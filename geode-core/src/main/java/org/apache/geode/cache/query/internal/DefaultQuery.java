@@ -644,6 +644,7 @@ public class DefaultQuery implements Query {
     if (observer instanceof IndexTrackingQueryObserver) {
       IndexTrackingQueryObserver indexObserver = (IndexTrackingQueryObserver) observer;
       Map usedIndexes = indexObserver.getUsedIndexes();
+      String joinStrategy = indexObserver.getJoinStrategy();
       indexObserver.reset();
       StringBuilder sb = new StringBuilder();
       sb.append(" indexesUsed(");
@@ -659,6 +660,9 @@ public class DefaultQuery implements Query {
           }
         }
       }
+      if (joinStrategy != null) {
+        sb.append(" joinStrategy: ").append(joinStrategy);
+      }
       usedIndexesString = sb.toString();
     } else if (DefaultQuery.QUERY_VERBOSE) {
       usedIndexesString = " indexesUsed(NA due to other observer in the way: "
@@ -41,6 +41,7 @@ import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.cache.BucketRegion;
 import org.apache.geode.internal.cache.CachePerfStats;
 import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.PRQueryProcessor;
 import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.pdx.internal.PdxString;
 
@@ -97,6 +98,11 @@ public class ExecutionContext {
   private Object currentProjectionField = null;
   private boolean isPRQueryNode = false;
 
+  /**
+   * Hint for the number of segments of buckets a member queries in parallel, or 0 for the default
+   */
+  private int parallelism = 0;
+
   private Optional<ScheduledFuture> cancellationTask;
   private volatile CacheRuntimeException canceledException;
   static final ThreadLocal<AtomicBoolean> isCanceled =
@@ -343,8 +349,8 @@ public class ExecutionContext {
   }
 
   private CompiledValue resolveImplicitPath(String name) throws AmbiguousNameException {
-    CompiledValue result = resolveImplicitOperationName(name, 0, false);
-    return (result == null) ? null : new CompiledPath(result, name);
+    RuntimeIterator result = resolveImplicitOperationName(name, 0, false);
+    return (result == null) ? null : result.getImplicitPath(name);
   }
 
   /**
@@ -680,6 +686,19 @@ public class ExecutionContext {
     return isPRQueryNode;
   }
 
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the number of segments of buckets that the local member queries in parallel when this
+   * query runs on a partitioned region, see {@link PRQueryProcessor#PARALLELISM}. Zero or less
+   * uses the default.
+   */
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
   /**
    * Check to see if the query execution was canceled. The query gets canceled by the QueryMonitor
    * if it takes more than the max query execution time or low memory situations
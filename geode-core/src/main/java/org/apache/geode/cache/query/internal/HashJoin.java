@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.geode.annotations.internal.MutableForTesting;
+import org.apache.geode.cache.query.FunctionDomainException;
+import org.apache.geode.cache.query.NameResolutionException;
+import org.apache.geode.cache.query.QueryInvocationTargetException;
+import org.apache.geode.cache.query.TypeMismatchException;
+import org.apache.geode.cache.query.internal.parse.OQLLexerTokenTypes;
+import org.apache.geode.pdx.internal.PdxString;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * An equi-join of the two region iterators of a select statement whose where clause could not be
+ * evaluated with indexes. Rather than evaluating the where clause for every pair of elements, the
+ * join builds a hash table of the join keys of the smaller collection and evaluates the where
+ * clause only for the pairs whose join keys hash alike.
+ * <p>
+ * The hash table only narrows down the pairs the where clause is evaluated for. Join keys of types
+ * whose equality the query engine does not decide by {@link Object#equals}, such as floating point
+ * numbers, domain objects and UNDEFINED, are not hashed; elements with such keys are paired with
+ * every element of the other side, as in a nested loop join.
+ */
+class HashJoin {
+
+  /**
+   * The estimated cost of evaluating and hashing a join key, relative to evaluating the where
+   * clause for a pair of elements.
+   */
+  private static final int KEY_COST = 2;
+
+  @MutableForTesting
+  static boolean ENABLED =
+      !Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "Query.DISABLE_HASH_JOIN");
+
+  private RuntimeIterator buildIterator;
+  private CompiledValue buildKey;
+  private RuntimeIterator probeIterator;
+  private CompiledValue probeKey;
+
+  private final Map<Object, List<Object>> table = new HashMap<>();
+  private final List<Object> unhashed = new ArrayList<>();
+  private final List<Object> all = new ArrayList<>();
+
+  private HashJoin(RuntimeIterator buildIterator, CompiledValue buildKey,
+      RuntimeIterator probeIterator, CompiledValue probeKey) {
+    this.buildIterator = buildIterator;
+    this.buildKey = buildKey;
+    this.probeIterator = probeIterator;
+    this.probeKey = probeKey;
+  }
+
+  /**
+   * Returns a hash join of the current iterators if there are two of them, both iterate over
+   * regions, and the where clause is, or is a conjunction with, an equality between an expression
+   * of each.
+   *
+   * @return null if the where clause cannot be evaluated as a hash join
+   */
+  static HashJoin forWhereClause(CompiledValue whereClause, ExecutionContext context) {
+    if (!ENABLED) {
+      return null;
+    }
+    List currentIterators = context.getCurrentIterators();
+    if (currentIterators.size() != 2
+        || !context.getAllIndependentIteratorsOfCurrentScope().containsAll(currentIterators)) {
+      return null;
+    }
+    RuntimeIterator first = (RuntimeIterator) currentIterators.get(0);
+    RuntimeIterator second = (RuntimeIterator) currentIterators.get(1);
+    for (CompiledComparison equality : getEqualities(whereClause)) {
+      RuntimeIterator leftIterator = getOnlyDependency(equality._left, context);
+      RuntimeIterator rightIterator = getOnlyDependency(equality._right, context);
+      if (leftIterator == first && rightIterator == second) {
+        return new HashJoin(first, equality._left, second, equality._right);
+      } else if (leftIterator == second && rightIterator == first) {
+        return new HashJoin(first, equality._right, second, equality._left);
+      }
+    }
+    return null;
+  }
+
+  private static List<CompiledComparison> getEqualities(CompiledValue whereClause) {
+    List<CompiledComparison> equalities = new ArrayList<>();
+    if (isEquality(whereClause)) {
+      equalities.add((CompiledComparison) whereClause);
+    } else if (whereClause instanceof CompiledJunction
+        && ((CompiledJunction) whereClause).getOperator() == OQLLexerTokenTypes.LITERAL_and) {
+      for (Object operand : whereClause.getChildren()) {
+        if (isEquality((CompiledValue) operand)) {
+          equalities.add((CompiledComparison) operand);
+        }
+      }
+    }
+    return equalities;
+  }
+
+  private static boolean isEquality(CompiledValue value) {
+    return value instanceof CompiledComparison
+        && ((CompiledComparison) value).getOperator() == OQLLexerTokenTypes.TOK_EQ;
+  }
+
+  /**
+   * Returns the iterator of the current scope that the expression depends on, or null if it
+   * depends on none or on several of them.
+   */
+  private static RuntimeIterator getOnlyDependency(CompiledValue expression,
+      ExecutionContext context) {
+    Set iterators = QueryUtils.getCurrentScopeUltimateRuntimeIteratorsIfAny(expression, context);
+    if (iterators.size() != 1) {
+      return null;
+    }
+    return (RuntimeIterator) iterators.iterator().next();
+  }
+
+  /**
+   * Returns true if a hash join of collections of the given sizes is expected to be cheaper than a
+   * nested loop join, which evaluates the where clause for each of their firstSize * secondSize
+   * pairs.
+   */
+  static boolean isCheaperThanNestedLoops(int firstSize, int secondSize) {
+    return (long) firstSize * secondSize > KEY_COST * ((long) firstSize + secondSize);
+  }
+
+  /**
+   * Makes the iterator of the second collection the build side, which is the first one by default.
+   */
+  void swapSides() {
+    RuntimeIterator iterator = buildIterator;
+    buildIterator = probeIterator;
+    probeIterator = iterator;
+    CompiledValue key = buildKey;
+    buildKey = probeKey;
+    probeKey = key;
+  }
+
+  RuntimeIterator getBuildIterator() {
+    return buildIterator;
+  }
+
+  RuntimeIterator getProbeIterator() {
+    return probeIterator;
+  }
+
+  /**
+   * Builds the hash table from the elements of the collection of the build iterator.
+   */
+  void build(Collection<?> buildSide, ExecutionContext context) {
+    for (Object element : buildSide) {
+      QueryMonitor.throwExceptionIfQueryOnCurrentThreadIsCanceled();
+      buildIterator.setCurrent(element);
+      Object key = evaluateHashKey(buildKey, context);
+      if (key == null) {
+        unhashed.add(element);
+      } else {
+        table.computeIfAbsent(key, k -> new ArrayList<>(1)).add(element);
+      }
+      all.add(element);
+    }
+  }
+
+  /**
+   * Returns the elements of the build side that may join with the current element of the probe
+   * iterator, except for those with unhashed join keys, or null if the join key of the current
+   * element is not hashed, so it may join with any element of the build side.
+   *
+   * @see #getUnhashedElements()
+   * @see #getBuildElements()
+   */
+  List<Object> probe(ExecutionContext context) {
+    Object key = evaluateHashKey(probeKey, context);
+    if (key == null) {
+      return null;
+    }
+    List<Object> matches = table.get(key);
+    return matches == null ? Collections.emptyList() : matches;
+  }
+
+  List<Object> getUnhashedElements() {
+    return unhashed;
+  }
+
+  List<Object> getBuildElements() {
+    return all;
+  }
+
+  /**
+   * Evaluates a join key and returns the key to hash it by, or null if it is not hashed. Join keys
+   * that fail to evaluate are not hashed either, so that the where clause evaluation reports the
+   * failure as it would in a nested loop join.
+   */
+  private static Object evaluateHashKey(CompiledValue key, ExecutionContext context) {
+    try {
+      return getHashKey(key.evaluate(context));
+    } catch (FunctionDomainException | TypeMismatchException | NameResolutionException
+        | QueryInvocationTargetException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the key to hash a join key by, or null if the query engine does not decide equality of
+   * values of its type by {@link Object#equals}. Integral numbers of different types are equal if
+   * their values are, and so are Strings and PdxStrings, so they are hashed by their long and
+   * String values.
+   */
+  static Object getHashKey(Object value) {
+    if (value instanceof String || value instanceof Boolean) {
+      return value;
+    }
+    if (value instanceof PdxString) {
+      return value.toString();
+    }
+    if (value instanceof Integer || value instanceof Long || value instanceof Short
+        || value instanceof Byte) {
+      return ((Number) value).longValue();
+    }
+    return null;
+  }
+}
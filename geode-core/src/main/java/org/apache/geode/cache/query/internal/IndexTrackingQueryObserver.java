@@ -42,6 +42,7 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
   private static final ThreadLocal indexInfo = new ThreadLocal();
   private static final ThreadLocal lastKeyUsed = new ThreadLocal();
   private static final ThreadLocal lastIndexUsed = new ThreadLocal();
+  private static final ThreadLocal<String> joinStrategy = new ThreadLocal<>();
   private volatile TestHook th;
 
   @Override
@@ -119,6 +120,13 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
     }
   }
 
+  @Override
+  public void beforeHashJoin(String buildRegion, int buildSize, String probeRegion,
+      int probeSize) {
+    joinStrategy.set("hash(build: " + buildRegion + " (" + buildSize + "), probe: " + probeRegion
+        + " (" + probeSize + "))");
+  }
+
   private String getIndexName(Index index, Object key) {
     String indexName;
     if ((index instanceof MapRangeIndex || index instanceof CompactMapRangeIndex)
@@ -140,6 +148,7 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
       th.hook(4);
     }
     indexInfo.set(null);
+    joinStrategy.set(null);
   }
 
   public void setIndexInfo(Map indexInfoMap) {
@@ -154,6 +163,14 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
     return map;
   }
 
+  /**
+   * Returns how the last join of two regions was evaluated, or null if no join was evaluated as a
+   * hash join since the last reset.
+   */
+  public String getJoinStrategy() {
+    return joinStrategy.get();
+  }
+
   public void setTestHook(TestHook testHook) {
     th = testHook;
   }
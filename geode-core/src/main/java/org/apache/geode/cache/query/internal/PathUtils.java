@@ -63,8 +63,20 @@ public class PathUtils {
 
   public static Object evaluateAttribute(ExecutionContext context, Object target, String attribute)
       throws NameNotFoundException, QueryInvocationTargetException {
+    return evaluateAttribute(context, target,
+        new AttributeDescriptor(context.getCache().getPdxRegistry(), attribute));
+  }
+
+  /**
+   * Evaluates the attribute with a descriptor that can be reused, so that it can remember how to
+   * read the attribute from one evaluation to the next.
+   */
+  static Object evaluateAttribute(ExecutionContext context, Object target,
+      AttributeDescriptor attributeDescriptor)
+      throws NameNotFoundException, QueryInvocationTargetException {
     if (target instanceof Struct) {
       Struct struct = (Struct) target;
+      String attribute = attributeDescriptor.getName();
       try {
         return struct.get(attribute);
       } catch (Exception e) {
@@ -73,8 +85,7 @@ public class PathUtils {
     }
 
     try {
-      return new AttributeDescriptor(context.getCache().getPdxRegistry(), attribute)
-          .read(target, context);
+      return attributeDescriptor.read(target, context);
     } catch (NameNotFoundException nfe) {
       if (DefaultQueryService.QUERY_HETEROGENEOUS_OBJECTS
           || DefaultQueryService.TEST_QUERY_HETEROGENEOUS_OBJECTS) {
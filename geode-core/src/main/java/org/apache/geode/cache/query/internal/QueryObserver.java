@@ -294,4 +294,17 @@ public interface QueryObserver {
    */
   default void beforeAggregationsAndGroupBy(
       @SuppressWarnings("unused") SelectResults selectResults) {}
+
+  /**
+   * Invoked before a join of two regions is evaluated as a hash join, which builds a hash table of
+   * the join keys of the smaller collection and probes it with the elements of the larger one.
+   *
+   * @param buildRegion The full path of the region the hash table is built from.
+   * @param buildSize The number of elements the hash table is built from.
+   * @param probeRegion The full path of the region whose elements probe the hash table.
+   * @param probeSize The number of elements that probe the hash table.
+   */
+  default void beforeHashJoin(@SuppressWarnings("unused") String buildRegion,
+      @SuppressWarnings("unused") int buildSize, @SuppressWarnings("unused") String probeRegion,
+      @SuppressWarnings("unused") int probeSize) {}
 }
@@ -18,6 +18,8 @@ package org.apache.geode.cache.query.internal;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.geode.annotations.Immutable;
 import org.apache.geode.cache.query.FunctionDomainException;
@@ -58,6 +60,8 @@ public class RuntimeIterator extends AbstractCompiledValue {
   private String definition = null;
   private String index_internal_id = null;
   private int scopeID = -1;
+  /** paths of the attributes of this iterator that are referred to by their names alone */
+  private final ConcurrentMap<String, CompiledPath> implicitPaths = new ConcurrentHashMap<>();
 
   @Override
   public int getType() {
@@ -78,6 +82,18 @@ public class RuntimeIterator extends AbstractCompiledValue {
     this.cmpIteratorDefn = cmpIteratorDefn;
   }
 
+  /**
+   * Returns the path of an attribute of this iterator that is referred to by its name alone. The
+   * path is resolved again for every element, so it is kept to reuse its attribute descriptor.
+   */
+  CompiledPath getImplicitPath(String attribute) {
+    CompiledPath path = implicitPaths.get(attribute);
+    if (path == null) {
+      path = implicitPaths.computeIfAbsent(attribute, name -> new CompiledPath(this, name));
+    }
+    return path;
+  }
+
   CompiledIteratorDef getCmpIteratorDefn() {
     return cmpIteratorDefn;
   }
@@ -675,6 +675,20 @@ public abstract class AbstractIndex implements IndexProtocol {
     }
   }
 
+  /**
+   * Adds the index key of an entry to the results in place of the projection of its value, for a
+   * query that projects only the indexed expression.
+   */
+  void applyProjectionOfKey(ExecutionContext context, Collection result, Object key,
+      SelectResults intermediateResults, boolean isIntersection)
+      throws QueryInvocationTargetException {
+    if (key == IndexManager.NULL) {
+      key = null;
+    }
+    addToResultsWithUnionOrIntersection(result, intermediateResults, isIntersection,
+        deserializePdxForLocalDistinctQuery(context, key));
+  }
+
   /**
    * For local queries with distinct, deserialize all PdxInstances as we do not have a way to
    * compare Pdx and non Pdx objects in case the cache has a mix of pdx and non pdx objects. We
@@ -2099,6 +2113,15 @@ public abstract class AbstractIndex implements IndexProtocol {
     }
   }
 
+  /**
+   * Returns true if the keys of this index are the values of its indexed expression, so that a
+   * query projecting only the indexed expression can take them from the index instead of
+   * evaluating the projection on the values.
+   */
+  public boolean canProjectIndexedExpression() {
+    return false;
+  }
+
   public boolean isPopulated() {
     return isPopulated;
   }
@@ -56,6 +56,7 @@ import org.apache.geode.cache.query.internal.StructImpl;
 import org.apache.geode.cache.query.internal.Support;
 import org.apache.geode.cache.query.internal.index.IndexManager.TestHook;
 import org.apache.geode.cache.query.internal.index.IndexStore.IndexStoreEntry;
+import org.apache.geode.cache.query.internal.index.MemoryIndexStore.MemoryIndexStoreEntry;
 import org.apache.geode.cache.query.internal.parse.OQLLexerTokenTypes;
 import org.apache.geode.cache.query.internal.types.StructTypeImpl;
 import org.apache.geode.cache.query.internal.types.TypeUtils;
@@ -77,7 +78,8 @@ import org.apache.geode.pdx.internal.PdxString;
  * implementation when the indexed expression is a path expression and the from clause has only one
  * iterator. This implies there is only one value in the index for each region entry.
  *
- * This index does not support the storage of projection attributes.
+ * This index does not support the storage of projection attributes, but a query that projects
+ * only the indexed expression takes the projected values from the index keys.
  *
  * Currently this implementation only supports an index on a region path.
  *
@@ -93,6 +95,13 @@ public class CompactRangeIndex extends AbstractIndex {
 
   private final IndexStore indexStore;
 
+  /**
+   * Set when a key was stored as a different type than the indexed expression evaluated to, such
+   * as a Short stored as an Integer, after which the keys cannot be projected in place of the
+   * values.
+   */
+  private volatile boolean hasConvertedKeys;
+
   @MutableForTesting
   static boolean TEST_ALWAYS_UPDATE_IN_PROGRESS = false;
 
@@ -114,6 +123,21 @@ public class CompactRangeIndex extends AbstractIndex {
     return indexStore;
   }
 
+  @Override
+  public boolean canProjectIndexedExpression() {
+    return !hasConvertedKeys;
+  }
+
+  /**
+   * Remembers if the index store will convert the given key to another type.
+   */
+  private void checkForConvertedKey(Object indexKey) {
+    if (!hasConvertedKeys
+        && (indexKey instanceof Byte || indexKey instanceof Short || indexKey instanceof Enum)) {
+      hasConvertedKeys = true;
+    }
+  }
+
   /**
    * Get the index type
    *
@@ -759,6 +783,7 @@ public class CompactRangeIndex extends AbstractIndex {
     if (IndexManager.IS_TEST_EXPANSION) {
       seenKey = new HashSet();
     }
+    final boolean projectKeys = isProjectionOfKeys(projAttrib, iterOps, context);
 
     while (entriesIter.hasNext()) {
       try {
@@ -781,6 +806,21 @@ public class CompactRangeIndex extends AbstractIndex {
           continue;
         }
 
+        if (projectKeys && !indexEntry.isUpdateInProgress() && !TEST_ALWAYS_UPDATE_IN_PROGRESS) {
+          // the key is the projected value, so the value does not have to be read
+          RegionEntry regionEntry = ((MemoryIndexStoreEntry) indexEntry).getRegionEntry();
+          if (!regionEntry.isDestroyedOrRemoved()
+              && !(indexStore.isIndexOnValues() && regionEntry.isInvalid())) {
+            applyProjectionOfKey(context, result, indexEntry.getDeserializedKey(),
+                intermediateResults, isIntersection);
+            if (verifyLimit(result, limit)) {
+              observer.limitAppliedAtIndexLevel(this, limit, result);
+              return;
+            }
+          }
+          continue;
+        }
+
         Object value = indexEntry.getDeserializedValue();
 
         if (IndexManager.IS_TEST_EXPANSION) {
@@ -860,6 +900,19 @@ public class CompactRangeIndex extends AbstractIndex {
     }
   }
 
+  /**
+   * Returns true if the results are the values of the only projection attribute and the query
+   * planner found it to be the indexed expression, in which case the keys of the entries are the
+   * results. Entries in the middle of an update are still evaluated against their values.
+   */
+  private boolean isProjectionOfKeys(List projAttrib, CompiledValue iterOps,
+      ExecutionContext context) {
+    return projAttrib != null && projAttrib.size() == 1 && iterOps == null && context != null
+        && !context.isCqQueryContext() && !IndexManager.IS_TEST_EXPANSION
+        && indexStore instanceof MemoryIndexStore && canProjectIndexedExpression()
+        && Boolean.TRUE.equals(context.cacheGet(CompiledValue.INDEX_COVERS_PROJECTION));
+  }
+
   public List expandValue(ExecutionContext context, Object lowerBoundKey, Object upperBoundKey,
       int lowerBoundOperator, int upperBoundOperator, Object value) {
     try {
@@ -1481,6 +1534,7 @@ public class CompactRangeIndex extends AbstractIndex {
       if (indexKey == null) {
         indexKey = IndexManager.NULL;
       }
+      checkForConvertedKey(indexKey);
       // if the first key is PdxString set the flag so that rest of the keys
       // would be converted to PdxString
       if (!isIndexedPdxKeysFlagSet) {
@@ -1531,6 +1585,9 @@ public class CompactRangeIndex extends AbstractIndex {
       if (indexKey == null) {
         indexKey = IndexManager.NULL;
       }
+      if (add) {
+        checkForConvertedKey(indexKey);
+      }
       // if the first key is PdxString set the flag so that rest of the keys
       // would be converted to PdxString
       if (!isIndexedPdxKeysFlagSet) {
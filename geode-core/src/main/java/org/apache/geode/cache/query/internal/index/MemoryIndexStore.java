@@ -803,6 +803,7 @@ public class MemoryIndexStore implements IndexStore {
     private RegionEntry regionEntry;
     private boolean updateInProgress;
     private Object value;
+    private boolean valueRead;
     private final long iteratorStartTime;
 
     private MemoryIndexStoreEntry(long iteratorStartTime) {
@@ -813,7 +814,10 @@ public class MemoryIndexStore implements IndexStore {
       this.deserializedIndexKey = deserializedIndexKey;
       this.regionEntry = regionEntry;
       updateInProgress = regionEntry.isUpdateInProgress();
-      value = getTargetObject(regionEntry);
+      // the value is read when it is first asked for, so that a query that only needs the key
+      // does not fault an overflowed value in from disk
+      value = null;
+      valueRead = false;
     }
 
     @Override
@@ -823,6 +827,10 @@ public class MemoryIndexStore implements IndexStore {
 
     @Override
     public Object getDeserializedValue() {
+      if (!valueRead) {
+        value = getTargetObject(regionEntry);
+        valueRead = true;
+      }
       return value;
     }
 
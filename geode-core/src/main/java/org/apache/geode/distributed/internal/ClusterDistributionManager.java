@@ -283,6 +283,13 @@ public class ClusterDistributionManager implements DistributionManager {
    */
   private final Semaphore parallelGIIs = new Semaphore(InitialImageOperation.MAX_PARALLEL_GIIS);
 
+  /**
+   * Limits the number of bucket GII operations, which are counted apart from those of other
+   * regions so that redundancy recovery can copy many buckets at once.
+   */
+  private final Semaphore parallelBucketGIIs =
+      new Semaphore(InitialImageOperation.MAX_PARALLEL_BUCKET_GIIS);
+
   /**
    * Map of InetAddress to HashSets of InetAddress, to define equivalences between network interface
    * cards and hosts.
@@ -2721,6 +2728,18 @@ public class ClusterDistributionManager implements DistributionManager {
     parallelGIIs.release();
   }
 
+  @Override
+  public void acquireBucketGIIPermitUninterruptibly() {
+    parallelBucketGIIs.acquireUninterruptibly();
+    stats.incInitialImageRequestsInProgress(1);
+  }
+
+  @Override
+  public void releaseBucketGIIPermit() {
+    stats.incInitialImageRequestsInProgress(-1);
+    parallelBucketGIIs.release();
+  }
+
   public void setDistributedSystemId(int distributedSystemId) {
     if (distributedSystemId != -1) {
       this.distributedSystemId = distributedSystemId;
@@ -326,6 +326,16 @@ public interface DistributionManager extends ReplySender {
    */
   void releaseGIIPermit();
 
+  /**
+   * Acquire a permit to request the GII of a bucket from another member
+   */
+  void acquireBucketGIIPermitUninterruptibly();
+
+  /**
+   * Release a permit to request the GII of a bucket from another member.
+   */
+  void releaseBucketGIIPermit();
+
   int getDistributedSystemId();
 
   boolean enforceUniqueZone();
@@ -1186,6 +1186,12 @@ public class LonerDistributionManager implements DistributionManager {
   @Override
   public void releaseGIIPermit() {}
 
+  @Override
+  public void acquireBucketGIIPermitUninterruptibly() {}
+
+  @Override
+  public void releaseBucketGIIPermit() {}
+
   @Override
   public int getDistributedSystemId() {
     return getSystem().getConfig().getDistributedSystemId();
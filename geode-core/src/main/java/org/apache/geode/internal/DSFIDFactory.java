@@ -366,6 +366,7 @@ import org.apache.geode.internal.cache.tier.sockets.ClientDenylistProcessor.Clie
 import org.apache.geode.internal.cache.tier.sockets.ClientInstantiatorMessage;
 import org.apache.geode.internal.cache.tier.sockets.ClientInterestMessageImpl;
 import org.apache.geode.internal.cache.tier.sockets.ClientMarkerMessageImpl;
+import org.apache.geode.internal.cache.tier.sockets.ClientPartitionMetadataMessage;
 import org.apache.geode.internal.cache.tier.sockets.ClientPingMessageImpl;
 import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
 import org.apache.geode.internal.cache.tier.sockets.ClientReAuthenticateMessage;
@@ -962,6 +963,11 @@ public class DSFIDFactory implements DataSerializableFixedID {
     serializer.register(PR_TOMBSTONE_MESSAGE, PRTombstoneMessage.class);
     serializer.register(REQUEST_RVV_MESSAGE, InitialImageOperation.RequestRVVMessage.class);
     serializer.register(RVV_REPLY_MESSAGE, InitialImageOperation.RVVReplyMessage.class);
+    serializer.register(REQUEST_KEY_RANGE_DIGESTS_MESSAGE,
+        InitialImageOperation.RequestKeyRangeDigestsMessage.class);
+    serializer.register(KEY_RANGE_DIGESTS_REPLY_MESSAGE,
+        InitialImageOperation.KeyRangeDigestsReplyMessage.class);
+    serializer.register(CLIENT_PR_METADATA_MESSAGE, ClientPartitionMetadataMessage.class);
     serializer.register(SNAPPY_COMPRESSED_CACHED_DESERIALIZABLE,
         SnappyCompressedCachedDeserializable.class);
     serializer.register(UPDATE_ENTRY_VERSION_MESSAGE, UpdateEntryVersionMessage.class);
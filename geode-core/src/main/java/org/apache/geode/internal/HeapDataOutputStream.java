@@ -20,6 +20,8 @@ import java.io.OutputStream;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.geode.DataSerializer;
 import org.apache.geode.internal.cache.BytesAndBitsForCompactor;
@@ -159,56 +161,101 @@ public class HeapDataOutputStream extends
     return result;
   }
 
+  /**
+   * Write the contents of this stream to the specified channel using "out" to batch the heap
+   * chunks. Direct chunks, such as off-heap values added without copying, are not copied to "out";
+   * they are sent from where they are in the same gathering write as the bytes around them.
+   */
   public void sendTo(SocketChannel chan, ByteBuffer out) throws IOException {
     finishWriting();
     if (size() == 0) {
       return;
     }
     out.clear();
+    GatheringWriter writer = new GatheringWriter(chan, out);
     if (chunks != null) {
       for (ByteBuffer bb : chunks) {
-        sendChunkTo(bb, chan, out);
+        size -= writer.add(bb);
       }
     }
-    sendChunkTo(buffer, chan, out);
-    flushBuffer(chan, out);
+    size -= writer.add(buffer);
+    writer.flush();
   }
 
   /**
-   * sends the data from "in" by writing it to "sc" through "out" (out is used to chunk to data and
-   * is probably a direct memory buffer).
+   * Collects the buffers of one {@link #sendTo(SocketChannel, ByteBuffer)} so they can be written
+   * with as few writes as possible. Heap buffers are copied to the end of "out" and the copied
+   * bytes are referenced by a slice of "out"; direct buffers are referenced as they are. All of
+   * them are written by one gathering write when "out" is full, when too many buffers are pending,
+   * or when the sender is done.
    */
-  private void sendChunkTo(ByteBuffer in, SocketChannel sc, ByteBuffer out) throws IOException {
-    int bytesSent = in.remaining();
-    if (in.isDirect()) {
-      flushBuffer(sc, out);
-      while (in.remaining() > 0) {
-        sc.write(in);
+  private static class GatheringWriter {
+    private static final int MAX_PENDING_BUFFERS = 64;
+
+    private final SocketChannel chan;
+    private final ByteBuffer out;
+    private final List<ByteBuffer> pending = new ArrayList<>();
+    /** position in out of the first copied byte not yet referenced by a pending slice */
+    private int copiedFrom;
+
+    GatheringWriter(SocketChannel chan, ByteBuffer out) {
+      this.chan = chan;
+      this.out = out;
+    }
+
+    /**
+     * Returns the number of bytes added
+     */
+    int add(ByteBuffer in) throws IOException {
+      final int bytes = in.remaining();
+      if (bytes == 0) {
+        return 0;
       }
-    } else {
-      // copy in to out. If out fills flush it
-      int OUT_MAX = out.remaining();
-      if (bytesSent <= OUT_MAX) {
-        out.put(in);
+      if (in.isDirect()) {
+        addCopied();
+        pending.add(in);
+        if (pending.size() >= MAX_PENDING_BUFFERS) {
+          flush();
+        }
       } else {
-        final byte[] bytes = in.array();
-        int off = in.arrayOffset() + in.position();
-        int len = bytesSent;
-        while (len > 0) {
-          int bytesThisTime = len;
-          if (bytesThisTime > OUT_MAX) {
-            bytesThisTime = OUT_MAX;
+        // copy in to out. If out fills flush it
+        while (in.remaining() > 0) {
+          if (out.remaining() == 0) {
+            flush();
           }
-          out.put(bytes, off, bytesThisTime);
-          off += bytesThisTime;
-          len -= bytesThisTime;
-          flushBuffer(sc, out);
-          OUT_MAX = out.remaining();
+          int bytesThisTime = Math.min(in.remaining(), out.remaining());
+          int oldLimit = in.limit();
+          in.limit(in.position() + bytesThisTime);
+          out.put(in);
+          in.limit(oldLimit);
+        }
+      }
+      return bytes;
+    }
+
+    private void addCopied() {
+      if (out.position() > copiedFrom) {
+        ByteBuffer copied = out.duplicate();
+        copied.limit(out.position());
+        copied.position(copiedFrom);
+        pending.add(copied);
+        copiedFrom = out.position();
+      }
+    }
+
+    void flush() throws IOException {
+      addCopied();
+      if (!pending.isEmpty()) {
+        ByteBuffer[] bufs = pending.toArray(new ByteBuffer[0]);
+        ByteBuffer last = bufs[bufs.length - 1];
+        while (last.remaining() > 0) {
+          chan.write(bufs);
         }
-        in.position(in.limit());
+        pending.clear();
       }
+      out.clear();
+      copiedFrom = 0;
     }
-    size -= bytesSent;
   }
 
   /**
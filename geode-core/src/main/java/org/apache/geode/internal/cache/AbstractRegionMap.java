@@ -70,6 +70,7 @@ import org.apache.geode.internal.offheap.annotations.Released;
 import org.apache.geode.internal.offheap.annotations.Retained;
 import org.apache.geode.internal.sequencelog.EntryLogger;
 import org.apache.geode.internal.size.ReflectionSingleObjectSizer;
+import org.apache.geode.internal.util.concurrent.CompactEntryConcurrentHashMap;
 import org.apache.geode.internal.util.concurrent.ConcurrentMapWithReusableEntries;
 import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap;
 import org.apache.geode.logging.internal.log4j.api.LogService;
@@ -111,8 +112,13 @@ public abstract class AbstractRegionMap extends BaseRegionMap
       InternalRegionArguments internalRegionArgs, boolean isLRU) {
     _setAttributes(attr);
     setOwner(owner);
-    setEntryMap(createConcurrentMapWithReusableEntries(attr.initialCapacity, attr.loadFactor,
-        attr.concurrencyLevel, false, new AbstractRegionEntry.HashRegionEntryCreator()));
+    if (attr.compactEntryMap) {
+      setEntryMap(new CompactEntryConcurrentHashMap<>(attr.initialCapacity, attr.loadFactor,
+          attr.concurrencyLevel, new AbstractRegionEntry.HashRegionEntryCreator()));
+    } else {
+      setEntryMap(createConcurrentMapWithReusableEntries(attr.initialCapacity, attr.loadFactor,
+          attr.concurrencyLevel, false, new AbstractRegionEntry.HashRegionEntryCreator()));
+    }
 
     boolean isDisk;
     boolean withVersioning;
@@ -132,7 +138,7 @@ public abstract class AbstractRegionMap extends BaseRegionMap
     }
 
     setEntryFactory(new RegionEntryFactoryBuilder().create(attr.statisticsEnabled, isLRU, isDisk,
-        withVersioning, offHeap));
+        withVersioning, offHeap, attr.valueConstraint));
   }
 
   private ConcurrentMapWithReusableEntries<Object, Object> createConcurrentMapWithReusableEntries(
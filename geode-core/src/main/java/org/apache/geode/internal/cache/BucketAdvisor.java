@@ -707,6 +707,7 @@ public class BucketAdvisor extends CacheDistributionAdvisor {
    */
   public synchronized void updateServerBucketProfile(BucketProfile p) {
     localProfile = p;
+    regionAdvisor.clientBucketLocationsChanged(getBucket().getId());
   }
 
   public BucketProfile getLocalProfile() {
@@ -132,6 +132,10 @@ public class CachePerfStats {
   private static final int tombstoneOverhead1Id;
   private static final int tombstoneOverhead2Id;
   static final int clearTimeoutsId;
+  static final int expiryTasksId;
+  static final int expiryLagTimeId;
+  static final int tombstoneExpirationsId;
+  static final int tombstoneExpirationLagTimeId;
 
   static final int deltaUpdatesId;
   private static final int deltaUpdatesTimeId;
@@ -479,7 +483,18 @@ public class CachePerfStats {
             f.createLongCounter("tombstoneGCs", tombstoneGCCountDesc, "operations"),
             f.createLongGauge("replicatedTombstonesSize", tombstoneOverhead1Desc, "bytes"),
             f.createLongGauge("nonReplicatedTombstonesSize", tombstoneOverhead2Desc, "bytes"),
+            f.createLongCounter("tombstoneExpirations",
+                "Number of destroyed entries whose retention period has expired", "entries"),
+            f.createLongCounter("tombstoneExpirationLagTime",
+                "Total time between the end of the retention period of destroyed entries and the time a tombstone sweeper expired them",
+                "milliseconds", false),
             f.createLongCounter("clearTimeouts", clearTimeoutsDesc, "timeouts"),
+            f.createLongCounter("expiryTasks",
+                "Number of entry expiration tasks run by the expiration timing wheel",
+                "operations"),
+            f.createLongCounter("expiryLagTime",
+                "Total time between the expiration time of entries and the time their expiration task ran",
+                "nanoseconds", false),
             f.createLongGauge("evictorJobsStarted", "Number of evictor jobs started", "jobs"),
             f.createLongGauge("evictorJobsCompleted", "Number of evictor jobs completed", "jobs"),
             f.createLongGauge("evictorQueueSize",
@@ -629,7 +644,11 @@ public class CachePerfStats {
     tombstoneGCCountId = type.nameToId("tombstoneGCs");
     tombstoneOverhead1Id = type.nameToId("replicatedTombstonesSize");
     tombstoneOverhead2Id = type.nameToId("nonReplicatedTombstonesSize");
+    tombstoneExpirationsId = type.nameToId("tombstoneExpirations");
+    tombstoneExpirationLagTimeId = type.nameToId("tombstoneExpirationLagTime");
     clearTimeoutsId = type.nameToId("clearTimeouts");
+    expiryTasksId = type.nameToId("expiryTasks");
+    expiryLagTimeId = type.nameToId("expiryLagTime");
 
     deltaUpdatesId = type.nameToId("deltaUpdates");
     deltaUpdatesTimeId = type.nameToId("deltaUpdatesTime");
@@ -1444,6 +1463,22 @@ public class CachePerfStats {
     stats.setLong(tombstoneOverhead2Id, size);
   }
 
+  /**
+   * @param lag milliseconds from the end of the retention period of the tombstone until it expired
+   */
+  public void endTombstoneExpiration(long lag) {
+    stats.incLong(tombstoneExpirationsId, 1);
+    stats.incLong(tombstoneExpirationLagTimeId, lag);
+  }
+
+  public long getTombstoneExpirations() {
+    return stats.getLong(tombstoneExpirationsId);
+  }
+
+  public long getTombstoneExpirationLagTime() {
+    return stats.getLong(tombstoneExpirationLagTimeId);
+  }
+
   public long getClearTimeouts() {
     return stats.getLong(clearTimeoutsId);
   }
@@ -1452,6 +1487,22 @@ public class CachePerfStats {
     stats.incLong(clearTimeoutsId, 1);
   }
 
+  /**
+   * @param lag nanoseconds from the expiration time of the entry until its task ran
+   */
+  public void endExpiryTask(long lag) {
+    stats.incLong(expiryTasksId, 1);
+    stats.incLong(expiryLagTimeId, lag);
+  }
+
+  public long getExpiryTasks() {
+    return stats.getLong(expiryTasksId);
+  }
+
+  public long getExpiryLagTime() {
+    return stats.getLong(expiryLagTimeId);
+  }
+
   public void incPRQueryRetries() {
     stats.incLong(partitionedRegionQueryRetriesId, 1);
   }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Splits online compaction into slices and keeps the rate at which it copies live values forward
+ * within a budget. The compactor reports every value it copies; once a slice worth of bytes has
+ * been copied it releases its locks and calls {@link #endSlice} which pauses until the bytes
+ * copied fit in the budget. Writers, region close and clear therefore only ever wait for one slice
+ * and compaction does not compete with them for the disk at full speed.
+ */
+class CompactionThrottle {
+
+  /**
+   * The number of bytes copied forward after which the compactor releases its locks.
+   */
+  static final long SLICE_BYTES =
+      Long.getLong(GeodeGlossary.GEMFIRE_PREFIX + "disk.compactionSliceBytes", 1024 * 1024);
+
+  /**
+   * The longest single sleep while pausing, so that a stopped compactor notices it promptly.
+   */
+  private static final long MAX_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  @FunctionalInterface
+  interface Sleeper {
+    void sleep(long millis) throws InterruptedException;
+  }
+
+  private final long maxBytesPerSecond;
+
+  private final long sliceBytes;
+
+  private final DiskStoreStats stats;
+
+  private final LongSupplier nanoClock;
+
+  private final Sleeper sleeper;
+
+  private long sliceStart;
+
+  private long bytesInSlice;
+
+  /**
+   * @param maxMBPerSecond the budget in megabytes per second; zero does not throttle
+   */
+  CompactionThrottle(int maxMBPerSecond, DiskStoreStats stats) {
+    this(maxMBPerSecond * 1024L * 1024L, SLICE_BYTES, stats, System::nanoTime, Thread::sleep);
+  }
+
+  @VisibleForTesting
+  CompactionThrottle(long maxBytesPerSecond, long sliceBytes, DiskStoreStats stats,
+      LongSupplier nanoClock, Sleeper sleeper) {
+    this.maxBytesPerSecond = maxBytesPerSecond;
+    this.sliceBytes = Math.max(1, sliceBytes);
+    this.stats = stats;
+    this.nanoClock = nanoClock;
+    this.sleeper = sleeper;
+    sliceStart = nanoClock.getAsLong();
+  }
+
+  /**
+   * Records that a live value of the given size has been copied forward.
+   *
+   * @return true if the current slice is complete and {@link #endSlice} should be called once the
+   *         compactor locks have been released
+   */
+  boolean copied(long bytes) {
+    bytesInSlice += bytes;
+    stats.incCompactionCopiedBytes(bytes);
+    return bytesInSlice >= sliceBytes;
+  }
+
+  /**
+   * Ends the current slice, pausing until the bytes copied during it fit in the budget or until
+   * the compactor should stop. Must not be called while holding a compactor lock.
+   */
+  void endSlice(BooleanSupplier keepRunning) {
+    final long pauseStart = nanoClock.getAsLong();
+    long now = pauseStart;
+    if (maxBytesPerSecond > 0) {
+      final long sliceEnd = sliceStart + (long) ((double) bytesInSlice
+          * TimeUnit.SECONDS.toNanos(1) / maxBytesPerSecond);
+      while (now < sliceEnd && keepRunning.getAsBoolean()) {
+        try {
+          sleeper.sleep(TimeUnit.NANOSECONDS.toMillis(Math.min(MAX_SLEEP_NANOS, sliceEnd - now))
+              + 1);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        now = nanoClock.getAsLong();
+      }
+    }
+    stats.endCompactionSlice(now - pauseStart);
+    sliceStart = now;
+    bytesInSlice = 0;
+  }
+}
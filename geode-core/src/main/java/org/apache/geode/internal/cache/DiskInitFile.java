@@ -321,6 +321,15 @@ public class DiskInitFile implements DiskInitFileInterpreter {
    */
   public static final byte IFREC_REGION_CONFIG_ID_90 = 90;
 
+  /**
+   * Written to IF once values may have been written compressed to the crfs of this disk store. A
+   * member or offline tool that does not know this record fails to open the disk store instead of
+   * reading compressed values as raw ones. Byte Format: 1: EndOfRecordMarker
+   *
+   * @since Geode 1.16
+   */
+  public static final byte IFREC_OPLOG_VALUES_COMPRESSED = 91;
+
   private final DiskStoreImpl parent;
 
   private final File ifFile;
@@ -354,6 +363,8 @@ public class DiskInitFile implements DiskInitFileInterpreter {
   private boolean compactInProgress;
   // the recovered version
   private KnownVersion gfversion;
+  // true if the crfs may contain compressed values
+  private boolean oplogValuesCompressed;
 
 
   /**
@@ -586,6 +597,11 @@ public class DiskInitFile implements DiskInitFileInterpreter {
     gfversion = version;
   }
 
+  @Override
+  public void cmnOplogValuesCompressed() {
+    oplogValuesCompressed = true;
+  }
+
   @Override
   public boolean cmnPRDestroy(String name) {
     if (prMap.remove(name) != null) {
@@ -1290,6 +1306,28 @@ public class DiskInitFile implements DiskInitFileInterpreter {
     writeGemfireVersion(gfversion);
   }
 
+  private void saveOplogValuesCompressed() {
+    if (oplogValuesCompressed) {
+      writeOplogValuesCompressed();
+    }
+  }
+
+  /**
+   * Records that values may be written compressed to the crfs of this disk store. Must be called
+   * before the first compressed value is written.
+   */
+  void markOplogValuesCompressed() {
+    lock(true);
+    try {
+      if (!oplogValuesCompressed) {
+        oplogValuesCompressed = true;
+        writeOplogValuesCompressed();
+      }
+    } finally {
+      unlock(true);
+    }
+  }
+
   private void stopListeningForDataSerializerChanges() {
     if (regListener != null) {
       InternalDataSerializer.removeRegistrationListener(regListener);
@@ -1522,6 +1560,7 @@ public class DiskInitFile implements DiskInitFileInterpreter {
       ifTotalRecordCount = 0;
       writeDiskStoreId();
       saveGemfireVersion();
+      saveOplogValuesCompressed();
       saveInstantiators();
       saveDataSerializers();
       saveCrfIds();
@@ -2695,6 +2734,26 @@ public class DiskInitFile implements DiskInitFileInterpreter {
     }
   }
 
+  private void writeOplogValuesCompressed() {
+    lock(true);
+    try {
+      ByteBuffer bb = getIFWriteBuffer(1 + 1);
+      bb.put(IFREC_OPLOG_VALUES_COMPRESSED);
+      bb.put(END_OF_RECORD_ID);
+      writeIFRecord(bb, false); // don't do stats for these small records
+    } catch (IOException ex) {
+      DiskAccessException dae = new DiskAccessException(
+          String.format("Failed writing data to initialization file because: %s", ex),
+          parent);
+      if (!compactInProgress) {
+        parent.handleDiskAccessException(dae);
+      }
+      throw dae;
+    } finally {
+      unlock(true);
+    }
+  }
+
   /**
    * Additional flags for a disk region that are persisted in its meta-data.
    *
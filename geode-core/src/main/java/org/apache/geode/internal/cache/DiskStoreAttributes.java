@@ -23,6 +23,7 @@ import org.apache.geode.annotations.Immutable;
 import org.apache.geode.cache.DiskStore;
 import org.apache.geode.cache.DiskStoreFactory;
 import org.apache.geode.internal.cache.persistence.DefaultDiskDirs;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
  * Creates an attribute object for DiskStore.
@@ -52,12 +53,59 @@ public class DiskStoreAttributes implements Serializable, DiskStore {
   private volatile float diskUsageWarningPct;
   private volatile float diskUsageCriticalPct;
 
+  private boolean groupCommit;
+  private long groupCommitMaxWaitMicros;
+  private int groupCommitMaxBatchSize;
+  private boolean mappedReads;
+  private int compactionMaxMBPerSecond;
+  private boolean compressOplogs;
+
   /**
    * The default disk directory size unit.
    */
   @Immutable
   static final DiskDirSizesUnit DEFAULT_DISK_DIR_SIZES_UNIT = DiskDirSizesUnit.MEGABYTES;
 
+  /**
+   * The default for whether synchronous oplog writes are made durable with group commit.
+   */
+  static final boolean DEFAULT_GROUP_COMMIT =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "disk.groupCommit");
+
+  /**
+   * The default number of microseconds a group commit leader waits for other writers to join its
+   * batch before forcing it to disk.
+   */
+  static final long DEFAULT_GROUP_COMMIT_MAX_WAIT_MICROS =
+      Long.getLong(GeodeGlossary.GEMFIRE_PREFIX + "disk.groupCommitMaxWaitMicros", 1000);
+
+  /**
+   * The default number of waiting writers at which a group commit leader stops waiting and forces
+   * its batch to disk.
+   */
+  static final int DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "disk.groupCommitMaxBatchSize", 64);
+
+  /**
+   * The default for whether values are read from oplogs that are no longer being written to
+   * through a memory mapping.
+   */
+  static final boolean DEFAULT_MAPPED_READS =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "disk.mappedReads");
+
+  /**
+   * The default number of megabytes per second online compaction may copy forward. Zero means
+   * compaction is not throttled.
+   */
+  static final int DEFAULT_COMPACTION_MAX_MB_PER_SECOND =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "disk.compactionMaxMBPerSecond", 0);
+
+  /**
+   * The default for whether values are compressed before they are written to oplogs.
+   */
+  static final boolean DEFAULT_COMPRESS_OPLOGS =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "disk.compressOplogs");
+
   public DiskStoreAttributes() {
     // set all to defaults
     autoCompact = DiskStoreFactory.DEFAULT_AUTO_COMPACT;
@@ -72,6 +120,12 @@ public class DiskStoreAttributes implements Serializable, DiskStore {
     diskDirSizesUnit = DEFAULT_DISK_DIR_SIZES_UNIT;
     diskUsageWarningPct = DiskStoreFactory.DEFAULT_DISK_USAGE_WARNING_PERCENTAGE;
     diskUsageCriticalPct = DiskStoreFactory.DEFAULT_DISK_USAGE_CRITICAL_PERCENTAGE;
+    groupCommit = DEFAULT_GROUP_COMMIT;
+    groupCommitMaxWaitMicros = DEFAULT_GROUP_COMMIT_MAX_WAIT_MICROS;
+    groupCommitMaxBatchSize = DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE;
+    mappedReads = DEFAULT_MAPPED_READS;
+    compactionMaxMBPerSecond = DEFAULT_COMPACTION_MAX_MB_PER_SECOND;
+    compressOplogs = DEFAULT_COMPRESS_OPLOGS;
   }
 
   @Override
@@ -240,12 +294,90 @@ public class DiskStoreAttributes implements Serializable, DiskStore {
     diskDirSizesUnit = unit;
   }
 
+  /**
+   * Returns true if synchronous writes to this disk store are made durable by a group commit that
+   * forces the oplog once for a batch of concurrent writers.
+   */
+  public boolean getGroupCommit() {
+    return groupCommit;
+  }
+
+  public void setGroupCommit(boolean groupCommit) {
+    this.groupCommit = groupCommit;
+  }
+
+  /**
+   * Returns the maximum number of microseconds a group commit waits for more writers to join its
+   * batch.
+   */
+  public long getGroupCommitMaxWaitMicros() {
+    return groupCommitMaxWaitMicros;
+  }
+
+  public void setGroupCommitMaxWaitMicros(long maxWaitMicros) {
+    checkGroupCommitMaxWaitMicros(maxWaitMicros);
+    groupCommitMaxWaitMicros = maxWaitMicros;
+  }
+
+  /**
+   * Returns the number of waiting writers that causes a group commit to be forced without waiting
+   * any longer.
+   */
+  public int getGroupCommitMaxBatchSize() {
+    return groupCommitMaxBatchSize;
+  }
+
+  public void setGroupCommitMaxBatchSize(int maxBatchSize) {
+    checkGroupCommitMaxBatchSize(maxBatchSize);
+    groupCommitMaxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Returns true if values are faulted in from oplogs that are no longer being written to through
+   * a read only memory mapping instead of a positioned read.
+   */
+  public boolean getMappedReads() {
+    return mappedReads;
+  }
+
+  public void setMappedReads(boolean mappedReads) {
+    this.mappedReads = mappedReads;
+  }
+
+  /**
+   * Returns the number of megabytes per second online compaction may copy forward to the active
+   * oplog, or zero if compaction is not throttled.
+   */
+  public int getCompactionMaxMBPerSecond() {
+    return compactionMaxMBPerSecond;
+  }
+
+  public void setCompactionMaxMBPerSecond(int maxMBPerSecond) {
+    checkCompactionMaxMBPerSecond(maxMBPerSecond);
+    compactionMaxMBPerSecond = maxMBPerSecond;
+  }
+
+  /**
+   * Returns true if values are compressed before they are written to this disk store's oplogs.
+   */
+  public boolean getCompressOplogs() {
+    return compressOplogs;
+  }
+
+  public void setCompressOplogs(boolean compressOplogs) {
+    this.compressOplogs = compressOplogs;
+  }
+
   private void readObject(final java.io.ObjectInputStream in)
       throws IOException, ClassNotFoundException {
     in.defaultReadObject();
     if (diskDirSizesUnit == null) {
       diskDirSizesUnit = DEFAULT_DISK_DIR_SIZES_UNIT;
     }
+    if (groupCommitMaxBatchSize == 0) {
+      groupCommitMaxWaitMicros = DEFAULT_GROUP_COMMIT_MAX_WAIT_MICROS;
+      groupCommitMaxBatchSize = DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE;
+    }
   }
 
   public static void checkMinAndMaxOplogSize(long maxOplogSize) {
@@ -307,4 +439,31 @@ public class DiskStoreAttributes implements Serializable, DiskStore {
               timeInterval));
     }
   }
+
+  public static void checkGroupCommitMaxWaitMicros(long maxWaitMicros) {
+    if (maxWaitMicros < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Group commit max wait specified has to be a non-negative number and the value given %s is not acceptable",
+              maxWaitMicros));
+    }
+  }
+
+  public static void checkGroupCommitMaxBatchSize(int maxBatchSize) {
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Group commit max batch size specified has to be a positive number and the value given %s is not acceptable",
+              maxBatchSize));
+    }
+  }
+
+  public static void checkCompactionMaxMBPerSecond(int maxMBPerSecond) {
+    if (maxMBPerSecond < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Compaction max MB per second specified has to be a non-negative number and the value given %s is not acceptable",
+              maxMBPerSecond));
+    }
+  }
 }
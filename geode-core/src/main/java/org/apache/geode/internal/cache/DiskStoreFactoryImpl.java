@@ -62,6 +62,12 @@ public class DiskStoreFactoryImpl implements DiskStoreFactory {
     setDiskDirsAndSizes(cloneArray(attrs.getDiskDirs()), cloneArray(attrs.getDiskDirSizes()));
     setDiskUsageWarningPercentage(attrs.getDiskUsageWarningPercentage());
     setDiskUsageCriticalPercentage(attrs.getDiskUsageCriticalPercentage());
+    setGroupCommit(attrs.getGroupCommit());
+    setGroupCommitMaxWaitMicros(attrs.getGroupCommitMaxWaitMicros());
+    setGroupCommitMaxBatchSize(attrs.getGroupCommitMaxBatchSize());
+    setMappedReads(attrs.getMappedReads());
+    setCompactionMaxMBPerSecond(attrs.getCompactionMaxMBPerSecond());
+    setCompressOplogs(attrs.getCompressOplogs());
     this.cache = cache;
   }
 
@@ -300,4 +306,58 @@ public class DiskStoreFactoryImpl implements DiskStoreFactory {
     attrs.setDiskUsageCriticalPercentage(criticalPercent);
     return this;
   }
+
+  /**
+   * Sets whether synchronous writes are made durable with a group commit that forces the oplog once
+   * for a batch of concurrent writers instead of once per write.
+   */
+  public DiskStoreFactory setGroupCommit(boolean groupCommit) {
+    attrs.setGroupCommit(groupCommit);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of microseconds a group commit waits for more writers to join its batch
+   * before forcing it to disk.
+   */
+  public DiskStoreFactory setGroupCommitMaxWaitMicros(long maxWaitMicros) {
+    attrs.setGroupCommitMaxWaitMicros(maxWaitMicros);
+    return this;
+  }
+
+  /**
+   * Sets the number of waiting writers that causes a group commit to be forced to disk without
+   * waiting for the max wait to elapse.
+   */
+  public DiskStoreFactory setGroupCommitMaxBatchSize(int maxBatchSize) {
+    attrs.setGroupCommitMaxBatchSize(maxBatchSize);
+    return this;
+  }
+
+  /**
+   * Sets whether values are faulted in from oplogs that are no longer being written to through a
+   * read only memory mapping. Ignored on Windows, where a mapped file cannot be deleted.
+   */
+  public DiskStoreFactory setMappedReads(boolean mappedReads) {
+    attrs.setMappedReads(mappedReads);
+    return this;
+  }
+
+  /**
+   * Sets the number of megabytes per second online compaction may copy forward to the active
+   * oplog. Zero, the default, does not throttle compaction.
+   */
+  public DiskStoreFactory setCompactionMaxMBPerSecond(int maxMBPerSecond) {
+    attrs.setCompactionMaxMBPerSecond(maxMBPerSecond);
+    return this;
+  }
+
+  /**
+   * Sets whether values are compressed before they are written to oplogs. Oplogs written with
+   * compression enabled can not be read by members running a version without oplog compression.
+   */
+  public DiskStoreFactory setCompressOplogs(boolean compressOplogs) {
+    attrs.setCompressOplogs(compressOplogs);
+    return this;
+  }
 }
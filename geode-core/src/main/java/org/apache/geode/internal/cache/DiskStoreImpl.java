@@ -114,6 +114,7 @@ import org.apache.geode.internal.cache.versions.RegionVersionVector;
 import org.apache.geode.internal.cache.versions.VersionSource;
 import org.apache.geode.internal.cache.versions.VersionStamp;
 import org.apache.geode.internal.cache.versions.VersionTag;
+import org.apache.geode.internal.lang.SystemUtils;
 import org.apache.geode.internal.monitoring.ThreadsMonitoring;
 import org.apache.geode.internal.monitoring.executor.AbstractExecutor;
 import org.apache.geode.internal.serialization.KnownVersion;
@@ -333,6 +334,13 @@ public class DiskStoreImpl implements DiskStore {
 
   private final ReadLock compactorReadLock = compactorLock.readLock();
 
+  /**
+   * The number of times {@link #compactorWriteLock} has been taken, i.e. a region of this disk
+   * store was cleared or closed or had its entries map copied. Only changed while holding the write
+   * lock so a compactor holding the read lock sees the current count.
+   */
+  private long compactorWriteLockCount;
+
   /**
    * Set if we have encountered a disk exception causing us to shutdown this disk store. This is
    * currently used only to prevent trying to shutdown the disk store from multiple threads, but I
@@ -444,6 +452,12 @@ public class DiskStoreImpl implements DiskStore {
     diskDirSizesUnit = props.getDiskDirSizesUnit();
     warningPercent = props.getDiskUsageWarningPercentage();
     criticalPercent = props.getDiskUsageCriticalPercentage();
+    groupCommit = props.getGroupCommit();
+    groupCommitMaxWaitMicros = props.getGroupCommitMaxWaitMicros();
+    groupCommitMaxBatchSize = props.getGroupCommitMaxBatchSize();
+    mappedReads = props.getMappedReads() && !SystemUtils.isWindows();
+    compactionMaxMBPerSecond = props.getCompactionMaxMBPerSecond();
+    compressOplogs = props.getCompressOplogs();
 
     this.cache = cache;
     stats = new DiskStoreStats(statisticsFactory, getName());
@@ -1990,6 +2004,10 @@ public class DiskStoreImpl implements DiskStore {
 
         initFile =
             new DiskInitFile(partialFileName, this, ifRequired, persistentBackupFiles.keySet());
+        if (compressOplogs && !isOffline()) {
+          // older members and tools must not read the compressed values as raw ones
+          initFile.markOplogValuesCompressed();
+        }
         if (upgradeVersionOnly) {
           if (KnownVersion.CURRENT.compareTo(getRecoveredGFVersion()) <= 0) {
             if (getCache() != null) {
@@ -2288,6 +2306,7 @@ public class DiskStoreImpl implements DiskStore {
 
   private void acquireCompactorWriteLock() {
     compactorWriteLock.lock();
+    compactorWriteLockCount++;
   }
 
   public void releaseCompactorReadLock() {
@@ -2822,6 +2841,11 @@ public class DiskStoreImpl implements DiskStore {
     private volatile boolean compactorEnabled;
     private volatile boolean scheduled;
     private CompactableOplog[] scheduledOplogs;
+    /**
+     * Splits the current compaction into slices and throttles it. Only used by the compactor
+     * thread.
+     */
+    private CompactionThrottle throttle;
     /**
      * used to keep track of the Thread currently invoking run on this compactor
      */
@@ -2908,12 +2932,17 @@ public class DiskStoreImpl implements DiskStore {
       int totalCount = 0;
       long compactionStart = getStats().startCompaction();
       long start = System.nanoTime();
+      // offline compaction has no writers to make room for
+      if (!isOfflineCompacting() && getCompactionMaxMBPerSecond() > 0) {
+        throttle = new CompactionThrottle(getCompactionMaxMBPerSecond(), getStats());
+      }
       try {
         for (int i = 0; i < oplogs.length && keepCompactorRunning(); i++) {
           totalCount += oplogs[i].compact(this);
         }
 
       } finally {
+        throttle = null;
         getStats().endCompaction(compactionStart);
       }
       long endTime = System.nanoTime();
@@ -3040,6 +3069,38 @@ public class DiskStoreImpl implements DiskStore {
     boolean keepCompactorRunning() {
       return compactorEnabled || compactionCompletionRequired;
     }
+
+    /**
+     * Called by the oplog being compacted after it copies a live value forward. Always false when
+     * compaction is not throttled.
+     *
+     * @return true if a slice has been completed; the oplog must then call {@link #endSlice}
+     */
+    boolean copiedForward(long bytes) {
+      return throttle != null && throttle.copied(bytes);
+    }
+
+    /**
+     * Ends a slice: releases the oplog's compactor lock and the compactor read lock, pauses for as
+     * long as the compaction budget requires and then takes both locks again. Must be called
+     * holding both locks.
+     *
+     * @return false if the oplog must stop compacting because the compactor was stopped or a region
+     *         of this disk store was cleared, closed or recreated while the locks were released.
+     *         The oplog's remaining live entries are compacted once the compactor is rescheduled.
+     */
+    boolean endSlice(Runnable unlockOplog, Runnable lockOplog) {
+      final long writeLockCount = compactorWriteLockCount;
+      unlockOplog.run();
+      releaseCompactorReadLock();
+      try {
+        throttle.endSlice(this::keepCompactorRunning);
+      } finally {
+        acquireCompactorReadLock();
+        lockOplog.run();
+      }
+      return keepCompactorRunning() && writeLockCount == compactorWriteLockCount;
+    }
   }
 
   /**
@@ -3401,6 +3462,12 @@ public class DiskStoreImpl implements DiskStore {
   private final int[] diskDirSizes;
   private volatile float warningPercent;
   private volatile float criticalPercent;
+  private final boolean groupCommit;
+  private final long groupCommitMaxWaitMicros;
+  private final int groupCommitMaxBatchSize;
+  private final boolean mappedReads;
+  private final int compactionMaxMBPerSecond;
+  private final boolean compressOplogs;
 
   // DiskStore interface methods
   @Override
@@ -3482,6 +3549,30 @@ public class DiskStoreImpl implements DiskStore {
     diskDirSizesUnit = unit;
   }
 
+  public boolean getGroupCommit() {
+    return groupCommit;
+  }
+
+  public long getGroupCommitMaxWaitMicros() {
+    return groupCommitMaxWaitMicros;
+  }
+
+  public int getGroupCommitMaxBatchSize() {
+    return groupCommitMaxBatchSize;
+  }
+
+  public boolean getMappedReads() {
+    return mappedReads;
+  }
+
+  public int getCompactionMaxMBPerSecond() {
+    return compactionMaxMBPerSecond;
+  }
+
+  public boolean getCompressOplogs() {
+    return compressOplogs;
+  }
+
   public static class AsyncDiskEntry {
     public final InternalRegion region;
     public final DiskEntry de;
@@ -4444,9 +4535,16 @@ public class DiskStoreImpl implements DiskStore {
     private void doAsyncValueRecovery() {
       synchronized (asyncValueRecoveryLock) {
         DiskStoreObserver.startAsyncValueRecovery(DiskStoreImpl.this);
-        try {
+        // Values are read from the crfs in oplog order; read them ahead of the recovery thread.
+        List<File> crfFiles = new ArrayList<>(oplogSet.size());
+        for (Oplog oplog : oplogSet) {
+          crfFiles.add(oplog.getCrfFile());
+        }
+        try (OplogRecoveryPrefetcher prefetcher =
+            OplogRecoveryPrefetcher.start(crfFiles, getStats())) {
           for (Oplog oplog : oplogSet) {
             oplog.recoverValuesIfNeeded(currentAsyncValueRecoveryMap);
+            prefetcher.consumed(oplog.getCrfFile());
           }
         } finally {
           synchronized (currentAsyncValueRecoveryMap) {
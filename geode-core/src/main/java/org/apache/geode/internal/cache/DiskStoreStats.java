@@ -55,6 +55,10 @@ public class DiskStoreStats {
   private static final int recoveredEntryDestroysId;
   private static final int recoveredValuesSkippedDueToLRUId;
   private static final int recoveryRecordsSkippedId;
+  private static final int recoveryDrfTimeId;
+  private static final int recoveryCrfTimeId;
+  private static final int recoveryRegionInitTimeId;
+  private static final int recoveryPrefetchedBytesId;
   private static final int compactsInProgressId;
   private static final int writesInProgressId;
   private static final int flushesInProgressId;
@@ -78,14 +82,29 @@ public class DiskStoreStats {
   private static final int openOplogsId;
   private static final int inactiveOplogsId;
   private static final int compactableOplogsId;
+  private static final int compactionSlicesId;
+  private static final int compactionCopiedBytesId;
+  private static final int compactionReclaimedBytesId;
+  private static final int compactionThrottleTimeId;
+  private static final int compressTimeId;
+  private static final int decompressTimeId;
+  private static final int compressionsId;
+  private static final int decompressionsId;
+  private static final int preCompressedBytesId;
+  private static final int postCompressedBytesId;
 
   private static final int oplogReadsId;
   private static final int oplogSeeksId;
+  private static final int oplogMappedReadsId;
 
   private static final int uncreatedRecoveredRegionsId;
   private static final int backupsInProgress;
   private static final int backupsCompleted;
 
+  private static final int groupCommitsId;
+  private static final int groupCommitWritesId;
+  private static final int groupCommitTimeId;
+
   static {
     String statName = "DiskStoreStatistics";
     String statDescription = "Statistics about a Region's use of the disk";
@@ -150,6 +169,18 @@ public class DiskStoreStats {
 
             f.createLongCounter("recoveryRecordsSkipped",
                 "The total number of oplog records skipped during recovery.", "ops"),
+            f.createLongCounter("recoveryDrfTime",
+                "The total amount of time recovery spent reading drf files to find destroyed entries.",
+                "nanoseconds"),
+            f.createLongCounter("recoveryCrfTime",
+                "The total amount of time recovery spent reading krf and crf files to find live entries.",
+                "nanoseconds"),
+            f.createLongCounter("recoveryRegionInitTime",
+                "The total amount of time recovery spent initializing regions once the oplogs were read.",
+                "nanoseconds"),
+            f.createLongCounter("recoveryPrefetchedBytes",
+                "The total number of oplog bytes read ahead of recovery by the recovery prefetch threads.",
+                "bytes"),
 
             f.createIntCounter("oplogRecoveries", oplogRecoveriesDesc, "ops"),
             f.createLongCounter("oplogRecoveryTime", oplogRecoveryTimeDesc, "nanoseconds"),
@@ -181,6 +212,17 @@ public class DiskStoreStats {
             f.createLongCounter("compactTime",
                 "Total amount of time, in nanoseconds, spent compacting oplogs", "nanoseconds"),
             f.createIntCounter("compacts", "Total number of completed oplog compacts", "compacts"),
+            f.createLongCounter("compactionSlices",
+                "Total number of slices online compaction was split into. The compactor releases its locks between slices.",
+                "slices"),
+            f.createLongCounter("compactionCopiedBytes",
+                "Total number of bytes of live values copied forward by compaction", "bytes"),
+            f.createLongCounter("compactionReclaimedBytes",
+                "Total number of oplog bytes freed by compaction, less the bytes it copied forward",
+                "bytes"),
+            f.createLongCounter("compactionThrottleTime",
+                "Total amount of time, in nanoseconds, compaction paused to stay within its bytes per second budget",
+                "nanoseconds"),
             f.createIntGauge("openOplogs", "Current number of oplogs this disk store has open",
                 "oplogs"),
             f.createIntGauge("compactableOplogs", "Current number of oplogs ready to be compacted",
@@ -190,11 +232,36 @@ public class DiskStoreStats {
                 "oplogs"),
             f.createLongCounter("oplogReads", "Total number of oplog reads", "reads"),
             f.createLongCounter("oplogSeeks", "Total number of oplog seeks", "seeks"),
+            f.createLongCounter("compressTime",
+                "The total time spent compressing values written to oplogs.", "nanoseconds"),
+            f.createLongCounter("decompressTime",
+                "The total time spent decompressing values read from oplogs.", "nanoseconds"),
+            f.createLongCounter("compressions",
+                "The total number of values compressed before being written to an oplog.",
+                "operations"),
+            f.createLongCounter("decompressions",
+                "The total number of compressed values read from oplogs.", "operations"),
+            f.createLongCounter("preCompressedBytes",
+                "The total number of value bytes given to oplog compression.", "bytes"),
+            f.createLongCounter("postCompressedBytes",
+                "The total number of value bytes written to oplogs by oplog compression.",
+                "bytes"),
+            f.createLongCounter("oplogMappedReads",
+                "Total number of oplog reads served from a memory mapped oplog", "reads"),
             f.createIntGauge("uncreatedRecoveredRegions",
                 "The current number of regions that have been recovered but have not yet been created.",
                 "regions"),
             f.createIntGauge("backupsInProgress", backupsInProgressDesc, "backups"),
-            f.createIntCounter("backupsCompleted", backupsCompletedDesc, "backups"),});
+            f.createIntCounter("backupsCompleted", backupsCompletedDesc, "backups"),
+            f.createLongCounter("groupCommits",
+                "The total number of group commits that forced a batch of synchronous writes to disk.",
+                "commits"),
+            f.createLongCounter("groupCommitWrites",
+                "The total number of synchronous writes made durable by group commits. Divide by groupCommits to get the average batch size.",
+                "writes"),
+            f.createLongCounter("groupCommitTime",
+                "The total amount of time spent flushing and forcing group commit batches to disk.",
+                "nanoseconds"),});
 
     // Initialize id fields
     writesId = type.nameToId("writes");
@@ -214,6 +281,10 @@ public class DiskStoreStats {
     recoveredEntryDestroysId = type.nameToId("recoveredEntryDestroys");
     recoveredValuesSkippedDueToLRUId = type.nameToId("recoveredValuesSkippedDueToLRU");
     recoveryRecordsSkippedId = type.nameToId("recoveryRecordsSkipped");
+    recoveryDrfTimeId = type.nameToId("recoveryDrfTime");
+    recoveryCrfTimeId = type.nameToId("recoveryCrfTime");
+    recoveryRegionInitTimeId = type.nameToId("recoveryRegionInitTime");
+    recoveryPrefetchedBytesId = type.nameToId("recoveryPrefetchedBytes");
 
     compactsInProgressId = type.nameToId("compactsInProgress");
     writesInProgressId = type.nameToId("writesInProgress");
@@ -235,13 +306,27 @@ public class DiskStoreStats {
     compactUpdateTimeId = type.nameToId("compactUpdateTime");
     oplogReadsId = type.nameToId("oplogReads");
     oplogSeeksId = type.nameToId("oplogSeeks");
+    oplogMappedReadsId = type.nameToId("oplogMappedReads");
 
     openOplogsId = type.nameToId("openOplogs");
     inactiveOplogsId = type.nameToId("inactiveOplogs");
     compactableOplogsId = type.nameToId("compactableOplogs");
+    compactionSlicesId = type.nameToId("compactionSlices");
+    compactionCopiedBytesId = type.nameToId("compactionCopiedBytes");
+    compactionReclaimedBytesId = type.nameToId("compactionReclaimedBytes");
+    compactionThrottleTimeId = type.nameToId("compactionThrottleTime");
+    compressTimeId = type.nameToId("compressTime");
+    decompressTimeId = type.nameToId("decompressTime");
+    compressionsId = type.nameToId("compressions");
+    decompressionsId = type.nameToId("decompressions");
+    preCompressedBytesId = type.nameToId("preCompressedBytes");
+    postCompressedBytesId = type.nameToId("postCompressedBytes");
     uncreatedRecoveredRegionsId = type.nameToId("uncreatedRecoveredRegions");
     backupsInProgress = type.nameToId("backupsInProgress");
     backupsCompleted = type.nameToId("backupsCompleted");
+    groupCommitsId = type.nameToId("groupCommits");
+    groupCommitWritesId = type.nameToId("groupCommitWrites");
+    groupCommitTimeId = type.nameToId("groupCommitTime");
   }
 
   ////////////////////// Instance Fields //////////////////////
@@ -488,6 +573,34 @@ public class DiskStoreStats {
     stats.incLong(recoveredValuesSkippedDueToLRUId, 1);
   }
 
+  public void endRecoveryDrfPhase(long start) {
+    stats.incLong(recoveryDrfTimeId, getTime() - start);
+  }
+
+  public void endRecoveryCrfPhase(long start) {
+    stats.incLong(recoveryCrfTimeId, getTime() - start);
+  }
+
+  public void endRecoveryRegionInitPhase(long start) {
+    stats.incLong(recoveryRegionInitTimeId, getTime() - start);
+  }
+
+  public void incRecoveryPrefetchedBytes(long bytes) {
+    stats.incLong(recoveryPrefetchedBytesId, bytes);
+  }
+
+  public long getRecoveryDrfTime() {
+    return stats.getLong(recoveryDrfTimeId);
+  }
+
+  public long getRecoveryCrfTime() {
+    return stats.getLong(recoveryCrfTimeId);
+  }
+
+  public long getRecoveryRegionInitTime() {
+    return stats.getLong(recoveryRegionInitTimeId);
+  }
+
   /**
    * Invoked before data is removed from disk.
    *
@@ -519,6 +632,14 @@ public class DiskStoreStats {
     stats.incLong(oplogSeeksId, 1);
   }
 
+  public void incOplogMappedReads() {
+    stats.incLong(oplogMappedReadsId, 1);
+  }
+
+  public long getOplogMappedReads() {
+    return stats.getLong(oplogMappedReadsId);
+  }
+
   public void incInactiveOplogs(int delta) {
     stats.incInt(inactiveOplogsId, delta);
   }
@@ -542,6 +663,84 @@ public class DiskStoreStats {
     stats.incLong(compactUpdateTimeId, getStatTime() - start);
   }
 
+  public void incCompactionCopiedBytes(long bytes) {
+    stats.incLong(compactionCopiedBytesId, bytes);
+  }
+
+  public void incCompactionReclaimedBytes(long bytes) {
+    stats.incLong(compactionReclaimedBytesId, bytes);
+  }
+
+  /**
+   * Invoked when the compactor finishes a slice
+   *
+   * @param throttleTime The nanoseconds the compactor paused to stay within its budget
+   */
+  public void endCompactionSlice(long throttleTime) {
+    stats.incLong(compactionSlicesId, 1);
+    stats.incLong(compactionThrottleTimeId, throttleTime);
+  }
+
+  public long getCompactionSlices() {
+    return stats.getLong(compactionSlicesId);
+  }
+
+  public long getCompactionCopiedBytes() {
+    return stats.getLong(compactionCopiedBytesId);
+  }
+
+  public long getCompactionReclaimedBytes() {
+    return stats.getLong(compactionReclaimedBytesId);
+  }
+
+  public long getCompactionThrottleTime() {
+    return stats.getLong(compactionThrottleTimeId);
+  }
+
+  public long startCompression() {
+    stats.incLong(compressionsId, 1);
+    return getTime();
+  }
+
+  /**
+   * Invoked after a value has been given to oplog compression
+   *
+   * @param start The time at which the compression started
+   * @param startSize The length of the value
+   * @param endSize The length written to the oplog, which is the value's length if it did not
+   *        compress
+   */
+  public void endCompression(long start, long startSize, long endSize) {
+    stats.incLong(compressTimeId, getTime() - start);
+    stats.incLong(preCompressedBytesId, startSize);
+    stats.incLong(postCompressedBytesId, endSize);
+  }
+
+  public long startDecompression() {
+    stats.incLong(decompressionsId, 1);
+    return getTime();
+  }
+
+  public void endDecompression(long start) {
+    stats.incLong(decompressTimeId, getTime() - start);
+  }
+
+  public long getCompressions() {
+    return stats.getLong(compressionsId);
+  }
+
+  public long getDecompressions() {
+    return stats.getLong(decompressionsId);
+  }
+
+  public long getPreCompressedBytes() {
+    return stats.getLong(preCompressedBytesId);
+  }
+
+  public long getPostCompressedBytes() {
+    return stats.getLong(postCompressedBytesId);
+  }
+
   public long getStatTime() {
     return getTime();
   }
@@ -563,6 +762,39 @@ public class DiskStoreStats {
     stats.incInt(backupsCompleted, 1);
   }
 
+  /**
+   * Invoked before a group commit leader flushes and forces its batch.
+   *
+   * @return The timestamp that marks the start of the operation
+   */
+  public long startGroupCommit() {
+    return getTime();
+  }
+
+  /**
+   * Invoked after a group commit leader has forced its batch to disk
+   *
+   * @param start The time at which the group commit started
+   * @param batchSize The number of writes made durable by the group commit
+   */
+  public void endGroupCommit(long start, long batchSize) {
+    stats.incLong(groupCommitsId, 1);
+    stats.incLong(groupCommitWritesId, batchSize);
+    stats.incLong(groupCommitTimeId, getTime() - start);
+  }
+
+  public long getGroupCommits() {
+    return stats.getLong(groupCommitsId);
+  }
+
+  public long getGroupCommitWrites() {
+    return stats.getLong(groupCommitWritesId);
+  }
+
+  public long getGroupCommitTime() {
+    return stats.getLong(groupCommitTimeId);
+  }
+
   public Statistics getStats() {
     return stats;
   }
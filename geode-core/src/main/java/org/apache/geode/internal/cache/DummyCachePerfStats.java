@@ -219,6 +219,12 @@ public class DummyCachePerfStats extends CachePerfStats {
   @Override
   public void incGetInitialImageKeysReceived() {}
 
+  @Override
+  public void endExpiryTask(long lag) {}
+
+  @Override
+  public void endTombstoneExpiration(long lag) {}
+
   @Override
   public void incRegions(long inc) {}
 
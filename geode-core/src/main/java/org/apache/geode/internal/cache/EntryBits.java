@@ -25,6 +25,7 @@ public abstract class EntryBits {
   private static final byte LOCAL_INVALID = 0x4; // persistent bit
   private static final byte RECOVERED_FROM_DISK = 0x8; // used by DiskId; transient bit
   private static final byte PENDING_ASYNC = 0x10; // used by DiskId; transient bit
+  private static final byte COMPRESSED = 0x20; // value is compressed in the oplog; persistent bit
   private static final byte TOMBSTONE = 0x40;
   private static final byte WITH_VERSIONS = (byte) 0x80; // oplog entry contains versions
 
@@ -56,6 +57,10 @@ public abstract class EntryBits {
     return (b & PENDING_ASYNC) != 0;
   }
 
+  public static boolean isCompressed(byte b) {
+    return (b & COMPRESSED) != 0;
+  }
+
   public static boolean isAnyInvalid(byte b) {
     return (b & (INVALID | LOCAL_INVALID)) != 0;
   }
@@ -96,10 +101,15 @@ public abstract class EntryBits {
     return isPendingAsync ? (byte) (b | PENDING_ASYNC) : (byte) (b & ~PENDING_ASYNC);
   }
 
+  public static byte setCompressed(byte b, boolean isCompressed) {
+    return isCompressed ? (byte) (b | COMPRESSED) : (byte) (b & ~COMPRESSED);
+  }
+
   /**
    * Returns a byte whose bits are those that need to be written to disk
    */
   public static byte getPersistentBits(byte b) {
-    return (byte) (b & (SERIALIZED | INVALID | LOCAL_INVALID | TOMBSTONE | WITH_VERSIONS));
+    return (byte) (b
+        & (SERIALIZED | INVALID | LOCAL_INVALID | TOMBSTONE | WITH_VERSIONS | COMPRESSED));
   }
 }
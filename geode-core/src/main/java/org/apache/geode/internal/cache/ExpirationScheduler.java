@@ -26,24 +26,42 @@ import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
  * ExpirationScheduler uses a single instance of java.util.Timer (and therefore a single thread) per
- * VM to schedule and execute region and entry expiration tasks.
+ * VM to schedule and execute region and entry expiration tasks. If the
+ * {@code gemfire.EXPIRY_TIMING_WHEEL} property is set, entry expiration tasks are scheduled in an
+ * {@link ExpirationTimingWheel} instead and run by its worker threads.
  */
 
 public class ExpirationScheduler {
   private static final Logger logger = LogService.getLogger();
 
   private final SystemTimer timer;
+  private final ExpirationTimingWheel wheel;
   private final AtomicInteger pendingCancels = new AtomicInteger();
   private static final int MAX_PENDING_CANCELS = Integer
       .getInteger(GeodeGlossary.GEMFIRE_PREFIX + "MAX_PENDING_CANCELS", 10000);
 
+  static final boolean USE_TIMING_WHEEL =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "EXPIRY_TIMING_WHEEL");
+
+  /** The resolution of the timing wheel; entries expire up to this much late */
+  private static final long WHEEL_TICK_MS =
+      Long.getLong(GeodeGlossary.GEMFIRE_PREFIX + "EXPIRY_WHEEL_TICK_MS", 100);
+
+  private static final int WHEEL_THREADS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "EXPIRY_WHEEL_THREADS",
+          Math.max(1, Runtime.getRuntime().availableProcessors() / 4));
+
   public ExpirationScheduler(InternalDistributedSystem ds) {
     timer = new SystemTimer(ds);
+    wheel = USE_TIMING_WHEEL ? ExpirationTimingWheel.start(WHEEL_TICK_MS, WHEEL_THREADS) : null;
   }
 
   public void forcePurge() {
     pendingCancels.getAndSet(0);
     timer.timerPurge();
+    if (wheel != null) {
+      wheel.purge();
+    }
   }
 
   /**
@@ -55,6 +73,9 @@ public class ExpirationScheduler {
       pc = pendingCancels.getAndSet(0);
       if (pc > MAX_PENDING_CANCELS) {
         timer.timerPurge();
+        if (wheel != null) {
+          wheel.purge();
+        }
         // int purgedCancels = CFactory.timerPurge(this.timer);
         // we could try to do some fancy stuff here but the value
         // of the atomic is just a hint so don't bother adjusting it
@@ -91,11 +112,30 @@ public class ExpirationScheduler {
 
   /** schedules the given entry expiration task and returns true; returns false if not scheduled */
   public boolean addEntryExpiryTask(EntryExpiryTask task) {
-    return addExpiryTask(task) != null;
+    if (wheel == null) {
+      return addExpiryTask(task) != null;
+    }
+    if (task.isCancelled()) {
+      return false;
+    }
+    try {
+      long delay = task.getExpiryMillis();
+      if (logger.isTraceEnabled()) {
+        logger.trace("Scheduling  {}  to fire in  {}  ms", task, delay);
+      }
+      return wheel.schedule(task, delay);
+    } catch (EntryNotFoundException e) {
+      // ignore - there are unsynchronized paths that allow an entry to
+      // be destroyed out from under us.
+      return false;
+    }
   }
 
   /** @see java.util.Timer#cancel() */
   public void cancel() {
     timer.cancel();
+    if (wheel != null) {
+      wheel.cancel();
+    }
   }
 }
@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * A hierarchical timing wheel for expiration tasks. Time is divided into ticks; each of the
+ * {@link #LEVELS} levels has 256 slots, a slot of level n covering 256^n ticks. A task is kept in
+ * the slot of the lowest level that holds its deadline, and tasks in a higher level slot are moved
+ * down when the wheel reaches that slot. Scheduling and cascading are therefore O(1) per task,
+ * unlike the O(log n) of the {@link java.util.Timer} queue.
+ * <p>
+ * Tasks are linked into slots through their own {@link ExpiryTask#wheelNext} field, so no queue
+ * nodes are allocated. Scheduling threads push tasks onto a lock free pending stack; a single
+ * ticker thread moves them into the wheel, so the slots are only touched by that thread.
+ * <p>
+ * The tasks of a due slot are run in batches, one or more per region, on a pool of worker threads.
+ * Each batch computes the current time once. A cancelled task marks its slot, and the ticker
+ * unlinks the cancelled tasks of the marked slots on its next tick. Tasks never run before their
+ * deadline, but may run up to one tick after it.
+ */
+class ExpirationTimingWheel {
+  private static final Logger logger = LogService.getLogger();
+
+  static final int LEVELS = 4;
+
+  private static final int SLOT_BITS = 8;
+
+  private static final int SLOTS = 1 << SLOT_BITS;
+
+  private static final int SLOT_MASK = SLOTS - 1;
+
+  /** The most tasks of one region run by one worker before the next worker takes over */
+  static final int MAX_BATCH_SIZE = 1024;
+
+  /** Longer delays are shortened so deadlines do not overflow; the task reschedules itself */
+  private static final long MAX_DELAY_MILLIS = TimeUnit.DAYS.toMillis(3650);
+
+  private final long tickNanos;
+
+  private final LongSupplier nanoClock;
+
+  private final long startNanos;
+
+  private final ExecutorService workers;
+
+  private final AtomicReference<ExpiryTask> pending = new AtomicReference<>();
+
+  /** Only accessed by the thread advancing the wheel */
+  private final ExpiryTask[][] slots = new ExpiryTask[LEVELS][SLOTS];
+
+  /** One bit per slot, set when a task linked into the slot is cancelled */
+  private final AtomicLongArray cancelledSlots = new AtomicLongArray(LEVELS * SLOTS / Long.SIZE);
+
+  /** The next tick to process; only accessed by the thread advancing the wheel */
+  private long currentTick;
+
+  private ScheduledExecutorService ticker;
+
+  private volatile boolean cancelled;
+
+  ExpirationTimingWheel(long tickMillis, LongSupplier nanoClock, ExecutorService workers) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+    }
+    tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    this.nanoClock = nanoClock;
+    startNanos = nanoClock.getAsLong();
+    this.workers = workers;
+  }
+
+  static ExpirationTimingWheel start(long tickMillis, int workerThreads) {
+    ExpirationTimingWheel wheel = new ExpirationTimingWheel(tickMillis, System::nanoTime,
+        LoggingExecutors.newFixedThreadPool(workerThreads, "Expiry Wheel Worker ", true));
+    wheel.ticker = LoggingExecutors.newSingleThreadScheduledExecutor("Expiry Wheel Ticker");
+    wheel.ticker.scheduleAtFixedRate(wheel::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    return wheel;
+  }
+
+  /**
+   * Schedules the task to run after the given delay.
+   *
+   * @return false if the wheel has been cancelled
+   */
+  boolean schedule(ExpiryTask task, long delayMillis) {
+    if (cancelled) {
+      return false;
+    }
+    task.wheelDeadline = nanoClock.getAsLong()
+        + TimeUnit.MILLISECONDS.toNanos(Math.min(delayMillis, MAX_DELAY_MILLIS));
+    task.setWheelPending(this);
+    ExpiryTask head;
+    do {
+      head = pending.get();
+      task.wheelNext = head;
+    } while (!pending.compareAndSet(head, task));
+    return true;
+  }
+
+  private void tick() {
+    try {
+      advance();
+    } catch (RuntimeException e) {
+      // keep the ticker scheduled
+      logger.warn("Advancing the expiration timing wheel failed", e);
+    }
+  }
+
+  /**
+   * Processes all ticks up to the current time and hands the due tasks to the workers.
+   */
+  synchronized void advance() {
+    if (cancelled) {
+      return;
+    }
+    final long now = nanoClock.getAsLong();
+    final long nowTick = (now - startNanos) / tickNanos;
+    unlinkCancelled();
+    List<ExpiryTask> due = null;
+    while (currentTick <= nowTick) {
+      for (int level = LEVELS - 1; level > 0; level--) {
+        if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+          cascade(level, (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+      }
+      placePending();
+      final int slot = (int) currentTick & SLOT_MASK;
+      ExpiryTask task = slots[0][slot];
+      slots[0][slot] = null;
+      while (task != null) {
+        final ExpiryTask next = task.wheelNext;
+        task.wheelNext = null;
+        task.wheelSlot = -1;
+        if (!task.isCancelled()) {
+          if (due == null) {
+            due = new ArrayList<>();
+          }
+          due.add(task);
+        }
+        task = next;
+      }
+      currentTick++;
+    }
+    if (due != null) {
+      dispatch(due);
+    }
+  }
+
+  private void placePending() {
+    ExpiryTask task = pending.getAndSet(null);
+    while (task != null) {
+      final ExpiryTask next = task.wheelNext;
+      place(task);
+      task = next;
+    }
+  }
+
+  private void cascade(int level, int slot) {
+    ExpiryTask task = slots[level][slot];
+    slots[level][slot] = null;
+    while (task != null) {
+      final ExpiryTask next = task.wheelNext;
+      place(task);
+      task = next;
+    }
+  }
+
+  /**
+   * Links the task into the slot of the lowest level whose current span holds its deadline. A task
+   * that is already due goes into the slot of the current tick.
+   */
+  private void place(ExpiryTask task) {
+    long deadlineTick = ceilDiv(task.wheelDeadline - startNanos, tickNanos);
+    if (deadlineTick < currentTick) {
+      deadlineTick = currentTick;
+    }
+    int level = 0;
+    int parentShift = SLOT_BITS;
+    while (level < LEVELS - 1 && (deadlineTick >>> parentShift) != (currentTick >>> parentShift)) {
+      level++;
+      parentShift += SLOT_BITS;
+    }
+    long slotTick = deadlineTick >>> (SLOT_BITS * level);
+    final long currentSlotTick = currentTick >>> (SLOT_BITS * level);
+    if (slotTick - currentSlotTick >= SLOTS) {
+      // beyond the top level; the task is placed again when its last slot is reached
+      slotTick = currentSlotTick + SLOTS - 1;
+    }
+    final int slot = (int) slotTick & SLOT_MASK;
+    // publish the slot before checking for cancellation; a cancel that comes later marks the slot
+    task.wheelSlot = level * SLOTS + slot;
+    if (task.isCancelled()) {
+      task.wheelSlot = -1;
+      task.wheelNext = null;
+      return;
+    }
+    task.wheelNext = slots[level][slot];
+    slots[level][slot] = task;
+  }
+
+  /**
+   * Called after the task has been cancelled to have it unlinked on the next tick.
+   */
+  void cancelled(ExpiryTask task) {
+    final int slot = task.wheelSlot;
+    if (slot >= 0) {
+      cancelledSlots.getAndAccumulate(slot / Long.SIZE, 1L << slot, (bits, bit) -> bits | bit);
+    }
+  }
+
+  private void unlinkCancelled() {
+    for (int word = 0; word < cancelledSlots.length(); word++) {
+      long bits = cancelledSlots.getAndSet(word, 0L);
+      while (bits != 0) {
+        final int slot = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+        unlinkCancelled(slots[slot / SLOTS], slot % SLOTS);
+      }
+    }
+  }
+
+  private static void unlinkCancelled(ExpiryTask[] level, int slot) {
+    ExpiryTask kept = null;
+    ExpiryTask task = level[slot];
+    while (task != null) {
+      final ExpiryTask next = task.wheelNext;
+      if (task.isCancelled()) {
+        task.wheelNext = null;
+        task.wheelSlot = -1;
+      } else {
+        task.wheelNext = kept;
+        kept = task;
+      }
+      task = next;
+    }
+    level[slot] = kept;
+  }
+
+  /**
+   * @return the number of tasks linked into the slots of the wheel
+   */
+  @VisibleForTesting
+  synchronized int size() {
+    int size = 0;
+    for (ExpiryTask[] level : slots) {
+      for (ExpiryTask task : level) {
+        for (; task != null; task = task.wheelNext) {
+          size++;
+        }
+      }
+    }
+    return size;
+  }
+
+  private static long ceilDiv(long dividend, long divisor) {
+    if (dividend <= 0) {
+      return 0;
+    }
+    return (dividend + divisor - 1) / divisor;
+  }
+
+  private void dispatch(List<ExpiryTask> due) {
+    final Map<LocalRegion, List<ExpiryTask>> byRegion = new LinkedHashMap<>();
+    for (ExpiryTask task : due) {
+      final LocalRegion region = task.getLocalRegion();
+      if (region != null) {
+        byRegion.computeIfAbsent(region, k -> new ArrayList<>()).add(task);
+      }
+    }
+    for (Map.Entry<LocalRegion, List<ExpiryTask>> entry : byRegion.entrySet()) {
+      final List<ExpiryTask> tasks = entry.getValue();
+      for (int from = 0; from < tasks.size(); from += MAX_BATCH_SIZE) {
+        final List<ExpiryTask> batch =
+            tasks.subList(from, Math.min(from + MAX_BATCH_SIZE, tasks.size()));
+        try {
+          workers.execute(() -> runBatch(entry.getKey(), batch));
+        } catch (RejectedExecutionException e) {
+          // the wheel is being cancelled
+          return;
+        }
+      }
+    }
+  }
+
+  private void runBatch(LocalRegion region, List<ExpiryTask> batch) {
+    final CachePerfStats stats = region.getCachePerfStats();
+    ExpiryTask.doWithNowSet(region, () -> {
+      for (ExpiryTask task : batch) {
+        if (task.claimWheelRun()) {
+          if (stats != null) {
+            stats.endExpiryTask(Math.max(0L, nanoClock.getAsLong() - task.wheelDeadline));
+          }
+          // run the task on this worker, with the now of the batch, rather than through run()
+          // which may hand it to another thread; runInThreadPool() logs and swallows any failure
+          task.runInThreadPool();
+        }
+      }
+    });
+  }
+
+  /**
+   * Unlinks the cancelled tasks from all slots so they no longer reference their regions.
+   */
+  synchronized void purge() {
+    placePending();
+    for (ExpiryTask[] level : slots) {
+      for (int slot = 0; slot < SLOTS; slot++) {
+        unlinkCancelled(level, slot);
+      }
+    }
+  }
+
+  void cancel() {
+    cancelled = true;
+    if (ticker != null) {
+      ticker.shutdownNow();
+    }
+    workers.shutdownNow();
+    synchronized (this) {
+      pending.set(null);
+      for (ExpiryTask[] level : slots) {
+        Arrays.fill(level, null);
+      }
+    }
+  }
+}
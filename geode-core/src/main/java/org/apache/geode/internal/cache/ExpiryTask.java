@@ -17,6 +17,7 @@ package org.apache.geode.internal.cache;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import org.apache.logging.log4j.Logger;
 import org.jgroups.annotations.GuardedBy;
@@ -47,6 +48,31 @@ public abstract class ExpiryTask extends SystemTimer.SystemTimerTask {
 
   private LocalRegion region; // no longer final so cancel can null it out see bug 37574
 
+  /** The next task in the same slot when scheduled in an {@link ExpirationTimingWheel} */
+  ExpiryTask wheelNext;
+
+  /** The {@link System#nanoTime()} deadline when scheduled in an {@link ExpirationTimingWheel} */
+  long wheelDeadline;
+
+  /** The wheel this task was last scheduled in, if any */
+  ExpirationTimingWheel wheel;
+
+  /**
+   * The slot of {@link #wheel} this task is linked into, or -1; only written by the thread
+   * advancing the wheel
+   */
+  volatile int wheelSlot = -1;
+
+  /**
+   * 1 while this task waits in {@link #wheel} to be run. The wheel running the task and
+   * {@link #cancel()} both try to clear it and only the first one succeeds, which gives a task
+   * scheduled in a wheel the same cancel semantics as one scheduled in a {@link java.util.Timer}.
+   */
+  private volatile int wheelPending;
+
+  private static final AtomicIntegerFieldUpdater<ExpiryTask> wheelPendingUpdater =
+      AtomicIntegerFieldUpdater.newUpdater(ExpiryTask.class, "wheelPending");
+
   @MakeNotStatic
   private static final ExecutorService executor;
 
@@ -335,6 +361,11 @@ public abstract class ExpiryTask extends SystemTimer.SystemTimerTask {
   @Override
   public boolean cancel() {
     boolean superCancel = super.cancel();
+    if (!superCancel && wheelPendingUpdater.compareAndSet(this, 1, 0)) {
+      // the wheel will not run this task; have it unlink the task before its deadline
+      superCancel = true;
+      wheel.cancelled(this);
+    }
     LocalRegion lr = getLocalRegion();
     if (lr != null) {
       if (superCancel) {
@@ -396,6 +427,18 @@ public abstract class ExpiryTask extends SystemTimer.SystemTimerTask {
     }
   }
 
+  void setWheelPending(ExpirationTimingWheel wheel) {
+    this.wheel = wheel;
+    wheelPending = 1;
+  }
+
+  /**
+   * @return true if the wheel may run this task, false if it was cancelled first
+   */
+  boolean claimWheelRun() {
+    return wheelPendingUpdater.compareAndSet(this, 1, 0);
+  }
+
   protected void runInThreadPool() {
     try {
       if (isCacheClosing() || getLocalRegion().isClosed() || getLocalRegion().isDestroyed()) {
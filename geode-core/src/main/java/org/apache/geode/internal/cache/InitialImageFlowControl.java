@@ -19,6 +19,7 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -49,6 +50,11 @@ import org.apache.geode.logging.internal.log4j.api.LogService;
  * processed chunk. Upon receiving the FlowControlPermit message, the provider will increase the
  * number of permits available.
  *
+ * By default a permit stands for one chunk. When registered with a window size the permits are
+ * bytes instead, so the provider can pack a chunk first and then wait for enough of the window to
+ * send it, and many small chunks or few large ones fill the same window. A
+ * FlowControlPermitMessage returns the bytes of the oldest chunk still in flight; the provider
+ * keeps the chunk sizes since the message does not carry them.
  */
 public class InitialImageFlowControl implements MembershipListener {
   private static final Logger logger = LogService.getLogger();
@@ -56,15 +62,27 @@ public class InitialImageFlowControl implements MembershipListener {
   @MakeNotStatic
   private static final ProcessorKeeper21 keeper = new ProcessorKeeper21(false);
   private int id;
-  private final int maxPermits = InitialImageOperation.CHUNK_PERMITS;
-  private final Semaphore permits = new Semaphore(maxPermits);
+  private final int maxPermits;
+  private final boolean windowed;
+  private final Semaphore permits;
+  /** the number of permits acquired for each message in flight, oldest first */
+  private final ConcurrentLinkedQueue<Integer> inFlight = new ConcurrentLinkedQueue<>();
   private final DistributionManager dm;
   private final InternalDistributedMember target;
   private final AtomicBoolean aborted = new AtomicBoolean();
 
   public static InitialImageFlowControl register(DistributionManager dm,
       InternalDistributedMember target) {
-    InitialImageFlowControl control = new InitialImageFlowControl(dm, target);
+    return register(dm, target, 0);
+  }
+
+  /**
+   * @param windowSizeInBytes the number of bytes that may be in flight, or 0 to allow
+   *        {@link InitialImageOperation#CHUNK_PERMITS} chunks in flight
+   */
+  public static InitialImageFlowControl register(DistributionManager dm,
+      InternalDistributedMember target, int windowSizeInBytes) {
+    InitialImageFlowControl control = new InitialImageFlowControl(dm, target, windowSizeInBytes);
     int id = keeper.put(control);
     control.id = id;
 
@@ -75,14 +93,25 @@ public class InitialImageFlowControl implements MembershipListener {
     return control;
   }
 
-  private InitialImageFlowControl(DistributionManager dm, InternalDistributedMember target) {
+  private InitialImageFlowControl(DistributionManager dm, InternalDistributedMember target,
+      int windowSizeInBytes) {
     this.dm = dm;
     this.target = target;
+    windowed = windowSizeInBytes > 0;
+    maxPermits = windowed ? windowSizeInBytes : InitialImageOperation.CHUNK_PERMITS;
+    permits = new Semaphore(maxPermits);
+  }
+
+  public boolean isWindowed() {
+    return windowed;
   }
 
   private void releasePermit() {
-    permits.release();
-    incMessagesInFlight(-1);
+    Integer released = inFlight.poll();
+    if (released != null) {
+      permits.release(released);
+      incMessagesInFlight(-1);
+    }
   }
 
   private void incMessagesInFlight(int val) {
@@ -94,13 +123,23 @@ public class InitialImageFlowControl implements MembershipListener {
    * Acquire a permit to send another message
    */
   public void acquirePermit() {
+    acquirePermit(0);
+  }
+
+  /**
+   * Acquire permits to send another message of the given size. Unless this flow control is
+   * windowed the size is ignored and one permit is acquired. A message larger than the window
+   * acquires the whole window.
+   */
+  public void acquirePermit(int messageSizeInBytes) {
+    final int needed = windowed ? Math.max(1, Math.min(messageSizeInBytes, maxPermits)) : 1;
     long startWaitTime = System.currentTimeMillis();
     while (!aborted.get()) {
       checkCancellation();
 
       boolean interrupted = false;
       try {
-        basicWait(startWaitTime);
+        basicWait(startWaitTime, needed);
         break;
       } catch (InterruptedException e) {
         interrupted = true; // keep looping
@@ -112,17 +151,19 @@ public class InitialImageFlowControl implements MembershipListener {
       }
     } // while
     if (!aborted.get()) {
+      inFlight.add(needed);
       incMessagesInFlight(1);
     }
   }
 
-  private void basicWait(long startWaitTime) throws InterruptedException {
+  private void basicWait(long startWaitTime, int needed) throws InterruptedException {
     long timeout = getAckWaitThreshold() * 1000L;
     long timeSoFar = System.currentTimeMillis() - startWaitTime;
     if (timeout <= 0) {
       timeout = Long.MAX_VALUE;
     }
-    if (!aborted.get() && !permits.tryAcquire(timeout - timeSoFar - 1, TimeUnit.MILLISECONDS)) {
+    if (!aborted.get()
+        && !permits.tryAcquire(needed, timeout - timeSoFar - 1, TimeUnit.MILLISECONDS)) {
       checkCancellation();
 
       Set activeMembers = dm.getDistributionManagerIds();
@@ -130,7 +171,7 @@ public class InitialImageFlowControl implements MembershipListener {
           "{} seconds have elapsed while waiting for replies: {} on {} whose current membership list is: [{}]",
           getAckWaitThreshold(), this, dm.getId(), activeMembers);
 
-      permits.acquire();
+      permits.acquire(needed);
 
       // Give an info message since timeout gave a warning.
       logger.info("{} wait for replies completed",
@@ -170,7 +211,11 @@ public class InitialImageFlowControl implements MembershipListener {
 
   private void abort() {
     if (!aborted.getAndSet(true)) {
-      incMessagesInFlight(-(maxPermits - permits.availablePermits()));
+      int messages = 0;
+      while (inFlight.poll() != null) {
+        messages++;
+      }
+      incMessagesInFlight(-messages);
       // Just in case java has issues with semaphores rolling over, set this
       // to half Integer.MAX_VALUE rather to release all of the waiters
       permits.release(Integer.MAX_VALUE / 2);
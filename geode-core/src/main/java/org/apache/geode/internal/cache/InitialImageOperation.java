@@ -28,6 +28,7 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,6 +39,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
@@ -148,6 +150,45 @@ public class InitialImageOperation {
   public static final int MAX_PARALLEL_GIIS =
       Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "GetInitialImage.MAX_PARALLEL_GIIS", 5);
 
+  /**
+   * Whether image providers stream chunks through a window of {@link #WINDOW_SIZE_IN_BYTES} bytes,
+   * packing the next chunk while earlier ones are in flight, instead of waiting for one of
+   * {@link #CHUNK_PERMITS} permits before packing each chunk
+   */
+  @MutableForTesting
+  public static boolean PIPELINED =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "GetInitialImage.PIPELINED");
+
+  /**
+   * Allowed number of bytes of GII chunks in flight when {@link #PIPELINED}
+   */
+  @MutableForTesting
+  public static int WINDOW_SIZE_IN_BYTES =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "GetInitialImage.WINDOW_SIZE_IN_BYTES",
+          (int) Math.min(Integer.MAX_VALUE, (long) CHUNK_PERMITS * CHUNK_SIZE_IN_BYTES));
+
+  /**
+   * Allowed number of bucket GIIs in parallel, apart from {@link #MAX_PARALLEL_GIIS}. Each bucket
+   * image is a separate stream, so this should be large enough for the streams together to fill the
+   * network link. The default is {@link #MAX_PARALLEL_GIIS}, or the number of processors if that is
+   * larger and {@link #PIPELINED} is set, since applying chunks on the recipient is usually what
+   * limits a single stream.
+   */
+  public static final int MAX_PARALLEL_BUCKET_GIIS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "GetInitialImage.MAX_PARALLEL_BUCKET_GIIS",
+          PIPELINED ? Math.max(MAX_PARALLEL_GIIS, Runtime.getRuntime().availableProcessors())
+              : MAX_PARALLEL_GIIS);
+
+  /**
+   * Average number of entries in a key range when a persistent region that cannot do a delta GII
+   * compares digests of its key ranges with the image provider. Only the ranges whose digests
+   * differ are transferred. Zero disables the comparison.
+   */
+  @MutableForTesting
+  public static int ENTRIES_PER_KEY_RANGE =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "GetInitialImage.ENTRIES_PER_KEY_RANGE",
+          64);
+
   /**
    * the region we are fetching
    */
@@ -199,6 +240,19 @@ public class InitialImageOperation {
 
   private boolean isSynchronizing;
 
+  /**
+   * serialized value bytes received from the current image provider
+   */
+  private final LongAdder bytesReceived = new LongAdder();
+
+  /**
+   * the key ranges in which this member holds the same entries as the image provider, which the
+   * provider leaves out of a full image
+   */
+  private BitSet matchingKeyRanges;
+
+  private int keyRanges;
+
   /** Creates a new instance of InitalImageOperation */
   InitialImageOperation(DistributedRegion region, RegionMap entries) {
     this.region = region;
@@ -440,6 +494,7 @@ public class InitialImageOperation {
       m.keysOnly = false;
       m.targetReinitialized = targetReinitialized;
       m.setRecipient(recipient);
+      matchingKeyRanges = null;
 
       if (region.getConcurrencyChecksEnabled()) {
         if (allowDeltaGII && recoveredFromDisk) {
@@ -483,6 +538,9 @@ public class InitialImageOperation {
             }
           }
           m.checkTombstoneVersions = true;
+          if (m.versionVector == null) {
+            requestMatchingKeyRanges(dm, m, recipient, targetReinitialized);
+          }
         }
         if (received_rvv != null) {
           // pack the original RVV, then save the received one
@@ -499,7 +557,10 @@ public class InitialImageOperation {
       }
 
       ImageProcessor processor = new ImageProcessor(region.getSystem(), recipient);
-      dm.acquireGIIPermitUninterruptibly();
+      acquireGIIPermit(dm);
+      final PartitionedRegionStats bucketStats = getBucketStats();
+      final long bucketGIIStart = bucketStats == null ? 0 : bucketStats.startBucketGII();
+      bytesReceived.reset();
       try {
         m.processorId = processor.getProcessorId();
         if (region.isUsedForPartitionedRegionBucket()
@@ -581,8 +642,8 @@ public class InitialImageOperation {
           }
           if (gotImage) {
             // TODO add localizedString
-            logger.info("{} is done getting image from {}. isDeltaGII is {}", region.getName(),
-                recipient, isDeltaGII);
+            logger.info("{} is done getting image from {}. isDeltaGII is {}. Received {} bytes.",
+                region.getName(), recipient, isDeltaGII, bytesReceived.sum());
           } else {
             // TODO add localizedString
             logger.info("{} failed to get image from {}", region.getName(), recipient);
@@ -594,6 +655,9 @@ public class InitialImageOperation {
           }
           // bug 39050 - no partial images after GII when network partition
           // detection is enabled
+          if (gotImage && matchingKeyRanges != null) {
+            keepRecoveredEntriesInMatchingKeyRanges();
+          }
           if (!gotImage) {
             region.cleanUpAfterFailedGII(recoveredFromDisk);
           } else if (received_rvv != null) {
@@ -601,7 +665,10 @@ public class InitialImageOperation {
           }
         }
       } finally {
-        dm.releaseGIIPermit();
+        if (bucketStats != null) {
+          bucketStats.endBucketGII(bucketGIIStart, gotImage, bytesReceived.sum());
+        }
+        releaseGIIPermit(dm);
         processor.cleanup();
       }
     } // for
@@ -642,7 +709,7 @@ public class InitialImageOperation {
     }
     m.setRecipient(target);
     ImageProcessor processor = new ImageProcessor(region.getSystem(), target);
-    dm.acquireGIIPermitUninterruptibly();
+    acquireGIIPermit(dm);
     try {
       m.processorId = processor.getProcessorId();
       if (region.isUsedForPartitionedRegionBucket()
@@ -703,11 +770,115 @@ public class InitialImageOperation {
         }
       }
     } finally {
-      dm.releaseGIIPermit();
+      releaseGIIPermit(dm);
       processor.cleanup();
     }
   }
 
+  private void acquireGIIPermit(DistributionManager dm) {
+    if (region.isUsedForPartitionedRegionBucket()) {
+      dm.acquireBucketGIIPermitUninterruptibly();
+    } else {
+      dm.acquireGIIPermitUninterruptibly();
+    }
+  }
+
+  private void releaseGIIPermit(DistributionManager dm) {
+    if (region.isUsedForPartitionedRegionBucket()) {
+      dm.releaseBucketGIIPermit();
+    } else {
+      dm.releaseGIIPermit();
+    }
+  }
+
+  /**
+   * Compares digests of key ranges with the image provider when a full image is needed, and asks
+   * the provider to leave out the ranges in which this member already holds the same entries.
+   */
+  private void requestMatchingKeyRanges(ClusterDistributionManager dm, RequestImageMessage m,
+      InternalDistributedMember recipient, boolean targetReinitialized) {
+    if (ENTRIES_PER_KEY_RANGE <= 0 || region.getDiskRegion() == null
+        || recipient.getVersion().isOlderThan(KnownVersion.GEODE_1_16_0)) {
+      return;
+    }
+    final int entryCount = region.entries.size();
+    if (entryCount == 0) {
+      return;
+    }
+    final int ranges = KeyRangeDigests.rangesFor(entryCount, ENTRIES_PER_KEY_RANGE);
+    final long[] providerDigests =
+        getKeyRangeDigestsFromProvider(dm, recipient, targetReinitialized, ranges);
+    if (providerDigests == null) {
+      return;
+    }
+    final BitSet matching = KeyRangeDigests.matchingRanges(
+        KeyRangeDigests.compute(region, region.entries.regionEntries().iterator(), ranges),
+        providerDigests);
+    if (matching == null || matching.isEmpty()) {
+      return;
+    }
+    logger.info("Region {} has the same entries as {} in {} of {} key ranges, do full GII of the "
+        + "other key ranges", region.getFullPath(), recipient, matching.cardinality(), ranges);
+    m.keyRanges = ranges;
+    m.matchingKeyRanges = matching;
+    keyRanges = ranges;
+    matchingKeyRanges = matching;
+  }
+
+  /**
+   * Unmarks the entries recovered from disk in the key ranges that were left out of the image, so
+   * they are not destroyed as entries the image provider does not have.
+   */
+  private void keepRecoveredEntriesInMatchingKeyRanges() {
+    final DiskRegion dr = region.getDiskRegion();
+    for (RegionEntry re : region.entries.regionEntries()) {
+      if (re instanceof DiskEntry
+          && matchingKeyRanges.get(KeyRangeDigests.rangeOf(re.getKey(), keyRanges))) {
+        synchronized (re) {
+          dr.testIsRecoveredAndClear(((DiskEntry) re).getDiskId());
+        }
+      }
+    }
+  }
+
+  protected long[] getKeyRangeDigestsFromProvider(final ClusterDistributionManager dm,
+      InternalDistributedMember recipient, boolean targetReinitialized, int ranges) {
+    RequestKeyRangeDigestsMessage m = new RequestKeyRangeDigestsMessage();
+    m.regionPath = region.getFullPath();
+    m.targetReinitialized = targetReinitialized;
+    m.keyRanges = ranges;
+    m.setRecipient(recipient);
+
+    KeyRangeDigestsProcessor processor =
+        new KeyRangeDigestsProcessor(region.getSystem(), recipient);
+    m.processorId = processor.getProcessorId();
+    dm.putOutgoing(m);
+
+    try {
+      processor.waitForRepliesUninterruptibly();
+      return processor.digests;
+    } catch (InternalGemFireException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof org.apache.geode.cache.TimeoutException) {
+        throw (org.apache.geode.cache.TimeoutException) cause;
+      }
+      throw ex;
+    } catch (ReplyException e) {
+      // the digests only spare transferring entries, so do a full GII without them
+      if (logger.isDebugEnabled()) {
+        logger.debug("Failed to get key range digests from {}", recipient, e);
+      }
+    }
+    return null;
+  }
+
+  private PartitionedRegionStats getBucketStats() {
+    if (region instanceof BucketRegion) {
+      return ((BucketRegion) region).getPartitionedRegion().getPrStats();
+    }
+    return null;
+  }
+
   private void checkForUnrecordedOperations() {
     final boolean isTraceEnabled = logger.isTraceEnabled();
 
@@ -877,6 +1048,9 @@ public class InitialImageOperation {
         Entry entry = entries.get(i);
 
         stats.incGetInitialImageKeysReceived();
+        if (entry.value instanceof byte[]) {
+          bytesReceived.add(((byte[]) entry.value).length);
+        }
 
         final long lastModified = entry.getLastModified();
 
@@ -1574,9 +1748,20 @@ public class InitialImageOperation {
     /* key list for unfinished operations */
     protected Set<Object> unfinishedKeys;
 
+    /**
+     * the number of key ranges the requester compared digests of, see {@link KeyRangeDigests}
+     */
+    protected int keyRanges;
+
+    /**
+     * the key ranges in which the requester holds the same entries, to leave out of a full image
+     */
+    protected BitSet matchingKeyRanges;
+
     /** The versions in which this message was modified */
     @Immutable
-    private static final KnownVersion[] dsfidVersions = null;
+    private static final KnownVersion[] dsfidVersions = new KnownVersion[] {
+        KnownVersion.GEODE_1_16_0};
 
     @Override
     public int getProcessorId() {
@@ -1689,7 +1874,7 @@ public class InitialImageOperation {
         }
 
         final InitialImageFlowControl flowControl =
-            InitialImageFlowControl.register(dm, getSender());
+            InitialImageFlowControl.register(dm, getSender(), PIPELINED ? WINDOW_SIZE_IN_BYTES : 0);
 
         if (rgn instanceof HARegion) {
           ((HARegion) rgn).startServingGIIRequest();
@@ -1981,7 +2166,9 @@ public class InitialImageOperation {
         boolean keepGoing;
         boolean sentLastChunk;
         do {
-          flowControl.acquirePermit();
+          if (!flowControl.isWindowed()) {
+            flowControl.acquirePermit();
+          }
           int currentChunkSize = 0;
 
           while (chunkEntries.size() < MAX_ENTRIES_PER_CHUNK && currentChunkSize < chunkSizeInBytes
@@ -1991,6 +2178,11 @@ public class InitialImageOperation {
             if (rgn.checkEntryNotValid(mapEntry)) { // entry was just removed
               continue;
             }
+            if (versionVector == null && matchingKeyRanges != null
+                && matchingKeyRanges.get(KeyRangeDigests.rangeOf(key, keyRanges))) {
+              // the requester has the same entries in this key range
+              continue;
+            }
             if (logger.isDebugEnabled()) {
               Object v = mapEntry.getValueInVM(rgn); // OFFHEAP: noop
               if (v instanceof Conflatable) {
@@ -2058,6 +2250,11 @@ public class InitialImageOperation {
             currentChunkSize += entry.calcSerializedSize();
           }
 
+          if (flowControl.isWindowed()) {
+            // the chunk was packed while earlier chunks were in flight; wait for room to send it
+            flowControl.acquirePermit(currentChunkSize);
+          }
+
           // send 1 for last message if no more data
           int lastMsg = it.hasNext() ? 0 : 1;
           keepGoing = proc.executeWith(chunkEntries, lastMsg);
@@ -2119,6 +2316,14 @@ public class InitialImageOperation {
     @Override
     public void fromData(DataInput in,
         DeserializationContext context) throws IOException, ClassNotFoundException {
+      fromDataPre_GEODE_1_16_0_0(in, context);
+      keyRanges = in.readInt();
+      long[] matching = DataSerializer.readLongArray(in);
+      matchingKeyRanges = matching == null ? null : BitSet.valueOf(matching);
+    }
+
+    public void fromDataPre_GEODE_1_16_0_0(DataInput in,
+        DeserializationContext context) throws IOException, ClassNotFoundException {
       super.fromData(in, context);
       regionPath = DataSerializer.readString(in);
       processorId = in.readInt();
@@ -2134,6 +2339,14 @@ public class InitialImageOperation {
     @Override
     public void toData(DataOutput out,
         SerializationContext context) throws IOException {
+      toDataPre_GEODE_1_16_0_0(out, context);
+      out.writeInt(keyRanges);
+      DataSerializer.writeLongArray(
+          matchingKeyRanges == null ? null : matchingKeyRanges.toLongArray(), out);
+    }
+
+    public void toDataPre_GEODE_1_16_0_0(DataOutput out,
+        SerializationContext context) throws IOException {
       super.toData(out, context);
       DataSerializer.writeString(regionPath, out);
       out.writeInt(processorId);
@@ -2173,6 +2386,10 @@ public class InitialImageOperation {
       }
       buff.append("; versionVector=").append(versionVector);
       buff.append("; unfinished keys=").append(unfinishedKeys);
+      if (matchingKeyRanges != null) {
+        buff.append("; matching key ranges=").append(matchingKeyRanges.cardinality())
+            .append(" of ").append(keyRanges);
+      }
       buff.append(")");
       return buff.toString();
     }
@@ -2375,6 +2592,40 @@ public class InitialImageOperation {
 
   }
 
+  /**
+   * Collects the reply to a {@link RequestKeyRangeDigestsMessage}. The digests stay null if the
+   * provider could not compute them, in which case a full GII is done.
+   */
+  class KeyRangeDigestsProcessor extends ReplyProcessor21 {
+    long[] digests;
+
+    public KeyRangeDigestsProcessor(final InternalDistributedSystem system,
+        InternalDistributedMember member) {
+      super(system, member);
+    }
+
+    @Override
+    public void process(DistributionMessage msg) {
+      try {
+        // if the provider failed or shut down, just do a full GII
+        if (msg instanceof KeyRangeDigestsReplyMessage
+            && ((ReplyMessage) msg).getException() == null) {
+          digests = ((KeyRangeDigestsReplyMessage) msg).digests;
+        } else if (logger.isTraceEnabled(LogMarker.INITIAL_IMAGE_VERBOSE)) {
+          logger.trace(LogMarker.INITIAL_IMAGE_VERBOSE, "Did not receive key range digests: {}",
+              msg);
+        }
+      } finally {
+        super.process(msg);
+      }
+    }
+
+    @Override
+    protected boolean logMultipleExceptions() {
+      return false;
+    }
+  }
+
   /**
    * RequestRVV message processor.
    */
@@ -2517,6 +2768,185 @@ public class InitialImageOperation {
     }
   }
 
+  /**
+   * Requests the digests of the key ranges of a region, see {@link KeyRangeDigests}. A member that
+   * recovered a persistent region but cannot do a delta GII compares them with its own digests and
+   * only requests the key ranges that differ.
+   */
+  public static class RequestKeyRangeDigestsMessage extends DistributionMessage
+      implements MessageWithReply {
+
+    /**
+     * Name of the region.
+     */
+    protected String regionPath;
+
+    /**
+     * Id of the {@link KeyRangeDigestsProcessor} that will handle the reply
+     */
+    protected int processorId;
+
+    /**
+     * If true, recipient should wait until fully initialized before returning data.
+     */
+    protected boolean targetReinitialized;
+
+    /**
+     * the number of key ranges, a power of two
+     */
+    protected int keyRanges;
+
+    @Override
+    public int getProcessorId() {
+      return processorId;
+    }
+
+    @Override
+    public int getProcessorType() {
+      return targetReinitialized ? OperationExecutors.WAITING_POOL_EXECUTOR
+          : OperationExecutors.HIGH_PRIORITY_EXECUTOR;
+    }
+
+    @Override
+    protected void process(final ClusterDistributionManager dm) {
+      Throwable thr = null;
+      boolean sendFailureMessage = true;
+      ReplyException rex = null;
+      try {
+        Assert.assertTrue(regionPath != null, "Region path is null.");
+        final DistributedRegion rgn =
+            (DistributedRegion) getGIIRegion(dm, regionPath, targetReinitialized);
+        if (rgn == null) {
+          return;
+        }
+        long[] digests = null;
+        if (rgn.getConcurrencyChecksEnabled() && keyRanges > 0
+            && keyRanges <= KeyRangeDigests.MAXIMUM_RANGES) {
+          digests =
+              KeyRangeDigests.compute(rgn, rgn.entries.regionEntries().iterator(), keyRanges);
+        }
+        KeyRangeDigestsReplyMessage.send(dm, getSender(), processorId, digests, null);
+        sendFailureMessage = false;
+      } catch (RegionDestroyedException e) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("{}; Region destroyed: Request key range digests aborting.", this);
+        }
+      } catch (CancelException e) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("{}; Cache Closed: Request key range digests aborting.", this);
+        }
+      } catch (VirtualMachineError err) {
+        sendFailureMessage = false; // Don't try to respond!
+        SystemFailure.initiateFailure(err);
+        // If this ever returns, rethrow the error. We're poisoned
+        // now, so don't let this thread continue.
+        throw err;
+      } catch (Throwable t) {
+        // Whenever you catch Error or Throwable, you must also
+        // catch VirtualMachineError (see above). However, there is
+        // _still_ a possibility that you are dealing with a cascading
+        // error condition, so you also need to check to see if the JVM
+        // is still usable:
+        SystemFailure.checkFailure();
+        thr = t;
+      } finally {
+        if (sendFailureMessage) {
+          // if we get here then send reply possibly with an exception
+          if (thr != null) {
+            rex = new ReplyException(thr);
+          }
+
+          KeyRangeDigestsReplyMessage.send(dm, getSender(), processorId, null, rex);
+        } // !success
+      }
+    }
+
+    @Override
+    public int getDSFID() {
+      return REQUEST_KEY_RANGE_DIGESTS_MESSAGE;
+    }
+
+    @Override
+    public void fromData(DataInput in,
+        DeserializationContext context) throws IOException, ClassNotFoundException {
+      super.fromData(in, context);
+      regionPath = DataSerializer.readString(in);
+      processorId = in.readInt();
+      targetReinitialized = in.readBoolean();
+      keyRanges = in.readInt();
+    }
+
+    @Override
+    public void toData(DataOutput out,
+        SerializationContext context) throws IOException {
+      super.toData(out, context);
+      DataSerializer.writeString(regionPath, out);
+      out.writeInt(processorId);
+      out.writeBoolean(targetReinitialized);
+      out.writeInt(keyRanges);
+    }
+
+    @Override
+    public String toString() {
+      String cname = getClass().getName().substring(getClass().getPackage().getName().length() + 1);
+      return cname + "(region path='" + regionPath + "'; sender=" + getSender()
+          + "; processorId=" + processorId + "; targetReinitalized=" + targetReinitialized
+          + "; keyRanges=" + keyRanges + ")";
+    }
+  }
+
+  public static class KeyRangeDigestsReplyMessage extends ReplyMessage {
+
+    @Override
+    public boolean getInlineProcess() {
+      return false;
+    }
+
+    long[] digests;
+
+    public KeyRangeDigestsReplyMessage() {}
+
+    private KeyRangeDigestsReplyMessage(InternalDistributedMember mbr, int processorId,
+        long[] digests) {
+      setRecipient(mbr);
+      setProcessorId(processorId);
+      this.digests = digests;
+    }
+
+    public static void send(DistributionManager dm, InternalDistributedMember dest, int processorId,
+        long[] digests, ReplyException ex) {
+      KeyRangeDigestsReplyMessage msg = new KeyRangeDigestsReplyMessage(dest, processorId, digests);
+      if (ex != null) {
+        msg.setException(ex);
+      }
+      dm.putOutgoing(msg);
+    }
+
+    @Override
+    public void toData(DataOutput dop,
+        SerializationContext context) throws IOException {
+      super.toData(dop, context);
+      DataSerializer.writeLongArray(digests, dop);
+    }
+
+    @Override
+    public void fromData(DataInput dip,
+        DeserializationContext context) throws IOException, ClassNotFoundException {
+      super.fromData(dip, context);
+      digests = DataSerializer.readLongArray(dip);
+    }
+
+    @Override
+    public String toString() {
+      return super.toString() + "; keyRanges=" + (digests == null ? 0 : digests.length);
+    }
+
+    @Override
+    public int getDSFID() {
+      return KEY_RANGE_DIGESTS_REPLY_MESSAGE;
+    }
+  }
+
   /**
    * This is the message thats sent to get RVV from GII provider.
    */
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.apache.geode.internal.cache.versions.VersionSource;
+import org.apache.geode.internal.cache.versions.VersionStamp;
+
+/**
+ * Digests of the entries of a region, split into ranges of key hash codes. Two members that hold
+ * the same versions of the entries in a range compute the same digest for it, so a GII only has to
+ * transfer the ranges whose digests differ.
+ * <p>
+ * The digest of a range is the sum of a 64 bit hash of each entry's key and version, so it does not
+ * depend on the order of iteration. Tombstones are included, since they are part of a GII too.
+ * Regions without concurrency checks have no versions and cannot be compared this way.
+ */
+class KeyRangeDigests {
+
+  static final int MAXIMUM_RANGES = 1 << 18;
+
+  private KeyRangeDigests() {
+    // no instances
+  }
+
+  /**
+   * Returns the number of ranges to split a region with the given number of entries into, a power
+   * of two so that each range holds about entriesPerRange entries.
+   */
+  static int rangesFor(long entryCount, int entriesPerRange) {
+    long ranges = entryCount / Math.max(1, entriesPerRange);
+    if (ranges <= 1) {
+      return 1;
+    }
+    return (int) Math.min(MAXIMUM_RANGES, Long.highestOneBit(ranges - 1) << 1);
+  }
+
+  /**
+   * Returns the range the given key belongs to.
+   *
+   * @param ranges the number of ranges, a power of two
+   */
+  static int rangeOf(Object key, int ranges) {
+    return (int) mix(Objects.hashCode(key)) & (ranges - 1);
+  }
+
+  /**
+   * Computes the digest of each range over the given entries.
+   *
+   * @param region the region the entries belong to
+   * @param entries the entries of the region, which may include removed ones
+   * @param ranges the number of ranges, a power of two
+   */
+  static long[] compute(DistributedRegion region, Iterator<RegionEntry> entries, int ranges) {
+    final VersionSource<?> myId = region.getVersionMember();
+    final long[] digests = new long[ranges];
+    while (entries.hasNext()) {
+      final RegionEntry entry = entries.next();
+      if (region.checkEntryNotValid(entry)) {
+        continue;
+      }
+      final Object key = entry.getKey();
+      long hash = mix(Objects.hashCode(key));
+      final VersionStamp<?> stamp = entry.getVersionStamp();
+      if (stamp != null) {
+        VersionSource<?> id = stamp.getMemberID();
+        if (id == null) {
+          id = myId;
+        }
+        hash = mix(hash + Objects.hashCode(id));
+        hash = mix(hash + stamp.getRegionVersion());
+        hash = mix(hash + stamp.getEntryVersion());
+      }
+      digests[rangeOf(key, ranges)] += hash;
+    }
+    return digests;
+  }
+
+  /**
+   * Returns the ranges whose digests are equal, or null if the digests were computed with a
+   * different number of ranges.
+   */
+  static BitSet matchingRanges(long[] digests, long[] otherDigests) {
+    if (digests == null || otherDigests == null || digests.length != otherDigests.length) {
+      return null;
+    }
+    final BitSet matching = new BitSet(digests.length);
+    for (int i = 0; i < digests.length; i++) {
+      if (digests[i] == otherDigests[i]) {
+        matching.set(i);
+      }
+    }
+    return matching;
+  }
+
+  /**
+   * The finalizer of MurmurHash3, which spreads the bits of a hash code over all 64 bits.
+   */
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb34fe1a85ec3L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
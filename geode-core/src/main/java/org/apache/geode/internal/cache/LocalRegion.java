@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
@@ -350,6 +351,15 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
       Pattern.compile("^import .*",
           Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL)};
 
+  /**
+   * The comma separated names of the regions whose entries are kept in a compact open addressing
+   * map. Naming a partitioned region selects the map for its buckets.
+   */
+  @Immutable
+  private static final Set<String> COMPACT_ENTRY_MAP_REGIONS = Collections.unmodifiableSet(
+      new HashSet<>(Arrays.asList(System.getProperty(
+          GeodeGlossary.GEMFIRE_PREFIX + "COMPACT_ENTRY_MAP_REGIONS", "").split(","))));
+
   public static final String EXPIRY_MS_PROPERTY =
       GeodeGlossary.GEMFIRE_PREFIX + "EXPIRY_UNITS_MS";
 
@@ -692,6 +702,11 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
       ma.loadFactor = loadFactor;
       ma.initialCapacity = initialCapacity;
       ma.concurrencyLevel = concurrencyLevel;
+      ma.valueConstraint = getValueConstraint();
+      PartitionedRegion partitionedRegion = internalRegionArgs.getPartitionedRegion();
+      String name = internalRegionArgs.isUsedForPartitionedRegionBucket()
+          && partitionedRegion != null ? partitionedRegion.getName() : regionName;
+      ma.compactEntryMap = COMPACT_ENTRY_MAP_REGIONS.contains(name);
       result = regionMapConstructor.create(this, ma, internalRegionArgs);
     }
     return result;
@@ -1409,6 +1424,93 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
     getCachePerfStats().endGet(start, isMiss);
   }
 
+  @Override
+  public CompletableFuture<Object> getAsync(Object key) {
+    try {
+      validateKey(key);
+      checkReadiness();
+      checkForNoAccess();
+      if (!canExecuteOnServerAsync() || basicGetLoader() != null) {
+        return CompletableFuture.completedFuture(get(key));
+      }
+      long start = startGet();
+      return getServerProxy().getAsync(key, null, null)
+          .thenApply(value -> Token.isInvalid(value) || value == Token.TOMBSTONE ? null : value)
+          .whenComplete((value, failure) -> endGet(start, value == null));
+    } catch (RuntimeException e) {
+      return failedFuture(e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> putAsync(Object key, Object value) {
+    try {
+      if (!canExecuteOnServerAsync() || basicGetWriter() != null || hasListener()) {
+        put(key, value);
+        return CompletableFuture.completedFuture(null);
+      }
+      long startPut = getStatisticsClock().getTime();
+      @Released
+      EntryEventImpl event = newUpdateEntryEvent(key, value, null);
+      CompletableFuture<Object> put;
+      try {
+        if (event.getEventId() == null && generateEventID()) {
+          event.setNewEventId(cache.getDistributedSystem());
+        }
+        put = getServerProxy().putAsync(key, event.getRawNewValue(), event.getDeltaBytes(), event,
+            null);
+      } catch (RuntimeException e) {
+        event.release();
+        throw e;
+      }
+      return put.whenComplete((oldValue, failure) -> event.release())
+          .thenAccept(oldValue -> getCachePerfStats().endPut(startPut, false));
+    } catch (RuntimeException e) {
+      return failedFuture(e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Map> getAllAsync(Collection keys) {
+    try {
+      if (keys == null) {
+        throw new NullPointerException("The collection of keys for getAll cannot be null");
+      }
+      checkReadiness();
+      checkForLimitedOrNoAccess();
+      if (!canExecuteOnServerAsync() || basicGetLoader() != null) {
+        return CompletableFuture.completedFuture(getAll(keys, null));
+      }
+      Map<Object, CompletableFuture<Object>> gets = new HashMap<>();
+      for (Object key : keys) {
+        gets.put(key, getAsync(key));
+      }
+      return CompletableFuture.allOf(gets.values().toArray(new CompletableFuture[0]))
+          .thenApply(done -> {
+            Map<Object, Object> values = new HashMap<>();
+            gets.forEach((key, get) -> values.put(key, get.join()));
+            return values;
+          });
+    } catch (RuntimeException e) {
+      return failedFuture(e);
+    }
+  }
+
+  /**
+   * Returns true if operations of this region can be executed on its server without blocking the
+   * calling thread, which requires that they have no effect on this member besides their result.
+   */
+  private boolean canExecuteOnServerAsync() {
+    discoverJTA();
+    return hasServerProxy() && getDataPolicy() == DataPolicy.EMPTY && !isTX();
+  }
+
+  private static <T> CompletableFuture<T> failedFuture(Throwable failure) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(failure);
+    return future;
+  }
+
   /**
    * Update region and potentially entry stats for the miss case
    *
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.internal.cache.persistence.BytesAndBits;
+import org.apache.geode.unsafe.internal.sun.nio.ch.DirectBuffer;
+
+/**
+ * Reads values from an oplog file that is no longer being appended to through a read only memory
+ * mapping. Reads do not need the oplog lock, do not seek and do not make a system call, so
+ * concurrent faults from the same oplog no longer serialize on its {@link RandomAccessFile}.
+ *
+ * The file channel is closed as soon as the mapping has been created; the mapping stays valid,
+ * even if the file is deleted, until the reader is {@link #close closed}. Closing unmaps the file
+ * once the reads in progress are done, so that the disk space of a deleted oplog and the address
+ * space of the mapping are not held until the mapping is garbage collected.
+ */
+class MappedOplogReader {
+
+  private final MappedByteBuffer buffer;
+
+  /** The number of reads in progress. */
+  private final AtomicInteger readers = new AtomicInteger();
+
+  private volatile boolean closed;
+
+  private final AtomicBoolean unmapped = new AtomicBoolean();
+
+  private MappedOplogReader(MappedByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Maps the first {@code length} bytes of the given file.
+   *
+   * @return the reader or null if the file is too large to be mapped by a single buffer
+   */
+  static MappedOplogReader map(File file, long length) throws IOException {
+    if (length <= 0 || length > Integer.MAX_VALUE) {
+      return null;
+    }
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      FileChannel channel = raf.getChannel();
+      return new MappedOplogReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+    }
+  }
+
+  /**
+   * Returns the number of bytes of the file that are mapped.
+   */
+  long getLength() {
+    return buffer.capacity();
+  }
+
+  /**
+   * Returns true if the given range lies within the mapped part of the file.
+   */
+  boolean contains(long offset, int length) {
+    return offset >= 0 && length >= 0 && offset + length <= buffer.capacity();
+  }
+
+  /**
+   * Copies the value at the given offset out of the mapping. The caller must have checked that the
+   * range is {@link #contains contained} in the mapping.
+   *
+   * @return the value or null if the reader has been closed
+   */
+  BytesAndBits read(long offset, int length, byte userBits) {
+    readers.incrementAndGet();
+    try {
+      if (closed) {
+        return null;
+      }
+      ByteBuffer view = buffer.duplicate();
+      view.position((int) offset);
+      byte[] valueBytes = new byte[length];
+      view.get(valueBytes);
+      return new BytesAndBits(valueBytes, userBits);
+    } finally {
+      if (readers.decrementAndGet() == 0 && closed) {
+        unmap();
+      }
+    }
+  }
+
+  /**
+   * Unmaps the file once the reads in progress are done. Later reads return null.
+   */
+  void close() {
+    closed = true;
+    if (readers.get() == 0) {
+      unmap();
+    }
+  }
+
+  private void unmap() {
+    if (unmapped.compareAndSet(false, true)) {
+      DirectBuffer.release(buffer);
+    }
+  }
+}
@@ -182,6 +182,11 @@ public class Oplog implements CompactableOplog, Flushable {
   private static final boolean SYNC_WRITES =
       Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "syncWrites");
 
+  /**
+   * Forces synchronous writes to disk in batches. Null unless the disk store uses group commit.
+   */
+  private final OplogGroupCommitter groupCommitter;
+
   /**
    * The HighWaterMark of recentValues.
    */
@@ -600,6 +605,7 @@ public class Oplog implements CompactableOplog, Flushable {
           String.format("Failed creating operation log because: %s", ex),
           getParent());
     }
+    groupCommitter = createGroupCommitter();
   }
 
   /**
@@ -664,6 +670,20 @@ public class Oplog implements CompactableOplog, Flushable {
           String.format("Failed creating operation log because: %s", ex),
           getParent());
     }
+    groupCommitter = createGroupCommitter();
+  }
+
+  /**
+   * The header records written while creating the oplog files are flushed directly, so group
+   * commit is only enabled once the oplog is ready to accept entry operations.
+   */
+  private OplogGroupCommitter createGroupCommitter() {
+    DiskStoreImpl diskStore = getParent();
+    if (!diskStore.getGroupCommit() || diskStore.isOffline()) {
+      return null;
+    }
+    return new OplogGroupCommitter(this::flushAndForce, stats,
+        diskStore.getGroupCommitMaxWaitMicros(), diskStore.getGroupCommitMaxBatchSize());
   }
 
   public Object getLock() {
@@ -841,6 +861,7 @@ public class Oplog implements CompactableOplog, Flushable {
     deleted.set(true);
     haveRecoveredCrf = false;
     haveRecoveredDrf = false;
+    groupCommitter = null;
   }
 
   /**
@@ -1173,6 +1194,24 @@ public class Oplog implements CompactableOplog, Flushable {
     return drf.f;
   }
 
+  /**
+   * Returns the file {@link #recoverCrf} will read the live entries of this recovered oplog from:
+   * the krf if there is one and values are not recovered synchronously, otherwise the crf.
+   */
+  File getLiveEntryRecoveryFile(boolean recoverValuesSync) {
+    if (crf.f == null) {
+      return null;
+    }
+    if (!recoverValuesSync && drf.f != null) {
+      File krfFile = new File(drf.f.getParentFile(),
+          oplogSet.getPrefix() + getParent().getName() + "_" + oplogId + KRF_FILE_EXT);
+      if (krfFile.exists()) {
+        return krfFile;
+      }
+    }
+    return crf.f;
+  }
+
   /**
    * Given a set of Oplog file names return a Set of the oplog files that match those names that are
    * managed by this Oplog.
@@ -2284,12 +2323,13 @@ public class Oplog implements CompactableOplog, Flushable {
         value = Token.INVALID;
         valueLength = 0;
       } else if (EntryBits.isSerialized(userBits)) {
-        value = DiskEntry.Helper.readSerializedValue(valueBytes, version, in, false,
+        value = DiskEntry.Helper.readSerializedValue(
+            OplogValueCompressor.decompress(valueBytes, userBits), version, in, false,
             getParent().getCache());
       } else if (EntryBits.isTombstone(userBits)) {
         value = Token.TOMBSTONE;
       } else {
-        value = valueBytes;
+        value = OplogValueCompressor.decompress(valueBytes, userBits);
       }
       re = new DiskEntry.RecoveredEntry(oplogKeyId, oplogId, offsetInOplog, userBits, valueLength,
           value);
@@ -2777,6 +2817,7 @@ public class Oplog implements CompactableOplog, Flushable {
       ByteArrayDataInput in) {
     if (getParent().isValidating()) {
       if (EntryBits.isSerialized(userBits)) {
+        valueBytes = OplogValueCompressor.decompress(valueBytes, userBits);
         // make sure values are deserializable
         if (!PdxWriterImpl.isPdx(valueBytes)) { // fix bug 43011
           try {
@@ -3197,6 +3238,7 @@ public class Oplog implements CompactableOplog, Flushable {
 
   private void basicClose(boolean forceDelete) {
     flushAll();
+    closeMappedReader();
     // No need to get the backup lock prior to synchronizing (correct lock order) since the
     // synchronized block does not attempt to get the backup lock (incorrect lock order)
     synchronized (lock/* crf */) {
@@ -3344,6 +3386,17 @@ public class Oplog implements CompactableOplog, Flushable {
    * @param entry The DiskEntry object being operated upon
    * @param value The byte array representing the value
    */
+  /**
+   * Returns the compressed form of the given value or null if it should be written as is.
+   */
+  private ValueWrapper compressValue(ValueWrapper value) throws IOException {
+    long start = stats.startCompression();
+    ValueWrapper compressed = OplogValueCompressor.compress(value);
+    stats.endCompression(start, value.getLength(),
+        compressed == null ? value.getLength() : compressed.getLength());
+    return compressed;
+  }
+
   private void initOpState(byte opCode, DiskRegionView dr, DiskEntry entry, ValueWrapper value,
       byte userBits, boolean notToUseUserBits) throws IOException {
     opState.initialize(opCode, dr, entry, value, userBits, notToUseUserBits);
@@ -3411,6 +3464,13 @@ public class Oplog implements CompactableOplog, Flushable {
           // pdx and tx will not use version
           userBits = EntryBits.setWithVersions(userBits, true);
         }
+        if (getParent().getCompressOplogs() && EntryBits.isNeedsValue(userBits)) {
+          ValueWrapper compressed = compressValue(value);
+          if (compressed != null) {
+            value = compressed;
+            userBits = EntryBits.setCompressed(userBits, true);
+          }
+        }
         basicCreate(region.getDiskRegion(), entry, value, userBits, async);
       } catch (IOException ex) {
         exceptionOccurred = true;
@@ -3457,6 +3517,7 @@ public class Oplog implements CompactableOplog, Flushable {
     DiskId id = entry.getDiskId();
     boolean useNextOplog = false;
     long startPosForSynchOp = -1;
+    long groupCommitTicket = 0;
     if (DiskStoreImpl.KRF_DEBUG) {
       // wait for cache close to create krf
       System.out.println("basicCreate KRF_DEBUG");
@@ -3525,7 +3586,8 @@ public class Oplog implements CompactableOplog, Flushable {
           id.setOplogId(getOplogId());
           // do the io while holding lock so that switch can set doneAppending
           // Write the data to the opLog for the synch mode
-          startPosForSynchOp = writeOpLogBytes(crf, async, true);
+          startPosForSynchOp = writeOpLogBytes(crf, async, !isGroupCommit(async));
+          groupCommitTicket = groupCommitAppended(async);
           crf.currSize = temp;
           if (EntryBits.isNeedsValue(userBits)) {
             id.setValueLength(value.getLength());
@@ -3585,6 +3647,7 @@ public class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(this != getOplogSet().getChild());
       getOplogSet().getChild().basicCreate(dr, entry, value, userBits, async);
     } else {
+      awaitGroupCommit(groupCommitTicket);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -4262,6 +4325,13 @@ public class Oplog implements CompactableOplog, Flushable {
           // pdx and tx will not use version
           userBits = EntryBits.setWithVersions(userBits, true);
         }
+        if (getParent().getCompressOplogs() && EntryBits.isNeedsValue(userBits)) {
+          ValueWrapper compressed = compressValue(value);
+          if (compressed != null) {
+            value = compressed;
+            userBits = EntryBits.setCompressed(userBits, true);
+          }
+        }
         basicModify(region.getDiskRegion(), entry, value, userBits, async, false);
       } catch (IOException ex) {
         exceptionOccurred = true;
@@ -4421,6 +4491,7 @@ public class Oplog implements CompactableOplog, Flushable {
     DiskId id = entry.getDiskId();
     boolean useNextOplog = false;
     long startPosForSynchOp = -1L;
+    long groupCommitTicket = 0;
     Oplog emptyOplog = null;
     if (DiskStoreImpl.KRF_DEBUG) {
       // wait for cache close to create krf
@@ -4453,7 +4524,8 @@ public class Oplog implements CompactableOplog, Flushable {
             long oldOplogId;
             // do the io while holding lock so that switch can set doneAppending
             // Write the data to the opLog for the synch mode
-            startPosForSynchOp = writeOpLogBytes(crf, async, true);
+            startPosForSynchOp = writeOpLogBytes(crf, async, !isGroupCommit(async));
+            groupCommitTicket = groupCommitAppended(async);
             crf.currSize = temp;
             startPosForSynchOp += getOpStateValueOffset();
             if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
@@ -4531,6 +4603,7 @@ public class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicModify(dr, entry, value, userBits, async, calledByCompactor);
     } else {
+      awaitGroupCommit(groupCommitTicket);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -4555,6 +4628,7 @@ public class Oplog implements CompactableOplog, Flushable {
   private void basicSaveConflictVersionTag(DiskRegionView dr, VersionTag tag, boolean async)
       throws IOException, InterruptedException {
     boolean useNextOplog = false;
+    long groupCommitTicket = 0;
     getParent().getBackupLock().lock();
     try {
       synchronized (lock) {
@@ -4577,7 +4651,8 @@ public class Oplog implements CompactableOplog, Flushable {
               throw cce;
             }
             firstRecord = false;
-            writeOpLogBytes(crf, async, true);
+            writeOpLogBytes(crf, async, !isGroupCommit(async));
+            groupCommitTicket = groupCommitAppended(async);
             crf.currSize = temp;
             if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
               logger.trace(LogMarker.PERSIST_WRITES_VERBOSE,
@@ -4605,6 +4680,8 @@ public class Oplog implements CompactableOplog, Flushable {
       }
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicSaveConflictVersionTag(dr, tag, async);
+    } else {
+      awaitGroupCommit(groupCommitTicket);
     }
   }
 
@@ -4873,6 +4950,7 @@ public class Oplog implements CompactableOplog, Flushable {
 
     boolean useNextOplog = false;
     long startPosForSynchOp = -1;
+    long groupCommitTicket = 0;
     Oplog emptyOplog = null;
     if (DiskStoreImpl.KRF_DEBUG) {
       // wait for cache close to create krf
@@ -4922,7 +5000,8 @@ public class Oplog implements CompactableOplog, Flushable {
             // before we flush the crf.
             // However we can't have removes by async if we are doing a sync write
             // because we might be killed right after we do this write.
-            startPosForSynchOp = writeOpLogBytes(drf, async, true);
+            startPosForSynchOp = writeOpLogBytes(drf, async, !isGroupCommit(async));
+            groupCommitTicket = groupCommitAppended(async);
             setHasDeletes(true);
             if (logger.isDebugEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
               logger.debug("basicRemove: id=<{}> key=<{}> drId={} oplog#{}", abs(id.getKeyId()),
@@ -4961,6 +5040,7 @@ public class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicRemove(dr, entry, async, isClear);
     } else {
+      awaitGroupCommit(groupCommitTicket);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -5047,7 +5127,7 @@ public class Oplog implements CompactableOplog, Flushable {
           bb.clear();
         }
         if (doSync) {
-          if (SYNC_WRITES) {
+          if (SYNC_WRITES || groupCommitter != null) {
             // Synch Meta Data as well as content
             olf.channel.force(true);
           }
@@ -5104,6 +5184,67 @@ public class Oplog implements CompactableOplog, Flushable {
     flushAll(skipDrf, true/* doSync */);
   }
 
+  /**
+   * Returns true if a synchronous write should wait for a group commit instead of flushing the
+   * oplog itself.
+   */
+  private boolean isGroupCommit(boolean async) {
+    return !async && groupCommitter != null;
+  }
+
+  /**
+   * Must be called while holding {@link #lock} right after a write has been appended.
+   *
+   * @return the ticket to wait on with {@link #awaitGroupCommit(long)}, or 0 if the write does not
+   *         use group commit
+   */
+  private long groupCommitAppended(boolean async) {
+    if (!isGroupCommit(async)) {
+      return 0;
+    }
+    return groupCommitter.appended();
+  }
+
+  /**
+   * Waits for the write identified by the ticket to be forced to disk. Must be called after the
+   * oplog lock and the backup lock have been released so that other writers can join the batch.
+   */
+  private void awaitGroupCommit(long groupCommitTicket) {
+    if (groupCommitTicket != 0) {
+      groupCommitter.awaitDurable(groupCommitTicket);
+    }
+  }
+
+  /**
+   * Writes out the buffered bytes of both files while holding the oplog lock and then forces them
+   * without holding it, so that writers can keep appending the next batch during the force. The
+   * drf is forced before the crf for the same reason it is flushed first.
+   */
+  private void flushAndForce() {
+    flushAllNoSync(false);
+    try {
+      force(drf);
+      force(crf);
+    } catch (IOException ex) {
+      getParent().getCancelCriterion().checkCancelInProgress(ex);
+      throw new DiskAccessException(
+          String.format("Failed writing key to %s", diskFile.getPath()),
+          ex, getParent());
+    }
+  }
+
+  private void force(OplogFile olf) throws IOException {
+    if (olf.RAFClosed) {
+      // closing an oplog flushes and forces it while holding the lock
+      return;
+    }
+    try {
+      olf.channel.force(true);
+    } catch (ClosedChannelException ignore) {
+      // the oplog was switched or closed after our check; it was forced when that happened
+    }
+  }
+
   public void flushAll(boolean skipDrf, boolean doSync) {
     try {
       // TODO: if skipDrf then only need to do drf if crf has flushable data
@@ -5200,6 +5341,57 @@ public class Oplog implements CompactableOplog, Flushable {
 
   private volatile boolean beingRead;
 
+  /**
+   * Maps the crf once this oplog is no longer being appended to. Null until the first read after
+   * that if the disk store uses mapped reads.
+   */
+  private volatile MappedOplogReader mappedReader;
+
+  /** Set if the crf could not be mapped so that reads do not keep trying. Guarded by lock. */
+  private boolean mappedReaderUnavailable;
+
+  /**
+   * Returns the reader for the memory mapped crf, mapping it on first use, or null if the disk
+   * store does not use mapped reads or this oplog may still be appended to.
+   */
+  private MappedOplogReader getMappedReader() {
+    MappedOplogReader reader = mappedReader;
+    if (reader != null || !getParent().getMappedReads()) {
+      return reader;
+    }
+    // No need to get the backup lock prior to synchronizing (correct lock order) since the
+    // synchronized block does not attempt to get the backup lock (incorrect lock order)
+    synchronized (lock/* crf */) {
+      if (mappedReader == null && doneAppending && !mappedReaderUnavailable && crf.f != null
+          && !deleted.get()) {
+        try {
+          mappedReader = MappedOplogReader.map(crf.f, crf.bytesFlushed);
+        } catch (IOException ex) {
+          logger.debug("Could not map {} for reading; using positioned reads instead", crf.f, ex);
+        }
+        mappedReaderUnavailable = mappedReader == null;
+      }
+      return mappedReader;
+    }
+  }
+
+  /**
+   * Unmaps the crf, if it is mapped, and keeps it from being mapped again.
+   */
+  private void closeMappedReader() {
+    final MappedOplogReader reader;
+    // No need to get the backup lock prior to synchronizing (correct lock order) since the
+    // synchronized block does not attempt to get the backup lock (incorrect lock order)
+    synchronized (lock/* crf */) {
+      reader = mappedReader;
+      mappedReader = null;
+      mappedReaderUnavailable = true;
+    }
+    if (reader != null) {
+      reader.close();
+    }
+  }
+
   /**
    * If crfRAF has been closed then attempt to reopen the oplog for this read. Verify that this only
    * happens when test methods are invoked.
@@ -5224,6 +5416,18 @@ public class Oplog implements CompactableOplog, Flushable {
 
   private BytesAndBits attemptGet(DiskRegionView dr, long offsetInOplog,
       int valueLength, byte userBits) throws IOException {
+    final MappedOplogReader reader = getMappedReader();
+    if (reader != null && reader.contains(offsetInOplog, valueLength)) {
+      BytesAndBits bb = reader.read(offsetInOplog, valueLength, userBits);
+      if (bb != null) {
+        stats.incOplogMappedReads();
+        final KnownVersion version = getProductVersionIfOld();
+        if (version != null) {
+          bb.setVersion(version);
+        }
+        return bb;
+      }
+    }
     boolean didReopen = false;
     boolean accessedInactive = false;
     try {
@@ -5323,6 +5527,7 @@ public class Oplog implements CompactableOplog, Flushable {
     BytesAndBits bb;
     if (EntryBits.isAnyInvalid(userBits) || EntryBits.isTombstone(userBits) || bitOnly
         || valueLength == 0) {
+      userBits = EntryBits.setCompressed(userBits, false);
       if (EntryBits.isInvalid(userBits)) {
         bb = new BytesAndBits(DiskEntry.INVALID_BYTES, userBits);
       } else if (EntryBits.isTombstone(userBits)) {
@@ -5361,6 +5566,11 @@ public class Oplog implements CompactableOplog, Flushable {
         checkClosed();
         throw ex;
       }
+      if (EntryBits.isCompressed(bb.getBits())) {
+        long start = stats.startDecompression();
+        bb = OplogValueCompressor.decompress(bb);
+        stats.endDecompression(start);
+      }
     }
     return bb;
   }
@@ -5516,6 +5726,7 @@ public class Oplog implements CompactableOplog, Flushable {
   }
 
   public void deleteCRFFileOnly() {
+    closeMappedReader();
     deleteFile(crf);
     // replace .crf at the end with .krf
     if (crf.f != null) {
@@ -5692,6 +5903,18 @@ public class Oplog implements CompactableOplog, Flushable {
     return totalCount.get() != 0;
   }
 
+  /**
+   * Returns the fraction of the records written to this oplog that are no longer live.
+   */
+  double getGarbageRatio() {
+    long total = totalCount.get();
+    if (total <= 0) {
+      return 1.0;
+    }
+    long live = Math.max(0, totalLiveCount.get());
+    return 1.0 - Math.min(1.0, (double) live / total);
+  }
+
   public boolean hasNoLiveValues() {
     return totalLiveCount.get() <= 0
         // if we have an unrecoveredRegion then we don't know how many liveValues we
@@ -5868,12 +6091,18 @@ public class Oplog implements CompactableOplog, Flushable {
                                  * getParent().getOwner().isDestroyed ||
                                  */!compactor.keepCompactorRunning();
         int totalCount = 0;
+        long copiedBytes = 0;
+        final long sizeBeforeCompaction = crf.currSize;
         for (DiskRegionInfo dri : regionMap.get().values()) {
+          if (compactFailed) {
+            break;
+          }
           final DiskRegionView dr = dri.getDiskRegion();
           if (dr == null) {
             continue;
           }
           boolean didCompact;
+          int valueLength = 0;
           while ((de = dri.getNextLiveEntry()) != null) {
             if (/*
                  * getParent().getOwner().isDestroyed ||
@@ -5908,6 +6137,7 @@ public class Oplog implements CompactableOplog, Flushable {
                     }
                     continue;
                   }
+                  valueLength = did.getValueLength();
                   // write it to the current oplog
                   getOplogSet().getChild().copyForwardModifyForCompact(dr, de, wrapper);
                   // the did's oplogId will now be set to the current active oplog
@@ -5929,11 +6159,24 @@ public class Oplog implements CompactableOplog, Flushable {
               if (!wrapper.isReusable()) {
                 wrapper = new BytesAndBitsForCompactor();
               }
+              copiedBytes += valueLength;
+              // let writers, region close and clear in before starting the next slice. If the
+              // region changed meanwhile stop; the rest is compacted when rescheduled.
+              if (compactor.copiedForward(valueLength)
+                  && (!compactor.endSlice(this::unlockCompactor, this::lockCompactor) || closed
+                      || dri.getDiskRegion() != dr || dr.isRegionClosed())) {
+                compactFailed = true;
+                break;
+              }
             }
           }
         }
 
         cleanupAfterCompaction(compactFailed);
+        if (!compactFailed) {
+          getStats().incCompactionReclaimedBytes(
+              Math.max(0, sizeBeforeCompaction - copiedBytes));
+        }
         return totalCount;
       } finally {
         unlockCompactor();
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Orders the oplogs that are ready to be compacted so that the compactor starts with the ones
+ * that free the most space for the least copying. An oplog's priority is its garbage ratio times
+ * its age, divided by the fraction of it that must be copied forward. Age is measured in oplogs
+ * created since, so an old oplog whose remaining values have stopped changing is preferred over a
+ * young one with the same garbage ratio that will likely produce more garbage if left alone.
+ */
+class OplogCompactionOrder {
+
+  private OplogCompactionOrder() {
+    // no instances
+  }
+
+  static double priority(double garbageRatio, long age) {
+    return garbageRatio * (age + 1) / (2 - garbageRatio);
+  }
+
+  /**
+   * Sorts the given oplogs, highest priority first. Oplogs with the same priority are ordered
+   * oldest first.
+   */
+  static <T> void sort(List<T> oplogs, ToDoubleFunction<T> garbageRatio,
+      ToLongFunction<T> oplogId) {
+    if (oplogs.size() < 2) {
+      return;
+    }
+    long newest = Long.MIN_VALUE;
+    for (T oplog : oplogs) {
+      newest = Math.max(newest, oplogId.applyAsLong(oplog));
+    }
+    final long newestId = newest;
+    Comparator<T> byPriority = Comparator.comparingDouble(oplog -> priority(
+        garbageRatio.applyAsDouble(oplog), newestId - oplogId.applyAsLong(oplog)));
+    oplogs.sort(byPriority.reversed().thenComparingLong(oplogId));
+  }
+}
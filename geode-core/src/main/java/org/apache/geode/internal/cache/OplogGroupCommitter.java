@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.geode.annotations.VisibleForTesting;
+
+/**
+ * Coordinates group commit for the synchronous writes of an {@link Oplog}. Writers append their
+ * record to the oplog write buffer while holding the oplog lock and call {@link #appended()}.
+ * After releasing the oplog lock they call {@link #awaitDurable(long)}. The first waiting thread
+ * becomes the leader; it waits until either the batch is full or the max wait has elapsed, then
+ * performs a single flush and force on behalf of every writer that appended before the flush
+ * started. All waiters covered by that force are then released.
+ */
+class OplogGroupCommitter {
+
+  /**
+   * Flushes every appended record and forces it to the storage device.
+   */
+  @FunctionalInterface
+  interface DurableFlush {
+    void flushAndForce();
+  }
+
+  private final DurableFlush durableFlush;
+
+  private final DiskStoreStats stats;
+
+  private final long maxWaitNanos;
+
+  private final int maxBatchSize;
+
+  /** Sequence number of the last record appended to the oplog */
+  private final AtomicLong appendedSeq = new AtomicLong();
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition batchChanged = lock.newCondition();
+
+  /** Sequence number of the last record known to be durable. Guarded by {@link #lock}. */
+  private long durableSeq;
+
+  /** Number of threads currently waiting for their record to be durable. Guarded by lock. */
+  private int waiters;
+
+  /** True while a leader is gathering or forcing a batch. Guarded by lock. */
+  private boolean leaderActive;
+
+  OplogGroupCommitter(DurableFlush durableFlush, DiskStoreStats stats, long maxWaitMicros,
+      int maxBatchSize) {
+    this.durableFlush = durableFlush;
+    this.stats = stats;
+    maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+  }
+
+  /**
+   * Records that a synchronous write has been appended to the oplog. Must be called while holding
+   * the oplog lock, after the record has been copied into the write buffer.
+   *
+   * @return the ticket to pass to {@link #awaitDurable(long)}
+   */
+  long appended() {
+    return appendedSeq.incrementAndGet();
+  }
+
+  /**
+   * Blocks until the record identified by the given ticket has been forced to disk, either by a
+   * batch led by this thread or by another writer. Must not be called while holding the oplog
+   * lock.
+   */
+  void awaitDurable(long ticket) {
+    boolean interrupted = false;
+    lock.lock();
+    try {
+      waiters++;
+      if (waiters >= maxBatchSize) {
+        batchChanged.signalAll();
+      }
+      try {
+        while (durableSeq < ticket) {
+          if (leaderActive) {
+            try {
+              batchChanged.await();
+            } catch (InterruptedException e) {
+              interrupted = true;
+            }
+          } else {
+            interrupted |= leadBatch();
+          }
+        }
+      } finally {
+        waiters--;
+      }
+    } finally {
+      lock.unlock();
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Gathers a batch and forces it. Called with {@link #lock} held; the lock is released while
+   * forcing so that followers can keep joining the next batch.
+   *
+   * @return true if the thread was interrupted while gathering the batch
+   */
+  private boolean leadBatch() {
+    boolean interrupted = false;
+    leaderActive = true;
+    try {
+      long remaining = maxWaitNanos;
+      while (waiters < maxBatchSize && remaining > 0) {
+        try {
+          remaining = batchChanged.awaitNanos(remaining);
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      final long target = appendedSeq.get();
+      final long batchSize = target - durableSeq;
+      lock.unlock();
+      try {
+        long start = stats.startGroupCommit();
+        durableFlush.flushAndForce();
+        stats.endGroupCommit(start, batchSize);
+      } finally {
+        lock.lock();
+      }
+      if (target > durableSeq) {
+        durableSeq = target;
+      }
+    } finally {
+      leaderActive = false;
+      batchChanged.signalAll();
+    }
+    return interrupted;
+  }
+
+  @VisibleForTesting
+  long getDurableSeq() {
+    lock.lock();
+    try {
+      return durableSeq;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Reads the drf, krf and crf files of a disk store ahead of recovery, on a small pool of threads,
+ * so that the recovery thread finds them in the file system cache. This is only done if
+ * {@link #PREFETCH_THREADS} is set. It is used both when the region maps are built from the oplogs
+ * and when values are recovered asynchronously from the crfs afterwards.
+ *
+ * This is read ahead only, not parallel recovery: the recovery thread still applies the records
+ * of each file one file at a time, in the same order as before, and builds the region maps on its
+ * own. That preserves the ordering rules for deletes, modifies and version tags.
+ *
+ * Files are prefetched in the order recovery will consume them. At most
+ * {@link #PREFETCH_MAX_BYTES} are read ahead of the file recovery is currently processing so that
+ * a large disk store does not evict its own prefetched files from the cache.
+ */
+class OplogRecoveryPrefetcher implements AutoCloseable {
+  private static final Logger logger = LogService.getLogger();
+
+  /**
+   * The number of threads used to read oplog files ahead of recovery. Prefetching is off by
+   * default, since it only helps when recovery waits for the disk rather than for the CPU, and it
+   * costs up to {@link #PREFETCH_MAX_BYTES} of extra reads.
+   */
+  static final int PREFETCH_THREADS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "disk.recoveryPrefetchThreads", 0);
+
+  /**
+   * The maximum number of bytes read ahead of the file recovery is processing.
+   */
+  static final long PREFETCH_MAX_BYTES =
+      Long.getLong(GeodeGlossary.GEMFIRE_PREFIX + "disk.recoveryPrefetchMaxBytes",
+          256L * 1024 * 1024);
+
+  private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+  private final ExecutorService executor;
+
+  private final long maxBytesAhead;
+
+  private final DiskStoreStats stats;
+
+  /** Files that have not been handed to the executor yet, in recovery order. */
+  private final Deque<File> pending = new ArrayDeque<>();
+
+  /** Files handed to the executor that recovery has not consumed yet, with their lengths. */
+  private final Map<File, Long> inWindow = new HashMap<>();
+
+  private long bytesAhead;
+
+  private volatile boolean closed;
+
+  /**
+   * Starts prefetching the given files, in order, if prefetching is enabled.
+   *
+   * @param files the files in the order recovery will read them; null elements are ignored
+   */
+  static OplogRecoveryPrefetcher start(List<File> files, DiskStoreStats stats) {
+    ExecutorService executor = null;
+    if (PREFETCH_THREADS > 0) {
+      executor = LoggingExecutors.newFixedThreadPool(PREFETCH_THREADS, "OplogRecoveryPrefetcher",
+          true);
+    }
+    OplogRecoveryPrefetcher prefetcher =
+        new OplogRecoveryPrefetcher(files, executor, PREFETCH_MAX_BYTES, stats);
+    prefetcher.submitMore();
+    return prefetcher;
+  }
+
+  @VisibleForTesting
+  OplogRecoveryPrefetcher(List<File> files, ExecutorService executor, long maxBytesAhead,
+      DiskStoreStats stats) {
+    this.executor = executor;
+    this.maxBytesAhead = maxBytesAhead;
+    this.stats = stats;
+    for (File file : files) {
+      if (file != null) {
+        pending.add(file);
+      }
+    }
+  }
+
+  /**
+   * Called by the recovery thread once it has finished reading the given file. Frees room in the
+   * read ahead window for more files.
+   */
+  synchronized void consumed(File file) {
+    if (file == null) {
+      return;
+    }
+    Long length = inWindow.remove(file);
+    if (length != null) {
+      bytesAhead -= length;
+    } else {
+      pending.remove(file);
+    }
+    submitMore();
+  }
+
+  @VisibleForTesting
+  synchronized void submitMore() {
+    if (executor == null) {
+      return;
+    }
+    while (!closed && !pending.isEmpty()) {
+      File next = pending.peek();
+      long length = next.length();
+      if (bytesAhead > 0 && bytesAhead + length > maxBytesAhead) {
+        return;
+      }
+      pending.poll();
+      inWindow.put(next, length);
+      bytesAhead += length;
+      executor.execute(() -> prefetch(next));
+    }
+  }
+
+  private synchronized boolean isWanted(File file) {
+    return !closed && inWindow.containsKey(file);
+  }
+
+  private void prefetch(File file) {
+    if (!isWanted(file)) {
+      return;
+    }
+    long bytesRead = 0;
+    byte[] buffer = new byte[READ_BUFFER_SIZE];
+    try (InputStream in = new FileInputStream(file)) {
+      int count;
+      while ((count = in.read(buffer)) != -1) {
+        bytesRead += count;
+        if (!isWanted(file)) {
+          // recovery already got here or was closed
+          break;
+        }
+      }
+    } catch (IOException ex) {
+      // recovery reads the file itself and reports any problem with it
+      if (logger.isDebugEnabled()) {
+        logger.debug("Could not prefetch {} for recovery", file, ex);
+      }
+    }
+    stats.incRecoveryPrefetchedBytes(bytesRead);
+  }
+
+  @VisibleForTesting
+  synchronized long getBytesAhead() {
+    return bytesAhead;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.geode.annotations.Immutable;
+import org.apache.geode.compression.Compressor;
+import org.apache.geode.compression.SnappyCompressor;
+import org.apache.geode.internal.cache.entries.DiskEntry.Helper.ByteArrayValueWrapper;
+import org.apache.geode.internal.cache.entries.DiskEntry.Helper.Flushable;
+import org.apache.geode.internal.cache.entries.DiskEntry.Helper.ValueWrapper;
+import org.apache.geode.internal.cache.persistence.BytesAndBits;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Compresses the values a disk store with oplog compression writes to its crfs and decompresses
+ * them when they are read back. Each value is compressed on its own with Snappy, so a record can
+ * still be found by its offset and read without reading its neighbours. Compressed values carry
+ * the {@link EntryBits#isCompressed compressed} user bit on disk and in their {@link DiskId}, so an
+ * oplog can hold both compressed and uncompressed values and stays readable if compression is
+ * turned off later.
+ *
+ * Callers above the oplog never see compressed bytes: {@link #decompress(BytesAndBits)} clears the
+ * bit again. The compactor copies compressed values forward as they are.
+ */
+class OplogValueCompressor {
+
+  /**
+   * Values shorter than this are written uncompressed.
+   */
+  static final int MIN_VALUE_LENGTH =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "disk.compressionMinValueLength", 64);
+
+  @Immutable
+  private static final Compressor CODEC = new SnappyCompressor();
+
+  private static final Flushable NO_FLUSH = new Flushable() {
+    @Override
+    public void flush() {
+      throw new IllegalStateException("value does not fit in its own length");
+    }
+
+    @Override
+    public void flush(ByteBuffer bb, ByteBuffer chunkbb) {
+      flush();
+    }
+  };
+
+  private OplogValueCompressor() {
+    // no instances
+  }
+
+  /**
+   * Returns the compressed form of the given value, or null if the value is too small to be worth
+   * compressing or does not get smaller.
+   */
+  static ValueWrapper compress(ValueWrapper value) throws IOException {
+    final int length = value.getLength();
+    if (length < MIN_VALUE_LENGTH) {
+      return null;
+    }
+    byte[] compressed = CODEC.compress(getBytes(value, length));
+    if (compressed.length >= length) {
+      return null;
+    }
+    return new ByteArrayValueWrapper(value.isSerialized(), compressed);
+  }
+
+  private static byte[] getBytes(ValueWrapper value, int length) throws IOException {
+    if (value instanceof ByteArrayValueWrapper) {
+      byte[] bytes = ((ByteArrayValueWrapper) value).bytes;
+      if (bytes.length == length) {
+        return bytes;
+      }
+    }
+    ByteBuffer bb = ByteBuffer.allocate(length);
+    value.sendTo(bb, NO_FLUSH);
+    return bb.array();
+  }
+
+  /**
+   * Returns the given value read from an oplog with its bytes decompressed and the compressed bit
+   * cleared. Values that are not compressed are returned as they are.
+   */
+  static BytesAndBits decompress(BytesAndBits bb) {
+    byte bits = bb.getBits();
+    if (!EntryBits.isCompressed(bits)) {
+      return bb;
+    }
+    bits = EntryBits.setCompressed(bits, false);
+    BytesAndBits result;
+    if (EntryBits.isNeedsValue(bits)) {
+      result = new BytesAndBits(CODEC.decompress(bb.getBytes()), bits);
+    } else {
+      result = new BytesAndBits(bb.getBytes(), bits);
+    }
+    if (bb.getVersion() != null) {
+      result.setVersion(bb.getVersion());
+    }
+    return result;
+  }
+
+  /**
+   * Returns the value bytes of a record read during recovery, decompressed if the record's user
+   * bits say they are compressed.
+   */
+  static byte[] decompress(byte[] valueBytes, byte userBits) {
+    if (valueBytes == null || !EntryBits.isCompressed(userBits)
+        || !EntryBits.isNeedsValue(userBits)) {
+      return valueBytes;
+    }
+    return CODEC.decompress(valueBytes);
+  }
+}
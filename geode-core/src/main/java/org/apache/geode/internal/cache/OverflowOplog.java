@@ -391,6 +391,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
 
   private void basicClose() {
     flushAll();
+    closeMappedReader();
     synchronized (crf) {
       if (!crf.RAFClosed) {
         try {
@@ -822,8 +823,63 @@ class OverflowOplog implements CompactableOplog, Flushable {
     return startPos;
   }
 
+  /**
+   * Maps the file once this oplog is no longer being appended to. Null until the first read after
+   * that if the disk store uses mapped reads.
+   */
+  private volatile MappedOplogReader mappedReader;
+
+  /** Set if the file could not be mapped so that reads do not keep trying. Guarded by crf. */
+  private boolean mappedReaderUnavailable;
+
+  /**
+   * Returns the reader for the memory mapped file, mapping it on first use, or null if the disk
+   * store does not use mapped reads or this oplog may still be appended to.
+   */
+  private MappedOplogReader getMappedReader() {
+    MappedOplogReader reader = mappedReader;
+    if (reader != null || !parent.getMappedReads()) {
+      return reader;
+    }
+    synchronized (crf) {
+      if (mappedReader == null && doneAppending && !mappedReaderUnavailable && crf.f != null
+          && !deleted.get()) {
+        try {
+          mappedReader = MappedOplogReader.map(crf.f, crf.bytesFlushed);
+        } catch (IOException ex) {
+          logger.debug("Could not map {} for reading; using positioned reads instead", crf.f, ex);
+        }
+        mappedReaderUnavailable = mappedReader == null;
+      }
+      return mappedReader;
+    }
+  }
+
+  /**
+   * Unmaps the file, if it is mapped, and keeps it from being mapped again.
+   */
+  private void closeMappedReader() {
+    final MappedOplogReader reader;
+    synchronized (crf) {
+      reader = mappedReader;
+      mappedReader = null;
+      mappedReaderUnavailable = true;
+    }
+    if (reader != null) {
+      reader.close();
+    }
+  }
+
   private BytesAndBits attemptGet(DiskRegionView dr, long offsetInOplog, int valueLength,
       byte userBits) throws IOException {
+    final MappedOplogReader reader = getMappedReader();
+    if (reader != null && reader.contains(offsetInOplog, valueLength)) {
+      BytesAndBits bb = reader.read(offsetInOplog, valueLength, userBits);
+      if (bb != null) {
+        stats.incOplogMappedReads();
+        return bb;
+      }
+    }
     synchronized (crf) {
       assert offsetInOplog >= 0;
       RandomAccessFile myRAF = crf.raf;
@@ -950,6 +1006,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
   }
 
   private void deleteFile() {
+    closeMappedReader();
     final OplogFile olf = getOLF();
     if (maxOplogSize != 0) {
       dirHolder.decrementTotalOplogSize(maxOplogSize);
@@ -1078,6 +1135,18 @@ class OverflowOplog implements CompactableOplog, Flushable {
     return totalLiveCount.get() <= 0;
   }
 
+  /**
+   * Returns the fraction of the values written to this oplog that are no longer live.
+   */
+  double getGarbageRatio() {
+    long total = totalCount.get();
+    if (total <= 0) {
+      return 1.0;
+    }
+    long live = Math.max(0, totalLiveCount.get());
+    return 1.0 - Math.min(1.0, (double) live / total);
+  }
+
   private void handleEmpty(boolean calledByCompactor) {
     if (!calledByCompactor) {
       logger.info("Closing {} early since it is empty. It is for disk store {}.",
@@ -1268,7 +1337,10 @@ class OverflowOplog implements CompactableOplog, Flushable {
         DiskEntry lastDe = null;
         boolean compactFailed = !compactor.keepCompactorRunning();
         int totalCount = 0;
+        long copiedBytes = 0;
+        final long sizeBeforeCompaction = crf.currSize;
         boolean didCompact = false;
+        int valueLength = 0;
         while ((de = getNextLiveEntry()) != null) {
           if (!compactor.keepCompactorRunning()) {
             compactFailed = true;
@@ -1319,6 +1391,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
                   }
                   continue;
                 }
+                valueLength = length;
                 // write it to the current oplog
                 getOplogSet().copyForwardForOverflowCompact(de, valueBytes, length, userBits);
                 // the did's oplogId will now be set to the current active oplog
@@ -1338,12 +1411,22 @@ class OverflowOplog implements CompactableOplog, Flushable {
             if (!wrapper.isReusable()) {
               wrapper = new BytesAndBitsForCompactor();
             }
+            copiedBytes += valueLength;
+            // let writers, region close and clear in before starting the next slice. If a region
+            // changed meanwhile stop; the rest is compacted when rescheduled.
+            if (compactor.copiedForward(valueLength)
+                && (!compactor.endSlice(this::unlockCompactor, this::lockCompactor) || closed)) {
+              compactFailed = true;
+              break;
+            }
           }
         }
 
         if (!compactFailed) {
           // Need to still remove the oplog even if it had nothing to compact.
           handleNoLiveValues();
+          getStats().incCompactionReclaimedBytes(
+              Math.max(0, sizeBeforeCompaction - copiedBytes));
         }
         return totalCount;
       } finally {
@@ -17,7 +17,6 @@ package org.apache.geode.internal.cache;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -251,15 +250,22 @@ public class OverflowOplogSet implements OplogSet {
   }
 
   public void getCompactableOplogs(List<CompactableOplog> l, int max) {
+    List<OverflowOplog> candidates = new ArrayList<>();
     synchronized (compactibleOverflowMap) {
-      Iterator<OverflowOplog> itr = compactibleOverflowMap.values().iterator();
-      while (itr.hasNext() && l.size() < max) {
-        OverflowOplog oplog = itr.next();
+      for (OverflowOplog oplog : compactibleOverflowMap.values()) {
         if (oplog.needsCompaction()) {
-          l.add(oplog);
+          candidates.add(oplog);
         }
       }
     }
+    OplogCompactionOrder.sort(candidates, OverflowOplog::getGarbageRatio,
+        OverflowOplog::getOplogId);
+    for (OverflowOplog oplog : candidates) {
+      if (l.size() >= max) {
+        return;
+      }
+      l.add(oplog);
+    }
   }
 
   void testHookCloseAllOverflowChannels() {
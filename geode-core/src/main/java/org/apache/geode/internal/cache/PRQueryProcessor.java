@@ -30,6 +30,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.logging.log4j.Logger;
 
@@ -39,6 +40,7 @@ import org.apache.geode.annotations.internal.MutableForTesting;
 import org.apache.geode.cache.CacheRuntimeException;
 import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.QueryExecutionLowMemoryException;
 import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.SelectResults;
 import org.apache.geode.cache.query.internal.CompiledSelect;
@@ -65,6 +67,12 @@ import org.apache.geode.util.internal.GeodeGlossary;
  *
  * The QueryTasks add results directly to a results queue. The BucketQueryResult is used not only to
  * indicate completion, and holds an exception if there one occurred while processing a query.
+ *
+ * If a parallelism of more than one is requested, either with {@link #PARALLELISM} or per query
+ * with {@link ExecutionContext#setParallelism(int)}, the buckets are instead split into that many
+ * segments which are queried by {@code SegmentTask}s on a shared fork-join pool. The sorted results
+ * of the buckets of a segment are merged by its task, so only one sorted result per segment is left
+ * for the final merge.
  */
 public class PRQueryProcessor {
   private static final Logger logger = LogService.getLogger();
@@ -78,6 +86,24 @@ public class PRQueryProcessor {
   @MutableForTesting
   public static int TEST_NUM_THREADS = 0;
 
+  /* For Test purpose */
+  @MutableForTesting
+  public static int TEST_PARALLELISM = 0;
+
+  /**
+   * Number of segments of buckets that a member queries in parallel unless the query asks for a
+   * different number. One or less queries the buckets with the {@link #NUM_THREADS} thread pool.
+   */
+  public static final int PARALLELISM =
+      getInteger(GeodeGlossary.GEMFIRE_PREFIX + "PRQueryProcessor.parallelism", 0);
+
+  /**
+   * Maximum number of threads of the fork-join pool shared by all parallel queries
+   */
+  public static final int MAX_PARALLEL_THREADS =
+      getInteger(GeodeGlossary.GEMFIRE_PREFIX + "PRQueryProcessor.maxParallelThreads",
+          Runtime.getRuntime().availableProcessors());
+
   private PartitionedRegionDataStore _prds;
   private PartitionedRegion pr;
   private final DefaultQuery query;
@@ -88,6 +114,8 @@ public class PRQueryProcessor {
 
   private boolean isIndexUsedForLocalQuery = false;
 
+  private int parallelism = TEST_PARALLELISM > 0 ? TEST_PARALLELISM : PARALLELISM;
+
   public PRQueryProcessor(PartitionedRegionDataStore prDS, DefaultQuery query, Object[] parameters,
       List<Integer> buckets) {
     Assert.assertTrue(!buckets.isEmpty(), "bucket list can not be empty. ");
@@ -117,7 +145,10 @@ public class PRQueryProcessor {
    */
   public boolean executeQuery(Collection<Collection> resultCollector)
       throws QueryException, InterruptedException, ForceReattemptException {
-    if (NUM_THREADS > 1 || TEST_NUM_THREADS > 1) {
+    final int segments = Math.min(parallelism, _bucketsToQuery.size());
+    if (segments > 1) {
+      executeInParallel(resultCollector, segments);
+    } else if (NUM_THREADS > 1 || TEST_NUM_THREADS > 1) {
       executeWithThreadPool(resultCollector);
     } else {
       executeSequentially(resultCollector, _bucketsToQuery);
@@ -192,6 +223,79 @@ public class PRQueryProcessor {
     }
   }
 
+  /**
+   * Sets the number of segments of buckets to query in parallel, overriding {@link #PARALLELISM}
+   * if greater than zero.
+   */
+  public void setParallelism(int parallelism) {
+    if (parallelism > 0) {
+      this.parallelism = parallelism;
+    }
+  }
+
+  private void executeInParallel(Collection<Collection> resultCollector, int segments)
+      throws QueryException, InterruptedException, ForceReattemptException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+
+    // monitor the whole query, so the segments stop when it is canceled
+    final ExecutionContext queryContext =
+        new QueryExecutionContext(parameters, pr.getCache(), query);
+    final QueryMonitor queryMonitor = pr.getCache().getQueryMonitor();
+    if (queryMonitor != null) {
+      queryMonitor.monitorQueryExecution(queryContext);
+    }
+    try {
+      final CompiledSelect cs = query.getSimpleSelect();
+      final boolean isOrderBy = cs != null && cs.isOrderBy();
+      final int limit = query.getLimit(parameters);
+      final AtomicReference<Exception> failure = new AtomicReference<>();
+      final List<SegmentTask> tasks = new ArrayList<>(segments);
+      final int bucketCount = _bucketsToQuery.size();
+      for (int i = 0; i < segments; i++) {
+        tasks.add(new SegmentTask(_bucketsToQuery.subList(i * bucketCount / segments,
+            (i + 1) * bucketCount / segments), resultCollector, queryContext, failure, isOrderBy,
+            limit));
+      }
+
+      try {
+        for (Future<Void> future : PRQueryExecutor.getForkJoinPool().invokeAll(tasks)) {
+          future.get();
+        }
+      } catch (InterruptedException e) {
+        failure.compareAndSet(null, e);
+        throw e;
+      } catch (ExecutionException e) {
+        throw new InternalGemFireException(
+            "Got unexpected exception while executing query on partitioned region bucket",
+            e.getCause());
+      }
+
+      final Exception e = failure.get();
+      if (e instanceof ForceReattemptException) {
+        throw (ForceReattemptException) e;
+      } else if (e instanceof QueryException) {
+        throw (QueryException) e;
+      } else if (e instanceof CacheRuntimeException) {
+        throw (CacheRuntimeException) e;
+      } else if (e != null) {
+        throw new InternalGemFireException(
+            "Got unexpected exception while executing query on partitioned region bucket", e);
+      }
+
+      if (isOrderBy) {
+        Collection mergedResults = coalesceOrderedResults(resultCollector, queryContext, cs, limit);
+        resultCollector.clear();
+        resultCollector.add(mergedResults);
+      }
+    } finally {
+      if (queryMonitor != null) {
+        queryMonitor.stopMonitoringQueryExecution(queryContext);
+      }
+    }
+  }
+
   private void executeSequentially(Collection<Collection> resultCollector, List buckets)
       throws QueryException, InterruptedException, ForceReattemptException {
     ExecutionContext context =
@@ -305,6 +409,9 @@ public class PRQueryProcessor {
     @MakeNotStatic
     private static ExecutorService execService = null;
 
+    @MakeNotStatic
+    private static ExecutorService forkJoinPool = null;
+
     /**
      * Closes the executor service. This is called from
      * {@link PartitionedRegion#afterRegionsClosedByCacheClose(InternalCache)}
@@ -313,12 +420,29 @@ public class PRQueryProcessor {
       if (execService != null) {
         execService.shutdown();
       }
+      if (forkJoinPool != null) {
+        forkJoinPool.shutdown();
+      }
     }
 
     static synchronized void shutdownNow() {
       if (execService != null) {
         execService.shutdownNow();
       }
+      if (forkJoinPool != null) {
+        forkJoinPool.shutdownNow();
+      }
+    }
+
+    /**
+     * Returns the fork-join pool for parallel queries, creating it if needed.
+     */
+    static synchronized ExecutorService getForkJoinPool() {
+      if (forkJoinPool == null || forkJoinPool.isShutdown() || forkJoinPool.isTerminated()) {
+        forkJoinPool = LoggingExecutors.newWorkStealingPool("PRQueryProcessor-Parallel-",
+            Math.max(1, MAX_PARALLEL_THREADS));
+      }
+      return forkJoinPool;
     }
 
     static synchronized ExecutorService getExecutorService() {
@@ -340,6 +464,70 @@ public class PRQueryProcessor {
     }
   }
 
+  /**
+   * Queries a segment of the buckets one at a time for {@link #executeInParallel}. It stops before
+   * the next bucket once the query is canceled or another segment has failed, and leaves the first
+   * failure in the shared reference.
+   *
+   * For ORDER BY queries the sorted results of the buckets are merged, up to the limit, before they
+   * are added to the results.
+   */
+  private class SegmentTask implements Callable<Void> {
+    private final List<Integer> buckets;
+    private final Collection<Collection> resultCollector;
+    private final ExecutionContext queryContext;
+    private final AtomicReference<Exception> failure;
+    private final boolean isOrderBy;
+    private final int limit;
+
+    SegmentTask(List<Integer> buckets, Collection<Collection> resultCollector,
+        ExecutionContext queryContext, AtomicReference<Exception> failure, boolean isOrderBy,
+        int limit) {
+      this.buckets = buckets;
+      this.resultCollector = resultCollector;
+      this.queryContext = queryContext;
+      this.failure = failure;
+      this.isOrderBy = isOrderBy;
+      this.limit = limit;
+    }
+
+    @Override
+    public Void call() {
+      final Collection<Collection> segmentResults =
+          isOrderBy ? new ArrayList<>(buckets.size()) : resultCollector;
+      ExecutionContext context = null;
+      try {
+        for (Integer bucketId : buckets) {
+          if (failure.get() != null) {
+            return null;
+          }
+          if (queryContext.isCanceled()) {
+            throw queryContext.getQueryCanceledException();
+          }
+          if (QueryMonitor.isLowMemory()) {
+            throw new QueryExecutionLowMemoryException(String.format(
+                "Query execution canceled due to memory threshold crossed in system, memory used: %s bytes.",
+                QueryMonitor.getMemoryUsedBytes()));
+          }
+          context = new QueryExecutionContext(parameters, pr.getCache(), query);
+          context.setBucketList(Collections.singletonList(bucketId));
+          executeQueryOnBuckets(segmentResults, context);
+        }
+        if (isOrderBy && !segmentResults.isEmpty()) {
+          // merge the sorted results of this segment, so only one is left to merge per segment
+          final Collection merged = new ArrayList<>(
+              coalesceOrderedResults(segmentResults, context, query.getSimpleSelect(), limit));
+          synchronized (resultCollector) {
+            resultCollector.add(merged);
+          }
+        }
+      } catch (ForceReattemptException | QueryException | CacheRuntimeException e) {
+        failure.compareAndSet(null, e);
+      }
+      return null;
+    }
+  }
+
   /**
    * Status token placed in results stream to track completion of query results for a given bucket
    */
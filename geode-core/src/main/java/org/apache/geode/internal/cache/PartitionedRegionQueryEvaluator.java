@@ -1051,7 +1051,9 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
   }
 
   protected PRQueryProcessor createLocalPRQueryProcessor(List<Integer> bucketList) {
-    return new PRQueryProcessor(pr, query, parameters, bucketList);
+    PRQueryProcessor processor = new PRQueryProcessor(pr, query, parameters, bucketList);
+    processor.setParallelism(executionContext.getParallelism());
+    return processor;
   }
 
   protected void memberStreamCorrupted(InternalDistributedMember sender) {
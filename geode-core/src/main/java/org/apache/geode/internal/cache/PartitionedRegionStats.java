@@ -135,6 +135,10 @@ public class PartitionedRegionStats {
   private static final int putLocalCompletedId;
   private static final int putLocalInProgressId;
   private static final int putLocalTimeId;
+  private static final int bucketGIIsInProgressId;
+  private static final int bucketGIIsCompletedId;
+  private static final int bucketGIITimeId;
+  private static final int bucketGIIBytesReceivedId;
 
   private static final int totalNumBucketsId; // total number of buckets
   private static final int primaryBucketCountId; // number of hosted primary buckets
@@ -395,6 +399,18 @@ public class PartitionedRegionStats {
             f.createLongCounter("putLocalTime",
                 "Total time spent doing puts that did originate in the primary.", "nanoseconds",
                 false),
+            f.createLongGauge("bucketGIIsInProgress",
+                "Current number of buckets receiving their initial image from another member.",
+                "operations", false),
+            f.createLongCounter("bucketGIIsCompleted",
+                "Total number of buckets that received their initial image from another member.",
+                "operations", false),
+            f.createLongCounter("bucketGIITime",
+                "Total time spent receiving initial images of buckets from other members.",
+                "nanoseconds", false),
+            f.createLongCounter("bucketGIIBytesReceived",
+                "Total number of serialized value bytes received in initial images of buckets. Divided by bucketGIITime this gives the throughput of a bucket image transfer.",
+                "bytes", false),
 
             f.createLongGauge("rebalanceBucketCreatesInProgress",
                 "Current number of bucket create operations being performed for rebalancing.",
@@ -526,6 +542,10 @@ public class PartitionedRegionStats {
     putLocalCompletedId = type.nameToId("putLocalCompleted");
     putLocalInProgressId = type.nameToId("putLocalInProgress");
     putLocalTimeId = type.nameToId("putLocalTime");
+    bucketGIIsInProgressId = type.nameToId("bucketGIIsInProgress");
+    bucketGIIsCompletedId = type.nameToId("bucketGIIsCompleted");
+    bucketGIITimeId = type.nameToId("bucketGIITime");
+    bucketGIIBytesReceivedId = type.nameToId("bucketGIIBytesReceived");
 
     prMetaDataSentCountId = type.nameToId("prMetaDataSentCount");
 
@@ -1191,6 +1211,34 @@ public class PartitionedRegionStats {
     stats.incLong(putLocalTimeId, delta);
   }
 
+  public long startBucketGII() {
+    stats.incLong(bucketGIIsInProgressId, 1);
+    return getTime();
+  }
+
+  /**
+   * @param completed whether the bucket received its image
+   * @param bytesReceived the serialized value bytes received, whether or not the image completed
+   */
+  public void endBucketGII(long start, boolean completed, long bytesReceived) {
+    stats.incLong(bucketGIIsInProgressId, -1);
+    stats.incLong(bucketGIIBytesReceivedId, bytesReceived);
+    if (completed) {
+      stats.incLong(bucketGIIsCompletedId, 1);
+      if (clock.isEnabled()) {
+        stats.incLong(bucketGIITimeId, getTime() - start);
+      }
+    }
+  }
+
+  public long getBucketGIIsCompleted() {
+    return stats.getLong(bucketGIIsCompletedId);
+  }
+
+  public long getBucketGIIBytesReceived() {
+    return stats.getLong(bucketGIIBytesReceivedId);
+  }
+
   public void incPRMetaDataSentCount() {
     stats.incLong(prMetaDataSentCountId, 1);
   }
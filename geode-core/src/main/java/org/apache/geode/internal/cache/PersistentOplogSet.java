@@ -457,36 +457,58 @@ public class PersistentOplogSet implements OplogSet {
     if (!oplogSet.isEmpty()) {
       long startOpLogRecovery = System.currentTimeMillis();
 
-      // first figure out all entries that have been destroyed
-      boolean latestOplog = true;
+      // The drfs are read first, then the krfs or crfs, both newest oplog first.
+      // Let the prefetcher read them from disk in that order while we apply them.
+      List<File> drfFiles = new ArrayList<>(oplogSet.size());
+      List<File> liveEntryFiles = new ArrayList<>(oplogSet.size());
       for (Oplog oplog : oplogSet) {
-        byteCount += oplog.recoverDrf(deletedIds, getAlreadyRecoveredOnce().get(), latestOplog);
-        latestOplog = false;
-        if (!getAlreadyRecoveredOnce().get()) {
-          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
-        }
+        drfFiles.add(oplog.getDrfFile());
+        liveEntryFiles.add(oplog.getLiveEntryRecoveryFile(recoverValuesSync()));
       }
+      List<File> recoveryFiles = new ArrayList<>(drfFiles);
+      recoveryFiles.addAll(liveEntryFiles);
+
+      try (OplogRecoveryPrefetcher prefetcher =
+          OplogRecoveryPrefetcher.start(recoveryFiles, parent.getStats())) {
+        // first figure out all entries that have been destroyed
+        long startDrfRecovery = parent.getStats().getStatTime();
+        boolean latestOplog = true;
+        int i = 0;
+        for (Oplog oplog : oplogSet) {
+          byteCount += oplog.recoverDrf(deletedIds, getAlreadyRecoveredOnce().get(), latestOplog);
+          prefetcher.consumed(drfFiles.get(i++));
+          latestOplog = false;
+          if (!getAlreadyRecoveredOnce().get()) {
+            updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+          }
+        }
+        parent.getStats().endRecoveryDrfPhase(startDrfRecovery);
 
-      parent.incDeadRecordCount(deletedIds.size());
+        parent.incDeadRecordCount(deletedIds.size());
 
-      // now figure out live entries
-      latestOplog = true;
-      for (Oplog oplog : oplogSet) {
-        long startOpLogRead = parent.getStats().startOplogRead();
-        long bytesRead = oplog.recoverCrf(deletedIds, recoverValues(), recoverValuesSync(),
-            getAlreadyRecoveredOnce().get(), oplogsNeedingValueRecovery, latestOplog);
-        latestOplog = false;
-        if (!getAlreadyRecoveredOnce().get()) {
-          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
-        }
-        byteCount += bytesRead;
-        parent.getStats().endOplogRead(startOpLogRead, bytesRead);
+        // now figure out live entries
+        long startCrfRecovery = parent.getStats().getStatTime();
+        latestOplog = true;
+        i = 0;
+        for (Oplog oplog : oplogSet) {
+          long startOpLogRead = parent.getStats().startOplogRead();
+          long bytesRead = oplog.recoverCrf(deletedIds, recoverValues(), recoverValuesSync(),
+              getAlreadyRecoveredOnce().get(), oplogsNeedingValueRecovery, latestOplog);
+          prefetcher.consumed(liveEntryFiles.get(i++));
+          latestOplog = false;
+          if (!getAlreadyRecoveredOnce().get()) {
+            updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+          }
+          byteCount += bytesRead;
+          parent.getStats().endOplogRead(startOpLogRead, bytesRead);
 
-        // Callback to the disk regions to indicate the oplog is recovered
-        // Used for offline export
-        for (DiskRecoveryStore drs : currentRecoveryMap.values()) {
-          drs.getDiskRegionView().oplogRecovered(oplog.oplogId);
+          // Callback to the disk regions to indicate the oplog is recovered
+          // Used for offline export
+          for (DiskRecoveryStore drs : currentRecoveryMap.values()) {
+            drs.getDiskRegionView().oplogRecovered(oplog.oplogId);
+          }
         }
+        parent.getStats().endRecoveryCrfPhase(startCrfRecovery);
       }
 
       long endOpLogRecovery = System.currentTimeMillis();
@@ -496,6 +518,7 @@ public class PersistentOplogSet implements OplogSet {
 
     if (!parent.isOfflineCompacting()) {
       long startRegionInit = System.currentTimeMillis();
+      long startRegionInitStat = parent.getStats().getStatTime();
 
       // create the oplogs now so that loadRegionData can have them available
       // Create an array of Oplogs so that we are able to add it in a single shot
@@ -534,6 +557,7 @@ public class PersistentOplogSet implements OplogSet {
         long endRegionInit = System.currentTimeMillis();
         logger.info("recovery region initialization took {} ms", endRegionInit - startRegionInit);
       }
+      parent.getStats().endRecoveryRegionInitPhase(startRegionInitStat);
     }
     return byteCount;
   }
@@ -1014,16 +1038,21 @@ public class PersistentOplogSet implements OplogSet {
    * Add compactable oplogs to the list, up to the maximum size.
    */
   void getCompactableOplogs(List<CompactableOplog> compactableOplogs, int max) {
+    List<Oplog> candidates = new ArrayList<>();
     synchronized (getOplogIdToOplog()) {
       for (Oplog oplog : getOplogIdToOplog().values()) {
-        if (compactableOplogs.size() >= max) {
-          return;
-        }
         if (oplog.needsCompaction()) {
-          compactableOplogs.add(oplog);
+          candidates.add(oplog);
         }
       }
     }
+    OplogCompactionOrder.sort(candidates, Oplog::getGarbageRatio, Oplog::getOplogId);
+    for (Oplog oplog : candidates) {
+      if (compactableOplogs.size() >= max) {
+        return;
+      }
+      compactableOplogs.add(oplog);
+    }
   }
 
   void scheduleForRecovery(DiskRecoveryStore diskRecoveryStore) {
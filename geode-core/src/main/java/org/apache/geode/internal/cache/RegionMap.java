@@ -86,6 +86,12 @@ public interface RegionMap extends EvictableMap {
 
     /** whether "api" statistics are enabled */
     boolean statisticsEnabled = false;
+
+    /** the value constraint of the region, used to pick entries that can store values inline */
+    Class<?> valueConstraint = null;
+
+    /** whether the entries are kept in a compact open addressing map */
+    boolean compactEntryMap = false;
   }
 
   RegionEntryFactory getEntryFactory();
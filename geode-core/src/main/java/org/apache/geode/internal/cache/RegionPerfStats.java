@@ -328,6 +328,13 @@ class RegionPerfStats extends CachePerfStats implements RegionStats {
     cachePerfStats.incClearTimeouts();
   }
 
+  @Override
+  public void endExpiryTask(long lag) {
+    stats.incLong(expiryTasksId, 1);
+    stats.incLong(expiryLagTimeId, lag);
+    cachePerfStats.endExpiryTask(lag);
+  }
+
   @Override
   public void incConflatedEventsCount() {
     stats.incLong(conflatedEventsId, 1);
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import org.apache.geode.internal.cache.TombstoneService.Tombstone;
+import org.apache.geode.internal.cache.versions.VersionSource;
+
+/**
+ * A FIFO queue of tombstones that keeps their fields in parallel arrays instead of holding a
+ * {@link Tombstone} object and a queue node for each one. A queued tombstone costs three references
+ * and 20 bytes of version information. {@link Tombstone} objects are created when elements are
+ * read, so callers must not depend on the identity of the elements.
+ * <p>
+ * The arrays form a ring addressed by a sequence number assigned when an element is added.
+ * Iterators walk sequence numbers, so they stay valid while tombstones are added and the head is
+ * removed. Removing an element from the middle leaves a hole that is skipped; {@link #removeIf}
+ * squeezes the holes out when it is done, which may make a concurrent iterator miss elements.
+ * <p>
+ * All methods synchronize on the queue. The predicate of {@link #removeIf} is called without
+ * holding that lock, since it may need to lock the region entry of the tombstone.
+ */
+class TombstoneQueue extends AbstractQueue<Tombstone> {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private RegionEntry[] entries;
+  private LocalRegion[] regions;
+  private VersionSource<?>[] members;
+  private long[] regionVersions;
+  /** the entry version in the low 24 bits and the distributed system id in the high 8 bits */
+  private int[] entryVersions;
+  private long[] timestamps;
+
+  private int mask;
+
+  /** sequence number of the head element */
+  private long head;
+
+  /** sequence number the next added element will get */
+  private long tail;
+
+  /** number of removed elements between head and tail */
+  private int holes;
+
+  TombstoneQueue() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  private void allocate(int capacity) {
+    entries = new RegionEntry[capacity];
+    regions = new LocalRegion[capacity];
+    members = new VersionSource<?>[capacity];
+    regionVersions = new long[capacity];
+    entryVersions = new int[capacity];
+    timestamps = new long[capacity];
+    mask = capacity - 1;
+  }
+
+  private int index(long seq) {
+    return (int) seq & mask;
+  }
+
+  @Override
+  public synchronized boolean offer(Tombstone tombstone) {
+    if (tombstone.entry == null) {
+      throw new NullPointerException("tombstone entry");
+    }
+    if (tail - head == entries.length) {
+      resize(entries.length << 1);
+    }
+    final int i = index(tail++);
+    entries[i] = tombstone.entry;
+    regions[i] = tombstone.region;
+    members[i] = tombstone.getMemberID();
+    regionVersions[i] = tombstone.getRegionVersion();
+    entryVersions[i] =
+        (tombstone.getEntryVersion() & 0xFFFFFF) | (tombstone.getDistributedSystemId() << 24);
+    timestamps[i] = tombstone.getVersionTimeStamp();
+    return true;
+  }
+
+  @Override
+  public synchronized Tombstone peek() {
+    skipHoles();
+    return head == tail ? null : get(index(head));
+  }
+
+  @Override
+  public synchronized Tombstone poll() {
+    skipHoles();
+    if (head == tail) {
+      return null;
+    }
+    final int i = index(head);
+    final Tombstone tombstone = get(i);
+    clear(i);
+    head++;
+    skipHoles();
+    shrinkIfSparse();
+    return tombstone;
+  }
+
+  @Override
+  public synchronized int size() {
+    return (int) (tail - head) - holes;
+  }
+
+  @Override
+  public Iterator<Tombstone> iterator() {
+    return new Itr();
+  }
+
+  /**
+   * Removes the elements matched by the filter, then compacts the queue so the removed elements no
+   * longer take up space.
+   */
+  @Override
+  public boolean removeIf(Predicate<? super Tombstone> filter) {
+    boolean removed = false;
+    for (Iterator<Tombstone> it = iterator(); it.hasNext();) {
+      if (filter.test(it.next())) {
+        it.remove();
+        removed = true;
+      }
+    }
+    if (removed) {
+      compact();
+    }
+    return removed;
+  }
+
+  @Override
+  public synchronized void clear() {
+    allocate(INITIAL_CAPACITY);
+    head = tail;
+    holes = 0;
+  }
+
+  private Tombstone get(int i) {
+    final int packedVersion = entryVersions[i];
+    return new Tombstone(entries[i], regions[i], members[i], packedVersion & 0xFFFFFF,
+        regionVersions[i], timestamps[i], packedVersion >> 24);
+  }
+
+  private void clear(int i) {
+    entries[i] = null;
+    regions[i] = null;
+    members[i] = null;
+  }
+
+  private void skipHoles() {
+    while (holes > 0 && head != tail && entries[index(head)] == null) {
+      head++;
+      holes--;
+    }
+  }
+
+  private synchronized void removeAt(long seq) {
+    if (seq < head) {
+      return;
+    }
+    final int i = index(seq);
+    if (entries[i] == null) {
+      return;
+    }
+    clear(i);
+    if (seq == head) {
+      head++;
+      skipHoles();
+    } else {
+      holes++;
+    }
+  }
+
+  private synchronized void compact() {
+    if (holes == 0) {
+      return;
+    }
+    long to = head;
+    for (long from = head; from != tail; from++) {
+      final int i = index(from);
+      if (entries[i] != null) {
+        if (to != from) {
+          final int j = index(to);
+          entries[j] = entries[i];
+          regions[j] = regions[i];
+          members[j] = members[i];
+          regionVersions[j] = regionVersions[i];
+          entryVersions[j] = entryVersions[i];
+          timestamps[j] = timestamps[i];
+          clear(i);
+        }
+        to++;
+      }
+    }
+    tail = to;
+    holes = 0;
+    shrinkIfSparse();
+  }
+
+  private void shrinkIfSparse() {
+    int capacity = entries.length;
+    while (capacity > INITIAL_CAPACITY && tail - head < capacity >> 2) {
+      capacity >>= 1;
+    }
+    if (capacity != entries.length) {
+      resize(capacity);
+    }
+  }
+
+  /**
+   * Moves the elements into arrays of the given capacity, keeping their sequence numbers.
+   */
+  private void resize(int capacity) {
+    final RegionEntry[] oldEntries = entries;
+    final LocalRegion[] oldRegions = regions;
+    final VersionSource<?>[] oldMembers = members;
+    final long[] oldRegionVersions = regionVersions;
+    final int[] oldEntryVersions = entryVersions;
+    final long[] oldTimestamps = timestamps;
+    final int oldMask = mask;
+    allocate(capacity);
+    for (long seq = head; seq != tail; seq++) {
+      final int i = (int) seq & oldMask;
+      final int j = index(seq);
+      entries[j] = oldEntries[i];
+      regions[j] = oldRegions[i];
+      members[j] = oldMembers[i];
+      regionVersions[j] = oldRegionVersions[i];
+      entryVersions[j] = oldEntryVersions[i];
+      timestamps[j] = oldTimestamps[i];
+    }
+  }
+
+  private class Itr implements Iterator<Tombstone> {
+    private long next = Long.MIN_VALUE;
+
+    private long last = -1;
+
+    @Override
+    public boolean hasNext() {
+      synchronized (TombstoneQueue.this) {
+        if (next < head) {
+          next = head;
+        }
+        while (next < tail && entries[index(next)] == null) {
+          next++;
+        }
+        return next < tail;
+      }
+    }
+
+    @Override
+    public Tombstone next() {
+      synchronized (TombstoneQueue.this) {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        last = next++;
+        return get(index(last));
+      }
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      removeAt(last);
+      last = -1;
+    }
+  }
+}
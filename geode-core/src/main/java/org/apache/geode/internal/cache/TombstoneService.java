@@ -18,15 +18,14 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.geode.util.internal.GeodeGlossary.GEMFIRE_PREFIX;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -148,32 +147,54 @@ public class TombstoneService {
   public static boolean IDLE_EXPIRATION = IDLE_EXPIRATION_DEFAULT;
 
   /**
-   * two sweepers, one for replicated regions (including PR buckets) and one for other regions. They
-   * have different timeout intervals.
+   * The number of sweeper threads for each kind of region. The tombstones of a region, or of a
+   * bucket, are all tracked by the same sweeper, and the buckets of a partitioned region are spread
+   * over the sweepers. The default is one sweeper for replicated regions and one for other regions.
    */
-  private final ReplicateTombstoneSweeper replicatedTombstoneSweeper;
-  private final NonReplicateTombstoneSweeper nonReplicatedTombstoneSweeper;
+  @VisibleForTesting
+  static final int SWEEPER_THREADS =
+      Math.max(1, Integer.getInteger(GEMFIRE_PREFIX + "tombstone-sweeper-threads", 1));
+
+  /**
+   * sweepers for replicated regions (including PR buckets) and for other regions. They have
+   * different timeout intervals.
+   */
+  private final ReplicateTombstoneSweeper[] replicatedTombstoneSweepers;
+  private final NonReplicateTombstoneSweeper[] nonReplicatedTombstoneSweepers;
 
   public static TombstoneService initialize(InternalCache cache) {
     return new TombstoneService(cache);
   }
 
   private TombstoneService(InternalCache cache) {
-    replicatedTombstoneSweeper =
-        new ReplicateTombstoneSweeper(cache, cache.getCachePerfStats(), cache.getCancelCriterion(),
-            cache.getDistributionManager().getExecutors().getWaitingThreadPool());
-    nonReplicatedTombstoneSweeper = new NonReplicateTombstoneSweeper(cache,
-        cache.getCachePerfStats(), cache.getCancelCriterion());
-    replicatedTombstoneSweeper.start();
-    nonReplicatedTombstoneSweeper.start();
+    replicatedTombstoneSweepers = new ReplicateTombstoneSweeper[SWEEPER_THREADS];
+    nonReplicatedTombstoneSweepers = new NonReplicateTombstoneSweeper[SWEEPER_THREADS];
+    final ExpiredTombstoneBatch expiredTombstoneBatch = new ExpiredTombstoneBatch();
+    final AtomicLong replicatedMemoryUsed = new AtomicLong();
+    final AtomicLong nonReplicatedMemoryUsed = new AtomicLong();
+    for (int i = 0; i < SWEEPER_THREADS; i++) {
+      final String suffix = SWEEPER_THREADS == 1 ? "" : " " + i;
+      replicatedTombstoneSweepers[i] = new ReplicateTombstoneSweeper(cache,
+          cache.getCachePerfStats(), cache.getCancelCriterion(),
+          cache.getDistributionManager().getExecutors().getWaitingThreadPool(),
+          expiredTombstoneBatch, replicatedMemoryUsed, suffix);
+      nonReplicatedTombstoneSweepers[i] = new NonReplicateTombstoneSweeper(cache,
+          cache.getCachePerfStats(), cache.getCancelCriterion(), nonReplicatedMemoryUsed, suffix);
+    }
+    for (int i = 0; i < SWEEPER_THREADS; i++) {
+      replicatedTombstoneSweepers[i].start();
+      nonReplicatedTombstoneSweepers[i].start();
+    }
   }
 
   /**
-   * this ensures that the background sweeper thread is stopped
+   * this ensures that the background sweeper threads are stopped
    */
   public void stop() {
-    replicatedTombstoneSweeper.stop();
-    nonReplicatedTombstoneSweeper.stop();
+    for (int i = 0; i < SWEEPER_THREADS; i++) {
+      replicatedTombstoneSweepers[i].stop();
+      nonReplicatedTombstoneSweepers[i].stop();
+    }
   }
 
   /**
@@ -198,14 +219,24 @@ public class TombstoneService {
 
 
   public TombstoneSweeper getSweeper(LocalRegion r) {
+    final int shard = shardOf(r);
     if (r.getScope().isDistributed() && r.getServerProxy() == null
         && r.getDataPolicy().withReplication()) {
-      return replicatedTombstoneSweeper;
+      return replicatedTombstoneSweepers[shard];
     } else {
-      return nonReplicatedTombstoneSweeper;
+      return nonReplicatedTombstoneSweepers[shard];
     }
   }
 
+  private static int shardOf(LocalRegion r) {
+    if (SWEEPER_THREADS == 1) {
+      return 0;
+    }
+    // bucket regions have the bucket id in their path
+    final int hash = r.getFullPath().hashCode();
+    return Math.floorMod(hash ^ (hash >>> 16), SWEEPER_THREADS);
+  }
+
   /**
    * remove all tombstones for the given region. Do this when the region is cleared or destroyed.
    */
@@ -214,21 +245,25 @@ public class TombstoneService {
   }
 
   public int getGCBlockCount() {
-    return replicatedTombstoneSweeper.getGCBlockCount();
+    return replicatedTombstoneSweepers[0].getGCBlockCount();
   }
 
   public int incrementGCBlockCount() {
-    return replicatedTombstoneSweeper.incrementGCBlockCount();
+    return replicatedTombstoneSweepers[0].incrementGCBlockCount();
   }
 
   public int decrementGCBlockCount() {
-    return replicatedTombstoneSweeper.decrementGCBlockCount();
+    return replicatedTombstoneSweepers[0].decrementGCBlockCount();
   }
 
   public long getScheduledTombstoneCount() {
     long result = 0;
-    result += replicatedTombstoneSweeper.getScheduledTombstoneCount();
-    result += nonReplicatedTombstoneSweeper.getScheduledTombstoneCount();
+    for (int i = 0; i < SWEEPER_THREADS; i++) {
+      result += replicatedTombstoneSweepers[i].getUnexpiredTombstoneCount();
+      result += nonReplicatedTombstoneSweepers[i].getScheduledTombstoneCount();
+    }
+    // the expired tombstones of all replicate sweepers are in one batch
+    result += replicatedTombstoneSweepers[0].getExpiredTombstoneCount();
     return result;
   }
 
@@ -339,17 +374,19 @@ public class TombstoneService {
 
   /**
    * For test purposes only, force the expiration of a number of tombstones for replicated regions.
+   * With more than one sweeper thread only the tombstones of the first sweeper are expired.
    *
    * @param count Number of tombstones to expire
    *
    * @return true if the expiration occurred
    */
   public boolean forceBatchExpirationForTests(int count) throws InterruptedException {
-    return replicatedTombstoneSweeper.testHook_forceExpiredTombstoneGC(count, 30, SECONDS);
+    return replicatedTombstoneSweepers[0].testHook_forceExpiredTombstoneGC(count, 30, SECONDS);
   }
 
   /**
    * For test purposes only, force the expiration of a number of tombstones for replicated regions.
+   * With more than one sweeper thread only the tombstones of the first sweeper are expired.
    *
    * @param count Number of tombstones to expire
    * @param timeout the maximum time to wait
@@ -359,17 +396,18 @@ public class TombstoneService {
    */
   public boolean forceBatchExpirationForTests(int count, long timeout, TimeUnit unit)
       throws InterruptedException {
-    return replicatedTombstoneSweeper.testHook_forceExpiredTombstoneGC(count, timeout, unit);
+    return replicatedTombstoneSweepers[0].testHook_forceExpiredTombstoneGC(count, timeout, unit);
   }
 
   @Override
   public String toString() {
-    return "Destroyed entries GC service.  Replicate Queue=" + replicatedTombstoneSweeper
-        + " Non-replicate Queue=" + nonReplicatedTombstoneSweeper;
+    return "Destroyed entries GC service.  Replicate Queue="
+        + Arrays.toString(replicatedTombstoneSweepers) + " Non-replicate Queue="
+        + Arrays.toString(nonReplicatedTombstoneSweepers);
   }
 
   public Object getBlockGCLock() {
-    return replicatedTombstoneSweeper.getBlockGCLock();
+    return replicatedTombstoneSweepers[0].getBlockGCLock();
   }
 
   @VisibleForTesting
@@ -392,6 +430,13 @@ public class TombstoneService {
       this.region = region;
     }
 
+    Tombstone(RegionEntry entry, LocalRegion region, VersionSource memberID, int entryVersion,
+        long regionVersion, long versionTimeStamp, int distributedSystemId) {
+      super(memberID, entryVersion, regionVersion, versionTimeStamp, distributedSystemId);
+      this.entry = entry;
+      this.region = region;
+    }
+
     public int getSize() {
       return Tombstone.PER_TOMBSTONE_OVERHEAD // includes per-entry overhead
           + ObjectSizer.DEFAULT.sizeof(entry.getKey());
@@ -406,9 +451,9 @@ public class TombstoneService {
   }
   private static class NonReplicateTombstoneSweeper extends TombstoneSweeper {
     NonReplicateTombstoneSweeper(CacheTime cacheTime, CachePerfStats stats,
-        CancelCriterion cancelCriterion) {
+        CancelCriterion cancelCriterion, AtomicLong memoryUsedEstimate, String threadNameSuffix) {
       super(cacheTime, stats, cancelCriterion, NON_REPLICATE_TOMBSTONE_TIMEOUT,
-          "Non-replicate Region Garbage Collector");
+          "Non-replicate Region Garbage Collector" + threadNameSuffix, memoryUsedEstimate);
     }
 
     @Override
@@ -480,24 +525,11 @@ public class TombstoneService {
      */
     private final ExecutorService executor;
     /**
-     * tombstones that have expired and are awaiting batch removal.
+     * tombstones that have expired and are awaiting batch removal, shared with the other replicate
+     * sweepers.
      */
+    private final ExpiredTombstoneBatch batch;
     private final List<Tombstone> expiredTombstones;
-    private final Object expiredTombstonesLock = new Object();
-
-    /**
-     * Force batch expiration
-     */
-    private boolean forceBatchExpiration = false;
-
-    /**
-     * Is a batch expiration in progress? Part of expireBatch is done in a background thread and
-     * until that completes batch expiration is in progress.
-     */
-    private volatile boolean batchExpirationInProgress;
-
-    private final Object blockGCLock = new Object();
-    private int progressingDeltaGIICount;
 
     /**
      * A test hook to force a call to expireBatch. The call will only happen after
@@ -512,39 +544,47 @@ public class TombstoneService {
 
     ReplicateTombstoneSweeper(CacheTime cacheTime, CachePerfStats stats,
         CancelCriterion cancelCriterion, ExecutorService executor) {
+      this(cacheTime, stats, cancelCriterion, executor, new ExpiredTombstoneBatch(),
+          new AtomicLong(), "");
+    }
+
+    ReplicateTombstoneSweeper(CacheTime cacheTime, CachePerfStats stats,
+        CancelCriterion cancelCriterion, ExecutorService executor, ExpiredTombstoneBatch batch,
+        AtomicLong memoryUsedEstimate, String threadNameSuffix) {
       super(cacheTime, stats, cancelCriterion, REPLICATE_TOMBSTONE_TIMEOUT,
-          "Replicate/Partition Region Garbage Collector");
-      expiredTombstones = new ArrayList<>();
+          "Replicate/Partition Region Garbage Collector" + threadNameSuffix, memoryUsedEstimate);
+      this.batch = batch;
+      expiredTombstones = batch.tombstones;
       this.executor = executor;
     }
 
     public int decrementGCBlockCount() {
       synchronized (getBlockGCLock()) {
-        return --progressingDeltaGIICount;
+        return --batch.progressingDeltaGIICount;
       }
     }
 
     public int incrementGCBlockCount() {
       synchronized (getBlockGCLock()) {
-        return ++progressingDeltaGIICount;
+        return ++batch.progressingDeltaGIICount;
       }
     }
 
     public int getGCBlockCount() {
       synchronized (getBlockGCLock()) {
-        return progressingDeltaGIICount;
+        return batch.progressingDeltaGIICount;
       }
     }
 
     public Object getBlockGCLock() {
-      return blockGCLock;
+      return batch.blockGCLock;
     }
 
     @Override
     protected boolean removeExpiredIf(Predicate<Tombstone> predicate) {
       boolean result = false;
       long removalSize = 0;
-      synchronized (expiredTombstonesLock) {
+      synchronized (expiredTombstones) {
         // Iterate in reverse order to optimize lots of removes.
         // Since expiredTombstones is an ArrayList removing from
         // low indexes requires moving everything at a higher index down.
@@ -565,7 +605,7 @@ public class TombstoneService {
 
     protected void expireBatch() {
       // fix for bug #46087 - OOME due to too many GC threads
-      if (batchExpirationInProgress) {
+      if (batch.expirationInProgress) {
         // incorrect return due to race between this and waiting-pool GC thread is okay
         // because the sweeper thread will just try again after its next sleep (max sleep is 10
         // seconds)
@@ -581,7 +621,7 @@ public class TombstoneService {
           return;
         }
 
-        batchExpirationInProgress = true;
+        batch.expirationInProgress = true;
         boolean batchScheduled = false;
         try {
 
@@ -595,7 +635,7 @@ public class TombstoneService {
           // Update the GC RVV for all of the affected regions.
           // We need to do this so that we can persist the GC RVV before
           // we start removing entries from the map.
-          synchronized (expiredTombstonesLock) {
+          synchronized (expiredTombstones) {
             for (Tombstone t : expiredTombstones) {
               DistributedRegion tr = (DistributedRegion) t.region;
               if (!tr.isInitialized()) {
@@ -652,7 +692,7 @@ public class TombstoneService {
                 r.distributeTombstoneGC(rKeysReaped);
               }
             } finally {
-              batchExpirationInProgress = false;
+              batch.expirationInProgress = false;
             }
           });
           batchScheduled = true;
@@ -661,7 +701,7 @@ public class TombstoneService {
             testHook_forceBatchExpireCall.countDown();
           }
           if (!batchScheduled) {
-            batchExpirationInProgress = false;
+            batch.expirationInProgress = false;
           }
         }
       } // sync on deltaGIILock
@@ -679,7 +719,7 @@ public class TombstoneService {
     @Override
     protected void checkExpiredTombstoneGC() {
       if (shouldCallExpireBatch()) {
-        forceBatchExpiration = false;
+        batch.forceExpiration = false;
         expireBatch();
       }
       checkIfBatchExpirationShouldBeForced();
@@ -689,7 +729,7 @@ public class TombstoneService {
       if (testHook_forceExpirationCount > 0) {
         return false;
       }
-      if (forceBatchExpiration) {
+      if (batch.forceExpiration) {
         return true;
       }
       if (testHook_forceBatchExpireCall != null) {
@@ -716,14 +756,14 @@ public class TombstoneService {
       if (GC_MEMORY_THRESHOLD <= 0.0) {
         return;
       }
-      if (batchExpirationInProgress) {
+      if (batch.expirationInProgress) {
         return;
       }
       if (expiredTombstones.size() <= (EXPIRED_TOMBSTONE_LIMIT / 4)) {
         return;
       }
       if (FORCE_GC_MEMORY_EVENTS || isFreeMemoryLow()) {
-        forceBatchExpiration = true;
+        batch.forceExpiration = true;
         if (logger.isDebugEnabled()) {
           logger.debug("forcing batch expiration due to low memory conditions");
         }
@@ -761,7 +801,7 @@ public class TombstoneService {
         logger.trace(LogMarker.TOMBSTONE_VERBOSE, "adding expired tombstone {} to batch",
             tombstone);
       }
-      synchronized (expiredTombstonesLock) {
+      synchronized (expiredTombstones) {
         expiredTombstones.add(tombstone);
       }
     }
@@ -820,10 +860,40 @@ public class TombstoneService {
 
     @Override
     public long getScheduledTombstoneCount() {
-      return super.getScheduledTombstoneCount() + expiredTombstones.size();
+      return super.getScheduledTombstoneCount() + getExpiredTombstoneCount();
+    }
+
+    long getExpiredTombstoneCount() {
+      return expiredTombstones.size();
     }
   }
 
+  /**
+   * The state shared by the replicate sweepers. Their expired tombstones are collected into one
+   * batch, so that a GC round covers the regions of all sweepers, and a delta GII blocks the
+   * tombstone GC of all of them.
+   */
+  static class ExpiredTombstoneBatch {
+    /** tombstones that have expired and are awaiting batch removal; guarded by itself */
+    final List<Tombstone> tombstones = new ArrayList<>();
+
+    final Object blockGCLock = new Object();
+
+    /** guarded by blockGCLock */
+    int progressingDeltaGIICount;
+
+    /**
+     * Is a batch expiration in progress? Part of expireBatch is done in a background thread and
+     * until that completes batch expiration is in progress.
+     */
+    volatile boolean expirationInProgress;
+
+    /**
+     * Force batch expiration
+     */
+    volatile boolean forceExpiration;
+  }
+
   public abstract static class TombstoneSweeper implements Runnable {
     /**
      * the expiration time for tombstones in this sweeper
@@ -848,12 +918,13 @@ public class TombstoneService {
     /**
      * the current tombstones. These are queued for expiration. When tombstones are resurrected they
      * are left in this queue and the sweeper thread figures out that they are no longer valid
-     * tombstones.
+     * tombstones. The queue stores the tombstones in arrays rather than as objects.
      */
     @VisibleForTesting
     public final Queue<Tombstone> tombstones;
     /**
-     * Estimate of the amount of memory used by this sweeper
+     * Estimate of the amount of memory used by this sweeper and the others for the same kind of
+     * region
      */
     private final AtomicLong memoryUsedEstimate;
     /**
@@ -874,14 +945,14 @@ public class TombstoneService {
     private volatile boolean isStopped;
 
     TombstoneSweeper(CacheTime cacheTime, CachePerfStats stats, CancelCriterion cancelCriterion,
-        long expiryTime, String threadName) {
+        long expiryTime, String threadName, AtomicLong memoryUsedEstimate) {
       this.cacheTime = cacheTime;
       this.stats = stats;
       this.cancelCriterion = cancelCriterion;
       EXPIRY_TIME = expiryTime;
       PURGE_INTERVAL = Math.min(DEFUNCT_TOMBSTONE_SCAN_INTERVAL, expiryTime);
-      tombstones = new ConcurrentLinkedQueue<>();
-      memoryUsedEstimate = new AtomicLong();
+      tombstones = new TombstoneQueue();
+      this.memoryUsedEstimate = memoryUsedEstimate;
       queueHeadLock = new StoppableReentrantLock(cancelCriterion);
       sweeperThread = new LoggingThread(threadName, this);
       lastPurgeTimestamp = getNow();
@@ -900,22 +971,21 @@ public class TombstoneService {
      * @return true if predicate ever returned true
      */
     private boolean removeUnexpiredIf(Predicate<Tombstone> predicate) {
-      boolean result = false;
-      long removalSize = 0;
+      boolean result;
+      final AtomicLong removalSize = new AtomicLong();
       lockQueueHead();
       try {
-        for (Iterator<Tombstone> it = getQueue().iterator(); it.hasNext();) {
-          Tombstone t = it.next();
+        result = getQueue().removeIf(t -> {
           if (predicate.test(t)) {
-            removalSize += t.getSize();
-            it.remove();
-            result = true;
+            removalSize.addAndGet(t.getSize());
+            return true;
           }
-        }
+          return false;
+        });
       } finally {
         unlockQueueHead();
       }
-      updateMemoryEstimate(-removalSize);
+      updateMemoryEstimate(-removalSize.get());
       return result;
     }
 
@@ -1086,6 +1156,7 @@ public class TombstoneService {
           }
           long msUntilHeadTombstoneExpires = oldest.getVersionTimeStamp() + EXPIRY_TIME - now;
           if (hasExpired(msUntilHeadTombstoneExpires)) {
+            stats.endTombstoneExpiration(Math.max(0L, -msUntilHeadTombstoneExpires));
             try {
               tombstones.remove();
               expireTombstone(oldest);
@@ -1104,6 +1175,10 @@ public class TombstoneService {
     }
 
     public long getScheduledTombstoneCount() {
+      return getUnexpiredTombstoneCount();
+    }
+
+    long getUnexpiredTombstoneCount() {
       return getQueue().size();
     }
 
@@ -62,7 +62,8 @@ public class VMLRURegionMap extends AbstractRegionMap {
     initialize(owner, attr, internalRegionArgs);
     this.evictionController = evictionController;
     getEvictionController().setPerEntryOverhead(getEntryOverhead());
-    lruList = new EvictionListBuilder(getEvictionController()).create();
+    lruList = new EvictionListBuilder(getEvictionController(),
+        () -> regionEntriesInVM().iterator()).create();
   }
 
   private final EvictionController evictionController;
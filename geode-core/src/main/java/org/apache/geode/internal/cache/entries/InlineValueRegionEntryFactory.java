@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.entries;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.apache.geode.annotations.Immutable;
+import org.apache.geode.internal.cache.InlineKeyHelper;
+import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.cache.RegionEntryContext;
+import org.apache.geode.internal.cache.RegionEntryFactory;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Creates heap region entries that store a long, double or int value in a primitive field instead
+ * of as a boxed object. Used for regions whose value constraint is Long, Double or Integer if
+ * {@link #INLINE_REGION_VALUES} is set. The entries still hold tokens and any other value in their
+ * object field.
+ * <p>
+ * There are no entry classes that inline both the key and the value, so entries whose key can be
+ * inlined are created by the regular factory of the same kind; an inlined key saves at least as
+ * much as an inlined value.
+ */
+public class InlineValueRegionEntryFactory implements RegionEntryFactory {
+  /**
+   * Whether eligible regions use inline value entries. This is off by default: an inlined value is
+   * boxed again on every read, so reads allocate and get no longer returns the instance that was
+   * put.
+   */
+  public static final boolean INLINE_REGION_VALUES =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "INLINE_REGION_VALUES");
+
+  /**
+   * Stored in the value field of an entry whose value is in its primitive field.
+   */
+  @Immutable
+  static final Object INLINE_VALUE = new Object();
+
+  @FunctionalInterface
+  interface EntryCreator {
+    RegionEntry create(RegionEntryContext context, Object key, Object value);
+  }
+
+  private final Class<?> entryClass;
+  private final EntryCreator entryCreator;
+  private final RegionEntryFactory inlineKeyFactory;
+  private final Supplier<RegionEntryFactory> versionedFactory;
+
+  InlineValueRegionEntryFactory(Class<?> entryClass, EntryCreator entryCreator,
+      RegionEntryFactory inlineKeyFactory, Supplier<RegionEntryFactory> versionedFactory) {
+    this.entryClass = entryClass;
+    this.entryCreator = entryCreator;
+    this.inlineKeyFactory = inlineKeyFactory;
+    this.versionedFactory = versionedFactory;
+  }
+
+  @Override
+  public RegionEntry createEntry(RegionEntryContext context, Object key, Object value) {
+    if (canKeyBeInlined(key)) {
+      return inlineKeyFactory.createEntry(context, key, value);
+    }
+    return entryCreator.create(context, key, value);
+  }
+
+  private static boolean canKeyBeInlined(Object key) {
+    if (!InlineKeyHelper.INLINE_REGION_KEYS) {
+      return false;
+    }
+    Class<?> keyClass = key.getClass();
+    if (keyClass == Integer.class || keyClass == Long.class || keyClass == UUID.class) {
+      return true;
+    }
+    return keyClass == String.class
+        && InlineKeyHelper.canStringBeInlineEncoded((String) key) != null;
+  }
+
+  @Override
+  public Class getEntryClass() {
+    // The class returned from this method is used to estimate the memory size.
+    return entryClass;
+  }
+
+  @Override
+  public RegionEntryFactory makeVersioned() {
+    return versionedFactory.get();
+  }
+
+  @Override
+  public RegionEntryFactory makeOnHeap() {
+    return this;
+  }
+}
@@ -28,6 +28,19 @@ package org.apache.geode.internal.cache.entries;
 #else
 #error the KEY_TYPE macro must be defined    
 #endif
+#if defined(VALUE_LONG)
+#define VALUE_TYPE long
+#define VALUE_CLASS Long
+#elif defined(VALUE_DOUBLE)
+#define VALUE_TYPE double
+#define VALUE_CLASS Double
+#elif defined(VALUE_INT)
+#define VALUE_TYPE int
+#define VALUE_CLASS Integer
+#endif
+#if defined(VALUE_TYPE) && defined(OFFHEAP)
+#error values can only be inlined in heap entries
+#endif
 
 #ifdef KEY_UUID
 import java.util.UUID;
@@ -36,6 +49,10 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 #endif
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+#ifdef VALUE_TYPE
+import org.apache.geode.annotations.Immutable;
+import org.apache.geode.internal.cache.RegionEntryFactory;
+#endif
 #if defined(VERSIONED)
 import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.internal.cache.InternalRegion;
@@ -91,6 +108,16 @@ import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.Ha
  * key string1: KEY_STRING1
  * key string2: KEY_STRING2
  */
+#ifdef VALUE_TYPE
+
+/*
+ * Heap entries with an object key may also define one of the following value macros:
+ *
+ * value long: VALUE_LONG
+ * value double: VALUE_DOUBLE
+ * value int: VALUE_INT
+ */
+#endif
 
 /**
  * Do not modify this class. It was generated. Instead modify LeafRegionEntry.cpp and then run
@@ -114,6 +141,14 @@ public class LEAF_CLASS extends PARENT_CLASS {
 #else
   private volatile Object value;
 #endif
+#ifdef VALUE_TYPE
+
+  /**
+   * Holds the value when it is of the inlined type, in which case value is
+   * InlineValueRegionEntryFactory.INLINE_VALUE.
+   */
+  private volatile VALUE_TYPE primitiveValue;
+#endif
 #ifdef OFFHEAP
   // --------------------------------------- offheap fields ---------------------------------------
 
@@ -341,12 +376,30 @@ public class LEAF_CLASS extends PARENT_CLASS {
 #else
   @Override
   protected Object getValueField() {
+#ifdef VALUE_TYPE
+    final Object value = this.value;
+    if (value == InlineValueRegionEntryFactory.INLINE_VALUE) {
+      return this.primitiveValue;
+    }
+    return value;
+#else
     return this.value;
+#endif
   }
 
   @Override
   protected void setValueField(final Object value) {
+#ifdef VALUE_TYPE
+    if (value instanceof VALUE_CLASS) {
+      // the primitive is written first so a reader that sees INLINE_VALUE also sees it
+      this.primitiveValue = (VALUE_CLASS) value;
+      this.value = InlineValueRegionEntryFactory.INLINE_VALUE;
+    } else {
+      this.value = value;
+    }
+#else
     this.value = value;
+#endif
   }
 #endif
 
@@ -943,6 +996,20 @@ public class LEAF_CLASS extends PARENT_CLASS {
     return false;
   }
 #endif
+#ifdef VALUE_TYPE
+
+  // --------------------------------------- factory code -----------------------------------------
+  // DO NOT modify this class. It was generated from LeafRegionEntry.cpp
+
+  @Immutable
+  private static final RegionEntryFactory factory = new InlineValueRegionEntryFactory(
+      LEAF_CLASS.class, LEAF_CLASS::new, PARENT_CLASS.getEntryFactory(),
+      () -> VERSIONED_LEAF_CLASS.getInlineValueFactory());
+
+  public static RegionEntryFactory getInlineValueFactory() {
+    return factory;
+  }
+#endif
 
   // DO NOT modify this class. It was generated from LeafRegionEntry.cpp
 }
@@ -111,4 +111,14 @@ public class CountLRUStatistics implements EvictionStats {
     stats.incLong(greedyReturnsId, delta);
   }
 
+  @Override
+  public void incAdmissionRejections(long delta) {
+    // nothing needed; entry count eviction does not use TinyLFU
+  }
+
+  @Override
+  public void incFrequentEvictions(long delta) {
+    // nothing needed; entry count eviction does not use TinyLFU
+  }
+
 }
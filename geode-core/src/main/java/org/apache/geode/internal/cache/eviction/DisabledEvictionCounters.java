@@ -53,6 +53,16 @@ class DisabledEvictionCounters implements EvictionCounters {
     // nothing
   }
 
+  @Override
+  public void incAdmissionRejections(long admissionRejections) {
+    // nothing
+  }
+
+  @Override
+  public void incFrequentEvictions(long frequentEvictions) {
+    // nothing
+  }
+
   @Override
   public void incEvictions() {
     // nothing
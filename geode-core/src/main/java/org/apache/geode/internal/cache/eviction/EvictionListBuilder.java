@@ -14,8 +14,12 @@
  */
 package org.apache.geode.internal.cache.eviction;
 
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.internal.cache.RegionEntry;
 import org.apache.geode.internal.lang.SystemProperty;
 import org.apache.geode.internal.lang.SystemPropertyHelper;
 
@@ -23,20 +27,45 @@ public class EvictionListBuilder {
 
   private final boolean evictionScanAsync;
 
+  private final boolean evictionSampling;
+
+  private final boolean evictionTinyLFU;
+
   private final EvictionController controller;
 
+  private final Supplier<Iterator<RegionEntry>> regionEntries;
+
   public EvictionListBuilder(EvictionController evictionController) {
+    this(evictionController, null);
+  }
+
+  /**
+   * @param regionEntries supplies iterators over the entries of the region, needed to sample them
+   */
+  public EvictionListBuilder(EvictionController evictionController,
+      Supplier<Iterator<RegionEntry>> regionEntries) {
     controller = evictionController;
+    this.regionEntries = regionEntries;
     Optional<Boolean> asyncScan =
         SystemProperty.getProductBooleanProperty(SystemPropertyHelper.EVICTION_SCAN_ASYNC);
     evictionScanAsync = asyncScan.orElse(true);
+    evictionSampling = SystemProperty
+        .getProductBooleanProperty(SystemPropertyHelper.EVICTION_SAMPLING).orElse(false);
+    evictionTinyLFU = SystemProperty
+        .getProductBooleanProperty(SystemPropertyHelper.EVICTION_TINYLFU).orElse(false);
   }
 
   public EvictionList create() {
-    if (controller.getEvictionAlgorithm().isLIFO()) {
+    EvictionAlgorithm algorithm = controller.getEvictionAlgorithm();
+    if (evictionTinyLFU && regionEntries != null
+        && (algorithm.isLRUHeap() || algorithm.isLRUMemory())) {
+      return new TinyLFUList(controller, regionEntries);
+    } else if (controller.getEvictionAlgorithm().isLIFO()) {
       return new LIFOList(controller);
     } else {
-      if (evictionScanAsync) {
+      if (evictionSampling && regionEntries != null) {
+        return new LRUListWithSampling(controller, regionEntries);
+      } else if (evictionScanAsync) {
         return new LRUListWithAsyncSorting(controller);
       } else {
         return new LRUListWithSyncSorting(controller);
@@ -36,4 +36,14 @@ public interface EvictionStats {
 
   void incGreedyReturns(long greedyReturns);
 
+  /**
+   * Counts entries that TinyLFU eviction evicted although a more frequently used entry was sampled.
+   */
+  void incAdmissionRejections(long admissionRejections);
+
+  /**
+   * Counts entries evicted by TinyLFU eviction that were used again after they were added.
+   */
+  void incFrequentEvictions(long frequentEvictions);
+
 }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import java.util.Arrays;
+
+import org.apache.geode.annotations.Immutable;
+
+/**
+ * A count-min sketch that estimates how often a key was used recently. Each key maps to four 4-bit
+ * counters, one in each of four rows, and the estimate is the smallest of them. Sixteen counters
+ * are packed into a long, so the sketch costs eight bytes per key it is sized for.
+ * <p>
+ * When the number of recorded uses reaches ten times the capacity all counters are halved, so the
+ * estimates decay and favor what was used recently. The counters saturate at 15.
+ * <p>
+ * Updates are not synchronized. A use recorded concurrently with another one may be lost, which
+ * only makes the estimates less exact.
+ */
+class FrequencySketch {
+  private static final int MINIMUM_CAPACITY = 16;
+
+  private static final int MAXIMUM_CAPACITY = 1 << 26;
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private static final long ONE_MASK = 0x1111111111111111L;
+
+  @Immutable
+  private static final long[] SEEDS =
+      {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+  private volatile long[] table;
+
+  private long sampleSize;
+
+  private long additions;
+
+  FrequencySketch() {
+    allocate(MINIMUM_CAPACITY);
+  }
+
+  private void allocate(int capacity) {
+    sampleSize = 10L * capacity;
+    additions = 0;
+    table = new long[capacity];
+  }
+
+  /**
+   * Grows the sketch so that it can tell apart the frequencies of the given number of keys. Growing
+   * forgets all recorded uses.
+   */
+  void ensureCapacity(long expectedSize) {
+    final int capacity = table.length;
+    if (expectedSize <= capacity || capacity >= MAXIMUM_CAPACITY) {
+      return;
+    }
+    synchronized (this) {
+      if (expectedSize <= table.length) {
+        return;
+      }
+      allocate((int) Math.min(MAXIMUM_CAPACITY, Long.highestOneBit(expectedSize - 1) << 1));
+    }
+  }
+
+  int capacity() {
+    return table.length;
+  }
+
+  /**
+   * Returns the estimated number of uses of the key with the given hash code, from 0 to 15.
+   */
+  int frequency(int keyHash) {
+    final long[] t = table;
+    final int hash = spread(keyHash);
+    final int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      final int index = indexOf(t, hash, i);
+      final int count = (int) ((t[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Records a use of the key with the given hash code.
+   */
+  void increment(int keyHash) {
+    final long[] t = table;
+    final int hash = spread(keyHash);
+    final int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(t, indexOf(t, hash, i), start + i);
+    }
+    if (added && ++additions >= sampleSize) {
+      reset(t);
+    }
+  }
+
+  synchronized void clear() {
+    Arrays.fill(table, 0L);
+    additions = 0;
+  }
+
+  private static boolean incrementAt(long[] t, int index, int counter) {
+    final int offset = counter << 2;
+    final long mask = 0xfL << offset;
+    if ((t[index] & mask) != mask) {
+      t[index] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halves all counters. The uses of odd counters are lost to the rounding, so they are subtracted
+   * from the number of additions, estimating that each key owns four counters.
+   */
+  private void reset(long[] t) {
+    long odd = 0;
+    for (int i = 0; i < t.length; i++) {
+      odd += Long.bitCount(t[i] & ONE_MASK);
+      t[i] = (t[i] >>> 1) & RESET_MASK;
+    }
+    additions = Math.max(0, (additions - (odd >>> 2)) >>> 1);
+  }
+
+  private static int indexOf(long[] t, int hash, int row) {
+    long h = (hash + SEEDS[row]) * SEEDS[row];
+    h += h >>> 32;
+    return (int) h & (t.length - 1);
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
@@ -30,6 +30,8 @@ public class HeapLRUStatistics implements EvictionStats {
   private static final int destroysId;
   private static final int evaluationsId;
   private static final int greedyReturnsId;
+  private static final int admissionRejectionsId;
+  private static final int frequentEvictionsId;
 
   static {
     StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
@@ -41,19 +43,27 @@ public class HeapLRUStatistics implements EvictionStats {
         "Number of entries destroyed in the region through both destroy cache operations and eviction.";
     final String lruEvaluationsDesc = "Number of entries evaluated during LRU operations.";
     final String lruGreedyReturnsDesc = "Number of non-LRU entries evicted during LRU operations";
+    final String lruAdmissionRejectionsDesc =
+        "Number of entries evicted by TinyLFU eviction instead of a more frequently used entry.";
+    final String lruFrequentEvictionsDesc =
+        "Number of entries evicted by TinyLFU eviction that were used again after they were added.";
 
     statType = f.createType("HeapLRUStatistics", "Statistics related to heap based eviction",
         new StatisticDescriptor[] {f.createLongGauge("entryBytes", entryBytesDesc, "bytes"),
             f.createLongCounter("lruEvictions", lruEvictionsDesc, "entries"),
             f.createLongCounter("lruDestroys", lruDestroysDesc, "entries"),
             f.createLongCounter("lruEvaluations", lruEvaluationsDesc, "entries"),
-            f.createLongCounter("lruGreedyReturns", lruGreedyReturnsDesc, "entries")});
+            f.createLongCounter("lruGreedyReturns", lruGreedyReturnsDesc, "entries"),
+            f.createLongCounter("lruAdmissionRejections", lruAdmissionRejectionsDesc, "entries"),
+            f.createLongCounter("lruFrequentEvictions", lruFrequentEvictionsDesc, "entries")});
 
     counterId = statType.nameToId("entryBytes");
     evictionsId = statType.nameToId("lruEvictions");
     destroysId = statType.nameToId("lruDestroys");
     evaluationsId = statType.nameToId("lruEvaluations");
     greedyReturnsId = statType.nameToId("lruGreedyReturns");
+    admissionRejectionsId = statType.nameToId("lruAdmissionRejections");
+    frequentEvictionsId = statType.nameToId("lruFrequentEvictions");
   }
 
   private final Statistics stats;
@@ -107,4 +117,14 @@ public class HeapLRUStatistics implements EvictionStats {
     stats.incLong(greedyReturnsId, delta);
   }
 
+  @Override
+  public void incAdmissionRejections(long delta) {
+    stats.incLong(admissionRejectionsId, delta);
+  }
+
+  @Override
+  public void incFrequentEvictions(long delta) {
+    stats.incLong(frequentEvictionsId, delta);
+  }
+
 }
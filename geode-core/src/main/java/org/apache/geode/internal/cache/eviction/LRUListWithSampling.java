@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.cache.versions.RegionVersionVector;
+import org.apache.geode.internal.lang.SystemProperty;
+import org.apache.geode.internal.lang.SystemPropertyHelper;
+import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * LRUListWithSampling approximates LRU with the CLOCK algorithm instead of keeping the entries in a
+ * linked list. A clock hand walks over the entries of the region map; an entry that was used since
+ * the hand last passed it has its recently used bit cleared and is skipped, and the first entry
+ * that was not used is evicted. If no such entry is found among the sampled entries the first
+ * evictable one is evicted.
+ * <p>
+ * The entries are not linked to each other, so adding and removing an entry only marks it as being
+ * in the list, while holding the lock of the entry instead of a lock on the whole list. An entry is
+ * marked by linking it to itself. Only the clock hand is guarded by the lock of the list, which is
+ * held while an entry to evict is searched for.
+ */
+public class LRUListWithSampling implements EvictionList {
+
+  private static final Logger logger = LogService.getLogger();
+
+  private static final int DEFAULT_MAX_SAMPLES = 10;
+
+  private final EvictionController controller;
+
+  private final Supplier<Iterator<RegionEntry>> regionEntries;
+
+  private final int maxSamples;
+
+  private final LongAdder size = new LongAdder();
+
+  /** The clock hand; guarded by this */
+  private Iterator<RegionEntry> hand;
+
+  LRUListWithSampling(EvictionController controller,
+      Supplier<Iterator<RegionEntry>> regionEntries) {
+    this(controller, regionEntries, readMaxSamplesProperty());
+  }
+
+  LRUListWithSampling(EvictionController controller, Supplier<Iterator<RegionEntry>> regionEntries,
+      int maxSamples) {
+    this.controller = controller;
+    this.regionEntries = regionEntries;
+    this.maxSamples = maxSamples;
+  }
+
+  private static int readMaxSamplesProperty() {
+    Optional<Integer> maxSamples = SystemProperty
+        .getProductIntegerProperty(SystemPropertyHelper.EVICTION_SEARCH_MAX_ENTRIES);
+    return maxSamples.filter(value -> value > 0).orElse(DEFAULT_MAX_SAMPLES);
+  }
+
+  @Override
+  public void closeStats() {
+    getStatistics().close();
+  }
+
+  @Override
+  public EvictionCounters getStatistics() {
+    return controller.getCounters();
+  }
+
+  @Override
+  public int size() {
+    return size.intValue();
+  }
+
+  @Override
+  public void appendEntry(EvictionNode evictionNode) {
+    addEntry(evictionNode);
+  }
+
+  /**
+   * @return false if the entry was already in the list
+   */
+  boolean addEntry(EvictionNode evictionNode) {
+    synchronized (evictionNode) {
+      if (evictionNode.next() != null) {
+        // already in the list
+        return false;
+      }
+      evictionNode.setNext(evictionNode);
+    }
+    size.increment();
+    return true;
+  }
+
+  @Override
+  public void destroyEntry(EvictionNode evictionNode) {
+    if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+      logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "destroyEntry called for {}", evictionNode);
+    }
+    if (removeEntry(evictionNode)) {
+      getStatistics().incDestroys();
+    }
+  }
+
+  boolean removeEntry(EvictionNode evictionNode) {
+    synchronized (evictionNode) {
+      if (evictionNode.next() == null) {
+        // not in the list anymore
+        return false;
+      }
+      evictionNode.setNext(null);
+    }
+    size.decrement();
+    return true;
+  }
+
+  @Override
+  public void clear(RegionVersionVector regionVersionVector, BucketRegion bucketRegion) {
+    if (regionVersionVector != null) {
+      return; // when concurrency checks are enabled the clear operation removes entries iteratively
+    }
+
+    synchronized (this) {
+      if (bucketRegion != null) {
+        getStatistics().decrementCounter(bucketRegion.getCounter());
+        bucketRegion.resetCounter();
+      } else {
+        getStatistics().resetCounter();
+      }
+      size.reset();
+      hand = null;
+    }
+  }
+
+  /**
+   * Remove and return the Entry that is considered least recently used.
+   */
+  @Override
+  public synchronized EvictableEntry getEvictableEntry() {
+    long evaluations = 0;
+    int wraps = 0;
+    for (;;) {
+      final EvictableEntry evictionNode = advanceHand();
+      if (evictionNode == null) {
+        // the second wrap has seen every entry in the list, so none can be evicted
+        if (++wraps > 2 || size() <= 0) {
+          getStatistics().incEvaluations(evaluations);
+          return null;
+        }
+        continue;
+      }
+
+      if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+        logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "lru considering {}", evictionNode);
+      }
+      evaluations++;
+
+      if (!isEvictable(evictionNode)) {
+        continue;
+      }
+
+      if (evictionNode.isRecentlyUsed()) {
+        if (evaluations <= maxSamples) {
+          evictionNode.unsetRecentlyUsed();
+          continue;
+        }
+        getStatistics().incGreedyReturns(1);
+      }
+
+      if (removeEntry(evictionNode)) {
+        if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+          logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "returning entry: {}", evictionNode);
+        }
+        getStatistics().incEvaluations(evaluations);
+        return evictionNode;
+      }
+    }
+  }
+
+  /**
+   * Moves the clock hand to the next entry that is in the list. Returns null when the hand has
+   * passed the last entry of the region; the next call starts over at the first one. The caller
+   * must hold the lock of the list.
+   */
+  EvictableEntry advanceHand() {
+    if (hand == null) {
+      hand = regionEntries.get();
+    }
+    while (hand.hasNext()) {
+      final Object entry = hand.next();
+      if (entry instanceof EvictableEntry && ((EvictableEntry) entry).next() != null) {
+        return (EvictableEntry) entry;
+      }
+    }
+    hand = null;
+    return null;
+  }
+
+  int getMaxSamples() {
+    return maxSamples;
+  }
+
+  boolean isEvictable(EvictionNode evictionNode) {
+    if (evictionNode.isEvicted()) {
+      return false;
+    }
+
+    // If this Entry is part of a transaction, skip it since
+    // eviction should not cause commit conflicts
+    synchronized (evictionNode) {
+      return !evictionNode.isInUseByTransaction();
+    }
+  }
+
+  @Override
+  public void incrementRecentlyUsed() {
+    // nothing needed; the clock hand clears the recently used bits as it passes the entries
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.cache.versions.RegionVersionVector;
+import org.apache.geode.internal.lang.SystemPropertyHelper;
+import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * TinyLFUList evicts the entry that was used least often among a sample of entries, using a
+ * {@link FrequencySketch} to estimate how often the key of each entry was used. Entries that were
+ * used once, such as those read by a scan over the region, are evicted before the entries of the
+ * working set even if the scan read them more recently. It is used instead of an LRU list by
+ * regions with heap or memory LRU eviction when {@link SystemPropertyHelper#EVICTION_TINYLFU} is
+ * set.
+ * <p>
+ * The sample is taken by the clock hand of {@link LRUListWithSampling}. Adding an entry to the list
+ * counts as a use of its key, and so does a recently used bit that the hand finds set; the hand
+ * clears the bit.
+ * <p>
+ * The sketch remembers keys after their entries are evicted, so an entry that comes back is
+ * admitted with the frequency it had, and only a key that is used repeatedly can displace the
+ * working set.
+ */
+public class TinyLFUList extends LRUListWithSampling {
+
+  private static final Logger logger = LogService.getLogger();
+
+  private final FrequencySketch sketch = new FrequencySketch();
+
+  TinyLFUList(EvictionController controller, Supplier<Iterator<RegionEntry>> regionEntries) {
+    super(controller, regionEntries);
+  }
+
+  TinyLFUList(EvictionController controller, Supplier<Iterator<RegionEntry>> regionEntries,
+      int maxSamples) {
+    super(controller, regionEntries, maxSamples);
+  }
+
+  /**
+   * Counts a use of the key of the entry if it was not in the list yet. An entry is appended
+   * several times for a single create, update or fault in, so appending an entry that is in the
+   * list already is not counted.
+   */
+  @Override
+  public void appendEntry(EvictionNode evictionNode) {
+    if (addEntry(evictionNode)) {
+      sketch.ensureCapacity(size());
+      sketch.increment(keyHash(evictionNode));
+    }
+  }
+
+  @Override
+  public void clear(RegionVersionVector regionVersionVector, BucketRegion bucketRegion) {
+    super.clear(regionVersionVector, bucketRegion);
+    if (regionVersionVector == null) {
+      sketch.clear();
+    }
+  }
+
+  /**
+   * Remove and return the sampled Entry that was used least often.
+   */
+  @Override
+  public synchronized EvictableEntry getEvictableEntry() {
+    long evaluations = 0;
+    for (;;) {
+      EvictableEntry victim = null;
+      int victimFrequency = Integer.MAX_VALUE;
+      int maxFrequency = 0;
+      int samples = 0;
+      int wraps = 0;
+      while (samples < getMaxSamples() && samples < size()) {
+        final EvictableEntry evictionNode = advanceHand();
+        if (evictionNode == null) {
+          if (++wraps > 2) {
+            break;
+          }
+          continue;
+        }
+        evaluations++;
+        if (!isEvictable(evictionNode)) {
+          continue;
+        }
+        samples++;
+
+        final int keyHash = keyHash(evictionNode);
+        if (evictionNode.isRecentlyUsed()) {
+          evictionNode.unsetRecentlyUsed();
+          sketch.increment(keyHash);
+        }
+        final int frequency = sketch.frequency(keyHash);
+        if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+          logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "tinylfu considering {} with frequency {}",
+              evictionNode, frequency);
+        }
+        if (frequency < victimFrequency) {
+          victim = evictionNode;
+          victimFrequency = frequency;
+        }
+        maxFrequency = Math.max(maxFrequency, frequency);
+      }
+
+      if (victim == null) {
+        getStatistics().incEvaluations(evaluations);
+        return null;
+      }
+      if (removeEntry(victim)) {
+        if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+          logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "returning entry: {}", victim);
+        }
+        final EvictionCounters stats = getStatistics();
+        stats.incEvaluations(evaluations);
+        if (victimFrequency < maxFrequency) {
+          stats.incAdmissionRejections(1);
+        }
+        if (victimFrequency > 1) {
+          stats.incFrequentEvictions(1);
+        }
+        return victim;
+      }
+      // the victim was destroyed while it was sampled, so take another sample
+    }
+  }
+
+  private static int keyHash(EvictionNode evictionNode) {
+    if (evictionNode instanceof RegionEntry) {
+      return Objects.hashCode(((RegionEntry) evictionNode).getKey());
+    }
+    return System.identityHashCode(evictionNode);
+  }
+}
@@ -33,12 +33,15 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import org.apache.logging.log4j.Logger;
 
+import org.apache.geode.CancelException;
 import org.apache.geode.DataSerializable;
 import org.apache.geode.DataSerializer;
 import org.apache.geode.annotations.Immutable;
@@ -58,6 +61,7 @@ import org.apache.geode.internal.cache.BucketPersistenceAdvisor;
 import org.apache.geode.internal.cache.BucketRegion;
 import org.apache.geode.internal.cache.BucketServerLocation66;
 import org.apache.geode.internal.cache.CacheDistributionAdvisor;
+import org.apache.geode.internal.cache.EventID;
 import org.apache.geode.internal.cache.FixedPartitionAttributesImpl;
 import org.apache.geode.internal.cache.InternalRegionArguments;
 import org.apache.geode.internal.cache.PartitionedRegion;
@@ -65,6 +69,8 @@ import org.apache.geode.internal.cache.PartitionedRegionStats;
 import org.apache.geode.internal.cache.ProxyBucketRegion;
 import org.apache.geode.internal.cache.control.MemoryThresholds;
 import org.apache.geode.internal.cache.control.ResourceAdvisor;
+import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier;
+import org.apache.geode.internal.cache.tier.sockets.ClientPartitionMetadataMessage;
 import org.apache.geode.internal.logging.log4j.LogMarker;
 import org.apache.geode.internal.serialization.DeserializationContext;
 import org.apache.geode.internal.serialization.SerializationContext;
@@ -104,6 +110,20 @@ public class RegionAdvisor extends CacheDistributionAdvisor {
 
   private final ConcurrentHashMap<Integer, Set<ServerBucketProfile>> clientBucketProfilesMap;
 
+  /**
+   * True to push the server locations of buckets to subscribed clients when they change, see
+   * {@link ClientPartitionMetadataMessage}.
+   */
+  static final boolean PUSH_CLIENT_BUCKET_LOCATIONS = !Boolean
+      .getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "RegionAdvisor.DISABLE_CLIENT_METADATA_PUSH");
+
+  /**
+   * The buckets whose server locations changed since they were last pushed to clients.
+   */
+  private final Set<Integer> changedClientBuckets = ConcurrentHashMap.newKeySet();
+
+  private final AtomicBoolean clientBucketsPushScheduled = new AtomicBoolean();
+
   @VisibleForTesting
   protected RegionAdvisor(PartitionedRegion region) {
     super(region);
@@ -308,6 +328,81 @@ public class RegionAdvisor extends CacheDistributionAdvisor {
 
   public void setClientBucketProfiles(Integer bucketId, Set<ServerBucketProfile> profiles) {
     clientBucketProfilesMap.put(bucketId, Collections.unmodifiableSet(profiles));
+    clientBucketLocationsChanged(bucketId);
+  }
+
+  /**
+   * Returns the locations of the servers hosting the bucket, the local ones included.
+   */
+  public List<BucketServerLocation66> getClientBucketServerLocations(int bucketId) {
+    List<BucketServerLocation66> bucketServerLocations = new ArrayList<>();
+    Set<ServerBucketProfile> profiles = clientBucketProfilesMap.get(bucketId);
+    if (profiles != null) {
+      for (ServerBucketProfile profile : profiles) {
+        if (profile.isHosting) {
+          bucketServerLocations.addAll(profile.getBucketServerLocations());
+        }
+      }
+    }
+    if (getPartitionedRegion().isDataStore()) {
+      BucketProfile profile = getBucketAdvisor(bucketId).getLocalProfile();
+      if (profile instanceof ServerBucketProfile && profile.isHosting) {
+        Set<BucketServerLocation66> localLocations =
+            ((ServerBucketProfile) profile).getBucketServerLocations();
+        bucketServerLocations.removeAll(localLocations);
+        bucketServerLocations.addAll(localLocations);
+      }
+    }
+    return bucketServerLocations;
+  }
+
+  /**
+   * Schedules pushing the server locations of the bucket to the clients whose primary subscription
+   * queue is on this member. The buckets that change before the push runs are pushed together.
+   */
+  public void clientBucketLocationsChanged(int bucketId) {
+    if (!PUSH_CLIENT_BUCKET_LOCATIONS || !CacheClientNotifier.singletonHasClientProxies()
+        || getPartitionedRegion().isShadowPR()) {
+      return;
+    }
+    changedClientBuckets.add(bucketId);
+    if (clientBucketsPushScheduled.compareAndSet(false, true)) {
+      try {
+        getDistributionManager().getExecutors().getWaitingThreadPool()
+            .execute(this::pushClientBucketLocations);
+      } catch (RejectedExecutionException e) {
+        // shutting down
+        clientBucketsPushScheduled.set(false);
+      }
+    }
+  }
+
+  private void pushClientBucketLocations() {
+    clientBucketsPushScheduled.set(false);
+    HashMap<Integer, List<BucketServerLocation66>> bucketServerLocations = new HashMap<>();
+    for (Iterator<Integer> it = changedClientBuckets.iterator(); it.hasNext();) {
+      int bucketId = it.next();
+      it.remove();
+      bucketServerLocations.put(bucketId, getClientBucketServerLocations(bucketId));
+    }
+    if (bucketServerLocations.isEmpty()) {
+      return;
+    }
+    PartitionedRegion region = getPartitionedRegion();
+    try {
+      ClientPartitionMetadataMessage message = new ClientPartitionMetadataMessage(
+          region.getFullPath(), bucketServerLocations,
+          new EventID(region.getCache().getInternalDistributedSystem()));
+      if (logger.isDebugEnabled()) {
+        logger.debug("Pushing bucket server locations to clients: {}", message);
+      }
+      // every server pushes the change with an event id of its own, so only the primary queue of
+      // a client may take it; the client learns of changes missed during failover on its next miss
+      CacheClientNotifier.routeClientMessageToPrimaryQueues(message,
+          ClientPartitionMetadataMessage.CLIENT_VERSION);
+    } catch (CancelException ignore) {
+      // shutting down
+    }
   }
 
   /**
@@ -87,4 +87,6 @@ public interface DiskInitFileInterpreter {
   boolean cmnRevokeDiskStoreId(PersistentMemberPattern id);
 
   void cmnGemfireVersion(KnownVersion version);
+
+  void cmnOplogValuesCompressed();
 }
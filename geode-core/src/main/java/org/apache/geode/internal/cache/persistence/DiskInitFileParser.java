@@ -440,6 +440,14 @@ public class DiskInitFileParser {
           interpreter.cmnGemfireVersion(gfversion);
           break;
         }
+        case DiskInitFile.IFREC_OPLOG_VALUES_COMPRESSED: {
+          readEndOfRecord(dis);
+          if (logger.isTraceEnabled(LogMarker.PERSIST_RECOVERY_VERBOSE)) {
+            logger.trace(LogMarker.PERSIST_RECOVERY_VERBOSE, "IFREC_OPLOG_VALUES_COMPRESSED");
+          }
+          interpreter.cmnOplogValuesCompressed();
+          break;
+        }
         case DiskInitFile.IFREC_PR_DESTROY: {
           String name = dis.readUTF();
           readEndOfRecord(dis);
@@ -14,43 +14,115 @@
  */
 package org.apache.geode.internal.cache.region.entry;
 
+import org.apache.geode.annotations.VisibleForTesting;
 import org.apache.geode.internal.cache.RegionEntryFactory;
+import org.apache.geode.internal.cache.entries.InlineValueRegionEntryFactory;
 import org.apache.geode.internal.cache.entries.VMStatsDiskLRURegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VMStatsDiskLRURegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VMStatsDiskLRURegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VMStatsDiskLRURegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VMStatsDiskLRURegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VMStatsDiskRegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VMStatsDiskRegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VMStatsDiskRegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VMStatsDiskRegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VMStatsDiskRegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VMStatsLRURegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VMStatsLRURegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VMStatsLRURegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VMStatsLRURegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VMStatsLRURegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VMStatsRegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VMStatsRegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VMStatsRegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VMStatsRegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VMStatsRegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VMThinDiskLRURegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VMThinDiskLRURegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VMThinDiskLRURegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VMThinDiskLRURegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VMThinDiskLRURegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VMThinDiskRegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VMThinDiskRegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VMThinDiskRegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VMThinDiskRegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VMThinDiskRegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VMThinLRURegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VMThinLRURegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VMThinLRURegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VMThinLRURegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VMThinLRURegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VMThinRegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VMThinRegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VMThinRegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VersionedStatsDiskLRURegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VersionedStatsDiskLRURegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VersionedStatsDiskLRURegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VersionedStatsDiskLRURegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VersionedStatsDiskLRURegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VersionedStatsDiskRegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VersionedStatsDiskRegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VersionedStatsDiskRegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VersionedStatsDiskRegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VersionedStatsDiskRegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VersionedStatsLRURegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VersionedStatsLRURegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VersionedStatsLRURegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VersionedStatsLRURegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VersionedStatsLRURegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VersionedStatsRegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VersionedStatsRegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VersionedStatsRegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VersionedStatsRegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VersionedStatsRegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VersionedThinDiskLRURegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VersionedThinDiskLRURegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VersionedThinDiskLRURegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VersionedThinDiskLRURegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VersionedThinDiskLRURegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VersionedThinDiskRegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VersionedThinDiskRegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VersionedThinDiskRegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VersionedThinDiskRegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VersionedThinDiskRegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VersionedThinLRURegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VersionedThinLRURegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VersionedThinLRURegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VersionedThinLRURegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VersionedThinLRURegionEntryOffHeap;
 import org.apache.geode.internal.cache.entries.VersionedThinRegionEntryHeap;
+import org.apache.geode.internal.cache.entries.VersionedThinRegionEntryHeapObjectKeyDoubleValue;
+import org.apache.geode.internal.cache.entries.VersionedThinRegionEntryHeapObjectKeyIntValue;
+import org.apache.geode.internal.cache.entries.VersionedThinRegionEntryHeapObjectKeyLongValue;
 import org.apache.geode.internal.cache.entries.VersionedThinRegionEntryOffHeap;
 
 public class RegionEntryFactoryBuilder {
+  private final boolean inlineValues;
+
+  public RegionEntryFactoryBuilder() {
+    this(InlineValueRegionEntryFactory.INLINE_REGION_VALUES);
+  }
+
+  @VisibleForTesting
+  RegionEntryFactoryBuilder(boolean inlineValues) {
+    this.inlineValues = inlineValues;
+  }
+
   public RegionEntryFactory create(boolean statsEnabled, boolean isLRU, boolean isDisk,
       boolean withVersioning, boolean offHeap) {
+    return create(statsEnabled, isLRU, isDisk, withVersioning, offHeap, null);
+  }
+
+  /**
+   * Like {@link #create(boolean, boolean, boolean, boolean, boolean)} but, if
+   * {@link InlineValueRegionEntryFactory#INLINE_REGION_VALUES} is set, returns a factory whose
+   * entries store their value in a primitive field if the region's value constraint is Long,
+   * Double or Integer and its entries are on heap.
+   */
+  public RegionEntryFactory create(boolean statsEnabled, boolean isLRU, boolean isDisk,
+      boolean withVersioning, boolean offHeap, Class<?> valueConstraint) {
     int bitRepresentation = 0;
     bitRepresentation |= statsEnabled ? 1 : 0;
     bitRepresentation |= isLRU ? 2 : 0;
@@ -58,6 +130,16 @@ public class RegionEntryFactoryBuilder {
     bitRepresentation |= withVersioning ? 8 : 0;
     bitRepresentation |= offHeap ? 16 : 0;
 
+    if (inlineValues && !offHeap) {
+      if (valueConstraint == Long.class) {
+        return createInlineLongValue(bitRepresentation);
+      } else if (valueConstraint == Double.class) {
+        return createInlineDoubleValue(bitRepresentation);
+      } else if (valueConstraint == Integer.class) {
+        return createInlineIntValue(bitRepresentation);
+      }
+    }
+
     /*
      * The bits represent all options |offHeap|versioning|disk|lru|stats|
      */
@@ -130,4 +212,130 @@ public class RegionEntryFactoryBuilder {
         throw new IllegalStateException("unexpected bitRepresentation " + bitRepresentation);
     }
   }
+
+  private RegionEntryFactory createInlineLongValue(int bitRepresentation) {
+    /*
+     * The bits represent all options |versioning|disk|lru|stats|
+     */
+    switch (bitRepresentation) {
+      case (0):
+        return VMThinRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (1):
+        return VMStatsRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (2):
+        return VMThinLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (3):
+        return VMStatsLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (4):
+        return VMThinDiskRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (5):
+        return VMStatsDiskRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (6):
+        return VMThinDiskLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (7):
+        return VMStatsDiskLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (8):
+        return VersionedThinRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (9):
+        return VersionedStatsRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (10):
+        return VersionedThinLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (11):
+        return VersionedStatsLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (12):
+        return VersionedThinDiskRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (13):
+        return VersionedStatsDiskRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (14):
+        return VersionedThinDiskLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      case (15):
+        return VersionedStatsDiskLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+      default:
+        throw new IllegalStateException("unexpected bitRepresentation " + bitRepresentation);
+    }
+  }
+
+  private RegionEntryFactory createInlineDoubleValue(int bitRepresentation) {
+    /*
+     * The bits represent all options |versioning|disk|lru|stats|
+     */
+    switch (bitRepresentation) {
+      case (0):
+        return VMThinRegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (1):
+        return VMStatsRegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (2):
+        return VMThinLRURegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (3):
+        return VMStatsLRURegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (4):
+        return VMThinDiskRegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (5):
+        return VMStatsDiskRegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (6):
+        return VMThinDiskLRURegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (7):
+        return VMStatsDiskLRURegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (8):
+        return VersionedThinRegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (9):
+        return VersionedStatsRegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (10):
+        return VersionedThinLRURegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (11):
+        return VersionedStatsLRURegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (12):
+        return VersionedThinDiskRegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (13):
+        return VersionedStatsDiskRegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (14):
+        return VersionedThinDiskLRURegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      case (15):
+        return VersionedStatsDiskLRURegionEntryHeapObjectKeyDoubleValue.getInlineValueFactory();
+      default:
+        throw new IllegalStateException("unexpected bitRepresentation " + bitRepresentation);
+    }
+  }
+
+  private RegionEntryFactory createInlineIntValue(int bitRepresentation) {
+    /*
+     * The bits represent all options |versioning|disk|lru|stats|
+     */
+    switch (bitRepresentation) {
+      case (0):
+        return VMThinRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (1):
+        return VMStatsRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (2):
+        return VMThinLRURegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (3):
+        return VMStatsLRURegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (4):
+        return VMThinDiskRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (5):
+        return VMStatsDiskRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (6):
+        return VMThinDiskLRURegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (7):
+        return VMStatsDiskLRURegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (8):
+        return VersionedThinRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (9):
+        return VersionedStatsRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (10):
+        return VersionedThinLRURegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (11):
+        return VersionedStatsLRURegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (12):
+        return VersionedThinDiskRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (13):
+        return VersionedStatsDiskRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (14):
+        return VersionedThinDiskLRURegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      case (15):
+        return VersionedStatsDiskLRURegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+      default:
+        throw new IllegalStateException("unexpected bitRepresentation " + bitRepresentation);
+    }
+  }
 }
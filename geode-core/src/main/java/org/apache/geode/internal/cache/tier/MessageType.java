@@ -387,7 +387,13 @@ public enum MessageType {
   /**
    * @since Geode 1.15
    */
-  CLIENT_RE_AUTHENTICATE(110);
+  CLIENT_RE_AUTHENTICATE(110),
+
+  /**
+   * Sent to subscribed clients with the new server locations of the buckets of a partitioned
+   * region whose primaries or hosts changed.
+   */
+  CLIENT_PR_METADATA_UPDATE(111);
 
 
   public final int id;
@@ -397,7 +403,7 @@ public enum MessageType {
   }
 
   @Immutable
-  private static final MessageType[] messageTypes = new MessageType[111];
+  private static final MessageType[] messageTypes = new MessageType[112];
 
   static {
     for (final MessageType messageType : values()) {
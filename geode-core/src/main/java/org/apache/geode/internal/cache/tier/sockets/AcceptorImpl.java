@@ -105,6 +105,7 @@ import org.apache.geode.logging.internal.executors.LoggingThread;
 import org.apache.geode.logging.internal.executors.LoggingThreadFactory.CommandWrapper;
 import org.apache.geode.logging.internal.executors.LoggingThreadFactory.ThreadInitializer;
 import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
  * Implements the acceptor thread on the cache server. Accepts connections from the edge and starts
@@ -166,6 +167,12 @@ public class AcceptorImpl implements Acceptor, Runnable {
    */
   private final Selector selector;
 
+  /**
+   * The event loops that read client messages in place of the selector thread; null if there are
+   * none.
+   */
+  private final ServerConnectionEventLoops eventLoops;
+
   /**
    * Used for managing direct byte buffer for client comms; null if no selector.
    */
@@ -641,6 +648,7 @@ public class AcceptorImpl implements Acceptor, Runnable {
         clientNotifier.getStats());
 
     pool = initializeServerConnectionThreadPool();
+    eventLoops = initializeEventLoops();
     hsPool = initializeHandshakerThreadPool();
     clientQueueInitPool = initializeClientQueueInitializerThreadPool();
 
@@ -710,6 +718,22 @@ public class AcceptorImpl implements Acceptor, Runnable {
     }
   }
 
+  private ServerConnectionEventLoops initializeEventLoops() throws IOException {
+    if (!isSelector() || EVENT_LOOPS <= 0) {
+      return null;
+    }
+    try {
+      return new ServerConnectionEventLoops(EVENT_LOOPS,
+          "Cache Server Event Loop " + serverSock.getInetAddress() + ":" + localPort, pool,
+          stats, this::isRunning, checkRegisteredKeysInterval);
+    } catch (IOException e) {
+      stats.close();
+      serverSock.close();
+      pool.shutdown();
+      throw e;
+    }
+  }
+
   private ThreadsMonitoring getThreadMonitorObj() {
     DistributionManager distributionManager = cache.getDistributionManager();
     if (distributionManager != null) {
@@ -754,6 +778,17 @@ public class AcceptorImpl implements Acceptor, Runnable {
   @Deprecated
   private final int DEPRECATED_SELECTOR_POOL_SIZE =
       Integer.getInteger("BridgeServer.SELECTOR_POOL_SIZE", 16);
+
+  /**
+   * The number of event loops that read client messages if max-threads is set, or 0 to have a
+   * single selector thread hand readable connections to the threads of the pool, which read their
+   * messages. With event loops, no thread waits for the bytes of a message to arrive.
+   *
+   * @see ServerConnectionEventLoops
+   */
+  static final int EVENT_LOOPS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "AcceptorImpl.EVENT_LOOPS", 0);
+
   private final int HANDSHAKE_POOL_SIZE = Integer
       .getInteger("BridgeServer.HANDSHAKE_POOL_SIZE", HANDSHAKER_DEFAULT_POOL_SIZE);
 
@@ -767,7 +802,9 @@ public class AcceptorImpl implements Acceptor, Runnable {
     acceptorId = thread.getId();
     thread.start();
 
-    if (isSelector()) {
+    if (eventLoops != null) {
+      eventLoops.start();
+    } else if (isSelector()) {
       selectorThread =
           new LoggingThread("Cache Server Selector " + serverSock.getInetAddress() + ":"
               + localPort + " local port: " + serverSock.getLocalPort(),
@@ -807,6 +844,10 @@ public class AcceptorImpl implements Acceptor, Runnable {
         return;
       }
     }
+    if (eventLoops != null) {
+      eventLoops.register(serverConnection);
+      return;
+    }
     getSelectorQueue().offer(serverConnection);
     wakeupSelector();
   }
@@ -837,7 +878,11 @@ public class AcceptorImpl implements Acceptor, Runnable {
       return;
     }
     // just need to wake the selector up so it will notice our socket was closed
-    wakeupSelector();
+    if (eventLoops != null) {
+      eventLoops.connectionClosed(serverConnection);
+    } else {
+      wakeupSelector();
+    }
   }
 
   private void finishCon(ServerConnection sc) {
@@ -1675,6 +1720,9 @@ public class AcceptorImpl implements Acceptor, Runnable {
       if (selectorThread != null) {
         selectorThread.interrupt();
       }
+      if (eventLoops != null) {
+        eventLoops.close();
+      }
       commBufferQueue.clear();
     }
   }
@@ -1708,6 +1756,7 @@ public class AcceptorImpl implements Acceptor, Runnable {
   boolean isShutdownProperly() {
     return !isRunning() && !thread.isAlive()
         && (selectorThread == null || !selectorThread.isAlive())
+        && (eventLoops == null || eventLoops.isClosed())
         && (pool == null || pool.isShutdown()) && (hsPool == null || hsPool.isShutdown())
         && (clientQueueInitPool == null || clientQueueInitPool.isShutdown())
         && (selector == null || !selector.isOpen()) && (tmpSel == null || !tmpSel.isOpen());
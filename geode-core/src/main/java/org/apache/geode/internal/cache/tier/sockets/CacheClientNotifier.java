@@ -907,6 +907,28 @@ public class CacheClientNotifier {
     }
   }
 
+  /**
+   * delivers the given message to the primary proxies of clients that are not older than the given
+   * version for routing, like {@link #routeClientMessage(Conflatable)}. This is for messages that
+   * every server creates with an event id of its own; a secondary queue would keep such a message
+   * until it expires, since its primary never dispatches a message with that event id.
+   */
+  public static void routeClientMessageToPrimaryQueues(Conflatable clientMessage,
+      KnownVersion clientVersion) {
+    CacheClientNotifier instance = ccnSingleton;
+    if (instance != null) {
+      Set<ClientProxyMembershipID> clients = new HashSet<>();
+      for (CacheClientProxy proxy : instance.getClientProxies()) {
+        if (proxy.isPrimary() && proxy.getVersion().isNotOlderThan(clientVersion)) {
+          clients.add(proxy.getProxyID());
+        }
+      }
+      if (!clients.isEmpty()) {
+        instance.singletonRouteClientMessage(clientMessage, clients);
+      }
+    }
+  }
+
   /**
    * this is for server side registration of client queue
    */
@@ -73,6 +73,7 @@ import org.apache.geode.distributed.internal.tcpserver.HostAndPort;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.InternalDataSerializer;
 import org.apache.geode.internal.InternalInstantiator;
+import org.apache.geode.internal.cache.BucketServerLocation66;
 import org.apache.geode.internal.cache.ClientServerObserver;
 import org.apache.geode.internal.cache.ClientServerObserverHolder;
 import org.apache.geode.internal.cache.EntryEventImpl;
@@ -1496,6 +1497,28 @@ public class CacheClientUpdater extends LoggingThread implements ClientUpdater,
     }
   }
 
+  private void handlePartitionMetadataUpdate(Message clientMessage) {
+    String regionName = "unknown";
+
+    try {
+      // see ClientPartitionMetadataMessage.getMessage
+      regionName = clientMessage.getPart(0).getCachedString();
+      Map<Integer, List<BucketServerLocation66>> bucketServerLocations =
+          (Map<Integer, List<BucketServerLocation66>>) clientMessage.getPart(1).getObject();
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("{}: Received server locations of buckets {} of region {}", this,
+            bucketServerLocations.keySet(), regionName);
+      }
+
+      cache.getClientMetadataService().updateBucketServerLocations(regionName,
+          bucketServerLocations);
+    } catch (Exception e) {
+      handleException(": exception while updating the bucket server locations of " + regionName,
+          e);
+    }
+  }
+
   /**
    * Indicate whether the updater or the system is trying to terminate
    *
@@ -1697,6 +1720,9 @@ public class CacheClientUpdater extends LoggingThread implements ClientUpdater,
             case TOMBSTONE_OPERATION:
               handleTombstoneOperation(clientMessage);
               break;
+            case CLIENT_PR_METADATA_UPDATE:
+              handlePartitionMetadataUpdate(clientMessage);
+              break;
             default:
               logger.warn("{}: Received an unsupported message (type={})",
                   new Object[] {this, clientMessage.getMessageType()});
@@ -214,6 +214,10 @@ public class CacheServerStats implements MessageStats {
   int acceptThreadStartsId;
   int connectionThreadStartsId;
   int connectionThreadsId;
+  int eventLoopSelectTimeId;
+  int eventLoopProcessTimeId;
+  int eventLoopMessagesReadId;
+  int messageQueueTimeId;
 
   // Load callback stats
   int connectionLoadId;
@@ -466,6 +470,18 @@ public class CacheServerStats implements MessageStats {
             "starts"),
         statisticsFactory.createIntGauge("connectionThreads",
             "Current number of threads dealing with a client connection.", "threads"),
+        statisticsFactory.createLongCounter("eventLoopSelectTime",
+            "Total time the event loops of this server spent waiting for client connections to become readable.",
+            "nanoseconds"),
+        statisticsFactory.createLongCounter("eventLoopProcessTime",
+            "Total time the event loops of this server spent reading messages off client connections and handing them to threads.",
+            "nanoseconds"),
+        statisticsFactory.createLongCounter("eventLoopMessagesRead",
+            "Total number of messages whose bytes, or whose header, were read by the event loops of this server.",
+            "messages"),
+        statisticsFactory.createLongCounter("messageQueueTime",
+            "Total time messages read by the event loops of this server waited for a thread to process them.",
+            "nanoseconds"),
         statisticsFactory.createDoubleGauge("connectionLoad",
             "The load from client to server connections as reported by the load probe installed in this server",
             "load"),
@@ -595,6 +611,10 @@ public class CacheServerStats implements MessageStats {
     acceptThreadStartsId = stats.nameToId("acceptThreadStarts");
     connectionThreadStartsId = stats.nameToId("connectionThreadStarts");
     connectionThreadsId = stats.nameToId("connectionThreads");
+    eventLoopSelectTimeId = stats.nameToId("eventLoopSelectTime");
+    eventLoopProcessTimeId = stats.nameToId("eventLoopProcessTime");
+    eventLoopMessagesReadId = stats.nameToId("eventLoopMessagesRead");
+    messageQueueTimeId = stats.nameToId("messageQueueTime");
 
     connectionLoadId = stats.nameToId("connectionLoad");
     queueLoadId = stats.nameToId("queueLoad");
@@ -682,6 +702,22 @@ public class CacheServerStats implements MessageStats {
     stats.incInt(threadQueueSizeId, -1);
   }
 
+  public void incEventLoopSelectTime(long delta) {
+    stats.incLong(eventLoopSelectTimeId, delta);
+  }
+
+  public void incEventLoopProcessTime(long delta) {
+    stats.incLong(eventLoopProcessTimeId, delta);
+  }
+
+  public void incEventLoopMessagesRead() {
+    stats.incLong(eventLoopMessagesReadId, 1);
+  }
+
+  public void incMessageQueueTime(long delta) {
+    stats.incLong(messageQueueTimeId, delta);
+  }
+
   public void incReadGetRequestTime(long delta) {
     stats.incLong(readGetRequestTimeId, delta);
     stats.incInt(getRequestsId, 1);
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.internal.cache.BucketServerLocation66;
+import org.apache.geode.internal.cache.EnumListenerEvent;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.tier.MessageType;
+import org.apache.geode.internal.serialization.DeserializationContext;
+import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.internal.serialization.SerializationContext;
+
+/**
+ * The server locations of the buckets of a partitioned region that changed, pushed to subscribed
+ * clients so that their single hop metadata follows primaries as they move instead of being
+ * fetched again after an op hopped to the wrong server. Each location carries the version of the
+ * profile it came from, which lets clients ignore locations older than those they already have.
+ *
+ * @see org.apache.geode.internal.cache.partitioned.RegionAdvisor
+ */
+public class ClientPartitionMetadataMessage extends ClientUpdateMessageImpl {
+
+  /**
+   * The oldest client version that handles {@link MessageType#CLIENT_PR_METADATA_UPDATE}.
+   */
+  public static final KnownVersion CLIENT_VERSION = KnownVersion.GEODE_1_16_0;
+
+  private HashMap<Integer, List<BucketServerLocation66>> bucketServerLocations;
+
+  public ClientPartitionMetadataMessage(String regionPath,
+      HashMap<Integer, List<BucketServerLocation66>> bucketServerLocations, EventID eventId) {
+    super(EnumListenerEvent.AFTER_UPDATE, null, eventId);
+    this.bucketServerLocations = bucketServerLocations;
+    setRegionName(regionPath);
+  }
+
+  /**
+   * default constructor
+   */
+  public ClientPartitionMetadataMessage() {}
+
+  @Override
+  public boolean shouldBeConflated() {
+    return false;
+  }
+
+  @Override
+  protected Message getMessage(CacheClientProxy proxy, byte[] latestValue) throws IOException {
+    // The format:
+    // part 0: region name
+    // part 1: map of bucket id to the server locations of the bucket
+    // Last part: event ID
+    final Message message = new Message(3, proxy.getVersion());
+    message.setMessageType(MessageType.CLIENT_PR_METADATA_UPDATE);
+    message.addStringPart(getRegionName(), true);
+    message.addObjPart(bucketServerLocations);
+    message.setTransactionId(0);
+    message.addObjPart(getEventId());
+    return message;
+  }
+
+  public HashMap<Integer, List<BucketServerLocation66>> getBucketServerLocations() {
+    return bucketServerLocations;
+  }
+
+  @Override
+  public int getDSFID() {
+    return CLIENT_PR_METADATA_MESSAGE;
+  }
+
+  @Override
+  public void toData(DataOutput out,
+      SerializationContext context) throws IOException {
+    out.writeByte(_operation.getEventCode());
+    DataSerializer.writeString(getRegionName(), out);
+    DataSerializer.writeHashMap(bucketServerLocations, out);
+    DataSerializer.writeObject(_membershipId, out);
+    DataSerializer.writeObject(_eventIdentifier, out);
+  }
+
+  @Override
+  public void fromData(DataInput in,
+      DeserializationContext context) throws IOException, ClassNotFoundException {
+    // note: does not call super.fromData() since there are no keys, etc.
+    _operation = EnumListenerEvent.getEnumListenerEvent(in.readByte());
+    setRegionName(DataSerializer.readString(in));
+    bucketServerLocations = DataSerializer.readHashMap(in);
+    _membershipId = ClientProxyMembershipID.readCanonicalized(in);
+    _eventIdentifier = DataSerializer.readObject(in);
+  }
+
+  @Override
+  public Object getKeyToConflate() {
+    return null;
+  }
+
+  @Override
+  public String getRegionToConflate() {
+    return null;
+  }
+
+  @Override
+  public Object getValueToConflate() {
+    return null;
+  }
+
+  @Override
+  public void setLatestValue(Object value) {}
+
+  @Override
+  public boolean isClientInterested(ClientProxyMembershipID clientId) {
+    return true;
+  }
+
+  @Override
+  public boolean needsNoAuthorizationCheck() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "ClientPartitionMetadataMessage[region=" + getRegionName() + ";buckets="
+        + bucketServerLocations.keySet() + ";eventId=" + getEventId() + "]";
+  }
+}
@@ -151,6 +151,8 @@ public class Message {
   private ByteBuffer cachedCommBuffer;
   protected Socket socket = null;
   private SocketChannel socketChannel = null;
+  /** bytes of the next message that were read off the socket channel before receiving it */
+  private ByteBuffer receivedBytes = null;
   private OutputStream outputStream = null;
   protected InputStream inputStream = null;
   private boolean messageModified = true;
@@ -618,11 +620,19 @@ public class Message {
           if (partLen <= commBuffer.remaining()) {
             part.writeTo(commBuffer);
           } else {
-            flushBuffer();
-            if (socketChannel != null) {
-              part.writeTo(socketChannel, commBuffer);
+            final int buffered = commBuffer.position();
+            if (socketChannel != null && part.writeGatheredTo(socketChannel, commBuffer)) {
+              // the part went out together with the bytes buffered ahead of it
+              if (messageStats != null) {
+                messageStats.incSentBytes(buffered);
+              }
             } else {
-              part.writeTo(outputStream, commBuffer);
+              flushBuffer();
+              if (socketChannel != null) {
+                part.writeTo(socketChannel, commBuffer);
+              } else {
+                part.writeTo(outputStream, commBuffer);
+              }
             }
             if (messageStats != null) {
               messageStats.incSentBytes(partLen);
@@ -795,6 +805,26 @@ public class Message {
     }
   }
 
+  /**
+   * Sets the bytes of the next message to receive, or of its beginning, that have already been read
+   * off the socket channel. They are received before any bytes still to be read off the channel.
+   */
+  void setReceivedBytes(ByteBuffer bytes) {
+    receivedBytes = bytes;
+  }
+
+  private int readFromChannel(ByteBuffer buffer) throws IOException {
+    if (receivedBytes != null && receivedBytes.hasRemaining()) {
+      int count = Math.min(buffer.remaining(), receivedBytes.remaining());
+      ByteBuffer bytes = receivedBytes.duplicate();
+      bytes.limit(bytes.position() + count);
+      buffer.put(bytes);
+      receivedBytes.position(receivedBytes.position() + count);
+      return count;
+    }
+    return socketChannel.read(buffer);
+  }
+
   /**
    * Read the actual bytes of the header off the socket
    */
@@ -810,7 +840,7 @@ public class Message {
     if (socketChannel != null) {
       cb.limit(headerLength);
       do {
-        int bytesRead = socketChannel.read(cb);
+        int bytesRead = readFromChannel(cb);
         if (bytesRead == -1) {
           throw new EOFException(
               "The connection has been reset while reading the header");
@@ -917,7 +947,7 @@ public class Message {
               bytesThisTime = cb.capacity();
             }
             cb.limit(bytesThisTime);
-            int res = socketChannel.read(cb);
+            int res = readFromChannel(cb);
             if (res != -1) {
               cb.flip();
               bytesRemaining -= res;
@@ -992,7 +1022,7 @@ public class Message {
         commBuffer.limit(commBuffer.position() + bytesRemaining);
       }
       while (remaining > 0) {
-        int res = socketChannel.read(commBuffer);
+        int res = readFromChannel(commBuffer);
         if (res != -1) {
           remaining -= res;
           bytesRead += res;
@@ -1099,6 +1129,7 @@ public class Message {
   public void unsetComms() {
     socket = null;
     socketChannel = null;
+    receivedBytes = null;
     inputStream = null;
     outputStream = null;
     cachedCommBuffer = null;
@@ -392,9 +392,10 @@ public class Part {
             if (buf.remaining() == 0) {
               HeapDataOutputStream.flushStream(out, buf);
             }
-            buf.put(AddressableMemoryManager.readByte(addr));
-            addr++;
-            bytesToSend--;
+            int bytesThisTime = Math.min(bytesToSend, buf.remaining());
+            putOffHeapBytes(addr, bytesThisTime, buf);
+            addr += bytesThisTime;
+            bytesToSend -= bytesThisTime;
           }
         }
       } else {
@@ -424,11 +425,7 @@ public class Part {
         } else {
           int bytesToSend = c.getDataSize();
           long addr = c.getAddressForReadingData(0, bytesToSend);
-          while (bytesToSend > 0) {
-            buf.put(AddressableMemoryManager.readByte(addr));
-            addr++;
-            bytesToSend--;
-          }
+          putOffHeapBytes(addr, bytesToSend, buf);
         }
       } else {
         HeapDataOutputStream hdos = (HeapDataOutputStream) part;
@@ -487,11 +484,8 @@ public class Part {
               bytesThisTime = BUF_MAX;
             }
             len -= bytesThisTime;
-            while (bytesThisTime > 0) {
-              buf.put(AddressableMemoryManager.readByte(addr));
-              addr++;
-              bytesThisTime--;
-            }
+            putOffHeapBytes(addr, bytesThisTime, buf);
+            addr += bytesThisTime;
             buf.flip();
             while (buf.remaining() > 0) {
               sc.write(buf);
@@ -510,6 +504,54 @@ public class Part {
     }
   }
 
+  /**
+   * Write the bytes buffered in buf followed by the contents of this part to the specified socket
+   * channel if this part is an off-heap value that can be sent from where it is. The buffered
+   * bytes, usually the header of this part, and the value are sent with gathering writes so the
+   * value is never copied and the header does not need a write of its own. Nothing is written if
+   * the value can not be sent this way.
+   *
+   * @return true if buf and this part were written, in which case buf has been cleared
+   */
+  public boolean writeGatheredTo(SocketChannel sc, ByteBuffer buf) throws IOException {
+    if (getLength() == 0 || !(part instanceof StoredObject)) {
+      return false;
+    }
+    ByteBuffer bb = ((StoredObject) part).createDirectByteBuffer();
+    if (bb == null) {
+      return false;
+    }
+    buf.flip();
+    final ByteBuffer[] bufs = {buf, bb};
+    while (bb.remaining() > 0) {
+      sc.write(bufs);
+    }
+    buf.clear();
+    return true;
+  }
+
+  /**
+   * Copy size bytes of off-heap memory starting at addr to buf. Precondition: buf has room for
+   * them.
+   */
+  private static void putOffHeapBytes(long addr, int size, ByteBuffer buf) {
+    if (buf.hasArray()) {
+      AddressableMemoryManager.readBytes(addr, buf.array(), buf.arrayOffset() + buf.position(),
+          size);
+      buf.position(buf.position() + size);
+      return;
+    }
+    long bufAddr = AddressableMemoryManager.getDirectByteBufferAddress(buf);
+    if (bufAddr != 0L) {
+      AddressableMemoryManager.copyMemory(addr, bufAddr + buf.position(), size);
+      buf.position(buf.position() + size);
+      return;
+    }
+    for (int i = 0; i < size; i++) {
+      buf.put(AddressableMemoryManager.readByte(addr + i));
+    }
+  }
+
   private static String typeCodeToString(byte c) {
     switch (c) {
       case BYTE_CODE:
@@ -139,6 +139,21 @@ public class ServerConnection implements Runnable {
    */
   private boolean doHandshake = true;
 
+  /**
+   * The event loop this connection registers with, if the acceptor runs event loops
+   */
+  private ServerConnectionEventLoops.EventLoop eventLoop;
+
+  /**
+   * The bytes of the next request that the event loop read off the socket, if any
+   */
+  private ByteBuffer receivedMessage;
+
+  /**
+   * When the event loop handed this connection to a thread to process the received message
+   */
+  private long receivedMessageTime;
+
   private final ThreadsMonitoring threadMonitoring;
   /**
    * The threadMonitorExecutor for this server connection.
@@ -1315,8 +1330,14 @@ public class ServerConnection implements Runnable {
   public void run() {
     if (getAcceptor().isSelector()) {
       boolean finishedMessage = false;
+      ByteBuffer message = receivedMessage;
+      receivedMessage = null;
       try {
         stats.decThreadQueueSize();
+        if (message != null) {
+          stats.incMessageQueueTime(System.nanoTime() - receivedMessageTime);
+          requestMessage.setReceivedBytes(message);
+        }
         if (!isTerminated()) {
           getAcceptor().setTLCommBuffer();
           doOneMessage();
@@ -1334,6 +1355,9 @@ public class ServerConnection implements Runnable {
       } catch (AuthenticationRequiredException ex) {
         logger.warn("Unexpected Exception", ex);
       } finally {
+        if (message != null) {
+          requestMessage.setReceivedBytes(null);
+        }
         getAcceptor().releaseTLCommBuffer();
         setNotProcessingMessage();
         // unset request specific timeout
@@ -1391,6 +1415,27 @@ public class ServerConnection implements Runnable {
     getSelectableChannel().register(s, SelectionKey.OP_READ, this);
   }
 
+  ServerConnectionEventLoops.EventLoop getEventLoop() {
+    return eventLoop;
+  }
+
+  void setEventLoop(ServerConnectionEventLoops.EventLoop eventLoop) {
+    this.eventLoop = eventLoop;
+  }
+
+  /**
+   * Sets the bytes of the next request, or of its beginning, that an event loop read off the
+   * socket before handing this connection to a thread.
+   */
+  void setReceivedMessage(ByteBuffer message) {
+    receivedMessage = message;
+    receivedMessageTime = System.nanoTime();
+  }
+
+  boolean isHandshakeRequired() {
+    return doHandshake;
+  }
+
   /**
    * Switch this connection to blocking mode so we can use oldIO to read and write messages.
    */
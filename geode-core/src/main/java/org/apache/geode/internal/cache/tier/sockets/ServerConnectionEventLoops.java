@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.CancelException;
+import org.apache.geode.SystemFailure;
+import org.apache.geode.logging.internal.executors.LoggingThread;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * The event loops of a cache server acceptor. Each loop owns a selector that a share of the
+ * client connections are registered with while they wait for their next message. When a
+ * connection becomes readable, its loop reads the message off the socket without blocking, as
+ * its bytes arrive, and only hands the connection to the acceptor's thread pool once the whole
+ * message has been read. The thread then processes the message from the bytes read and registers
+ * the connection again. A connection that is idle, or whose client is slow to send a message,
+ * holds no thread at all.
+ * <p>
+ * The handshake of a new connection and messages larger than {@link #MAX_BUFFERED_MESSAGE_SIZE}
+ * are still read by the thread processing them; for the latter the loop only reads the header.
+ *
+ * @see AcceptorImpl#EVENT_LOOPS
+ */
+class ServerConnectionEventLoops {
+  private static final Logger logger = LogService.getLogger();
+
+  /**
+   * The largest message payload the event loops read before handing a connection to a thread.
+   */
+  static final int MAX_BUFFERED_MESSAGE_SIZE = 1024 * 1024;
+
+  private static final int HEADER_LENGTH = 17;
+
+  private static final int PAYLOAD_LENGTH_OFFSET = 4;
+
+  private final EventLoop[] loops;
+  private final AtomicInteger nextLoop = new AtomicInteger();
+  private final Executor executor;
+  private final CacheServerStats stats;
+  private final BooleanSupplier isRunning;
+  private final long checkRegisteredKeysInterval;
+
+  /**
+   * @param isRunning returns false once the acceptor is shutting down
+   * @param checkRegisteredKeysInterval the nanoseconds between checks for connections that were
+   *        closed while they were registered, or 0 to only check when a connection was closed
+   */
+  ServerConnectionEventLoops(int count, String name, Executor executor, CacheServerStats stats,
+      BooleanSupplier isRunning, long checkRegisteredKeysInterval) throws IOException {
+    this.executor = executor;
+    this.stats = stats;
+    this.isRunning = isRunning;
+    this.checkRegisteredKeysInterval = checkRegisteredKeysInterval;
+    loops = new EventLoop[count];
+    try {
+      for (int i = 0; i < count; i++) {
+        loops[i] = new EventLoop(name + " " + i);
+      }
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  void start() {
+    for (EventLoop loop : loops) {
+      loop.thread.start();
+    }
+  }
+
+  /**
+   * Registers the connection with one of the loops, which hands it to a thread once its next
+   * message has been read. The channel of the connection must be in non-blocking mode.
+   */
+  void register(ServerConnection connection) {
+    EventLoop loop = connection.getEventLoop();
+    if (loop == null) {
+      loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+      connection.setEventLoop(loop);
+    }
+    loop.register(connection);
+  }
+
+  /**
+   * Lets the loop of a connection that was closed check for connections that were closed while
+   * they were registered.
+   */
+  void connectionClosed(ServerConnection connection) {
+    EventLoop loop = connection.getEventLoop();
+    if (loop != null) {
+      loop.connectionClosed();
+    }
+  }
+
+  void close() {
+    for (EventLoop loop : loops) {
+      if (loop != null) {
+        loop.close();
+      }
+    }
+  }
+
+  boolean isClosed() {
+    for (EventLoop loop : loops) {
+      if (loop != null && (loop.selector.isOpen() || loop.thread.isAlive())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void finishConnection(ServerConnection connection) {
+    try {
+      connection.handleTermination();
+    } catch (CancelException ignore) {
+      // shutting down
+    }
+  }
+
+  /**
+   * The message a connection is reading, and the connection itself, attached to its key.
+   */
+  private static class Registration {
+    private final ServerConnection connection;
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    private ByteBuffer message;
+
+    private Registration(ServerConnection connection) {
+      this.connection = connection;
+    }
+  }
+
+  class EventLoop implements Runnable {
+    private final Selector selector;
+    private final Thread thread;
+    private final ConcurrentLinkedQueue<ServerConnection> registrations =
+        new ConcurrentLinkedQueue<>();
+    private volatile boolean checkRegisteredKeys;
+
+    private EventLoop(String name) throws IOException {
+      selector = Selector.open();
+      thread = new LoggingThread(name, false, this);
+    }
+
+    private void register(ServerConnection connection) {
+      registrations.add(connection);
+      selector.wakeup();
+    }
+
+    private void connectionClosed() {
+      checkRegisteredKeys = true;
+      selector.wakeup();
+    }
+
+    private void close() {
+      try {
+        selector.close();
+      } catch (IOException ignore) {
+      }
+      thread.interrupt();
+    }
+
+    @Override
+    public void run() {
+      try {
+        long lastCheckedTime = System.nanoTime();
+        while (selector.isOpen() && isRunning.getAsBoolean()) {
+          SystemFailure.checkFailure();
+          long start = System.nanoTime();
+          selector.select();
+          long selected = System.nanoTime();
+          stats.incEventLoopSelectTime(selected - start);
+          if (!isRunning.getAsBoolean()) {
+            break;
+          }
+          if (checkRegisteredKeys || checkRegisteredKeysInterval > 0
+              && selected - lastCheckedTime >= checkRegisteredKeysInterval) {
+            checkRegisteredKeys = false;
+            lastCheckedTime = selected;
+            finishClosedConnections();
+          }
+          while (processSelectedKeys()) {
+            // deregister the cancelled keys so that their connections can register again
+            selector.selectNow();
+          }
+          registerConnections();
+          stats.incEventLoopProcessTime(System.nanoTime() - selected);
+        }
+      } catch (ClosedSelectorException ignore) {
+        // shutting down
+      } catch (IOException e) {
+        logger.warn("Unexpected exception in cache server event loop", e);
+      } catch (CancelException ignore) {
+        // shutting down
+      } finally {
+        finishAllConnections();
+      }
+    }
+
+    private void registerConnections() {
+      ServerConnection connection;
+      while ((connection = registrations.poll()) != null) {
+        try {
+          connection.getSelectableChannel().register(selector, SelectionKey.OP_READ,
+              new Registration(connection));
+        } catch (ClosedChannelException e) {
+          finishConnection(connection);
+        } catch (RuntimeException e) {
+          finishConnection(connection);
+          logger.warn("ignoring", e);
+        }
+      }
+    }
+
+    /**
+     * Reads from the readable connections and hands those that have read a message to a thread.
+     *
+     * @return true if any key was cancelled
+     */
+    private boolean processSelectedKeys() {
+      boolean cancelled = false;
+      Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+      while (keys.hasNext()) {
+        SelectionKey key = keys.next();
+        keys.remove();
+        Registration registration = (Registration) key.attachment();
+        try {
+          if (!key.isValid() || !key.isReadable()) {
+            key.cancel();
+            cancelled = true;
+            finishConnection(registration.connection);
+          } else if (read(key, registration)) {
+            key.cancel();
+            cancelled = true;
+            dispatch(registration);
+          }
+        } catch (CancelledKeyException e) {
+          cancelled = true;
+          finishConnection(registration.connection);
+        } catch (IOException e) {
+          key.cancel();
+          cancelled = true;
+          finishConnection(registration.connection);
+          if (logger.isDebugEnabled()) {
+            logger.debug("Closing {} after failing to read from it", registration.connection, e);
+          }
+        }
+      }
+      return cancelled;
+    }
+
+    /**
+     * Reads what is available of the next message of a connection.
+     *
+     * @return true if the connection is ready to be handed to a thread
+     */
+    private boolean read(SelectionKey key, Registration registration) throws IOException {
+      if (registration.connection.isHandshakeRequired()) {
+        return true;
+      }
+      SocketChannel channel = (SocketChannel) key.channel();
+      if (registration.message == null) {
+        ByteBuffer header = registration.header;
+        if (channel.read(header) < 0) {
+          throw new ClosedChannelException();
+        }
+        if (header.hasRemaining()) {
+          return false;
+        }
+        int payloadLength = header.getInt(PAYLOAD_LENGTH_OFFSET);
+        header.flip();
+        if (payloadLength <= 0 || payloadLength > MAX_BUFFERED_MESSAGE_SIZE) {
+          // the thread reads the payload, if any, or rejects its length
+          registration.message = header;
+          return true;
+        }
+        registration.message = ByteBuffer.allocate(HEADER_LENGTH + payloadLength);
+        registration.message.put(header);
+      }
+      if (channel.read(registration.message) < 0) {
+        throw new ClosedChannelException();
+      }
+      if (registration.message.hasRemaining()) {
+        return false;
+      }
+      registration.message.flip();
+      return true;
+    }
+
+    private void dispatch(Registration registration) {
+      ServerConnection connection = registration.connection;
+      try {
+        connection.makeBlocking();
+      } catch (IOException e) {
+        finishConnection(connection);
+        return;
+      }
+      // keeps the client health monitor from timing the connection out while it waits for a
+      // thread, and lets operations that waited too long for one be abandoned
+      connection.setProcessingMessage();
+      if (registration.message != null) {
+        stats.incEventLoopMessagesRead();
+        connection.setReceivedMessage(registration.message);
+      }
+      try {
+        stats.incThreadQueueSize();
+        executor.execute(connection);
+      } catch (RejectedExecutionException e) {
+        stats.decThreadQueueSize();
+        finishConnection(connection);
+        if (isRunning.getAsBoolean()) {
+          logger.warn("unexpected", e);
+        }
+      }
+    }
+
+    private void finishClosedConnections() {
+      for (SelectionKey key : selector.keys()) {
+        ServerConnection connection = ((Registration) key.attachment()).connection;
+        if (connection.isClosed()) {
+          key.cancel();
+          finishConnection(connection);
+        }
+      }
+    }
+
+    private void finishAllConnections() {
+      List<ServerConnection> connections = new ArrayList<>(registrations);
+      registrations.clear();
+      try {
+        for (SelectionKey key : selector.keys()) {
+          connections.add(((Registration) key.attachment()).connection);
+        }
+      } catch (ClosedSelectorException ignore) {
+        // its connections are finished by the acceptor
+      }
+      for (ServerConnection connection : connections) {
+        finishConnection(connection);
+      }
+    }
+  }
+}
@@ -45,6 +45,17 @@ public class CompactVersionHolder<T extends VersionSource> implements VersionHol
     memberID = tag.getMemberID();
   }
 
+  protected CompactVersionHolder(T memberID, int entryVersion, long regionVersion,
+      long versionTimeStamp, int distributedSystemId) {
+    entryVersionLowBytes = (short) (entryVersion & 0xffff);
+    entryVersionHighByte = (byte) ((entryVersion & 0xff0000) >> 16);
+    regionVersionHighBytes = (short) (regionVersion >> 32);
+    regionVersionLowBytes = (int) regionVersion;
+    this.versionTimeStamp = versionTimeStamp;
+    this.distributedSystemId = (byte) (distributedSystemId & 0xff);
+    this.memberID = memberID;
+  }
+
 
 
   @Override
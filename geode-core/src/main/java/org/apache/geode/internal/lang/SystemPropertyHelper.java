@@ -17,6 +17,8 @@ package org.apache.geode.internal.lang;
 import static org.apache.geode.internal.lang.SystemProperty.getProductBooleanProperty;
 
 import org.apache.geode.internal.cache.eviction.LRUListWithAsyncSorting;
+import org.apache.geode.internal.cache.eviction.LRUListWithSampling;
+import org.apache.geode.internal.cache.eviction.TinyLFUList;
 
 /**
  * The SystemPropertyHelper class is an helper class for accessing system properties used in geode.
@@ -54,6 +56,24 @@ public class SystemPropertyHelper {
    */
   public static final String EVICTION_SCAN_THRESHOLD_PERCENT = "EvictionScanThresholdPercent";
 
+  /**
+   * When set to "true" regions with LRU eviction pick the entries to evict by sampling the region
+   * with a clock hand instead of keeping them in a list (defaults to false). For more details see
+   * {@link LRUListWithSampling}.
+   *
+   * @since Geode 1.16.0
+   */
+  public static final String EVICTION_SAMPLING = "EvictionSampling";
+
+  /**
+   * When set to "true" regions with heap or memory LRU eviction evict the entries that were used
+   * least often among a sample of the region instead of the least recently used ones (defaults to
+   * false). For more details see {@link TinyLFUList}.
+   *
+   * @since Geode 1.16.0
+   */
+  public static final String EVICTION_TINYLFU = "EvictionTinyLFU";
+
   public static final String EVICTION_SEARCH_MAX_ENTRIES = "lru.maxSearchEntries";
 
   public static final String EARLY_ENTRY_EVENT_SERIALIZATION = "earlyEntryEventSerialization";
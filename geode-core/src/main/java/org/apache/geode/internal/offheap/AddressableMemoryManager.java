@@ -221,7 +221,14 @@ public class AddressableMemoryManager {
         dbbAddressFailed = true;
         return 0L;
       }
-      m.setAccessible(true);
+      try {
+        m.setAccessible(true);
+      } catch (RuntimeException e) {
+        // java.nio is not opened to us so callers need to copy the bytes instead
+        dbbClass = null;
+        dbbAddressFailed = true;
+        return 0L;
+      }
       dbbAddressMethod = m;
     }
     try {
@@ -270,7 +277,14 @@ public class AddressableMemoryManager {
         dbbCreateFailed = true;
         return null;
       }
-      ctor.setAccessible(true);
+      try {
+        ctor.setAccessible(true);
+      } catch (RuntimeException e) {
+        // java.nio is not opened to us so callers need to copy the bytes instead
+        dbbClass = null;
+        dbbCreateFailed = true;
+        return null;
+      }
       dbbCtor = ctor;
     }
     try {
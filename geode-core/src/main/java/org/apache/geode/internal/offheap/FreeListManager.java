@@ -18,8 +18,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -29,6 +31,7 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.OutOfOffHeapMemoryException;
+import org.apache.geode.annotations.VisibleForTesting;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 import org.apache.geode.util.internal.GeodeGlossary;
 
@@ -53,6 +56,18 @@ public class FreeListManager {
       new ConcurrentSkipListSet<>();
   private final AtomicLong allocatedSize = new AtomicLong(0L);
 
+  /**
+   * The most free chunks of one tiny size a thread keeps in its cache. Zero disables the caches.
+   */
+  private final int threadCacheChunks;
+  /**
+   * Tiny free lists with an index below this are cached per thread.
+   */
+  private final int threadCacheListCount;
+  private final ThreadLocal<TinyAllocationCache> threadCache;
+  private final ConcurrentLinkedQueue<TinyAllocationCache> threadCaches =
+      new ConcurrentLinkedQueue<>();
+
   private int getNearestTinyMultiple(int size) {
     return (size - 1) / TINY_MULTIPLE;
   }
@@ -122,6 +137,9 @@ public class FreeListManager {
         tinyFree += cl.computeTotalSize();
       }
     }
+    for (TinyAllocationCache cache : threadCaches) {
+      tinyFree += cache.getCachedBytes();
+    }
     return tinyFree;
   }
 
@@ -137,12 +155,44 @@ public class FreeListManager {
    * The id of the last fragment we allocated from.
    */
   private final AtomicInteger lastFragmentAllocation = new AtomicInteger(0);
-  private final CopyOnWriteArrayList<Fragment> fragmentList;
+  /**
+   * The slab the next incremental defragmentation works on.
+   */
+  private final AtomicInteger nextSlabToDefragment = new AtomicInteger(0);
+  /**
+   * For each slab, the number of incremental defragmentation turns it still sits out because the
+   * last time it was defragmented none of its free chunks could be combined. Guarded by this.
+   */
+  private final int[] slabTurnsToSkip;
+  /**
+   * For each slab, the number of turns it sits out after the next pass that combines nothing. It
+   * doubles with every such pass, up to MAX_SLAB_TURNS_TO_SKIP. Guarded by this.
+   */
+  private final int[] slabSkipBackoff;
+  /**
+   * Replaced as a whole by incremental defragmentation so that allocators iterating it by index
+   * never see its elements shift.
+   */
+  private volatile CopyOnWriteArrayList<Fragment> fragmentList;
   private final MemoryAllocatorImpl ma;
 
   public FreeListManager(MemoryAllocatorImpl ma, final Slab[] slabs) {
+    this(ma, slabs, THREAD_CACHE_CHUNKS);
+  }
+
+  @VisibleForTesting
+  FreeListManager(MemoryAllocatorImpl ma, final Slab[] slabs, int threadCacheChunks) {
     this.ma = ma;
     this.slabs = slabs;
+    this.threadCacheChunks = threadCacheChunks;
+    if (threadCacheChunks > 0) {
+      threadCacheListCount =
+          Math.min(TINY_FREE_LIST_COUNT, THREAD_CACHE_MAX_CHUNK_SIZE / TINY_MULTIPLE);
+      threadCache = ThreadLocal.withInitial(this::createThreadCache);
+    } else {
+      threadCacheListCount = 0;
+      threadCache = null;
+    }
     long total = 0;
     Fragment[] tmp = new Fragment[slabs.length];
     for (int i = 0; i < slabs.length; i++) {
@@ -151,10 +201,19 @@ public class FreeListManager {
     }
     fragmentList = new CopyOnWriteArrayList<>(tmp);
     totalSlabSize = total;
+    slabTurnsToSkip = new int[slabs.length];
+    slabSkipBackoff = new int[slabs.length];
 
     fillFragments();
   }
 
+  private TinyAllocationCache createThreadCache() {
+    TinyAllocationCache cache =
+        new TinyAllocationCache(Thread.currentThread(), threadCacheListCount);
+    threadCaches.add(cache);
+    return cache;
+  }
+
   /**
    * Create and return a Fragment. This method exists so that tests can override it.
    */
@@ -219,15 +278,16 @@ public class FreeListManager {
 
   private OffHeapStoredObject allocateFromFragments(int chunkSize) {
     do {
+      final List<Fragment> fragments = fragmentList;
       final int lastAllocationId = lastFragmentAllocation.get();
-      for (int i = lastAllocationId; i < fragmentList.size(); i++) {
-        OffHeapStoredObject result = allocateFromFragment(i, chunkSize);
+      for (int i = lastAllocationId; i < fragments.size(); i++) {
+        OffHeapStoredObject result = allocateFromFragment(fragments, i, chunkSize);
         if (result != null) {
           return result;
         }
       }
       for (int i = 0; i < lastAllocationId; i++) {
-        OffHeapStoredObject result = allocateFromFragment(i, chunkSize);
+        OffHeapStoredObject result = allocateFromFragment(fragments, i, chunkSize);
         if (result != null) {
           return result;
         }
@@ -275,6 +335,10 @@ public class FreeListManager {
         cl.logSizes(lw, "Free tiny of size ");
       }
     }
+    for (TinyAllocationCache cache : threadCaches) {
+      cache.forEachChunk((idx, addr) -> lw
+          .info("Thread cached free tiny of size " + OffHeapStoredObject.getSize(addr)));
+    }
   }
 
   private void logFragmentState(Logger lw) {
@@ -323,6 +387,43 @@ public class FreeListManager {
     verifyHugeMultiple(HUGE_MULTIPLE);
   }
   public static final int MAX_TINY = TINY_MULTIPLE * TINY_FREE_LIST_COUNT;
+  /**
+   * The most free chunks of each tiny size that a thread keeps in its own cache instead of
+   * returning them to the shared free lists. A thread that frees a chunk and later allocates one of
+   * the same size then does not touch the shared free lists at all. The default of zero disables
+   * the thread caches.
+   */
+  public static final int THREAD_CACHE_CHUNKS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_THREAD_CACHE_CHUNKS", 0);
+  /**
+   * Only chunks of at most this many bytes, including the off-heap header, are cached per thread.
+   */
+  public static final int THREAD_CACHE_MAX_CHUNK_SIZE = Integer
+      .getInteger(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_THREAD_CACHE_MAX_CHUNK_SIZE", 1024);
+  /**
+   * Once the chunks cached by one thread add up to more than this many bytes they are all returned
+   * to the shared free lists.
+   */
+  public static final long THREAD_CACHE_MAX_BYTES =
+      Long.getLong(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_THREAD_CACHE_MAX_BYTES", 256 * 1024);
+  /**
+   * How often, in milliseconds, to check whether a slab should be defragmented incrementally. The
+   * default of zero disables incremental defragmentation so memory is only defragmented once an
+   * allocation can not be satisfied.
+   */
+  public static final int INCREMENTAL_DEFRAGMENTATION_INTERVAL_MS = Integer.getInteger(
+      GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_INCREMENTAL_DEFRAGMENTATION_INTERVAL_MS", 0);
+  /**
+   * The percentage of free memory held in freed chunks, instead of in fragments, at which a slab
+   * is defragmented incrementally.
+   */
+  public static final int INCREMENTAL_DEFRAGMENTATION_THRESHOLD = Integer.getInteger(
+      GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_INCREMENTAL_DEFRAGMENTATION_THRESHOLD", 50);
+  /**
+   * The most incremental defragmentation turns a slab sits out after a pass that could not combine
+   * any of its free chunks.
+   */
+  static final int MAX_SLAB_TURNS_TO_SKIP = 64;
 
   /**
    * Return true if the two chunks have been combined into one. If low and high are adjacent to each
@@ -456,6 +557,47 @@ public class FreeListManager {
     boolean result = false;
     ArrayList<LongStack> freeChunks = new ArrayList<>();
     collectFreeChunks(freeChunks);
+    ResizableLongArray sorted = combineFreeChunks(freeChunks);
+
+    int largestFragment = 0;
+    lastFragmentAllocation.set(0);
+    ArrayList<Fragment> tmp = new ArrayList<>();
+    for (int i = sorted.size() - 1; i >= 0; i--) {
+      long addr = sorted.get(i);
+      if (addr == 0L) {
+        continue;
+      }
+      int addrSize = OffHeapStoredObject.getSize(addr);
+      Fragment f = createFragment(addr, addrSize);
+      if (addrSize >= chunkSize) {
+        result = true;
+      }
+      if (addrSize > largestFragment) {
+        largestFragment = addrSize;
+        // TODO it might be better to sort them biggest first
+        tmp.add(0, f);
+      } else {
+        tmp.add(f);
+      }
+    }
+    fragmentList.addAll(tmp);
+
+    fillFragments();
+
+    ma.getStats().setLargestFragment(largestFragment);
+    ma.getStats().setFragments(tmp.size());
+    ma.getStats().setFragmentation(getFragmentation());
+    ma.getStats().setFreedChunks(0);
+
+    return result;
+  }
+
+  /**
+   * Empties the given stacks of free chunks and returns their addresses sorted, with adjacent
+   * chunks combined into the lower one. The higher chunk of each combined pair is left in the
+   * result as {@code 0L}.
+   */
+  private ResizableLongArray combineFreeChunks(List<? extends LongStack> freeChunks) {
     ResizableLongArray sorted = new ResizableLongArray();
     for (LongStack l : freeChunks) {
       long addr = l.poll();
@@ -491,45 +633,235 @@ public class FreeListManager {
         sorted.set(i, 0L);
       }
     }
+    return sorted;
+  }
 
-    int largestFragment = 0;
-    lastFragmentAllocation.set(0);
-    ArrayList<Fragment> tmp = new ArrayList<>();
-    for (int i = sorted.size() - 1; i >= 0; i--) {
-      long addr = sorted.get(i);
-      if (addr == 0L) {
-        continue;
-      }
-      int addrSize = OffHeapStoredObject.getSize(addr);
-      Fragment f = createFragment(addr, addrSize);
-      if (addrSize >= chunkSize) {
-        result = true;
-      }
-      if (addrSize > largestFragment) {
-        largestFragment = addrSize;
-        // TODO it might be better to sort them biggest first
-        tmp.add(0, f);
-      } else {
-        tmp.add(f);
+  /**
+   * Defragments the next slab if the share of free memory that is held in freed chunks, instead of
+   * in fragments, has reached INCREMENTAL_DEFRAGMENTATION_THRESHOLD. Unlike {@link #defragment}
+   * this runs before allocations start failing and only works on one slab at a time, so
+   * allocations continue from the fragments of the other slabs while it runs. It is called
+   * periodically by the {@link IncrementalDefragmenter}.
+   *
+   * @return true if a slab was defragmented
+   */
+  boolean defragmentIncrementally() {
+    final int level = getFreedChunkPercentage();
+    ma.getStats().recordFragmentationLevel(level);
+    if (level < INCREMENTAL_DEFRAGMENTATION_THRESHOLD) {
+      return false;
+    }
+    for (int i = 0; i < slabs.length; i++) {
+      final int slabIdx = Math.floorMod(nextSlabToDefragment.getAndIncrement(), slabs.length);
+      if (!skipSlabTurn(slabIdx)) {
+        defragmentSlab(slabIdx);
+        return true;
       }
     }
-    fragmentList.addAll(tmp);
+    return false;
+  }
 
-    fillFragments();
+  /**
+   * Returns true if the given slab should sit out this turn because its last pass could not
+   * combine any chunks.
+   */
+  private synchronized boolean skipSlabTurn(int slabIdx) {
+    if (slabTurnsToSkip[slabIdx] > 0) {
+      slabTurnsToSkip[slabIdx]--;
+      return true;
+    }
+    return false;
+  }
 
-    ma.getStats().setLargestFragment(largestFragment);
-    ma.getStats().setFragments(tmp.size());
-    ma.getStats().setFragmentation(getFragmentation());
-    ma.getStats().setFreedChunks(0);
+  /**
+   * Returns the percentage of free memory that is held in freed chunks instead of fragments.
+   */
+  int getFreedChunkPercentage() {
+    final long freeMemory = getFreeMemory();
+    if (freeMemory <= 0) {
+      return 0;
+    }
+    final long freedChunkMemory = Math.max(0, freeMemory - getFreeFragmentMemory());
+    return (int) (freedChunkMemory * 100 / freeMemory);
+  }
 
+  /**
+   * Combines the freed chunks and the fragments of one slab into new fragments. Free chunks of the
+   * other slabs stay in the free lists, and their fragments stay available for allocation.
+   */
+  void defragmentSlab(int slabIdx) {
+    final long start = ma.getStats().startIncrementalDefragmentation();
+    try {
+      synchronized (this) {
+        final Slab slab = slabs[slabIdx];
+        final long slabAddr = slab.getMemoryAddress();
+        final long slabEnd = slabAddr + slab.getSize();
+        for (TinyAllocationCache cache : threadCaches) {
+          returnThreadCache(cache);
+        }
+        ArrayList<OffHeapStoredObjectAddressStack> freeChunks = new ArrayList<>();
+        List<Fragment> oldFragments = collectSlabFragmentChunks(slabAddr, slabEnd, freeChunks);
+        collectSlabHugeChunks(slabAddr, slabEnd, freeChunks);
+        collectSlabTinyChunks(slabAddr, slabEnd, freeChunks);
+        int chunkCount = 0;
+        for (OffHeapStoredObjectAddressStack chunks : freeChunks) {
+          chunkCount += chunks.size();
+        }
+        ResizableLongArray sorted = combineFreeChunks(freeChunks);
+
+        ArrayList<Fragment> newFragments = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+          long addr = sorted.get(i);
+          if (addr != 0L) {
+            Fragment f = createFragment(addr, OffHeapStoredObject.getSize(addr));
+            if (validateMemoryWithFill) {
+              f.fill();
+            }
+            newFragments.add(f);
+          }
+        }
+        // Fragments are equal if their addresses are, so the old ones have to go first. The old
+        // fragments have no free space left, so allocators still iterating the old list skip them.
+        List<Fragment> fragments = new ArrayList<>(fragmentList);
+        fragments.removeAll(oldFragments);
+        fragments.addAll(newFragments);
+        fragmentList = new CopyOnWriteArrayList<>(fragments);
+
+        if (newFragments.size() < chunkCount) {
+          slabSkipBackoff[slabIdx] = 0;
+        } else {
+          // none of the chunks were adjacent; don't churn this slab again next turn
+          slabSkipBackoff[slabIdx] =
+              Math.min(MAX_SLAB_TURNS_TO_SKIP, Math.max(1, slabSkipBackoff[slabIdx] * 2));
+          slabTurnsToSkip[slabIdx] = slabSkipBackoff[slabIdx];
+        }
+
+        ma.getStats().setLargestFragment(largestFragmentSize());
+        ma.getStats().setFragments(fragmentList.size());
+        ma.getStats().setFragmentation(getFragmentation());
+        ma.getStats().setFreedChunks(getFreedChunks());
+      }
+    } finally {
+      ma.getStats().endIncrementalDefragmentation(start);
+    }
+  }
+
+  private static boolean isInSlab(long addr, long slabAddr, long slabEnd) {
+    return addr >= slabAddr && addr < slabEnd;
+  }
+
+  /**
+   * Allocates the free space of every fragment in the given slab and adds it to the given list as
+   * a free chunk.
+   *
+   * @return the fragments, which no longer have free space
+   */
+  private List<Fragment> collectSlabFragmentChunks(long slabAddr, long slabEnd,
+      List<OffHeapStoredObjectAddressStack> l) {
+    List<Fragment> result = new ArrayList<>();
+    OffHeapStoredObjectAddressStack chunks = new OffHeapStoredObjectAddressStack();
+    for (Fragment f : fragmentList) {
+      if (!isInSlab(f.getAddress(), slabAddr, slabEnd)) {
+        continue;
+      }
+      result.add(f);
+      int offset;
+      int diff;
+      do {
+        offset = f.getFreeIndex();
+        diff = f.getSize() - offset;
+      } while (diff >= OffHeapStoredObject.MIN_CHUNK_SIZE && !f.allocate(offset, offset + diff));
+      if (diff < OffHeapStoredObject.MIN_CHUNK_SIZE) {
+        assert diff == 0;
+        continue;
+      }
+      long chunkAddr = f.getAddress() + offset;
+      OffHeapStoredObject.setSize(chunkAddr, diff);
+      chunks.offer(chunkAddr);
+    }
+    if (!chunks.isEmpty()) {
+      l.add(chunks);
+    }
     return result;
   }
 
+  private void collectSlabHugeChunks(long slabAddr, long slabEnd,
+      List<OffHeapStoredObjectAddressStack> l) {
+    OffHeapStoredObjectAddressStack chunks = new OffHeapStoredObjectAddressStack();
+    for (Iterator<OffHeapStoredObject> it = hugeChunkSet.iterator(); it.hasNext();) {
+      OffHeapStoredObject c = it.next();
+      if (isInSlab(c.getAddress(), slabAddr, slabEnd) && hugeChunkSet.remove(c)) {
+        chunks.offer(c.getAddress());
+      }
+    }
+    if (!chunks.isEmpty()) {
+      l.add(chunks);
+    }
+  }
+
+  /**
+   * Takes the chunks of the given slab out of the tiny free lists. Each list is emptied in one
+   * step and the chunks of the other slabs are pushed back in one step, so allocations from a
+   * list only miss it briefly.
+   */
+  private void collectSlabTinyChunks(long slabAddr, long slabEnd,
+      List<OffHeapStoredObjectAddressStack> l) {
+    OffHeapStoredObjectAddressStack chunks = new OffHeapStoredObjectAddressStack();
+    for (int i = 0; i < tinyFreeLists.length(); i++) {
+      OffHeapStoredObjectAddressStack cl = tinyFreeLists.get(i);
+      if (cl == null) {
+        continue;
+      }
+      long addr = cl.clear();
+      long keepHead = 0L;
+      long keepTail = 0L;
+      while (addr != 0L) {
+        long next = OffHeapStoredObject.getNext(addr);
+        if (isInSlab(addr, slabAddr, slabEnd)) {
+          chunks.offer(addr);
+        } else {
+          if (keepHead == 0L) {
+            keepHead = addr;
+          } else {
+            OffHeapStoredObject.setNext(keepTail, addr);
+          }
+          keepTail = addr;
+        }
+        addr = next;
+      }
+      if (keepHead != 0L) {
+        OffHeapStoredObject.setNext(keepTail, 0L);
+        cl.offerChain(keepHead);
+      }
+    }
+    if (!chunks.isEmpty()) {
+      l.add(chunks);
+    }
+  }
+
   public void updateNonRealTimeStats() {
+    returnIdleThreadCaches();
     ma.getStats().setLargestFragment(largestFragmentSize());
     ma.getStats().setFreedChunks(getFreedChunks());
   }
 
+  /**
+   * Returns the chunks cached by threads that are gone or that have not allocated or freed since
+   * the last call to the shared free lists.
+   */
+  private void returnIdleThreadCaches() {
+    for (Iterator<TinyAllocationCache> it = threadCaches.iterator(); it.hasNext();) {
+      TinyAllocationCache cache = it.next();
+      cache.publishStats(ma.getStats());
+      if (!cache.isOwnerAlive()) {
+        it.remove();
+        returnThreadCache(cache);
+      } else if (!cache.checkAndClearUsed()) {
+        returnThreadCache(cache);
+      }
+    }
+  }
+
   public int getFreedChunks() {
     int elementCountFromTinyFreeLists =
         getElementCountFromTinyFreeLists();
@@ -547,6 +879,9 @@ public class FreeListManager {
         fragmentCount += cl.size();
       }
     }
+    for (TinyAllocationCache cache : threadCaches) {
+      fragmentCount += cache.size();
+    }
     return fragmentCount;
   }
 
@@ -676,6 +1011,13 @@ public class FreeListManager {
         }
       }
     }
+    for (Iterator<TinyAllocationCache> it = threadCaches.iterator(); it.hasNext();) {
+      TinyAllocationCache cache = it.next();
+      if (!cache.isOwnerAlive()) {
+        it.remove();
+      }
+      cache.drain((idx, head) -> l.add(new OffHeapStoredObjectAddressStack(head)));
+    }
   }
 
   private void collectFreeHugeChunks(List<LongStack> l) {
@@ -692,12 +1034,17 @@ public class FreeListManager {
   }
 
   OffHeapStoredObject allocateFromFragment(final int fragIdx, final int chunkSize) {
-    if (fragIdx >= fragmentList.size()) {
+    return allocateFromFragment(fragmentList, fragIdx, chunkSize);
+  }
+
+  private OffHeapStoredObject allocateFromFragment(final List<Fragment> fragments,
+      final int fragIdx, final int chunkSize) {
+    if (fragIdx >= fragments.size()) {
       return null;
     }
     final Fragment fragment;
     try {
-      fragment = fragmentList.get(fragIdx);
+      fragment = fragments.get(fragIdx);
     } catch (IndexOutOfBoundsException ignore) {
       // A concurrent defragmentation can cause this.
       return null;
@@ -744,8 +1091,39 @@ public class FreeListManager {
   }
 
   private OffHeapStoredObject allocateTiny(int size, boolean useFragments) {
-    return basicAllocate(getNearestTinyMultiple(size), TINY_MULTIPLE, 0, tinyFreeLists,
-        useFragments);
+    final int idx = getNearestTinyMultiple(size);
+    if (idx < threadCacheListCount) {
+      long memAddr = allocateFromThreadCache(idx);
+      if (memAddr != 0L) {
+        OffHeapStoredObject result = new OffHeapStoredObject(memAddr);
+        checkDataIntegrity(result);
+        result.readyForAllocation();
+        return result;
+      }
+    }
+    return basicAllocate(idx, TINY_MULTIPLE, 0, tinyFreeLists, useFragments);
+  }
+
+  /**
+   * Returns a free chunk from the calling thread's cache, refilling the cache with a batch from the
+   * shared free list if it has none, or returns {@code 0L} if the shared free list is empty too.
+   */
+  private long allocateFromThreadCache(int idx) {
+    TinyAllocationCache cache = threadCache.get();
+    long memAddr = cache.poll(idx, ma.getStats());
+    if (memAddr == 0L) {
+      OffHeapStoredObjectAddressStack clq = tinyFreeLists.get(idx);
+      if (clq != null) {
+        memAddr = clq.pollChain(Math.max(1, threadCacheChunks / 2));
+        if (memAddr != 0L) {
+          long rest = OffHeapStoredObject.getNext(memAddr);
+          if (rest != 0L) {
+            cache.offerChain(idx, rest);
+          }
+        }
+      }
+    }
+    return memAddr;
   }
 
   private OffHeapStoredObject basicAllocate(int idx, int multiple, int offset,
@@ -842,7 +1220,44 @@ public class FreeListManager {
   }
 
   private void freeTiny(long addr, int cSize) {
-    basicFree(addr, getNearestTinyMultiple(cSize), tinyFreeLists);
+    final int idx = getNearestTinyMultiple(cSize);
+    if (idx < threadCacheListCount) {
+      freeToThreadCache(threadCache.get(), idx, addr);
+    } else {
+      basicFree(addr, idx, tinyFreeLists);
+    }
+  }
+
+  /**
+   * Caches a freed chunk for the calling thread. Once the thread caches more than
+   * threadCacheChunks of one size, half of them go back to the shared free list; once its whole
+   * cache grows past THREAD_CACHE_MAX_BYTES, all of them do.
+   */
+  private void freeToThreadCache(TinyAllocationCache cache, int idx, long addr) {
+    cache.offer(idx, addr);
+    if (cache.getCachedBytes() > THREAD_CACHE_MAX_BYTES) {
+      returnThreadCache(cache);
+    } else {
+      long chain = cache.trim(idx, threadCacheChunks, threadCacheChunks / 2);
+      if (chain != 0L) {
+        returnToTinyFreeList(idx, chain);
+      }
+    }
+  }
+
+  private void returnThreadCache(TinyAllocationCache cache) {
+    cache.drain(this::returnToTinyFreeList);
+  }
+
+  private void returnToTinyFreeList(int idx, long chain) {
+    OffHeapStoredObjectAddressStack clq = tinyFreeLists.get(idx);
+    if (clq == null) {
+      clq = createFreeListForEmptySlot(tinyFreeLists, idx);
+      if (!tinyFreeLists.compareAndSet(idx, null, clq)) {
+        clq = tinyFreeLists.get(idx);
+      }
+    }
+    clq.offerChain(chain);
   }
 
   private void basicFree(long addr, int idx,
@@ -913,6 +1328,10 @@ public class FreeListManager {
         addr = OffHeapStoredObject.getNext(addr);
       }
     }
+    for (TinyAllocationCache cache : threadCaches) {
+      cache.forEachChunk(
+          (idx, addr) -> value.add(new MemoryBlockNode(sma, new TinyMemoryBlock(addr, idx))));
+    }
     return value;
   }
 
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.offheap;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * Periodically asks a {@link FreeListManager} to defragment one slab if enough of its free memory
+ * is held in freed chunks.
+ */
+class IncrementalDefragmenter {
+  private static final Logger logger = LogService.getLogger();
+
+  private final FreeListManager freeListManager;
+  private final ScheduledExecutorService executor;
+  private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>();
+
+  IncrementalDefragmenter(FreeListManager freeListManager) {
+    this.freeListManager = freeListManager;
+    executor = LoggingExecutors.newSingleThreadScheduledExecutor("Off-Heap Defragmentation thread");
+  }
+
+  void start(int intervalMs) {
+    if (future.get() == null) {
+      // a reused allocator is started again
+      future.set(executor.scheduleWithFixedDelay(this::run, intervalMs, intervalMs,
+          TimeUnit.MILLISECONDS));
+    }
+  }
+
+  private void run() {
+    try {
+      freeListManager.defragmentIncrementally();
+    } catch (RuntimeException e) {
+      // keep the task scheduled; the next run may succeed
+      logger.warn("Incremental off-heap defragmentation failed", e);
+    }
+  }
+
+  void stop() {
+    ScheduledFuture<?> scheduled = future.get();
+    if (scheduled != null) {
+      scheduled.cancel(true);
+    }
+    executor.shutdown();
+  }
+}
@@ -63,6 +63,8 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
 
   private final NonRealTimeStatsUpdater nonRealTimeStatsUpdater;
 
+  private final IncrementalDefragmenter incrementalDefragmenter;
+
   private volatile OffHeapMemoryStats stats;
 
   private volatile OutOfOffHeapMemoryListener ooohml;
@@ -237,10 +239,19 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
     } else {
       nonRealTimeStatsUpdater = nonRealTimeStatsUpdaterSupplier.get();
     }
+
+    if (FreeListManager.INCREMENTAL_DEFRAGMENTATION_INTERVAL_MS > 0) {
+      incrementalDefragmenter = new IncrementalDefragmenter(freeList);
+    } else {
+      incrementalDefragmenter = null;
+    }
   }
 
   void start() {
     nonRealTimeStatsUpdater.start(updateOffHeapStatsFrequencyMs);
+    if (incrementalDefragmenter != null) {
+      incrementalDefragmenter.start(FreeListManager.INCREMENTAL_DEFRAGMENTATION_INTERVAL_MS);
+    }
   }
 
   public List<OffHeapStoredObject> getLostChunks(InternalCache cache) {
@@ -402,6 +413,9 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
   private void realClose() {
     // Removing this memory immediately can lead to a SEGV. See 47885.
     if (setClosed()) {
+      if (incrementalDefragmenter != null) {
+        incrementalDefragmenter.stop();
+      }
       freeList.freeSlabs();
       stats.close();
       if (nonRealTimeStatsUpdater != null) {
@@ -41,10 +41,20 @@ public interface OffHeapMemoryStats {
 
   void endDefragmentation(long start);
 
+  long startIncrementalDefragmentation();
+
+  void endIncrementalDefragmentation(long start);
+
+  void recordFragmentationLevel(int value);
+
   void setFragmentation(int value);
 
   void setFreedChunks(long value);
 
+  void incThreadCacheHits(long value);
+
+  void incThreadCacheMisses(long value);
+
   long getFreeMemory();
 
   long getMaxMemory();
@@ -69,6 +79,16 @@ public interface OffHeapMemoryStats {
 
   long getDefragmentationTime();
 
+  int getIncrementalDefragmentations();
+
+  long getIncrementalDefragmentationTime();
+
+  int getFragmentationLevel();
+
+  long getThreadCacheHits();
+
+  long getThreadCacheMisses();
+
   Statistics getStats();
 
   void close();
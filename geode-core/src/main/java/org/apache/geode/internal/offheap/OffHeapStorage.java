@@ -15,6 +15,7 @@
 package org.apache.geode.internal.offheap;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.apache.geode.StatisticDescriptor;
@@ -63,6 +64,19 @@ public class OffHeapStorage implements OffHeapMemoryStats {
   private static final int fragmentationId;
   private static final int defragmentationsInProgressId;
   private static final int freedChunksId;
+  private static final int threadCacheHitsId;
+  private static final int threadCacheMissesId;
+  private static final int incrementalDefragmentationsId;
+  private static final int incrementalDefragmentationTimeId;
+  private static final int defragmentationPausesUnder1MsId;
+  private static final int defragmentationPausesUnder10MsId;
+  private static final int defragmentationPausesUnder100MsId;
+  private static final int defragmentationPausesOver100MsId;
+  private static final int fragmentationLevelId;
+  private static final int fragmentationLevelUnder25PercentId;
+  private static final int fragmentationLevelUnder50PercentId;
+  private static final int fragmentationLevelUnder75PercentId;
+  private static final int fragmentationLevelOver75PercentId;
   // NOTE!!!! When adding new stats make sure and update the initialize method on this class
 
   // creates and registers the statistics type
@@ -89,6 +103,20 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     final String objectsDesc = "The number of objects stored in off-heap memory.";
     final String readsDesc =
         "The total number of reads of off-heap memory. Only reads of a full object increment this statistic. If only a part of the object is read this statistic is not incremented.";
+    final String threadCacheHitsDesc =
+        "The total number of tiny off-heap allocations served from the allocating thread's cache of free chunks. Divide by the sum of threadCacheHits and threadCacheMisses for the hit rate.";
+    final String threadCacheMissesDesc =
+        "The total number of tiny off-heap allocations that found the allocating thread's cache of free chunks empty and had to use the shared free lists.";
+    final String incrementalDefragmentationsDesc =
+        "The total number of times the off-heap memory of a single slab has been defragmented while allocations continued from the other slabs.";
+    final String incrementalDefragmentationTimeDesc =
+        "The total time spent defragmenting the off-heap memory of single slabs.";
+    final String defragmentationPausesDesc =
+        "The number of single slab defragmentations that took %s. Together these form a histogram of defragmentation pauses.";
+    final String fragmentationLevelDesc =
+        "The percentage of off-heap free memory that is held in freed chunks instead of fragments. Sampled before every incremental defragmentation check.";
+    final String fragmentationLevelSamplesDesc =
+        "The number of fragmentation level samples that were %s. Together these form a histogram of fragmentation levels.";
     final String maxMemoryDesc =
         "The maximum amount of off-heap memory, in bytes. This is the amount of memory allocated at startup and does not change.";
 
@@ -104,6 +132,19 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     final String objects = "objects";
     final String reads = "reads";
     final String maxMemory = "maxMemory";
+    final String threadCacheHits = "threadCacheHits";
+    final String threadCacheMisses = "threadCacheMisses";
+    final String incrementalDefragmentations = "incrementalDefragmentations";
+    final String incrementalDefragmentationTime = "incrementalDefragmentationTime";
+    final String defragmentationPausesUnder1Ms = "defragmentationPausesUnder1Ms";
+    final String defragmentationPausesUnder10Ms = "defragmentationPausesUnder10Ms";
+    final String defragmentationPausesUnder100Ms = "defragmentationPausesUnder100Ms";
+    final String defragmentationPausesOver100Ms = "defragmentationPausesOver100Ms";
+    final String fragmentationLevel = "fragmentationLevel";
+    final String fragmentationLevelUnder25Percent = "fragmentationLevelUnder25Percent";
+    final String fragmentationLevelUnder50Percent = "fragmentationLevelUnder50Percent";
+    final String fragmentationLevelUnder75Percent = "fragmentationLevelUnder75Percent";
+    final String fragmentationLevelOver75Percent = "fragmentationLevelOver75Percent";
 
     statsType = f.createType(statsTypeName, statsTypeDescription,
         new StatisticDescriptor[] {f.createLongGauge(usedMemory, usedMemoryDesc, "bytes"),
@@ -118,7 +159,36 @@ public class OffHeapStorage implements OffHeapMemoryStats {
             f.createIntGauge(largestFragment, largestFragmentDesc, "bytes"),
             f.createIntGauge(objects, objectsDesc, "objects"),
             f.createLongCounter(reads, readsDesc, "operations"),
-            f.createLongGauge(maxMemory, maxMemoryDesc, "bytes"),});
+            f.createLongGauge(maxMemory, maxMemoryDesc, "bytes"),
+            f.createLongCounter(threadCacheHits, threadCacheHitsDesc, "operations"),
+            f.createLongCounter(threadCacheMisses, threadCacheMissesDesc, "operations"),
+            f.createIntCounter(incrementalDefragmentations, incrementalDefragmentationsDesc,
+                "operations"),
+            f.createLongCounter(incrementalDefragmentationTime,
+                incrementalDefragmentationTimeDesc, "nanoseconds", false),
+            f.createLongCounter(defragmentationPausesUnder1Ms,
+                String.format(defragmentationPausesDesc, "less than 1 millisecond"),
+                "operations"),
+            f.createLongCounter(defragmentationPausesUnder10Ms,
+                String.format(defragmentationPausesDesc, "from 1 to 10 milliseconds"),
+                "operations"),
+            f.createLongCounter(defragmentationPausesUnder100Ms,
+                String.format(defragmentationPausesDesc, "from 10 to 100 milliseconds"),
+                "operations"),
+            f.createLongCounter(defragmentationPausesOver100Ms,
+                String.format(defragmentationPausesDesc, "100 milliseconds or more"),
+                "operations"),
+            f.createIntGauge(fragmentationLevel, fragmentationLevelDesc, "percentage"),
+            f.createLongCounter(fragmentationLevelUnder25Percent,
+                String.format(fragmentationLevelSamplesDesc, "below 25 percent"), "samples"),
+            f.createLongCounter(fragmentationLevelUnder50Percent,
+                String.format(fragmentationLevelSamplesDesc, "from 25 to 50 percent"),
+                "samples"),
+            f.createLongCounter(fragmentationLevelUnder75Percent,
+                String.format(fragmentationLevelSamplesDesc, "from 50 to 75 percent"),
+                "samples"),
+            f.createLongCounter(fragmentationLevelOver75Percent,
+                String.format(fragmentationLevelSamplesDesc, "75 percent or more"), "samples"),});
 
     usedMemoryId = statsType.nameToId(usedMemory);
     defragmentationId = statsType.nameToId(defragmentations);
@@ -132,6 +202,19 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     objectsId = statsType.nameToId(objects);
     readsId = statsType.nameToId(reads);
     maxMemoryId = statsType.nameToId(maxMemory);
+    threadCacheHitsId = statsType.nameToId(threadCacheHits);
+    threadCacheMissesId = statsType.nameToId(threadCacheMisses);
+    incrementalDefragmentationsId = statsType.nameToId(incrementalDefragmentations);
+    incrementalDefragmentationTimeId = statsType.nameToId(incrementalDefragmentationTime);
+    defragmentationPausesUnder1MsId = statsType.nameToId(defragmentationPausesUnder1Ms);
+    defragmentationPausesUnder10MsId = statsType.nameToId(defragmentationPausesUnder10Ms);
+    defragmentationPausesUnder100MsId = statsType.nameToId(defragmentationPausesUnder100Ms);
+    defragmentationPausesOver100MsId = statsType.nameToId(defragmentationPausesOver100Ms);
+    fragmentationLevelId = statsType.nameToId(fragmentationLevel);
+    fragmentationLevelUnder25PercentId = statsType.nameToId(fragmentationLevelUnder25Percent);
+    fragmentationLevelUnder50PercentId = statsType.nameToId(fragmentationLevelUnder50Percent);
+    fragmentationLevelUnder75PercentId = statsType.nameToId(fragmentationLevelUnder75Percent);
+    fragmentationLevelOver75PercentId = statsType.nameToId(fragmentationLevelOver75Percent);
   }
 
   public static long parseOffHeapMemorySize(String value) {
@@ -390,6 +473,58 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     return stats.getLong(defragmentationTimeId);
   }
 
+  @Override
+  public long startIncrementalDefragmentation() {
+    // the pause histogram is kept even when clock stats are disabled
+    return System.nanoTime();
+  }
+
+  @Override
+  public void endIncrementalDefragmentation(long start) {
+    final long elapsed = System.nanoTime() - start;
+    stats.incInt(incrementalDefragmentationsId, 1);
+    stats.incLong(incrementalDefragmentationTimeId, elapsed);
+    final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+    if (elapsedMs < 1) {
+      stats.incLong(defragmentationPausesUnder1MsId, 1);
+    } else if (elapsedMs < 10) {
+      stats.incLong(defragmentationPausesUnder10MsId, 1);
+    } else if (elapsedMs < 100) {
+      stats.incLong(defragmentationPausesUnder100MsId, 1);
+    } else {
+      stats.incLong(defragmentationPausesOver100MsId, 1);
+    }
+  }
+
+  @Override
+  public int getIncrementalDefragmentations() {
+    return stats.getInt(incrementalDefragmentationsId);
+  }
+
+  @Override
+  public long getIncrementalDefragmentationTime() {
+    return stats.getLong(incrementalDefragmentationTimeId);
+  }
+
+  @Override
+  public void recordFragmentationLevel(int value) {
+    stats.setInt(fragmentationLevelId, value);
+    if (value < 25) {
+      stats.incLong(fragmentationLevelUnder25PercentId, 1);
+    } else if (value < 50) {
+      stats.incLong(fragmentationLevelUnder50PercentId, 1);
+    } else if (value < 75) {
+      stats.incLong(fragmentationLevelUnder75PercentId, 1);
+    } else {
+      stats.incLong(fragmentationLevelOver75PercentId, 1);
+    }
+  }
+
+  @Override
+  public int getFragmentationLevel() {
+    return stats.getInt(fragmentationLevelId);
+  }
+
   @Override
   public void setFragmentation(int value) {
     stats.setInt(fragmentationId, value);
@@ -405,6 +540,26 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     return stats.getInt(fragmentationId);
   }
 
+  @Override
+  public void incThreadCacheHits(long value) {
+    stats.incLong(threadCacheHitsId, value);
+  }
+
+  @Override
+  public long getThreadCacheHits() {
+    return stats.getLong(threadCacheHitsId);
+  }
+
+  @Override
+  public void incThreadCacheMisses(long value) {
+    stats.incLong(threadCacheMissesId, value);
+  }
+
+  @Override
+  public long getThreadCacheMisses() {
+    return stats.getLong(threadCacheMissesId);
+  }
+
   @Override
   public Statistics getStats() {
     return stats;
@@ -428,6 +583,20 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     setLargestFragment(oldStats.getLargestFragment());
     setDefragmentationTime(oldStats.getDefragmentationTime());
     setFragmentation(oldStats.getFragmentation());
+    setThreadCacheHits(oldStats.getThreadCacheHits());
+    setThreadCacheMisses(oldStats.getThreadCacheMisses());
+    stats.setInt(incrementalDefragmentationsId, oldStats.getIncrementalDefragmentations());
+    stats.setLong(incrementalDefragmentationTimeId, oldStats.getIncrementalDefragmentationTime());
+    stats.setInt(fragmentationLevelId, oldStats.getFragmentationLevel());
+    Statistics oldHistograms = oldStats.getStats();
+    if (oldHistograms != null) {
+      for (int id : new int[] {defragmentationPausesUnder1MsId, defragmentationPausesUnder10MsId,
+          defragmentationPausesUnder100MsId, defragmentationPausesOver100MsId,
+          fragmentationLevelUnder25PercentId, fragmentationLevelUnder50PercentId,
+          fragmentationLevelUnder75PercentId, fragmentationLevelOver75PercentId}) {
+        stats.setLong(id, oldHistograms.getLong(id));
+      }
+    }
 
     oldStats.close();
   }
@@ -444,6 +613,14 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     stats.setInt(defragmentationsInProgressId, value);
   }
 
+  private void setThreadCacheHits(long value) {
+    stats.setLong(threadCacheHitsId, value);
+  }
+
+  private void setThreadCacheMisses(long value) {
+    stats.setLong(threadCacheMissesId, value);
+  }
+
   private void setReads(long value) {
     stats.setLong(readsId, value);
   }
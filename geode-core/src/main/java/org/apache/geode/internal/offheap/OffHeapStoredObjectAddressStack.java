@@ -73,6 +73,56 @@ public class OffHeapStoredObjectAddressStack implements LongStack {
     return result;
   }
 
+  /**
+   * Pushes a chain of addresses, linked through their "next" field and ending with {@code 0L}, on
+   * to this stack in one step.
+   */
+  public void offerChain(long head) {
+    assert head != 0;
+    MemoryAllocatorImpl.validateAddress(head);
+    long tail = head;
+    int count = 1;
+    long next = OffHeapStoredObject.getNext(tail);
+    while (next != 0L) {
+      tail = next;
+      count++;
+      next = OffHeapStoredObject.getNext(tail);
+    }
+    synchronized (this) {
+      OffHeapStoredObject.setNext(tail, topAddr);
+      topAddr = head;
+      size += count;
+    }
+  }
+
+  /**
+   * Removes up to max addresses from the top of this stack in one step. The removed addresses stay
+   * linked through their "next" field with the last one's set to {@code 0L}.
+   *
+   * @return the first removed address or {@code 0L} if this stack is empty
+   */
+  public long pollChain(int max) {
+    assert max > 0;
+    synchronized (this) {
+      final long head = topAddr;
+      if (head == 0L) {
+        return 0L;
+      }
+      long last = head;
+      int count = 1;
+      long next = OffHeapStoredObject.getNext(last);
+      while (next != 0L && count < max) {
+        last = next;
+        count++;
+        next = OffHeapStoredObject.getNext(last);
+      }
+      OffHeapStoredObject.setNext(last, 0L);
+      topAddr = next;
+      size -= count;
+      return head;
+    }
+  }
+
   /**
    * Returns the address of the "top" item in this stack.
    */
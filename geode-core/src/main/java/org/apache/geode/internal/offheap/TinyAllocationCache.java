@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.offheap;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * The free tiny chunks cached by one thread of a {@link FreeListManager}. There is one list per
+ * tiny size class and, like the {@link OffHeapStoredObjectAddressStack}s of the shared free lists,
+ * the chunks of a list are linked through their "next" field so the cache allocates nothing on
+ * the java heap per chunk.
+ * <p>
+ * Only the owning thread allocates from and frees into its cache, so the monitor every method
+ * takes is uncontended except when another thread drains the cache for a defragmentation or
+ * returns an idle cache to the shared free lists.
+ */
+class TinyAllocationCache {
+
+  /**
+   * The number of lookups after which the hit and miss counts are added to the off-heap stats.
+   */
+  private static final int STATS_PUBLISH_INTERVAL = 256;
+
+  /**
+   * Receives the chunks of a cache.
+   */
+  @FunctionalInterface
+  interface ChunkVisitor {
+    void visit(int listIdx, long addr);
+  }
+
+  private final WeakReference<Thread> owner;
+
+  private final long[] heads;
+
+  private final int[] sizes;
+
+  private int chunkCount;
+
+  private long cachedBytes;
+
+  private long hits;
+
+  private long misses;
+
+  private boolean used;
+
+  TinyAllocationCache(Thread owner, int listCount) {
+    this.owner = new WeakReference<>(owner);
+    heads = new long[listCount];
+    sizes = new int[listCount];
+  }
+
+  /**
+   * Removes and returns a chunk from the given list or returns {@code 0L} if the list is empty.
+   */
+  synchronized long poll(int idx, OffHeapMemoryStats stats) {
+    used = true;
+    long addr = heads[idx];
+    if (addr == 0L) {
+      misses++;
+    } else {
+      heads[idx] = OffHeapStoredObject.getNext(addr);
+      sizes[idx]--;
+      chunkCount--;
+      cachedBytes -= OffHeapStoredObject.getSize(addr);
+      hits++;
+    }
+    if (hits + misses >= STATS_PUBLISH_INTERVAL) {
+      publishStats(stats);
+    }
+    return addr;
+  }
+
+  /**
+   * Adds a free chunk to the given list.
+   */
+  synchronized void offer(int idx, long addr) {
+    used = true;
+    push(idx, addr);
+  }
+
+  /**
+   * Adds a chain of free chunks, linked through their "next" field and ending with {@code 0L}, to
+   * the given list.
+   */
+  synchronized void offerChain(int idx, long head) {
+    long addr = head;
+    while (addr != 0L) {
+      long next = OffHeapStoredObject.getNext(addr);
+      push(idx, addr);
+      addr = next;
+    }
+  }
+
+  private void push(int idx, long addr) {
+    OffHeapStoredObject.setNext(addr, heads[idx]);
+    heads[idx] = addr;
+    sizes[idx]++;
+    chunkCount++;
+    cachedBytes += OffHeapStoredObject.getSize(addr);
+  }
+
+  /**
+   * If the given list holds more than {@code max} chunks, removes chunks from it until only
+   * {@code keep} are left.
+   *
+   * @return the first of the removed chunks, still linked through their "next" field, or
+   *         {@code 0L} if the list was not trimmed
+   */
+  synchronized long trim(int idx, int max, int keep) {
+    final int remove = sizes[idx] - keep;
+    if (sizes[idx] <= max || remove <= 0) {
+      return 0L;
+    }
+    final long head = heads[idx];
+    long last = head;
+    cachedBytes -= OffHeapStoredObject.getSize(last);
+    for (int i = 1; i < remove; i++) {
+      last = OffHeapStoredObject.getNext(last);
+      cachedBytes -= OffHeapStoredObject.getSize(last);
+    }
+    heads[idx] = OffHeapStoredObject.getNext(last);
+    OffHeapStoredObject.setNext(last, 0L);
+    sizes[idx] -= remove;
+    chunkCount -= remove;
+    return head;
+  }
+
+  /**
+   * Empties the cache, handing the visitor the first chunk of each non-empty list. The chunks of
+   * each list stay linked through their "next" field and the caller owns all of them after this
+   * call.
+   */
+  synchronized void drain(ChunkVisitor visitor) {
+    for (int i = 0; i < heads.length; i++) {
+      long head = heads[i];
+      if (head != 0L) {
+        heads[i] = 0L;
+        sizes[i] = 0;
+        visitor.visit(i, head);
+      }
+    }
+    chunkCount = 0;
+    cachedBytes = 0;
+  }
+
+  /**
+   * Hands the visitor every chunk in the cache without removing it.
+   */
+  synchronized void forEachChunk(ChunkVisitor visitor) {
+    for (int i = 0; i < heads.length; i++) {
+      long addr = heads[i];
+      while (addr != 0L) {
+        visitor.visit(i, addr);
+        addr = OffHeapStoredObject.getNext(addr);
+      }
+    }
+  }
+
+  synchronized int size() {
+    return chunkCount;
+  }
+
+  synchronized long getCachedBytes() {
+    return cachedBytes;
+  }
+
+  /**
+   * Adds the hits and misses counted since the last call to the given stats.
+   */
+  synchronized void publishStats(OffHeapMemoryStats stats) {
+    if (hits != 0) {
+      stats.incThreadCacheHits(hits);
+      hits = 0;
+    }
+    if (misses != 0) {
+      stats.incThreadCacheMisses(misses);
+      misses = 0;
+    }
+  }
+
+  /**
+   * Returns true if the cache has been used since the last call.
+   */
+  synchronized boolean checkAndClearUsed() {
+    boolean result = used;
+    used = false;
+    return result;
+  }
+
+  boolean isOwnerAlive() {
+    Thread thread = owner.get();
+    return thread != null && thread.isAlive();
+  }
+}
@@ -0,0 +1,813 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.util.concurrent;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.StampedLock;
+
+import org.apache.geode.CancelException;
+import org.apache.geode.internal.cache.OffHeapClearRequired;
+import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.cache.entries.OffHeapRegionEntry;
+import org.apache.geode.internal.cache.wan.GatewaySenderEventImpl;
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.HashEntry;
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.HashEntryCreator;
+import org.apache.geode.logging.internal.executors.LoggingThread;
+
+/**
+ * A concurrent map of {@link HashEntry} instances, such as region entries, kept in open addressing
+ * tables. Each segment is a single array of entry references probed linearly, so unlike
+ * {@link CustomEntryConcurrentHashMap} no bucket chains are followed and the "next" field of the
+ * entries is not used. Removal shifts the following entries back instead of leaving tombstones.
+ * <p>
+ * Reads are optimistic: they probe without locking and only take the segment's read lock if a
+ * write happened concurrently. Writes take the segment's write lock.
+ * <p>
+ * The iterators of the views copy the table of each segment as they reach it, so they traverse
+ * the entries as they existed at that time and never throw
+ * {@link java.util.ConcurrentModificationException}.
+ * <p>
+ * Null keys and values are not allowed. The values put in this map are turned into entries by
+ * the {@link HashEntryCreator}, which must be given when the map is created.
+ */
+public class CompactEntryConcurrentHashMap<K, V> extends AbstractMap<K, V>
+    implements ConcurrentMapWithReusableEntries<K, V> {
+
+  private final HashEntryCreator<K, V> entryCreator;
+
+  private final Segment<K, V>[] segments;
+
+  private final int segmentShift;
+
+  private final int segmentMask;
+
+  private transient Set<K> keySet;
+
+  private transient Set<Map.Entry<K, V>> entrySet;
+
+  private transient Set<Map.Entry<K, V>> reusableEntrySet;
+
+  private transient Collection<V> values;
+
+  /**
+   * Creates a new, empty map.
+   *
+   * @param initialCapacity the number of entries the map can hold without resizing
+   * @param loadFactor the fraction of the table slots that may be used before resizing; values
+   *        above 0.9 are lowered to 0.9 because linear probing degrades quickly on full tables
+   * @param concurrencyLevel the estimated number of concurrently updating threads, used to pick
+   *        the number of segments
+   * @param entryCreator creates the entries stored in the map from the keys and values put in it
+   */
+  @SuppressWarnings("unchecked")
+  public CompactEntryConcurrentHashMap(int initialCapacity, float loadFactor,
+      int concurrencyLevel, HashEntryCreator<K, V> entryCreator) {
+    if (!(loadFactor > 0) || initialCapacity < 0 || concurrencyLevel <= 0) {
+      throw new IllegalArgumentException();
+    }
+    if (entryCreator == null) {
+      throw new NullPointerException("entryCreator");
+    }
+    if (loadFactor > Segment.MAX_LOAD_FACTOR) {
+      loadFactor = Segment.MAX_LOAD_FACTOR;
+    }
+    if (concurrencyLevel > CustomEntryConcurrentHashMap.MAX_SEGMENTS) {
+      concurrencyLevel = CustomEntryConcurrentHashMap.MAX_SEGMENTS;
+    }
+
+    int sshift = 0;
+    int ssize = 1;
+    while (ssize < concurrencyLevel) {
+      ++sshift;
+      ssize <<= 1;
+    }
+    segmentShift = 32 - sshift;
+    segmentMask = ssize - 1;
+
+    if (initialCapacity > CustomEntryConcurrentHashMap.MAXIMUM_CAPACITY) {
+      initialCapacity = CustomEntryConcurrentHashMap.MAXIMUM_CAPACITY;
+    }
+    int perSegment = (int) Math.ceil((double) initialCapacity / ssize / loadFactor);
+    int cap = Segment.MIN_CAPACITY;
+    while (cap < perSegment && cap < Segment.MAX_CAPACITY) {
+      cap <<= 1;
+    }
+
+    this.entryCreator = entryCreator;
+    segments = new Segment[ssize];
+    for (int i = 0; i < ssize; ++i) {
+      segments[i] = new Segment<>(cap, loadFactor);
+    }
+  }
+
+  private int hash(Object key) {
+    return entryCreator.keyHashCode(key, true);
+  }
+
+  private Segment<K, V> segmentFor(int hash) {
+    return segments[(hash >>> segmentShift) & segmentMask];
+  }
+
+  /**
+   * One lock and one open addressing table. The table length is always a power of two and at
+   * least one slot is always empty so probes terminate.
+   */
+  private static final class Segment<K, V> extends StampedLock {
+    private static final long serialVersionUID = -2378917456291062186L;
+
+    static final float MAX_LOAD_FACTOR = 0.9f;
+
+    static final int MIN_CAPACITY = 4;
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+
+    /** Written only while holding the write lock; replaced, not modified, on resize. */
+    private volatile HashEntry<K, V>[] table;
+
+    /** The number of entries; written only while holding the write lock. */
+    private volatile int count;
+
+    private int threshold;
+
+    Segment(int capacity, float loadFactor) {
+      this.loadFactor = loadFactor;
+      setTable(newTable(capacity));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> HashEntry<K, V>[] newTable(int capacity) {
+      return new HashEntry[capacity];
+    }
+
+    private void setTable(HashEntry<K, V>[] newTable) {
+      threshold = Math.min((int) (newTable.length * loadFactor), newTable.length - 1);
+      table = newTable;
+    }
+
+    /**
+     * Returns the slot holding the entry for the key or the empty slot ending its probe sequence,
+     * negated minus one. May see a table being modified, so callers not holding a lock must
+     * validate the result.
+     */
+    private static <K, V> int indexOf(HashEntry<K, V>[] tab, Object key, int hash) {
+      final int mask = tab.length - 1;
+      int i = hash & mask;
+      for (int probes = 0; probes < tab.length; probes++) {
+        final HashEntry<K, V> e = tab[i];
+        if (e == null) {
+          return -i - 1;
+        }
+        if (e.getEntryHash() == hash && e.isKeyEqual(key)) {
+          return i;
+        }
+        i = (i + 1) & mask;
+      }
+      // only possible when racing with a writer
+      return -1;
+    }
+
+    HashEntry<K, V> getEntry(Object key, int hash) {
+      final long stamp = tryOptimisticRead();
+      if (stamp != 0L) {
+        try {
+          final HashEntry<K, V>[] tab = table;
+          final int i = indexOf(tab, key, hash);
+          final HashEntry<K, V> e = i >= 0 ? tab[i] : null;
+          if (validate(stamp)) {
+            return e;
+          }
+        } catch (RuntimeException ignore) {
+          // a concurrent write left something half done; retry under the read lock
+        }
+      }
+      final long readStamp = readLock();
+      try {
+        final HashEntry<K, V>[] tab = table;
+        final int i = indexOf(tab, key, hash);
+        return i >= 0 ? tab[i] : null;
+      } finally {
+        unlockRead(readStamp);
+      }
+    }
+
+    V put(K key, int hash, V value, boolean onlyIfAbsent, HashEntryCreator<K, V> creator) {
+      final long stamp = writeLock();
+      try {
+        HashEntry<K, V>[] tab = table;
+        int i = indexOf(tab, key, hash);
+        if (i >= 0) {
+          final HashEntry<K, V> e = tab[i];
+          final V oldValue = e.getMapValue();
+          if (!onlyIfAbsent && oldValue != value) {
+            tab[i] = creator.newEntry(key, hash, null, value);
+          }
+          return oldValue;
+        }
+        if (count + 1 > threshold) {
+          if (tab.length == MAX_CAPACITY) {
+            if (count + 1 == tab.length) {
+              throw new IllegalStateException("Segment is full");
+            }
+          } else {
+            rehash();
+            tab = table;
+            i = indexOf(tab, key, hash);
+          }
+        }
+        tab[-i - 1] = creator.newEntry(key, hash, null, value);
+        count++;
+        return null;
+      } finally {
+        unlockWrite(stamp);
+      }
+    }
+
+    /**
+     * Replaces the value of an existing entry. Replaces it only if it is expectedValue unless that
+     * is null.
+     */
+    V replace(K key, int hash, V expectedValue, V newValue, HashEntryCreator<K, V> creator) {
+      final long stamp = writeLock();
+      try {
+        final HashEntry<K, V>[] tab = table;
+        final int i = indexOf(tab, key, hash);
+        if (i < 0) {
+          return null;
+        }
+        final V oldValue = tab[i].getMapValue();
+        if (expectedValue != null && !valueMatches(expectedValue, oldValue)) {
+          return null;
+        }
+        if (oldValue != newValue) {
+          tab[i] = creator.newEntry(key, hash, null, newValue);
+        }
+        return oldValue;
+      } finally {
+        unlockWrite(stamp);
+      }
+    }
+
+    /**
+     * Removes the entry for the key. Removes it only if its value is expectedValue unless that is
+     * null.
+     */
+    V remove(Object key, int hash, Object expectedValue) {
+      final long stamp = writeLock();
+      try {
+        final HashEntry<K, V>[] tab = table;
+        final int i = indexOf(tab, key, hash);
+        if (i < 0) {
+          return null;
+        }
+        final V oldValue = tab[i].getMapValue();
+        if (expectedValue != null && !valueMatches(expectedValue, oldValue)) {
+          return null;
+        }
+        deleteSlot(tab, i);
+        count--;
+        return oldValue;
+      } finally {
+        unlockWrite(stamp);
+      }
+    }
+
+    private static boolean valueMatches(Object expected, Object actual) {
+      return expected == actual || expected.equals(actual);
+    }
+
+    /**
+     * Empties a slot by moving back each following entry of the cluster whose home slot is not
+     * between the emptied slot and its current one.
+     */
+    private static <K, V> void deleteSlot(HashEntry<K, V>[] tab, int hole) {
+      final int mask = tab.length - 1;
+      int j = hole;
+      while (true) {
+        j = (j + 1) & mask;
+        final HashEntry<K, V> e = tab[j];
+        if (e == null) {
+          break;
+        }
+        final int home = e.getEntryHash() & mask;
+        final boolean homeBetween = hole <= j ? (hole < home && home <= j)
+            : (hole < home || home <= j);
+        if (!homeBetween) {
+          tab[hole] = e;
+          hole = j;
+        }
+      }
+      tab[hole] = null;
+    }
+
+    private void rehash() {
+      final HashEntry<K, V>[] oldTable = table;
+      final HashEntry<K, V>[] newTable = newTable(oldTable.length << 1);
+      final int mask = newTable.length - 1;
+      for (HashEntry<K, V> e : oldTable) {
+        if (e != null) {
+          int i = e.getEntryHash() & mask;
+          while (newTable[i] != null) {
+            i = (i + 1) & mask;
+          }
+          newTable[i] = e;
+        }
+      }
+      setTable(newTable);
+    }
+
+    /**
+     * Removes all entries and adds them to the given list, creating it if needed, if they need to
+     * be released.
+     */
+    ArrayList<HashEntry<?, ?>> clear(ArrayList<HashEntry<?, ?>> clearedEntries) {
+      if (count == 0) {
+        return clearedEntries;
+      }
+      final long stamp = writeLock();
+      try {
+        final HashEntry<K, V>[] tab = table;
+        final boolean checkForOffHeap = OffHeapClearRequired.doesClearNeedToCheckForOffHeap();
+        for (int i = 0; i < tab.length; i++) {
+          final HashEntry<K, V> e = tab[i];
+          if (e != null) {
+            if (checkForOffHeap || e instanceof OffHeapRegionEntry) {
+              if (clearedEntries == null) {
+                clearedEntries = new ArrayList<>();
+              }
+              clearedEntries.add(e);
+            }
+            tab[i] = null;
+          }
+        }
+        count = 0;
+        return clearedEntries;
+      } finally {
+        unlockWrite(stamp);
+      }
+    }
+
+    /**
+     * Returns a copy of the table so it can be iterated while the segment is modified.
+     */
+    HashEntry<K, V>[] snapshot() {
+      if (count == 0) {
+        return null;
+      }
+      final long stamp = readLock();
+      try {
+        return table.clone();
+      } finally {
+        unlockRead(stamp);
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    long sum = 0;
+    for (Segment<K, V> segment : segments) {
+      sum += segment.count;
+    }
+    return sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (Segment<K, V> segment : segments) {
+      if (segment.count != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public V get(Object key) {
+    final int hash = hash(key);
+    final HashEntry<K, V> e = segmentFor(hash).getEntry(key, hash);
+    return e != null ? e.getMapValue() : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    final int hash = hash(key);
+    return segmentFor(hash).getEntry(key, hash) != null;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    for (V v : values()) {
+      if (value.equals(v)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    final int hash = hash(key);
+    return segmentFor(hash).put(key, hash, value, false, entryCreator);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    final int hash = hash(key);
+    return segmentFor(hash).put(key, hash, value, true, entryCreator);
+  }
+
+  @Override
+  public V remove(Object key) {
+    final int hash = hash(key);
+    return segmentFor(hash).remove(key, hash, null);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    if (value == null) {
+      return false;
+    }
+    final int hash = hash(key);
+    return segmentFor(hash).remove(key, hash, value) != null;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    if (oldValue == null || newValue == null) {
+      throw new NullPointerException();
+    }
+    final int hash = hash(key);
+    return segmentFor(hash).replace(key, hash, oldValue, newValue, entryCreator) != null;
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    final int hash = hash(key);
+    return segmentFor(hash).replace(key, hash, null, value, entryCreator);
+  }
+
+  @Override
+  public void clear() {
+    clearWithExecutor(null);
+  }
+
+  @Override
+  public void clearWithExecutor(Executor executor) {
+    ArrayList<HashEntry<?, ?>> entries = null;
+    try {
+      for (final Segment<K, V> segment : segments) {
+        entries = segment.clear(entries);
+      }
+    } finally {
+      if (entries != null) {
+        releaseClearedEntries(entries, executor);
+      }
+    }
+  }
+
+  /**
+   * Releases the off-heap values of cleared entries in the background, like
+   * {@link CustomEntryConcurrentHashMap#clearWithExecutor(Executor)}.
+   */
+  private void releaseClearedEntries(final ArrayList<HashEntry<?, ?>> clearedEntries,
+      Executor executor) {
+    Runnable runnable;
+    if (OffHeapClearRequired.doesClearNeedToCheckForOffHeap()) {
+      runnable = () -> {
+        for (HashEntry<?, ?> e : clearedEntries) {
+          if (e instanceof RegionEntry) {
+            synchronized (e) {
+              GatewaySenderEventImpl.release(((RegionEntry) e).getValue()); // OFFHEAP
+            }
+          }
+        }
+      };
+    } else {
+      runnable = () -> {
+        for (HashEntry<?, ?> e : clearedEntries) {
+          synchronized (e) {
+            ((OffHeapRegionEntry) e).release();
+          }
+        }
+      };
+    }
+    boolean submitted = false;
+    if (executor != null) {
+      try {
+        executor.execute(runnable);
+        submitted = true;
+      } catch (RejectedExecutionException | CancelException e) {
+        // fall through with submitted false
+      }
+    }
+    if (!submitted) {
+      String name = getClass().getSimpleName() + "@" + hashCode() + " Clear Thread";
+      Thread thread = new LoggingThread(name, runnable);
+      thread.start();
+    }
+  }
+
+  @Override
+  public Set<K> keySet() {
+    final Set<K> ks = keySet;
+    return (ks != null) ? ks : (keySet = new KeySet());
+  }
+
+  @Override
+  public Collection<V> values() {
+    final Collection<V> vs = values;
+    return (vs != null) ? vs : (values = new Values());
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    final Set<Map.Entry<K, V>> es = entrySet;
+    return (es != null) ? es : (entrySet = new EntrySet(false));
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySetWithReusableEntries() {
+    final Set<Map.Entry<K, V>> es = reusableEntrySet;
+    return (es != null) ? es : (reusableEntrySet = new EntrySet(true));
+  }
+
+  private abstract class HashIterator {
+    private int nextSegmentIndex;
+
+    private HashEntry<K, V>[] currentTable;
+
+    private int nextTableIndex;
+
+    private HashEntry<K, V> nextEntry;
+
+    HashEntry<K, V> lastReturned;
+
+    HashIterator() {
+      advance();
+    }
+
+    private void advance() {
+      while (true) {
+        if (currentTable != null) {
+          while (nextTableIndex < currentTable.length) {
+            final HashEntry<K, V> e = currentTable[nextTableIndex++];
+            if (e != null) {
+              nextEntry = e;
+              return;
+            }
+          }
+        }
+        if (nextSegmentIndex >= segments.length) {
+          currentTable = null;
+          nextEntry = null;
+          return;
+        }
+        currentTable = segments[nextSegmentIndex++].snapshot();
+        nextTableIndex = 0;
+      }
+    }
+
+    public boolean hasNext() {
+      return nextEntry != null;
+    }
+
+    HashEntry<K, V> nextHashEntry() {
+      if (nextEntry == null) {
+        throw new NoSuchElementException();
+      }
+      lastReturned = nextEntry;
+      advance();
+      return lastReturned;
+    }
+
+    public void remove() {
+      if (lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      CompactEntryConcurrentHashMap.this.remove(lastReturned.getKey(),
+          lastReturned.getMapValue());
+      lastReturned = null;
+    }
+  }
+
+  private final class KeyIterator extends HashIterator implements Iterator<K> {
+    @Override
+    public K next() {
+      return nextHashEntry().getKey();
+    }
+  }
+
+  private final class ValueIterator extends HashIterator implements Iterator<V> {
+    @Override
+    public V next() {
+      return nextHashEntry().getMapValue();
+    }
+  }
+
+  private final class EntryIterator extends HashIterator implements Iterator<Map.Entry<K, V>> {
+    private final ReusableEntry reusableEntry;
+
+    EntryIterator(boolean reuseEntries) {
+      reusableEntry = reuseEntries ? new ReusableEntry() : null;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      final HashEntry<K, V> e = nextHashEntry();
+      if (reusableEntry != null) {
+        reusableEntry.key = e.getKey();
+        reusableEntry.value = e.getMapValue();
+        return reusableEntry;
+      }
+      return new WriteThroughEntry(e.getKey(), e.getMapValue());
+    }
+  }
+
+  /**
+   * An entry whose {@link #setValue} puts the new value in the map.
+   */
+  private class WriteThroughEntry extends AbstractMap.SimpleEntry<K, V> {
+    private static final long serialVersionUID = 6270327580543405372L;
+
+    WriteThroughEntry(K key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      final V oldValue = super.setValue(value);
+      put(getKey(), value);
+      return oldValue;
+    }
+  }
+
+  /**
+   * The single entry returned over and over by an iterator of {@link #entrySetWithReusableEntries}.
+   */
+  private final class ReusableEntry implements Map.Entry<K, V> {
+    K key;
+
+    V value;
+
+    @Override
+    public K getKey() {
+      return key;
+    }
+
+    @Override
+    public V getValue() {
+      return value;
+    }
+
+    @Override
+    public V setValue(V newValue) {
+      if (newValue == null) {
+        throw new NullPointerException();
+      }
+      final V oldValue = value;
+      value = newValue;
+      put(key, newValue);
+      return oldValue;
+    }
+  }
+
+  private final class KeySet extends AbstractSet<K> {
+    @Override
+    public Iterator<K> iterator() {
+      return new KeyIterator();
+    }
+
+    @Override
+    public int size() {
+      return CompactEntryConcurrentHashMap.this.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return CompactEntryConcurrentHashMap.this.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return containsKey(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      return CompactEntryConcurrentHashMap.this.remove(o) != null;
+    }
+
+    @Override
+    public void clear() {
+      CompactEntryConcurrentHashMap.this.clear();
+    }
+  }
+
+  private final class Values extends AbstractCollection<V> {
+    @Override
+    public Iterator<V> iterator() {
+      return new ValueIterator();
+    }
+
+    @Override
+    public int size() {
+      return CompactEntryConcurrentHashMap.this.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return CompactEntryConcurrentHashMap.this.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+      CompactEntryConcurrentHashMap.this.clear();
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+    private final boolean reuseEntries;
+
+    EntrySet(boolean reuseEntries) {
+      this.reuseEntries = reuseEntries;
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+      return new EntryIterator(reuseEntries);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      final V v = get(e.getKey());
+      return v != null && v.equals(e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      return CompactEntryConcurrentHashMap.this.remove(e.getKey(), e.getValue());
+    }
+
+    @Override
+    public int size() {
+      return CompactEntryConcurrentHashMap.this.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return CompactEntryConcurrentHashMap.this.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+      CompactEntryConcurrentHashMap.this.clear();
+    }
+  }
+}
@@ -189,6 +189,36 @@ public interface DiskStoreMXBean {
     return 0;
   };
 
+  /**
+   * Returns the number of bytes of live values compaction has copied forward to the active op-log.
+   *
+   * @return the number of bytes compaction has copied forward
+   * @since Geode 1.16
+   */
+  default long getTotalCompactionCopiedBytes() {
+    return 0;
+  }
+
+  /**
+   * Returns the number of op-log bytes freed by compaction, less the bytes it copied forward.
+   *
+   * @return the number of bytes reclaimed by compaction
+   * @since Geode 1.16
+   */
+  default long getTotalCompactionReclaimedBytes() {
+    return 0;
+  }
+
+  /**
+   * Returns the time compaction has paused to stay within its configured bytes per second budget.
+   *
+   * @return the compaction throttle time in nanoseconds
+   * @since Geode 1.16
+   */
+  default long getCompactionThrottleTime() {
+    return 0;
+  }
+
   /**
    * Requests the DiskStore to start writing to a new op-log. The old oplog will be asynchronously
    * compressed if compaction is set to true. The new op-log will be created in the next available
@@ -133,6 +133,21 @@ public class DiskStoreMBean extends NotificationBroadcasterSupport implements Di
     return bridge.getTotalRecoveredEntryDestroys();
   }
 
+  @Override
+  public long getTotalCompactionCopiedBytes() {
+    return bridge.getTotalCompactionCopiedBytes();
+  }
+
+  @Override
+  public long getTotalCompactionReclaimedBytes() {
+    return bridge.getTotalCompactionReclaimedBytes();
+  }
+
+  @Override
+  public long getCompactionThrottleTime() {
+    return bridge.getCompactionThrottleTime();
+  }
+
   @Override
   public int getWriteBufferSize() {
     return bridge.getWriteBufferSize();
@@ -259,6 +259,18 @@ public class DiskStoreMBeanBridge {
     return getDiskStoreStatistic(StatsKey.DISK_RECOVERY_ENTRIES_DESTROYED).intValue();
   }
 
+  public long getTotalCompactionCopiedBytes() {
+    return getDiskStoreStatistic(StatsKey.COMPACTION_COPIED_BYTES).longValue();
+  }
+
+  public long getTotalCompactionReclaimedBytes() {
+    return getDiskStoreStatistic(StatsKey.COMPACTION_RECLAIMED_BYTES).longValue();
+  }
+
+  public long getCompactionThrottleTime() {
+    return getDiskStoreStatistic(StatsKey.COMPACTION_THROTTLE_TIME).longValue();
+  }
+
   public Number getDiskStoreStatistic(String statName) {
     if (diskStoreStats != null) {
       return diskStoreStats.getStats().get(statName);
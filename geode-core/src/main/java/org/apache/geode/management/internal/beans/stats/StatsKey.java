@@ -179,6 +179,10 @@ public class StatsKey {
 
   public static final String BACKUPS_COMPLETED = "backupsCompleted";
 
+  public static final String COMPACTION_COPIED_BYTES = "compactionCopiedBytes";
+  public static final String COMPACTION_RECLAIMED_BYTES = "compactionReclaimedBytes";
+  public static final String COMPACTION_THROTTLE_TIME = "compactionThrottleTime";
+
   public static final String FLUSHED_BYTES = "flushedBytes";
 
   public static final String NUM_FLUSHES = "flushes";
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+/**
+ * Reads a field from the serialized bytes of the PdxInstances of one {@link PdxType}. The field is
+ * looked up by name once, when the accessor is created, so reading it from many instances of the
+ * type, as a query scanning a region does, only has to compare type ids.
+ * <p>
+ * Accessors are immutable and can be shared by threads.
+ */
+public class PdxFieldAccessor {
+
+  private final int typeId;
+
+  private final String fieldName;
+
+  private final PdxField field;
+
+  public PdxFieldAccessor(PdxType type, String fieldName) {
+    typeId = type.getTypeId();
+    this.fieldName = fieldName;
+    field = type.getPdxField(fieldName);
+  }
+
+  public int getTypeId() {
+    return typeId;
+  }
+
+  /**
+   * Returns true if the type has the field.
+   */
+  public boolean hasField() {
+    return field != null;
+  }
+
+  public String getFieldName() {
+    return fieldName;
+  }
+
+  /**
+   * Reads the field from an instance of the type this accessor was created for.
+   *
+   * @return PdxString if the field is a String, otherwise the value of the field
+   */
+  public Object readRawField(PdxInstanceImpl instance) {
+    return instance.getUnmodifiableReader(fieldName).readRawField(field);
+  }
+}
@@ -695,6 +695,10 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
     if (ft == null) {
       return null;
     }
+    return readField(ft);
+  }
+
+  Object readField(PdxField ft) {
     switch (ft.getFieldType()) {
       case CHAR:
         return readChar(ft);
@@ -953,6 +957,13 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
     if (ft == null) {
       return null;
     }
+    return readRawField(ft);
+  }
+
+  /**
+   * @return PdxString if field is a String otherwise invokes {@link #readField(PdxField)}
+   */
+  Object readRawField(PdxField ft) {
     if (ft.getFieldType() == FieldType.STRING) {
       return readPdxString(ft);
     } else {
@@ -961,7 +972,7 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
         return pdxString;
       }
     }
-    return readField(field);
+    return readField(ft);
   }
 
   /**
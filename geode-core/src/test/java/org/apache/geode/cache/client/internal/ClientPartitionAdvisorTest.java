@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.BucketServerLocation66;
+
+public class ClientPartitionAdvisorTest {
+
+  private ClientPartitionAdvisor advisor;
+  private ClientMetadataService cms;
+
+  @Before
+  public void setUp() {
+    advisor = new ClientPartitionAdvisor(4, null, null, null);
+    cms = mock(ClientMetadataService.class);
+  }
+
+  private static BucketServerLocation66 location(int port, boolean isPrimary, int version) {
+    return new BucketServerLocation66(0, port, "localhost", isPrimary, (byte) version,
+        new String[0]);
+  }
+
+  @Test
+  public void locationsOfUnknownBucketAreNotOlder() {
+    assertThat(advisor.isOlderThanKnown(0, singletonList(location(1, true, 1)))).isFalse();
+  }
+
+  @Test
+  public void locationsWithOlderVersionOfKnownServerAreOlder() {
+    advisor.updateBucketServerLocations(0, asList(location(1, false, 3), location(2, true, 2)),
+        cms);
+
+    assertThat(advisor.isOlderThanKnown(0, asList(location(1, true, 2), location(2, false, 2))))
+        .isTrue();
+    assertThat(advisor.isOlderThanKnown(0, asList(location(1, true, 3), location(2, false, 3))))
+        .isFalse();
+    assertThat(advisor.isOlderThanKnown(0, singletonList(location(3, true, 0)))).isFalse();
+  }
+
+  @Test
+  public void versionsWrapAround() {
+    advisor.updateBucketServerLocations(0, singletonList(location(1, true, 127)), cms);
+
+    assertThat(advisor.isOlderThanKnown(0, singletonList(location(1, true, -128)))).isFalse();
+    assertThat(advisor.isOlderThanKnown(0, singletonList(location(1, true, 126)))).isTrue();
+  }
+
+  @Test
+  public void primaryServerLocationsFollowUpdates() {
+    advisor.updateBucketServerLocations(0, asList(location(1, true, 1), location(2, false, 1)),
+        cms);
+    assertThat(advisor.getPrimaryServerLocations()[0]).isEqualTo(location(1, true, 1));
+
+    advisor.updateBucketServerLocations(0, asList(location(1, false, 2), location(2, true, 2)),
+        cms);
+    assertThat(advisor.getPrimaryServerLocations()[0]).isEqualTo(location(2, true, 2));
+  }
+}
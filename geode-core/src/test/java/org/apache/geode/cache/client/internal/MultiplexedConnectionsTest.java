@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.distributed.internal.ServerLocation;
+
+public class MultiplexedConnectionsTest {
+
+  private ConnectionFactory connectionFactory;
+  private ServerLocation server;
+  private MultiplexedConnections connections;
+
+  @Before
+  public void setUp() {
+    connectionFactory = mock(ConnectionFactory.class);
+    server = mock(ServerLocation.class);
+    connections = new MultiplexedConnections(connectionFactory, 2);
+  }
+
+  private ConnectionImpl connection(int pipelinedOps) {
+    ConnectionImpl connection = mock(ConnectionImpl.class);
+    when(connection.getServer()).thenReturn(server);
+    when(connection.getPipelinedOpCount()).thenReturn(pipelinedOps);
+    return connection;
+  }
+
+  @Test
+  public void idleConnectionIsShared() {
+    ConnectionImpl connection = connection(0);
+    when(connectionFactory.createClientToServerConnection(any())).thenReturn(connection);
+
+    assertThat(connections.getConnection()).isSameAs(connection);
+    assertThat(connections.getConnection()).isSameAs(connection);
+    verify(connectionFactory, times(1)).createClientToServerConnection(any());
+  }
+
+  @Test
+  public void busyConnectionsAreAddedUpToMaximum() {
+    ConnectionImpl first = connection(3);
+    ConnectionImpl second = connection(1);
+    ConnectionImpl third = connection(0);
+    when(connectionFactory.createClientToServerConnection(any())).thenReturn(first, second,
+        third);
+
+    assertThat(connections.getConnection()).isSameAs(first);
+    assertThat(connections.getConnection()).isSameAs(second);
+    assertThat(connections.getConnection()).isSameAs(second);
+    verify(connectionFactory, times(2)).createClientToServerConnection(any());
+  }
+
+  @Test
+  public void destroyedConnectionIsReplaced() {
+    ConnectionImpl first = connection(0);
+    ConnectionImpl second = connection(0);
+    when(connectionFactory.createClientToServerConnection(any())).thenReturn(first, second);
+
+    assertThat(connections.getConnection()).isSameAs(first);
+    when(first.isDestroyed()).thenReturn(true);
+
+    assertThat(connections.getConnection()).isSameAs(second);
+  }
+
+  @Test
+  public void connectionsAreNotSharedWithServersRequiringCredentials() {
+    ConnectionImpl connection = connection(0);
+    when(server.getRequiresCredentials()).thenReturn(true);
+    when(connectionFactory.createClientToServerConnection(any())).thenReturn(connection);
+
+    assertThat(connections.getConnection()).isNull();
+    verify(connection).destroy();
+    assertThat(connections.canExecute(mock(AbstractOp.class))).isFalse();
+  }
+
+  @Test
+  public void onlyOpsThatCanBePipelinedAreExecuted() {
+    AbstractOp pipelined = mock(AbstractOp.class);
+    when(pipelined.canBePipelined()).thenReturn(true);
+
+    assertThat(connections.canExecute(pipelined)).isTrue();
+    assertThat(connections.canExecute(mock(AbstractOp.class))).isFalse();
+    assertThat(connections.canExecute(mock(Op.class))).isFalse();
+  }
+
+  @Test
+  public void noConnectionWithoutServers() {
+    assertThat(connections.getConnection()).isNull();
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.CancelCriterion;
+import org.apache.geode.cache.client.ServerOperationException;
+import org.apache.geode.cache.client.internal.pooling.ConnectionDestroyedException;
+import org.apache.geode.cache.client.internal.pooling.ConnectionManager;
+import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.internal.cache.tier.sockets.Message;
+
+public class OpExecutorImplAsyncTest {
+
+  private ConnectionManager connectionManager;
+  private MultiplexedConnections multiplexedConnections;
+  private ConnectionImpl sharedConnection;
+  private Connection pooledConnection;
+  private AbstractOp op;
+  private final List<Runnable> asyncTasks = new ArrayList<>();
+  private final List<Runnable> blockingTasks = new ArrayList<>();
+  private OpExecutorImpl executor;
+
+  @Before
+  public void setUp() {
+    connectionManager = mock(ConnectionManager.class);
+    multiplexedConnections = mock(MultiplexedConnections.class);
+    ServerLocation server = mock(ServerLocation.class);
+    sharedConnection = mock(ConnectionImpl.class);
+    when(sharedConnection.getServer()).thenReturn(server);
+    pooledConnection = mock(Connection.class);
+    when(pooledConnection.getServer()).thenReturn(server);
+    when(connectionManager.borrowConnection(anyLong())).thenReturn(pooledConnection);
+    op = mock(AbstractOp.class);
+    when(op.getMessage()).thenReturn(mock(Message.class));
+
+    PoolImpl pool = mock(PoolImpl.class);
+    when(pool.getMultiplexedConnections()).thenReturn(multiplexedConnections);
+    when(pool.getAsyncOpExecutor()).thenReturn(asyncTasks::add);
+    when(pool.getBlockingAsyncOpExecutor()).thenReturn(blockingTasks::add);
+    executor = new OpExecutorImpl(connectionManager, null, mock(EndpointManager.class),
+        mock(RegisterInterestTracker.class), 1, 5L, 5L, mock(CancelCriterion.class), pool);
+  }
+
+  private void runAsyncTasks() {
+    while (!asyncTasks.isEmpty() || !blockingTasks.isEmpty()) {
+      List<Runnable> tasks = new ArrayList<>(asyncTasks);
+      tasks.addAll(blockingTasks);
+      asyncTasks.clear();
+      blockingTasks.clear();
+      tasks.forEach(Runnable::run);
+    }
+  }
+
+  @Test
+  public void pipelinedOpIsCompletedByAsyncOpExecutorAfterSharedConnection() {
+    CompletableFuture<Object> response = new CompletableFuture<>();
+    when(multiplexedConnections.canExecute(op)).thenReturn(true);
+    when(multiplexedConnections.getConnection()).thenReturn(sharedConnection);
+    when(multiplexedConnections.executeAsync(sharedConnection, op)).thenReturn(response);
+
+    CompletableFuture<Object> result = executor.executeAsync(op);
+
+    assertThat(result).isNotDone();
+    response.complete("value");
+    assertThat(result).isNotDone();
+    runAsyncTasks();
+    assertThat(result).isCompletedWithValue("value");
+    verify(connectionManager, never()).borrowConnection(anyLong());
+  }
+
+  @Test
+  public void opThatCannotBePipelinedIsExecutedByBlockingAsyncOpExecutor() throws Exception {
+    when(pooledConnection.execute(op)).thenReturn("value");
+
+    CompletableFuture<Object> result = executor.executeAsync(op);
+
+    assertThat(asyncTasks).isEmpty();
+    assertThat(blockingTasks).hasSize(1);
+    blockingTasks.remove(0).run();
+    assertThat(result).isNotDone();
+    runAsyncTasks();
+    assertThat(result).isCompletedWithValue("value");
+    verify(connectionManager).returnConnection(pooledConnection);
+  }
+
+  @Test
+  public void opFailingOnSharedConnectionIsRetriedOnPooledConnection() throws Exception {
+    CompletableFuture<Object> response = new CompletableFuture<>();
+    when(multiplexedConnections.canExecute(op)).thenReturn(true);
+    when(multiplexedConnections.getConnection()).thenReturn(sharedConnection);
+    when(multiplexedConnections.executeAsync(sharedConnection, op)).thenReturn(response);
+    when(pooledConnection.execute(op)).thenReturn("value");
+
+    CompletableFuture<Object> result = executor.executeAsync(op);
+    response.completeExceptionally(new ConnectionDestroyedException());
+
+    assertThat(result).isNotDone();
+    runAsyncTasks();
+    assertThat(result).isCompletedWithValue("value");
+    verify(op.getMessage()).setIsRetry();
+  }
+
+  @Test
+  public void serverOperationExceptionIsNotRetried() {
+    CompletableFuture<Object> response = new CompletableFuture<>();
+    when(multiplexedConnections.canExecute(op)).thenReturn(true);
+    when(multiplexedConnections.getConnection()).thenReturn(sharedConnection);
+    when(multiplexedConnections.executeAsync(sharedConnection, op)).thenReturn(response);
+
+    CompletableFuture<Object> result = executor.executeAsync(op);
+    response.completeExceptionally(new ServerOperationException("failed"));
+    runAsyncTasks();
+
+    verify(connectionManager, never()).borrowConnection(anyLong());
+    assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ServerOperationException.class);
+  }
+
+  @Test
+  public void poolWithoutAsyncOpExecutorExecutesOpInCallingThread() throws Exception {
+    executor = new OpExecutorImpl(connectionManager, null, mock(EndpointManager.class),
+        mock(RegisterInterestTracker.class), 1, 5L, 5L, mock(CancelCriterion.class), null);
+    when(pooledConnection.execute(any())).thenReturn("value");
+
+    assertThat(executor.executeAsync(op)).isCompletedWithValue("value");
+  }
+}
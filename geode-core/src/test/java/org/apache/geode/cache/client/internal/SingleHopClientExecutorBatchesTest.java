@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.client.ServerConnectivityException;
+import org.apache.geode.distributed.internal.ServerLocation;
+
+public class SingleHopClientExecutorBatchesTest {
+
+  private final ServerLocation server1 = new ServerLocation("host1", 1);
+  private final ServerLocation server2 = new ServerLocation("host2", 2);
+
+  private SingleHopOperationCallable task(ServerLocation server, Object outcome) throws Exception {
+    SingleHopOperationCallable task = mock(SingleHopOperationCallable.class);
+    when(task.getServer()).thenReturn(server);
+    if (outcome instanceof Exception) {
+      when(task.call()).thenThrow((Exception) outcome);
+    } else {
+      when(task.call()).thenReturn(outcome);
+    }
+    return task;
+  }
+
+  @Test
+  public void outcomesAreInTheOrderOfTheTasks() throws Exception {
+    ServerConnectivityException failure = new ServerConnectivityException("failed");
+    List<SingleHopOperationCallable> tasks = Arrays.asList(task(server1, "a"),
+        task(server2, "b"), task(server1, failure), task(server2, "d"));
+
+    Object[] outcomes = SingleHopClientExecutor.submitBatches(tasks, 2);
+
+    assertThat(outcomes).containsExactly("a", "b", failure, "d");
+  }
+
+  @Test
+  public void tasksOfAServerAreBoundedByTasksPerServer() throws Exception {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<SingleHopOperationCallable> tasks = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      SingleHopOperationCallable task = mock(SingleHopOperationCallable.class);
+      when(task.getServer()).thenReturn(server1);
+      when(task.call()).thenAnswer(invocation -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(10);
+        running.decrementAndGet();
+        return null;
+      });
+      tasks.add(task);
+    }
+
+    Object[] outcomes = SingleHopClientExecutor.submitBatches(tasks, 2);
+
+    assertThat(outcomes).hasSize(8).containsOnlyNulls();
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+  }
+}
@@ -14,14 +14,20 @@
  */
 package org.apache.geode.internal;
 
+import static org.apache.geode.internal.HeapDataOutputStream.MIN_TO_COPY;
 import static org.apache.geode.internal.HeapDataOutputStream.SMALLEST_CHUNK_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
 
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -69,4 +75,46 @@ public class HeapDataOutputStreamTest {
       assertThat(result.get(i + 1)).isEqualTo(i);
     }
   }
+
+  @Test
+  public void sendToSocketChannelWritesDirectChunksInPlaceWithOneGatheringWrite()
+      throws IOException {
+    HeapDataOutputStream heapDataOutputStream = new HeapDataOutputStream(SMALLEST_CHUNK_SIZE, null);
+    heapDataOutputStream.setDoNotCopy(true);
+    heapDataOutputStream.write(new byte[] {1, 2, 3});
+    heapDataOutputStream.write(directValue(MIN_TO_COPY + 1));
+    heapDataOutputStream.write(new byte[] {4, 5, 6});
+    heapDataOutputStream.write(directValue(MIN_TO_COPY + 2));
+    heapDataOutputStream.write(new byte[] {7});
+    ByteArrayOutputStream written = new ByteArrayOutputStream();
+    SocketChannel socketChannel = mock(SocketChannel.class);
+    when(socketChannel.write(any(ByteBuffer[].class))).thenAnswer(invocation -> {
+      long count = 0;
+      for (ByteBuffer bb : (ByteBuffer[]) invocation.getArgument(0)) {
+        while (bb.hasRemaining()) {
+          written.write(bb.get());
+          count++;
+        }
+      }
+      return count;
+    });
+    ByteBuffer expected = ByteBuffer.allocate(heapDataOutputStream.size());
+    heapDataOutputStream.sendTo(expected);
+    heapDataOutputStream.rewind();
+
+    heapDataOutputStream.sendTo(socketChannel, ByteBuffer.allocate(1024));
+
+    verify(socketChannel, times(1)).write(any(ByteBuffer[].class));
+    assertThat(written.toByteArray()).isEqualTo(expected.array());
+    assertThat(heapDataOutputStream.size()).isZero();
+  }
+
+  private static ByteBuffer directValue(int size) {
+    ByteBuffer value = ByteBuffer.allocateDirect(size);
+    for (int i = 0; i < size; i++) {
+      value.put((byte) i);
+    }
+    value.flip();
+    return value;
+  }
 }
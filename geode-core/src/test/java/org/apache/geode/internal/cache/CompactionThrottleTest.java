@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompactionThrottleTest {
+
+  private static final long MB = 1024 * 1024;
+
+  private DiskStoreStats stats;
+  private long nanoTime;
+  private final List<Long> sleeps = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    stats = mock(DiskStoreStats.class);
+  }
+
+  private CompactionThrottle createThrottle(long maxBytesPerSecond, long sliceBytes) {
+    return new CompactionThrottle(maxBytesPerSecond, sliceBytes, stats, () -> nanoTime,
+        millis -> {
+          sleeps.add(millis);
+          nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+        });
+  }
+
+  @Test
+  public void sliceIsCompleteOnceSliceBytesHaveBeenCopied() {
+    CompactionThrottle throttle = createThrottle(0, 100);
+
+    assertThat(throttle.copied(60)).isFalse();
+    assertThat(throttle.copied(40)).isTrue();
+    verify(stats).incCompactionCopiedBytes(60);
+    verify(stats).incCompactionCopiedBytes(40);
+  }
+
+  @Test
+  public void unthrottledSliceDoesNotPause() {
+    CompactionThrottle throttle = createThrottle(0, MB);
+    throttle.copied(MB);
+
+    throttle.endSlice(() -> true);
+
+    assertThat(sleeps).isEmpty();
+    verify(stats).endCompactionSlice(0);
+  }
+
+  @Test
+  public void pausesUntilSliceFitsInBudget() {
+    CompactionThrottle throttle = createThrottle(10 * MB, MB);
+    throttle.copied(MB);
+    // copying the slice took 20ms; at 10MB/s it is allowed 100ms
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(20);
+
+    throttle.endSlice(() -> true);
+
+    assertThat(sleeps.stream().mapToLong(Long::longValue).sum()).isBetween(80L, 82L);
+    verify(stats).endCompactionSlice(anyLong());
+  }
+
+  @Test
+  public void doesNotPauseIfSliceWasSlowerThanBudget() {
+    CompactionThrottle throttle = createThrottle(10 * MB, MB);
+    throttle.copied(MB);
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(200);
+
+    throttle.endSlice(() -> true);
+
+    assertThat(sleeps).isEmpty();
+  }
+
+  @Test
+  public void stopsPausingWhenCompactorIsStopped() {
+    CompactionThrottle throttle = createThrottle(MB, MB);
+    throttle.copied(MB);
+
+    throttle.endSlice(() -> sleeps.size() < 2);
+
+    assertThat(sleeps).hasSize(2);
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExpirationTimingWheelTest {
+  private static final long TICK_MILLIS = 100;
+
+  private final ExecutorService workers = mock(ExecutorService.class);
+  private final LocalRegion region = mock(LocalRegion.class);
+  private final CachePerfStats stats = mock(CachePerfStats.class);
+
+  private long nanoTime = 1_000_000L;
+  private ExpirationTimingWheel wheel;
+
+  @Before
+  public void setUp() {
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(workers).execute(any());
+    when(region.getCachePerfStats()).thenReturn(stats);
+    wheel = new ExpirationTimingWheel(TICK_MILLIS, () -> nanoTime, workers);
+  }
+
+  private ExpiryTask newTask() {
+    ExpiryTask task = spy(new EntryExpiryTask(region, mock(RegionEntry.class)));
+    doNothing().when(task).runInThreadPool();
+    return task;
+  }
+
+  private void advanceMillis(long millis) {
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+    wheel.advance();
+  }
+
+  @Test
+  public void runsTaskOnceWhenItsDeadlineIsReached() {
+    ExpiryTask task = newTask();
+    assertThat(wheel.schedule(task, 250)).isTrue();
+
+    advanceMillis(200);
+    verify(task, never()).runInThreadPool();
+
+    advanceMillis(100);
+    advanceMillis(1000);
+    verify(task, times(1)).runInThreadPool();
+  }
+
+  @Test
+  public void runsTaskScheduledBeyondTheFirstLevel() {
+    ExpiryTask task = newTask();
+    long delay = TimeUnit.HOURS.toMillis(2);
+    wheel.schedule(task, delay);
+
+    advanceMillis(delay - TICK_MILLIS);
+    verify(task, never()).runInThreadPool();
+
+    advanceMillis(TICK_MILLIS);
+    verify(task, times(1)).runInThreadPool();
+  }
+
+  @Test
+  public void doesNotRunCancelledTask() {
+    ExpiryTask task = newTask();
+    wheel.schedule(task, 100);
+
+    assertThat(task.cancel()).isTrue();
+    advanceMillis(1000);
+
+    verify(task, never()).runInThreadPool();
+  }
+
+  @Test
+  public void cancelOfScheduledTaskReleasesItsRegionOnce() {
+    ExpiryTask task = newTask();
+    wheel.schedule(task, 100);
+
+    assertThat(task.cancel()).isTrue();
+    assertThat(task.getLocalRegion()).isNull();
+    assertThat(task.cancel()).isFalse();
+  }
+
+  @Test
+  public void cancelOfTaskThatRanReturnsFalse() {
+    ExpiryTask task = newTask();
+    wheel.schedule(task, 100);
+    advanceMillis(100);
+
+    assertThat(task.cancel()).isFalse();
+    verify(task, times(1)).runInThreadPool();
+  }
+
+  @Test
+  public void cancelledTaskIsUnlinkedOnTheNextTick() {
+    ExpiryTask task = newTask();
+    ExpiryTask other = newTask();
+    long delay = TimeUnit.HOURS.toMillis(2);
+    wheel.schedule(task, delay);
+    wheel.schedule(other, delay);
+    advanceMillis(TICK_MILLIS);
+    assertThat(wheel.size()).isEqualTo(2);
+
+    task.cancel();
+    advanceMillis(TICK_MILLIS);
+
+    assertThat(wheel.size()).isEqualTo(1);
+    advanceMillis(delay);
+    verify(task, never()).runInThreadPool();
+    verify(other, times(1)).runInThreadPool();
+  }
+
+  @Test
+  public void recordsHowLateTheTaskRan() {
+    ExpiryTask task = newTask();
+    wheel.schedule(task, 150);
+
+    advanceMillis(200);
+
+    verify(stats).endExpiryTask(TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  public void doesNotScheduleAfterCancel() {
+    wheel.cancel();
+
+    assertThat(wheel.schedule(newTask(), 100)).isFalse();
+  }
+}
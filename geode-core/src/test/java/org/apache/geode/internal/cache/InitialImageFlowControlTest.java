@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.CancelCriterion;
+import org.apache.geode.distributed.internal.ClusterDistributionManager;
+import org.apache.geode.distributed.internal.DMStats;
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.cache.InitialImageFlowControl.FlowControlPermitMessage;
+
+public class InitialImageFlowControlTest {
+
+  private ClusterDistributionManager dm;
+  private DMStats stats;
+  private InternalDistributedMember target;
+  private final AtomicReference<FlowControlPermitMessage> sent = new AtomicReference<>();
+  private InitialImageFlowControl flowControl;
+
+  @Before
+  public void setUp() {
+    dm = mock(ClusterDistributionManager.class);
+    stats = mock(DMStats.class);
+    target = mock(InternalDistributedMember.class);
+    when(dm.getStats()).thenReturn(stats);
+    when(dm.getConfig()).thenReturn(mock(DistributionConfig.class));
+    when(dm.getCancelCriterion()).thenReturn(mock(CancelCriterion.class));
+    when(dm.addMembershipListenerAndGetDistributionManagerIds(any()))
+        .thenReturn(Collections.singleton(target));
+    doAnswer(invocation -> {
+      sent.set(invocation.getArgument(0));
+      return null;
+    }).when(dm).putOutgoing(any());
+  }
+
+  @After
+  public void tearDown() {
+    if (flowControl != null) {
+      flowControl.unregister();
+    }
+  }
+
+  private void receivePermit() {
+    FlowControlPermitMessage.send(dm, target, flowControl.getId());
+    sent.get().process(dm);
+  }
+
+  private void assertAvailablePermits(int permits) {
+    assertThat(flowControl.toString()).contains("with " + permits + " available permits");
+  }
+
+  @Test
+  public void chunkPermitsIgnoreMessageSize() {
+    flowControl = InitialImageFlowControl.register(dm, target);
+
+    assertThat(flowControl.isWindowed()).isFalse();
+    flowControl.acquirePermit(1000);
+
+    assertAvailablePermits(InitialImageOperation.CHUNK_PERMITS - 1);
+    verify(stats).incInitialImageMessagesInFlight(1);
+    receivePermit();
+    assertAvailablePermits(InitialImageOperation.CHUNK_PERMITS);
+    verify(stats).incInitialImageMessagesInFlight(-1);
+  }
+
+  @Test
+  public void windowPermitsAreBytesOfMessagesInFlight() {
+    flowControl = InitialImageFlowControl.register(dm, target, 100);
+
+    assertThat(flowControl.isWindowed()).isTrue();
+    flowControl.acquirePermit(30);
+    flowControl.acquirePermit(50);
+
+    assertAvailablePermits(20);
+    receivePermit();
+    assertAvailablePermits(50);
+    receivePermit();
+    assertAvailablePermits(100);
+  }
+
+  @Test
+  public void messageLargerThanWindowAcquiresWholeWindow() {
+    flowControl = InitialImageFlowControl.register(dm, target, 100);
+
+    flowControl.acquirePermit(1000);
+
+    assertAvailablePermits(0);
+    receivePermit();
+    assertAvailablePermits(100);
+  }
+
+  @Test
+  public void permitForUnknownMessageIsIgnored() {
+    flowControl = InitialImageFlowControl.register(dm, target, 100);
+
+    receivePermit();
+
+    assertAvailablePermits(100);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.versions.VersionSource;
+import org.apache.geode.internal.cache.versions.VersionStamp;
+
+public class KeyRangeDigestsTest {
+
+  private static final int RANGES = 16;
+
+  private DistributedRegion region;
+  private VersionSource<?> member;
+
+  @Before
+  public void setUp() {
+    region = mock(DistributedRegion.class);
+    member = mock(VersionSource.class);
+  }
+
+  private RegionEntry entry(Object key, VersionSource<?> memberId, long regionVersion) {
+    RegionEntry entry = mock(RegionEntry.class);
+    VersionStamp stamp = mock(VersionStamp.class);
+    when(entry.getKey()).thenReturn(key);
+    when(entry.getVersionStamp()).thenReturn(stamp);
+    when(stamp.getMemberID()).thenReturn(memberId);
+    when(stamp.getRegionVersion()).thenReturn(regionVersion);
+    when(stamp.getEntryVersion()).thenReturn(1);
+    return entry;
+  }
+
+  private List<RegionEntry> entries(int count) {
+    List<RegionEntry> entries = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      entries.add(entry("key" + i, member, i));
+    }
+    return entries;
+  }
+
+  @Test
+  public void rangesArePowersOfTwo() {
+    assertThat(KeyRangeDigests.rangesFor(0, 64)).isEqualTo(1);
+    assertThat(KeyRangeDigests.rangesFor(64, 64)).isEqualTo(1);
+    assertThat(KeyRangeDigests.rangesFor(65 * 64, 64)).isEqualTo(128);
+    assertThat(KeyRangeDigests.rangesFor(Long.MAX_VALUE, 64))
+        .isEqualTo(KeyRangeDigests.MAXIMUM_RANGES);
+  }
+
+  @Test
+  public void digestsDoNotDependOnOrder() {
+    List<RegionEntry> entries = entries(100);
+    long[] digests = KeyRangeDigests.compute(region, entries.iterator(), RANGES);
+
+    Collections.reverse(entries);
+
+    assertThat(KeyRangeDigests.compute(region, entries.iterator(), RANGES)).isEqualTo(digests);
+  }
+
+  @Test
+  public void onlyRangeOfChangedEntryDiffers() {
+    List<RegionEntry> entries = entries(100);
+    long[] digests = KeyRangeDigests.compute(region, entries.iterator(), RANGES);
+
+    entries.set(7, entry("key7", member, 1000));
+    BitSet matching = KeyRangeDigests.matchingRanges(digests,
+        KeyRangeDigests.compute(region, entries.iterator(), RANGES));
+
+    int changedRange = KeyRangeDigests.rangeOf("key7", RANGES);
+    assertThat(matching.get(changedRange)).isFalse();
+    assertThat(matching.cardinality()).isEqualTo(RANGES - 1);
+  }
+
+  @Test
+  public void missingEntryChangesItsRange() {
+    List<RegionEntry> entries = entries(100);
+    long[] digests = KeyRangeDigests.compute(region, entries.iterator(), RANGES);
+
+    entries.remove(3);
+    BitSet matching = KeyRangeDigests.matchingRanges(digests,
+        KeyRangeDigests.compute(region, entries.iterator(), RANGES));
+
+    assertThat(matching.get(KeyRangeDigests.rangeOf("key3", RANGES))).isFalse();
+    assertThat(matching.cardinality()).isEqualTo(RANGES - 1);
+  }
+
+  @Test
+  public void entryWithoutMemberIdIsFromThisMember() {
+    when(region.getVersionMember()).thenReturn(member);
+    long[] digests = KeyRangeDigests.compute(region,
+        Collections.singletonList(entry("key", member, 1)).iterator(), RANGES);
+
+    assertThat(KeyRangeDigests.compute(region,
+        Collections.singletonList(entry("key", null, 1)).iterator(), RANGES))
+            .isEqualTo(digests);
+  }
+
+  @Test
+  public void digestsOfDifferentRangeCountsDoNotMatch() {
+    assertThat(KeyRangeDigests.matchingRanges(new long[4], new long[8])).isNull();
+    assertThat(KeyRangeDigests.matchingRanges(new long[4], null)).isNull();
+  }
+}
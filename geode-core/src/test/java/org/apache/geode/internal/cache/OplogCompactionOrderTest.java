@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class OplogCompactionOrderTest {
+
+  private static class Candidate {
+    final long id;
+    final double garbageRatio;
+
+    Candidate(long id, double garbageRatio) {
+      this.id = id;
+      this.garbageRatio = garbageRatio;
+    }
+  }
+
+  private static List<Long> sortedIds(Candidate... candidates) {
+    List<Candidate> list = new ArrayList<>(Arrays.asList(candidates));
+    OplogCompactionOrder.sort(list, c -> c.garbageRatio, c -> c.id);
+    List<Long> ids = new ArrayList<>();
+    list.forEach(c -> ids.add(c.id));
+    return ids;
+  }
+
+  @Test
+  public void moreGarbageComesFirstAtSameAge() {
+    assertThat(OplogCompactionOrder.priority(0.9, 5))
+        .isGreaterThan(OplogCompactionOrder.priority(0.5, 5));
+  }
+
+  @Test
+  public void olderComesFirstAtSameGarbageRatio() {
+    assertThat(sortedIds(new Candidate(3, 0.6), new Candidate(1, 0.6), new Candidate(2, 0.6)))
+        .containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void oldOplogCanOutrankYoungerOplogWithMoreGarbage() {
+    assertThat(sortedIds(new Candidate(10, 0.7), new Candidate(1, 0.5)))
+        .containsExactly(1L, 10L);
+  }
+
+  @Test
+  public void emptyOplogComesBeforeSameAgeOplogWithLiveValues() {
+    assertThat(sortedIds(new Candidate(5, 0.5), new Candidate(4, 1.0), new Candidate(6, 0.6)))
+        .startsWith(4L);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.DiskAccessException;
+
+public class OplogGroupCommitterTest {
+
+  private final AtomicInteger flushes = new AtomicInteger();
+  private DiskStoreStats stats;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    stats = mock(DiskStoreStats.class);
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void singleWriterIsForcedWithoutWaitingWhenBatchSizeIsOne() {
+    OplogGroupCommitter committer =
+        new OplogGroupCommitter(flushes::incrementAndGet, stats, TimeUnit.SECONDS.toMicros(60), 1);
+
+    long ticket = committer.appended();
+    committer.awaitDurable(ticket);
+
+    assertThat(flushes.get()).isEqualTo(1);
+    assertThat(committer.getDurableSeq()).isEqualTo(ticket);
+    verify(stats).endGroupCommit(anyLong(), eq(1L));
+  }
+
+  @Test
+  public void writerIsForcedAfterMaxWaitWhenBatchIsNotFull() {
+    OplogGroupCommitter committer = new OplogGroupCommitter(flushes::incrementAndGet, stats, 0, 64);
+
+    committer.awaitDurable(committer.appended());
+
+    assertThat(flushes.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void concurrentWritersShareOneForce() throws Exception {
+    final int writers = 8;
+    OplogGroupCommitter committer = new OplogGroupCommitter(flushes::incrementAndGet, stats,
+        TimeUnit.SECONDS.toMicros(60), writers);
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < writers; i++) {
+      long ticket = committer.appended();
+      futures.add(executor.submit(() -> committer.awaitDurable(ticket)));
+    }
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+
+    assertThat(flushes.get()).isEqualTo(1);
+    assertThat(committer.getDurableSeq()).isEqualTo(writers);
+    verify(stats).endGroupCommit(anyLong(), eq((long) writers));
+  }
+
+  @Test
+  public void alreadyDurableWriteDoesNotForceAgain() {
+    OplogGroupCommitter committer = new OplogGroupCommitter(flushes::incrementAndGet, stats, 0, 1);
+    long first = committer.appended();
+    long second = committer.appended();
+
+    committer.awaitDurable(second);
+    committer.awaitDurable(first);
+
+    assertThat(flushes.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void failedForceIsThrownToLeaderAndRetriedByNextWriter() {
+    AtomicInteger attempts = new AtomicInteger();
+    OplogGroupCommitter committer = new OplogGroupCommitter(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new DiskAccessException("force failed");
+      }
+    }, stats, 0, 1);
+    long ticket = committer.appended();
+
+    assertThatThrownBy(() -> committer.awaitDurable(ticket))
+        .isInstanceOf(DiskAccessException.class);
+    assertThat(committer.getDurableSeq()).isZero();
+
+    committer.awaitDurable(ticket);
+
+    assertThat(attempts.get()).isEqualTo(2);
+    assertThat(committer.getDurableSeq()).isEqualTo(ticket);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.entries.DiskEntry;
+import org.apache.geode.internal.cache.entries.DiskEntry.Helper.ByteArrayValueWrapper;
+import org.apache.geode.internal.cache.entries.DiskEntry.Helper.ValueWrapper;
+import org.apache.geode.internal.cache.persistence.BytesAndBits;
+import org.apache.geode.internal.serialization.KnownVersion;
+
+public class OplogValueCompressorTest {
+
+  private static byte[] compressibleBytes() {
+    StringBuilder json = new StringBuilder();
+    for (int i = 0; i < 50; i++) {
+      json.append("{\"name\":\"value\",\"count\":").append(i).append("},");
+    }
+    return json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void compressedValueRoundTrips() throws Exception {
+    byte[] bytes = compressibleBytes();
+    byte userBits = EntryBits.setCompressed(EntryBits.setSerialized((byte) 0, true), true);
+
+    ValueWrapper compressed =
+        OplogValueCompressor.compress(new ByteArrayValueWrapper(true, bytes));
+    BytesAndBits bb = OplogValueCompressor
+        .decompress(new BytesAndBits(((ByteArrayValueWrapper) compressed).bytes, userBits));
+
+    assertThat(compressed.getLength()).isLessThan(bytes.length);
+    assertThat(compressed.isSerialized()).isTrue();
+    assertThat(bb.getBytes()).isEqualTo(bytes);
+    assertThat(EntryBits.isCompressed(bb.getBits())).isFalse();
+    assertThat(EntryBits.isSerialized(bb.getBits())).isTrue();
+  }
+
+  @Test
+  public void smallValueIsNotCompressed() throws Exception {
+    byte[] bytes = new byte[OplogValueCompressor.MIN_VALUE_LENGTH - 1];
+
+    assertThat(OplogValueCompressor.compress(new ByteArrayValueWrapper(false, bytes))).isNull();
+  }
+
+  @Test
+  public void valueThatDoesNotShrinkIsNotCompressed() throws Exception {
+    byte[] bytes = new byte[256];
+    new Random(1).nextBytes(bytes);
+
+    assertThat(OplogValueCompressor.compress(new ByteArrayValueWrapper(false, bytes))).isNull();
+  }
+
+  @Test
+  public void compressesOnlyTheValidLengthOfCompactorValue() throws Exception {
+    byte[] bytes = compressibleBytes();
+    byte[] padded = new byte[bytes.length + 100];
+    System.arraycopy(bytes, 0, padded, 0, bytes.length);
+
+    ValueWrapper compressed = OplogValueCompressor
+        .compress(new DiskEntry.Helper.CompactorValueWrapper(padded, bytes.length));
+
+    assertThat(OplogValueCompressor.decompress(((ByteArrayValueWrapper) compressed).bytes,
+        EntryBits.setCompressed((byte) 0, true))).isEqualTo(bytes);
+  }
+
+  @Test
+  public void uncompressedValueIsReturnedAsIs() {
+    BytesAndBits bb = new BytesAndBits(new byte[] {1, 2, 3}, (byte) 0);
+
+    assertThat(OplogValueCompressor.decompress(bb)).isSameAs(bb);
+  }
+
+  @Test
+  public void decompressKeepsVersion() throws Exception {
+    byte[] bytes = compressibleBytes();
+    ValueWrapper compressed =
+        OplogValueCompressor.compress(new ByteArrayValueWrapper(false, bytes));
+    BytesAndBits bb = new BytesAndBits(((ByteArrayValueWrapper) compressed).bytes,
+        EntryBits.setCompressed((byte) 0, true));
+    bb.setVersion(KnownVersion.OLDEST);
+
+    assertThat(OplogValueCompressor.decompress(bb).getVersion()).isEqualTo(KnownVersion.OLDEST);
+  }
+
+  @Test
+  public void compressedBitIsPersistent() {
+    byte userBits = EntryBits.setPendingAsync(EntryBits.setCompressed((byte) 0, true), true);
+
+    assertThat(EntryBits.getPersistentBits(userBits))
+        .isEqualTo(EntryBits.setCompressed((byte) 0, true));
+  }
+}
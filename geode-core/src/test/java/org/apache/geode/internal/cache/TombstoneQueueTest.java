@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.TombstoneService.Tombstone;
+import org.apache.geode.internal.cache.versions.VersionSource;
+
+public class TombstoneQueueTest {
+  private final LocalRegion region = mock(LocalRegion.class);
+  private final VersionSource<?> member = mock(VersionSource.class);
+  private final List<RegionEntry> entries = new ArrayList<>();
+
+  private final TombstoneQueue queue = new TombstoneQueue();
+
+  private Tombstone newTombstone(int i) {
+    RegionEntry entry = mock(RegionEntry.class);
+    entries.add(entry);
+    return new Tombstone(entry, region, member, i, (long) i << 40, 1000L + i, -1);
+  }
+
+  @Test
+  public void keepsTombstoneFields() {
+    queue.add(new Tombstone(mock(RegionEntry.class), region, member, 0xABCDEF, 0x1234_5678_9ABCL,
+        42L, 3));
+
+    Tombstone tombstone = queue.poll();
+
+    assertThat(tombstone.region).isSameAs(region);
+    assertThat(tombstone.getMemberID()).isSameAs(member);
+    assertThat(tombstone.getEntryVersion()).isEqualTo(0xABCDEF);
+    assertThat(tombstone.getRegionVersion()).isEqualTo(0x1234_5678_9ABCL);
+    assertThat(tombstone.getVersionTimeStamp()).isEqualTo(42L);
+    assertThat(tombstone.getDistributedSystemId()).isEqualTo(3);
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  public void pollsInInsertionOrderWhileGrowing() {
+    for (int i = 0; i < 100; i++) {
+      queue.add(newTombstone(i));
+    }
+
+    assertThat(queue).hasSize(100);
+    for (int i = 0; i < 100; i++) {
+      Tombstone tombstone = queue.poll();
+      assertThat(tombstone.entry).isSameAs(entries.get(i));
+      assertThat(tombstone.getRegionVersion()).isEqualTo((long) i << 40);
+      assertThat(tombstone.getDistributedSystemId()).isEqualTo(-1);
+    }
+    assertThat(queue).isEmpty();
+  }
+
+  @Test
+  public void removeIfKeepsOrderOfRemainingTombstones() {
+    for (int i = 0; i < 50; i++) {
+      queue.add(newTombstone(i));
+    }
+
+    assertThat(queue.removeIf(t -> t.getEntryVersion() % 3 != 0)).isTrue();
+
+    assertThat(queue).hasSize(17);
+    for (int i = 0; i < 50; i += 3) {
+      assertThat(queue.poll().entry).isSameAs(entries.get(i));
+    }
+    assertThat(queue.peek()).isNull();
+  }
+
+  @Test
+  public void iteratorSeesTombstonesAddedDuringIteration() {
+    for (int i = 0; i < 10; i++) {
+      queue.add(newTombstone(i));
+    }
+
+    int count = 0;
+    for (Iterator<Tombstone> it = queue.iterator(); it.hasNext();) {
+      Tombstone tombstone = it.next();
+      if (tombstone.getEntryVersion() < 10) {
+        queue.add(newTombstone(tombstone.getEntryVersion() + 10));
+        it.remove();
+      }
+      count++;
+    }
+
+    assertThat(count).isEqualTo(20);
+    assertThat(queue).hasSize(10);
+    assertThat(queue.peek().entry).isSameAs(entries.get(10));
+  }
+
+  @Test
+  public void pollSkipsTombstonesRemovedByIterator() {
+    for (int i = 0; i < 3; i++) {
+      queue.add(newTombstone(i));
+    }
+    Iterator<Tombstone> it = queue.iterator();
+    it.next();
+    it.next();
+    it.remove();
+
+    assertThat(queue.poll().entry).isSameAs(entries.get(0));
+    assertThat(queue.poll().entry).isSameAs(entries.get(2));
+    assertThat(queue.poll()).isNull();
+  }
+}
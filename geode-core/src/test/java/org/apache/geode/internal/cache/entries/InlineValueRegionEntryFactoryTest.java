@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.entries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.cache.RegionEntryContext;
+import org.apache.geode.internal.cache.RegionEntryFactory;
+import org.apache.geode.internal.cache.Token;
+
+public class InlineValueRegionEntryFactoryTest {
+  private static final String KEY = "a key too long to be inlined in the entry";
+
+  private final RegionEntryContext context = mock(RegionEntryContext.class);
+
+  @Test
+  public void createsEntryThatStoresLongValueInline() {
+    RegionEntryFactory factory = VMThinRegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+
+    RegionEntry entry = factory.createEntry(context, KEY, 42L);
+
+    assertThat(entry).isInstanceOf(VMThinRegionEntryHeapObjectKeyLongValue.class);
+    assertThat(entry.getKey()).isEqualTo(KEY);
+    assertThat(entry.getValue()).isEqualTo(42L);
+  }
+
+  @Test
+  public void inlineValueEntryStillHoldsTokensAndOtherValues() {
+    AbstractRegionEntry entry = (AbstractRegionEntry) VMThinRegionEntryHeapObjectKeyDoubleValue
+        .getInlineValueFactory().createEntry(context, KEY, 1.5d);
+
+    entry._setValue(Token.DESTROYED);
+    assertThat(entry.getValue()).isSameAs(Token.DESTROYED);
+
+    entry._setValue("not a double");
+    assertThat(entry.getValue()).isEqualTo("not a double");
+
+    entry._setValue(-2.5d);
+    assertThat(entry.getValue()).isEqualTo(-2.5d);
+  }
+
+  @Test
+  public void createsInlineKeyEntryIfKeyCanBeInlined() {
+    RegionEntryFactory factory = VMThinRegionEntryHeapObjectKeyIntValue.getInlineValueFactory();
+
+    RegionEntry entry = factory.createEntry(context, 7L, 3);
+
+    assertThat(entry).isInstanceOf(VMThinRegionEntryHeapLongKey.class);
+    assertThat(entry.getValue()).isEqualTo(3);
+  }
+
+  @Test
+  public void makeVersionedReturnsVersionedInlineValueFactory() {
+    RegionEntryFactory factory =
+        VMStatsDiskLRURegionEntryHeapObjectKeyLongValue.getInlineValueFactory();
+
+    assertThat(factory.makeVersioned().getEntryClass())
+        .isEqualTo(VersionedStatsDiskLRURegionEntryHeapObjectKeyLongValue.class);
+    assertThat(factory.makeOnHeap()).isSameAs(factory);
+  }
+}
@@ -14,11 +14,15 @@
  */
 package org.apache.geode.internal.cache.eviction;
 
+import static org.apache.geode.internal.lang.SystemPropertyHelper.EVICTION_SAMPLING;
 import static org.apache.geode.internal.lang.SystemPropertyHelper.EVICTION_SCAN_ASYNC;
+import static org.apache.geode.internal.lang.SystemPropertyHelper.EVICTION_TINYLFU;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,9 +32,12 @@ import org.apache.geode.cache.EvictionAlgorithm;
 
 public class EvictionListBuilderTest {
   private static final String EVICTION_PROPERTY_NAME = "geode." + EVICTION_SCAN_ASYNC;
+  private static final String SAMPLING_PROPERTY_NAME = "geode." + EVICTION_SAMPLING;
+  private static final String TINYLFU_PROPERTY_NAME = "geode." + EVICTION_TINYLFU;
 
   @Rule
-  public ClearSystemProperties clearProperties = new ClearSystemProperties(EVICTION_PROPERTY_NAME);
+  public ClearSystemProperties clearProperties = new ClearSystemProperties(EVICTION_PROPERTY_NAME,
+      SAMPLING_PROPERTY_NAME, TINYLFU_PROPERTY_NAME);
 
   private EvictionListBuilder builder;
   private EvictionController controller;
@@ -74,4 +81,56 @@ public class EvictionListBuilderTest {
     assertThat(builder.create()).isInstanceOf(LRUListWithSyncSorting.class);
 
   }
+
+  @Test
+  public void createsSampledLruWhenSystemConfiguredToUseIt() {
+    System.setProperty(SAMPLING_PROPERTY_NAME, "true");
+    builder = new EvictionListBuilder(controller, () -> Collections.emptyIterator());
+
+    assertThat(builder.create()).isInstanceOf(LRUListWithSampling.class);
+  }
+
+  @Test
+  public void createsLIFOListWhenSamplingAndAlgorithmIsLifo() {
+    System.setProperty(SAMPLING_PROPERTY_NAME, "true");
+    when(controller.getEvictionAlgorithm()).thenReturn(EvictionAlgorithm.LIFO_ENTRY);
+    builder = new EvictionListBuilder(controller, () -> Collections.emptyIterator());
+
+    assertThat(builder.create()).isInstanceOf(LIFOList.class);
+  }
+
+  @Test
+  public void createsTinyLFUListWhenSystemConfiguredToUseItAndAlgorithmIsLruHeap() {
+    System.setProperty(TINYLFU_PROPERTY_NAME, "true");
+    when(controller.getEvictionAlgorithm()).thenReturn(EvictionAlgorithm.LRU_HEAP);
+    builder = new EvictionListBuilder(controller, () -> Collections.emptyIterator());
+
+    assertThat(builder.create()).isInstanceOf(TinyLFUList.class);
+  }
+
+  @Test
+  public void createsTinyLFUListWhenSystemConfiguredToUseItAndAlgorithmIsLruMemory() {
+    System.setProperty(TINYLFU_PROPERTY_NAME, "true");
+    when(controller.getEvictionAlgorithm()).thenReturn(EvictionAlgorithm.LRU_MEMORY);
+    builder = new EvictionListBuilder(controller, () -> Collections.emptyIterator());
+
+    assertThat(builder.create()).isInstanceOf(TinyLFUList.class);
+  }
+
+  @Test
+  public void createsAsyncLruWhenTinyLFUConfiguredAndAlgorithmIsLruEntry() {
+    System.setProperty(TINYLFU_PROPERTY_NAME, "true");
+    builder = new EvictionListBuilder(controller, () -> Collections.emptyIterator());
+
+    assertThat(builder.create()).isInstanceOf(LRUListWithAsyncSorting.class);
+  }
+
+  @Test
+  public void createsAsyncLruWhenTinyLFUConfiguredWithoutRegionEntries() {
+    System.setProperty(TINYLFU_PROPERTY_NAME, "true");
+    when(controller.getEvictionAlgorithm()).thenReturn(EvictionAlgorithm.LRU_MEMORY);
+    builder = new EvictionListBuilder(controller);
+
+    assertThat(builder.create()).isInstanceOf(LRUListWithAsyncSorting.class);
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class FrequencySketchTest {
+  private final FrequencySketch sketch = new FrequencySketch();
+
+  @Test
+  public void unusedKeyHasFrequencyZero() {
+    assertThat(sketch.frequency(42)).isZero();
+  }
+
+  @Test
+  public void countsUsesOfKey() {
+    for (int i = 0; i < 5; i++) {
+      sketch.increment(42);
+    }
+
+    assertThat(sketch.frequency(42)).isEqualTo(5);
+  }
+
+  @Test
+  public void frequencySaturatesAtFifteen() {
+    for (int i = 0; i < 20; i++) {
+      sketch.increment(42);
+    }
+
+    assertThat(sketch.frequency(42)).isEqualTo(15);
+  }
+
+  @Test
+  public void halvesFrequenciesAfterSampleSizeUses() {
+    sketch.ensureCapacity(1024);
+    for (int i = 0; i < 8; i++) {
+      sketch.increment(-1);
+    }
+    for (int i = 0; i < 10 * 1024; i++) {
+      sketch.increment(i);
+    }
+
+    assertThat(sketch.frequency(-1)).isEqualTo(4);
+  }
+
+  @Test
+  public void growingForgetsUses() {
+    sketch.increment(42);
+
+    sketch.ensureCapacity(100);
+
+    assertThat(sketch.capacity()).isEqualTo(128);
+    assertThat(sketch.frequency(42)).isZero();
+  }
+
+  @Test
+  public void clearForgetsUses() {
+    sketch.increment(42);
+
+    sketch.clear();
+
+    assertThat(sketch.frequency(42)).isZero();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.RegionEntry;
+
+public class LRUListWithSamplingTest {
+  private static final int MAX_SAMPLES = 3;
+
+  private final List<RegionEntry> regionEntries = new ArrayList<>();
+
+  private EvictionCounters stats;
+  private LRUListWithSampling list;
+
+  @Before
+  public void setup() {
+    stats = mock(EvictionCounters.class);
+    EvictionController controller = mock(EvictionController.class);
+    when(controller.getCounters()).thenReturn(stats);
+    list = new LRUListWithSampling(controller, regionEntries::iterator, MAX_SAMPLES);
+  }
+
+  private EvictableEntry newEntry(boolean recentlyUsed) {
+    EvictableEntry entry = mock(EvictableEntry.class);
+    AtomicReference<EvictionNode> next = new AtomicReference<>();
+    AtomicBoolean used = new AtomicBoolean(recentlyUsed);
+    doAnswer(invocation -> {
+      next.set(invocation.getArgument(0));
+      return null;
+    }).when(entry).setNext(any());
+    when(entry.next()).thenAnswer(invocation -> next.get());
+    when(entry.isRecentlyUsed()).thenAnswer(invocation -> used.get());
+    doAnswer(invocation -> {
+      used.set(false);
+      return null;
+    }).when(entry).unsetRecentlyUsed();
+    regionEntries.add(entry);
+    return entry;
+  }
+
+  @Test
+  public void evictingFromEmptyListReturnsNull() {
+    newEntry(false);
+
+    assertThat(list.getEvictableEntry()).isNull();
+    assertThat(list.size()).isZero();
+  }
+
+  @Test
+  public void appendingTwiceCountsOnce() {
+    EvictableEntry entry = newEntry(false);
+
+    list.appendEntry(entry);
+    list.appendEntry(entry);
+
+    assertThat(list.size()).isOne();
+  }
+
+  @Test
+  public void evictsEntryThatWasNotRecentlyUsed() {
+    EvictableEntry recentlyUsed = newEntry(true);
+    EvictableEntry notUsed = newEntry(false);
+    list.appendEntry(recentlyUsed);
+    list.appendEntry(notUsed);
+
+    assertThat(list.getEvictableEntry()).isSameAs(notUsed);
+
+    verify(recentlyUsed).unsetRecentlyUsed();
+    assertThat(list.size()).isOne();
+    assertThat(list.getEvictableEntry()).isSameAs(recentlyUsed);
+    assertThat(list.size()).isZero();
+  }
+
+  @Test
+  public void skipsEntriesThatAreNotInTheList() {
+    EvictableEntry destroyed = newEntry(false);
+    EvictableEntry entry = newEntry(false);
+    list.appendEntry(destroyed);
+    list.appendEntry(entry);
+
+    list.destroyEntry(destroyed);
+
+    verify(stats).incDestroys();
+    assertThat(list.getEvictableEntry()).isSameAs(entry);
+  }
+
+  @Test
+  public void doesNotEvictEntryInTransactionOrAlreadyEvicted() {
+    EvictableEntry inTransaction = newEntry(false);
+    when(inTransaction.isInUseByTransaction()).thenReturn(true);
+    EvictableEntry evicted = newEntry(false);
+    when(evicted.isEvicted()).thenReturn(true);
+    list.appendEntry(inTransaction);
+    list.appendEntry(evicted);
+
+    assertThat(list.getEvictableEntry()).isNull();
+    assertThat(list.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void greedilyEvictsRecentlyUsedEntryAfterMaxSamples() {
+    for (int i = 0; i <= MAX_SAMPLES; i++) {
+      list.appendEntry(newEntry(true));
+    }
+
+    assertThat(list.getEvictableEntry()).isSameAs(regionEntries.get(MAX_SAMPLES));
+    verify(stats).incGreedyReturns(1);
+  }
+}
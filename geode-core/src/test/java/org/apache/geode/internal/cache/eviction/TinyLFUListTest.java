@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.RegionEntry;
+
+public class TinyLFUListTest {
+  private static final int MAX_SAMPLES = 8;
+
+  private final List<RegionEntry> regionEntries = new ArrayList<>();
+
+  private EvictionCounters stats;
+  private TinyLFUList list;
+
+  @Before
+  public void setup() {
+    stats = mock(EvictionCounters.class);
+    EvictionController controller = mock(EvictionController.class);
+    when(controller.getCounters()).thenReturn(stats);
+    list = new TinyLFUList(controller, regionEntries::iterator, MAX_SAMPLES);
+  }
+
+  private EvictableEntry newEntry(Object key) {
+    EvictableEntry entry = mock(EvictableEntry.class);
+    AtomicReference<EvictionNode> next = new AtomicReference<>();
+    AtomicBoolean used = new AtomicBoolean();
+    when(entry.getKey()).thenReturn(key);
+    doAnswer(invocation -> {
+      next.set(invocation.getArgument(0));
+      return null;
+    }).when(entry).setNext(any());
+    when(entry.next()).thenAnswer(invocation -> next.get());
+    when(entry.isRecentlyUsed()).thenAnswer(invocation -> used.get());
+    doAnswer(invocation -> {
+      used.set(true);
+      return null;
+    }).when(entry).setRecentlyUsed(any());
+    doAnswer(invocation -> {
+      used.set(false);
+      return null;
+    }).when(entry).unsetRecentlyUsed();
+    regionEntries.add(entry);
+    return entry;
+  }
+
+  private void faultIn(EvictableEntry entry, int times) {
+    for (int i = 0; i < times; i++) {
+      list.removeEntry(entry);
+      list.appendEntry(entry);
+    }
+  }
+
+  @Test
+  public void evictingFromEmptyListReturnsNull() {
+    newEntry("key");
+
+    assertThat(list.getEvictableEntry()).isNull();
+  }
+
+  @Test
+  public void evictsLeastFrequentlyUsedEntry() {
+    EvictableEntry hot = newEntry("hot");
+    EvictableEntry cold = newEntry("cold");
+    list.appendEntry(hot);
+    list.appendEntry(cold);
+    faultIn(hot, 3);
+
+    assertThat(list.getEvictableEntry()).isSameAs(cold);
+
+    verify(stats).incAdmissionRejections(1);
+    verify(stats, never()).incFrequentEvictions(1);
+    assertThat(list.size()).isOne();
+  }
+
+  @Test
+  public void scannedEntriesDoNotDisplaceWorkingSet() {
+    List<EvictableEntry> workingSet = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      EvictableEntry entry = newEntry("hot" + i);
+      list.appendEntry(entry);
+      faultIn(entry, 4);
+      workingSet.add(entry);
+    }
+    for (int i = 0; i < 4; i++) {
+      list.appendEntry(newEntry("scan" + i));
+    }
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(list.getEvictableEntry()).isNotIn(workingSet);
+    }
+    assertThat(list.size()).isEqualTo(4);
+  }
+
+  @Test
+  public void remembersFrequencyOfEvictedKey() {
+    EvictableEntry returning = newEntry("returning");
+    list.appendEntry(returning);
+    faultIn(returning, 3);
+    list.destroyEntry(returning);
+    EvictableEntry other = newEntry("other");
+    list.appendEntry(other);
+
+    EvictableEntry reloaded = newEntry("returning");
+    list.appendEntry(reloaded);
+
+    assertThat(list.getEvictableEntry()).isSameAs(other);
+  }
+
+  @Test
+  public void countsRecentlyUsedEntryAsUsedAgain() {
+    EvictableEntry recentlyUsed = newEntry("used");
+    EvictableEntry notUsed = newEntry("notUsed");
+    list.appendEntry(recentlyUsed);
+    list.appendEntry(notUsed);
+    recentlyUsed.setRecentlyUsed(null);
+
+    assertThat(list.getEvictableEntry()).isSameAs(notUsed);
+
+    verify(recentlyUsed).unsetRecentlyUsed();
+    verify(stats).incAdmissionRejections(1);
+  }
+
+  @Test
+  public void countsEvictionOfEntryUsedAgain() {
+    EvictableEntry entry = newEntry("key");
+    list.appendEntry(entry);
+    faultIn(entry, 1);
+
+    assertThat(list.getEvictableEntry()).isSameAs(entry);
+
+    verify(stats).incFrequentEvictions(1);
+    verify(stats, never()).incAdmissionRejections(1);
+  }
+
+  @Test
+  public void doesNotEvictEntryInTransaction() {
+    EvictableEntry inTransaction = newEntry("key");
+    when(inTransaction.isInUseByTransaction()).thenReturn(true);
+    list.appendEntry(inTransaction);
+
+    assertThat(list.getEvictableEntry()).isNull();
+    assertThat(list.size()).isOne();
+  }
+}
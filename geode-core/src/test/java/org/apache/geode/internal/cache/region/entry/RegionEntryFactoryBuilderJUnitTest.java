@@ -78,4 +78,31 @@ public class RegionEntryFactoryBuilderJUnitTest {
             .create(enableStats, enableLRU, enableDisk, enableVersioning, enableOffHeap).getClass()
             .getSimpleName());
   }
+
+  @Test
+  @Parameters({"VMThinRegionEntryHeapObjectKeyLongValue,java.lang.Long,false,false",
+      "VersionedStatsDiskLRURegionEntryHeapObjectKeyDoubleValue,java.lang.Double,true,true",
+      "VMThinDiskRegionEntryHeapObjectKeyIntValue,java.lang.Integer,false,true",
+      "VMThinRegionEntryHeapObjectKey,java.lang.String,false,false"})
+  public void createWithValueConstraintUsesInlineValueEntries(String entryClassName,
+      String valueConstraint, boolean enableStatsLRUAndVersioning, boolean enableDisk)
+      throws Exception {
+    assertEquals(entryClassName,
+        new RegionEntryFactoryBuilder(true)
+            .create(enableStatsLRUAndVersioning, enableStatsLRUAndVersioning, enableDisk,
+                enableStatsLRUAndVersioning, false, Class.forName(valueConstraint))
+            .getEntryClass().getSimpleName());
+  }
+
+  @Test
+  public void createWithValueConstraintDoesNotInlineOffHeapValues() {
+    assertEquals("VMThinRegionEntryOffHeapFactory", new RegionEntryFactoryBuilder(true)
+        .create(false, false, false, false, true, Long.class).getClass().getSimpleName());
+  }
+
+  @Test
+  public void createWithValueConstraintDoesNotInlineValuesUnlessEnabled() {
+    assertEquals("VMThinRegionEntryHeapFactory", new RegionEntryFactoryBuilder(false)
+        .create(false, false, false, false, false, Long.class).getClass().getSimpleName());
+  }
 }
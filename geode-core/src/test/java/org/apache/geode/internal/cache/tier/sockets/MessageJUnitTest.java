@@ -18,7 +18,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,11 +32,13 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import org.apache.geode.internal.cache.tier.MessageType;
 import org.apache.geode.internal.serialization.KnownVersion;
 import org.apache.geode.test.junit.categories.ClientServerTest;
 
@@ -107,6 +111,58 @@ public class MessageJUnitTest {
     }
   }
 
+  @Test
+  public void receivedBytesAreReceivedWithoutReadingTheSocketChannel() throws Exception {
+    SocketChannel channel = mockSocketChannel(ByteBuffer.allocate(0));
+    message.setReceivedBytes(pingMessageBytes());
+
+    message.receive();
+
+    verify(channel, never()).read(any(ByteBuffer.class));
+    assertEquals(MessageType.PING, message.getMessageType());
+    assertEquals(7, message.getTransactionId());
+    assertEquals(42, message.getPart(0).getInt());
+  }
+
+  @Test
+  public void receivedBytesAreReceivedBeforeTheRestOfTheMessage() throws Exception {
+    ByteBuffer bytes = pingMessageBytes();
+    ByteBuffer received = bytes.duplicate();
+    received.limit(20);
+    bytes.position(20);
+    mockSocketChannel(bytes);
+    message.setReceivedBytes(received);
+
+    message.receive();
+
+    assertEquals(MessageType.PING, message.getMessageType());
+    assertEquals(42, message.getPart(0).getInt());
+  }
+
+  private ByteBuffer pingMessageBytes() {
+    ByteBuffer bytes = ByteBuffer.allocate(26);
+    bytes.putInt(MessageType.PING.id).putInt(9).putInt(1).putInt(7).put((byte) 0);
+    bytes.putInt(4).put((byte) 0).putInt(42);
+    bytes.flip();
+    return bytes;
+  }
+
+  private SocketChannel mockSocketChannel(ByteBuffer bytes) throws IOException {
+    SocketChannel channel = mock(SocketChannel.class);
+    when(channel.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+      ByteBuffer buffer = invocation.getArgument(0);
+      int count = Math.min(buffer.remaining(), bytes.remaining());
+      for (int i = 0; i < count; i++) {
+        buffer.put(bytes.get());
+      }
+      return count;
+    });
+    Socket socket = mock(Socket.class);
+    when(socket.getChannel()).thenReturn(channel);
+    message.setComms(socket, ByteBuffer.allocate(100), mock(MessageStats.class));
+    return channel;
+  }
+
   /**
    * geode-1468: Message should clear the chunks in its Parts when performing cleanup.
    */
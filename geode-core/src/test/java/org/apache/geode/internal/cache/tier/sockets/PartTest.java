@@ -17,9 +17,11 @@ package org.apache.geode.internal.cache.tier.sockets;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +36,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.offheap.StoredObject;
 import org.apache.geode.test.junit.categories.ClientServerTest;
 
 @Category({ClientServerTest.class})
@@ -181,4 +184,51 @@ public class PartTest {
     verify(heapDataOutputStream, times(1)).rewind();
   }
 
+  @Test
+  public void writeGatheredToWritesBufferedBytesAndStoredObjectTogether() throws Exception {
+    ByteBuffer value = ByteBuffer.allocateDirect(100);
+    StoredObject storedObject = mock(StoredObject.class);
+    when(storedObject.hasRefCount()).thenReturn(true);
+    when(storedObject.getDataSize()).thenReturn(100);
+    when(storedObject.createDirectByteBuffer()).thenReturn(value);
+    SocketChannel socketChannel = mock(SocketChannel.class);
+    when(socketChannel.write(any(ByteBuffer[].class))).thenAnswer(invocation -> {
+      long written = 0;
+      for (ByteBuffer bb : (ByteBuffer[]) invocation.getArgument(0)) {
+        written += bb.remaining();
+        bb.position(bb.limit());
+      }
+      return written;
+    });
+    ByteBuffer byteBuffer = ByteBuffer.allocate(10);
+    byteBuffer.putInt(100);
+
+    Part part = new Part();
+    part.setPartState(storedObject, false);
+
+    assertThat(part.writeGatheredTo(socketChannel, byteBuffer)).isTrue();
+
+    verify(socketChannel, times(1)).write(any(ByteBuffer[].class));
+    verify(socketChannel, never()).write(any(ByteBuffer.class));
+    assertThat(value.remaining()).isZero();
+    assertThat(byteBuffer.position()).isZero();
+  }
+
+  @Test
+  public void writeGatheredToWritesNothingForHeapDataOutputStream() throws Exception {
+    HeapDataOutputStream heapDataOutputStream = mock(HeapDataOutputStream.class);
+    when(heapDataOutputStream.size()).thenReturn(1000);
+    SocketChannel socketChannel = mock(SocketChannel.class);
+    ByteBuffer byteBuffer = ByteBuffer.allocate(10);
+    byteBuffer.putInt(1000);
+
+    Part part = new Part();
+    part.setPartState(heapDataOutputStream, false);
+
+    assertThat(part.writeGatheredTo(socketChannel, byteBuffer)).isFalse();
+
+    verify(socketChannel, never()).write(any(ByteBuffer[].class));
+    assertThat(byteBuffer.position()).isEqualTo(4);
+  }
+
 }
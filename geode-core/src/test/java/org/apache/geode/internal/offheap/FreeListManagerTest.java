@@ -17,6 +17,7 @@ package org.apache.geode.internal.offheap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.logging.log4j.Logger;
@@ -41,6 +43,7 @@ public class FreeListManagerTest {
   private final MemoryAllocatorImpl ma = mock(MemoryAllocatorImpl.class);
   private final OffHeapMemoryStats stats = mock(OffHeapMemoryStats.class);
   private TestableFreeListManager freeListManager;
+  private FreeListManager threadCachingManager;
 
   @Before
   public void setUp() throws Exception {
@@ -52,6 +55,9 @@ public class FreeListManagerTest {
     if (freeListManager != null) {
       freeListManager.freeSlabs();
     }
+    if (threadCachingManager != null) {
+      threadCachingManager.freeSlabs();
+    }
   }
 
   private static TestableFreeListManager createFreeListManager(MemoryAllocatorImpl ma,
@@ -897,6 +903,171 @@ public class FreeListManagerTest {
    * that the allocate failed. In a real system this would only happen if a concurrent allocate
    * happened. This allows better code coverage.
    */
+  @Test
+  public void defragmentSlabOnlyCombinesChunksOfThatSlab() {
+    Slab smallSlab = new SlabImpl(1024);
+    Slab slab = new SlabImpl(DEFAULT_SLAB_SIZE);
+    freeListManager = createFreeListManager(ma, new Slab[] {smallSlab, slab});
+    List<OffHeapStoredObject> chunks = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      chunks.add(freeListManager.allocate(100));
+    }
+    long otherSlabChunkMemory = 0;
+    for (OffHeapStoredObject c : chunks) {
+      if (c.getAddress() >= slab.getMemoryAddress()) {
+        otherSlabChunkMemory += c.getSize();
+      }
+      ReferenceCounter.release(c.getAddress(), freeListManager);
+    }
+
+    freeListManager.defragmentSlab(0);
+
+    assertThat(otherSlabChunkMemory).isGreaterThan(0);
+    assertThat(freeListManager.getFreeTinyMemory()).isEqualTo(otherSlabChunkMemory);
+    assertThat(freeListManager.getFragmentList())
+        .filteredOn(f -> f.getAddress() == smallSlab.getMemoryAddress())
+        .singleElement()
+        .satisfies(f -> assertThat(f.freeSpace()).isEqualTo(1024));
+    verify(stats).endIncrementalDefragmentation(anyLong());
+  }
+
+  @Test
+  public void defragmentIncrementallyDoesNothingBelowThreshold() {
+    setUpSingleSlabManager();
+
+    assertThat(freeListManager.defragmentIncrementally()).isFalse();
+    verify(stats).recordFragmentationLevel(0);
+  }
+
+  @Test
+  public void defragmentIncrementallyCombinesFreedChunksAboveThreshold() {
+    setUpSingleSlabManager(1024);
+    List<OffHeapStoredObject> chunks = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      chunks.add(freeListManager.allocate(100));
+    }
+    for (OffHeapStoredObject c : chunks) {
+      ReferenceCounter.release(c.getAddress(), freeListManager);
+    }
+    assertThat(freeListManager.getFreedChunkPercentage())
+        .isGreaterThanOrEqualTo(FreeListManager.INCREMENTAL_DEFRAGMENTATION_THRESHOLD);
+
+    assertThat(freeListManager.defragmentIncrementally()).isTrue();
+
+    assertThat(freeListManager.getFreedChunkPercentage()).isZero();
+    assertThat(freeListManager.getFreeFragmentMemory()).isEqualTo(1024);
+  }
+
+  @Test
+  public void defragmentIncrementallySkipsSlabWhoseChunksCouldNotBeCombined() {
+    setUpSingleSlabManager(1024);
+    List<OffHeapStoredObject> chunks = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      chunks.add(freeListManager.allocate(100));
+    }
+    // free every other chunk except the last one, which is next to the unused end of the slab
+    for (int i = 0; i < chunks.size() - 1; i += 2) {
+      ReferenceCounter.release(chunks.get(i).getAddress(), freeListManager);
+    }
+    assertThat(freeListManager.defragmentIncrementally()).isTrue();
+    assertThat(freeListManager.getFragmentList()).hasSize(5);
+
+    List<OffHeapStoredObject> reallocated = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      reallocated.add(freeListManager.allocate(100));
+    }
+    for (OffHeapStoredObject c : reallocated) {
+      ReferenceCounter.release(c.getAddress(), freeListManager);
+    }
+    assertThat(freeListManager.getFreedChunkPercentage())
+        .isGreaterThanOrEqualTo(FreeListManager.INCREMENTAL_DEFRAGMENTATION_THRESHOLD);
+
+    assertThat(freeListManager.defragmentIncrementally()).isFalse();
+    assertThat(freeListManager.defragmentIncrementally()).isTrue();
+  }
+
+  private void setUpThreadCachingManager(int threadCacheChunks) {
+    Slab slab = new SlabImpl(DEFAULT_SLAB_SIZE);
+    threadCachingManager = new FreeListManager(ma, new Slab[] {slab}, threadCacheChunks);
+  }
+
+  @Test
+  public void freedTinyChunkIsReallocatedFromThreadCache() {
+    setUpThreadCachingManager(4);
+    int dataSize = 10;
+
+    OffHeapStoredObject c = threadCachingManager.allocate(dataSize);
+    ReferenceCounter.release(c.getAddress(), threadCachingManager);
+    OffHeapStoredObject c2 = threadCachingManager.allocate(dataSize);
+    threadCachingManager.updateNonRealTimeStats();
+
+    validateChunkSizes(c2, dataSize);
+    assertThat(c2.getAddress()).isEqualTo(c.getAddress());
+    verify(stats).incThreadCacheMisses(1);
+    verify(stats).incThreadCacheHits(1);
+  }
+
+  @Test
+  public void threadCachedChunksCountAsFreeTinyMemory() {
+    setUpThreadCachingManager(4);
+    int dataSize = 10;
+
+    OffHeapStoredObject c = threadCachingManager.allocate(dataSize);
+    ReferenceCounter.release(c.getAddress(), threadCachingManager);
+
+    assertThat(threadCachingManager.getFreeTinyMemory())
+        .isEqualTo(computeExpectedSize(dataSize));
+    assertThat(threadCachingManager.getFreedChunks()).isEqualTo(1);
+  }
+
+  @Test
+  public void chunksOverThreadCacheLimitAreReturnedToSharedFreeList() throws Exception {
+    setUpThreadCachingManager(4);
+    int dataSize = 10;
+    List<Long> addresses = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      addresses.add(threadCachingManager.allocate(dataSize).getAddress());
+    }
+    for (long address : addresses) {
+      ReferenceCounter.release(address, threadCachingManager);
+    }
+
+    OffHeapStoredObject c =
+        CompletableFuture.supplyAsync(() -> threadCachingManager.allocate(dataSize)).get();
+
+    assertThat(addresses).contains(c.getAddress());
+    assertThat(threadCachingManager.getFreedChunks()).isEqualTo(4);
+  }
+
+  @Test
+  public void idleThreadCacheIsReturnedToSharedFreeList() throws Exception {
+    setUpThreadCachingManager(4);
+    int dataSize = 10;
+    OffHeapStoredObject c = threadCachingManager.allocate(dataSize);
+    ReferenceCounter.release(c.getAddress(), threadCachingManager);
+
+    threadCachingManager.updateNonRealTimeStats();
+    threadCachingManager.updateNonRealTimeStats();
+    OffHeapStoredObject c2 =
+        CompletableFuture.supplyAsync(() -> threadCachingManager.allocate(dataSize)).get();
+
+    assertThat(c2.getAddress()).isEqualTo(c.getAddress());
+  }
+
+  @Test
+  public void defragmentationCollectsThreadCachedChunks() {
+    setUpThreadCachingManager(4);
+    int dataSize = 10;
+    OffHeapStoredObject c = threadCachingManager.allocate(dataSize);
+    ReferenceCounter.release(c.getAddress(), threadCachingManager);
+
+    threadCachingManager.doDefragment(DEFAULT_SLAB_SIZE);
+
+    assertThat(threadCachingManager.getFreeTinyMemory()).isZero();
+    assertThat(threadCachingManager.getFreedChunks()).isZero();
+    assertThat(threadCachingManager.getFreeFragmentMemory()).isEqualTo(DEFAULT_SLAB_SIZE);
+  }
+
   private static class TestableFragment extends Fragment {
     private boolean allocateCalled = false;
 
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.cache.RegionEntryContext;
+import org.apache.geode.internal.cache.entries.AbstractRegionEntry;
+import org.apache.geode.internal.cache.entries.VMThinRegionEntryHeapObjectKey;
+
+public class CompactEntryConcurrentHashMapTest {
+  private final RegionEntryContext context = mock(RegionEntryContext.class);
+
+  private final CompactEntryConcurrentHashMap<Object, Object> map =
+      new CompactEntryConcurrentHashMap<>(4, 0.75f, 1,
+          new AbstractRegionEntry.HashRegionEntryCreator());
+
+  private RegionEntry newEntry(Object key) {
+    return VMThinRegionEntryHeapObjectKey.getEntryFactory().createEntry(context, key, "value");
+  }
+
+  @Test
+  public void putIfAbsentStoresRegionEntry() {
+    RegionEntry entry = newEntry("key");
+
+    assertThat(map.putIfAbsent("key", entry)).isNull();
+
+    assertThat(map.get("key")).isSameAs(entry);
+    assertThat(map.putIfAbsent("key", newEntry("key"))).isSameAs(entry);
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void growsAndKeepsAllEntries() {
+    for (int i = 0; i < 1000; i++) {
+      map.put(new CollidingKey(i), newEntry(new CollidingKey(i)));
+    }
+
+    assertThat(map.size()).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(((RegionEntry) map.get(new CollidingKey(i))).getKey())
+          .isEqualTo(new CollidingKey(i));
+    }
+  }
+
+  @Test
+  public void removeKeepsCollidingEntriesReachable() {
+    for (int i = 0; i < 100; i++) {
+      map.put(new CollidingKey(i), newEntry(new CollidingKey(i)));
+    }
+
+    for (int i = 0; i < 100; i += 2) {
+      assertThat(map.remove(new CollidingKey(i))).isNotNull();
+    }
+
+    assertThat(map.size()).isEqualTo(50);
+    for (int i = 0; i < 100; i++) {
+      assertThat(map.containsKey(new CollidingKey(i))).isEqualTo(i % 2 == 1);
+    }
+  }
+
+  @Test
+  public void removeWithValueOnlyRemovesThatEntry() {
+    RegionEntry entry = newEntry("key");
+    map.put("key", entry);
+
+    assertThat(map.remove("key", newEntry("key"))).isFalse();
+    assertThat(map.remove("key", entry)).isTrue();
+    assertThat(map.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void reusableEntryIteratorRemovesEntries() {
+    for (int i = 0; i < 10; i++) {
+      map.put(i, newEntry(i));
+    }
+
+    Iterator<Map.Entry<Object, Object>> iterator = map.entrySetWithReusableEntries().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Object, Object> entry = iterator.next();
+      assertThat(((RegionEntry) entry.getValue()).getKey()).isEqualTo(entry.getKey());
+      iterator.remove();
+    }
+
+    assertThat(map.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void iteratorSeesEntriesOfSegmentsBeforeTheyAreCleared() {
+    for (int i = 0; i < 10; i++) {
+      map.put(i, newEntry(i));
+    }
+
+    Iterator<Object> iterator = map.keySet().iterator();
+    map.clearWithExecutor(Runnable::run);
+
+    int count = 0;
+    while (iterator.hasNext()) {
+      iterator.next();
+      count++;
+    }
+    assertThat(count).isEqualTo(10);
+    assertThat(map.size()).isZero();
+  }
+
+  private static class CollidingKey {
+    private final int id;
+
+    CollidingKey(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public int hashCode() {
+      return id % 7;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof CollidingKey && ((CollidingKey) other).id == id;
+    }
+  }
+}
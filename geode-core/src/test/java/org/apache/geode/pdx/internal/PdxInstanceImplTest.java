@@ -19,6 +19,7 @@ import static org.apache.geode.distributed.internal.locks.GrantorRequestProcesso
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -333,6 +334,35 @@ public class PdxInstanceImplTest {
     assertEquals(true, instance.isIdentityField(booleanArrayField.getFieldName()));
   }
 
+  @Test
+  public void testFieldAccessorReadsSameValuesAsGetRawField() {
+    PdxInstanceImpl pdxInstance = (PdxInstanceImpl) instance;
+    for (PdxField field : pdxType.getFields()) {
+      PdxFieldAccessor accessor = new PdxFieldAccessor(pdxType, field.getFieldName());
+      assertEquals(pdxType.getTypeId(), accessor.getTypeId());
+      assertTrue(accessor.hasField());
+      Object expected = pdxInstance.getRawField(field.getFieldName());
+      Object actual = accessor.readRawField(pdxInstance);
+      assertEquals(Arrays.deepToString(new Object[] {expected}),
+          Arrays.deepToString(new Object[] {actual}));
+    }
+  }
+
+  @Test
+  public void testFieldAccessorReadsStringAsPdxString() {
+    PdxFieldAccessor accessor = new PdxFieldAccessor(pdxType, stringField.getFieldName());
+    Object value = accessor.readRawField((PdxInstanceImpl) instance);
+    assertTrue(value instanceof PdxString);
+    assertEquals("MOOF!", value.toString());
+  }
+
+  @Test
+  public void testFieldAccessorForMissingField() {
+    PdxFieldAccessor accessor = new PdxFieldAccessor(pdxType, nonExistentField.getFieldName());
+    assertFalse(accessor.hasField());
+    assertEquals(nonExistentField.getFieldName(), accessor.getFieldName());
+  }
+
   private static class SerializableObject implements Serializable {
     String name;
 
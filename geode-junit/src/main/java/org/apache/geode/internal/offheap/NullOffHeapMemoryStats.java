@@ -108,12 +108,54 @@ public class NullOffHeapMemoryStats implements OffHeapMemoryStats {
   @Override
   public void endDefragmentation(long start) {}
 
+  @Override
+  public long startIncrementalDefragmentation() {
+    return 0;
+  }
+
+  @Override
+  public void endIncrementalDefragmentation(long start) {}
+
+  @Override
+  public int getIncrementalDefragmentations() {
+    return 0;
+  }
+
+  @Override
+  public long getIncrementalDefragmentationTime() {
+    return 0;
+  }
+
+  @Override
+  public void recordFragmentationLevel(int value) {}
+
+  @Override
+  public int getFragmentationLevel() {
+    return 0;
+  }
+
   @Override
   public void setFragmentation(int value) {}
 
   @Override
   public void setFreedChunks(long value) {}
 
+  @Override
+  public void incThreadCacheHits(long value) {}
+
+  @Override
+  public long getThreadCacheHits() {
+    return 0;
+  }
+
+  @Override
+  public void incThreadCacheMisses(long value) {}
+
+  @Override
+  public long getThreadCacheMisses() {
+    return 0;
+  }
+
   @Override
   public int getFragmentation() {
     return 0;
@@ -684,6 +684,9 @@ public interface DataSerializableFixedID extends SerializationVersions, BasicSer
   short MEMBER_IDENTIFIER = 2184;
   short HOST_AND_PORT = 2185;
   short PARALLEL_QUEUE_SET_POSSIBLE_DUPLICATE_MESSAGE = 2186;
+  short REQUEST_KEY_RANGE_DIGESTS_MESSAGE = 2187;
+  short KEY_RANGE_DIGESTS_REPLY_MESSAGE = 2188;
+  short CLIENT_PR_METADATA_MESSAGE = 2189;
 
   // NOTE, codes > 65535 will take 4 bytes to serialize
 
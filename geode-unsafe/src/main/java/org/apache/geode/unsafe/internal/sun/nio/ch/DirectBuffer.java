@@ -15,6 +15,10 @@
 
 package org.apache.geode.unsafe.internal.sun.nio.ch;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
 /**
  * Provides access to methods on non-SDK class {@link sun.nio.ch.DirectBuffer}.
  */
@@ -33,4 +37,39 @@ public interface DirectBuffer {
     return null;
   }
 
+  /**
+   * Releases the memory of a direct buffer, or unmaps a mapped buffer, without waiting for the
+   * buffer to be garbage collected. Neither the buffer nor any view of it may be accessed
+   * afterwards.
+   *
+   * @param object the buffer to release
+   * @return true if the buffer was released; false if it is not a direct buffer, is a view of
+   *         another buffer or the JVM does not allow releasing it
+   */
+  static boolean release(final Object object) {
+    if (!(object instanceof sun.nio.ch.DirectBuffer) || attachment(object) != null) {
+      return false;
+    }
+    try {
+      try {
+        // Java 9 and later
+        final Method invokeCleaner =
+            sun.misc.Unsafe.class.getMethod("invokeCleaner", ByteBuffer.class);
+        final Field theUnsafe = sun.misc.Unsafe.class.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        invokeCleaner.invoke(theUnsafe.get(null), object);
+      } catch (NoSuchMethodException e) {
+        // Java 8
+        final Object cleaner = sun.nio.ch.DirectBuffer.class.getMethod("cleaner").invoke(object);
+        if (cleaner == null) {
+          return false;
+        }
+        cleaner.getClass().getMethod("clean").invoke(cleaner);
+      }
+      return true;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return false;
+    }
+  }
+
 }
@@ -50,4 +50,16 @@ public class DirectBufferTest {
     assertThat(DirectBuffer.attachment(slice)).isSameAs(root);
   }
 
+  @Test
+  public void releaseIsFalseForNonDirectBufferOrSlice() {
+    assertThat(DirectBuffer.release(null)).isFalse();
+    assertThat(DirectBuffer.release(ByteBuffer.allocate(1))).isFalse();
+    assertThat(DirectBuffer.release(ByteBuffer.allocateDirect(10).slice())).isFalse();
+  }
+
+  @Test
+  public void releaseIsTrueForDirectBuffer() {
+    assertThat(DirectBuffer.release(ByteBuffer.allocateDirect(10))).isTrue();
+  }
+
 }